@@ -24,6 +24,7 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
+import org.sirix.cache.GlobalBufferManager;
 import org.sirix.exception.SirixIOException;
 
 import javax.annotation.Nullable;
@@ -133,6 +134,21 @@ public final class DatabaseConfiguration {
      */
     public static final String BINARY = "0.1.0";
 
+    /**
+     * Default maximum memory footprint of the cached pages of a resource in bytes.
+     */
+    public static final long PAGE_CACHE_WEIGHT = 64L << 20;
+
+    /**
+     * Default maximum memory footprint of the cached record pages of a resource in bytes.
+     */
+    public static final long RECORD_PAGE_CACHE_WEIGHT = 256L << 20;
+
+    /**
+     * Default maximum memory footprint of the cached revision root pages of a resource in bytes.
+     */
+    public static final long REVISION_ROOT_PAGE_CACHE_WEIGHT = 8L << 20;
+
     /**
      * Binary version of storage.
      */
@@ -153,6 +169,33 @@ public final class DatabaseConfiguration {
      */
     private DatabaseType databaseType;
 
+    /**
+     * Maximum memory footprint of the cached pages of a resource in bytes.
+     */
+    private long pageCacheWeight = PAGE_CACHE_WEIGHT;
+
+    /**
+     * Maximum memory footprint of the cached record pages of a resource in bytes.
+     */
+    private long recordPageCacheWeight = RECORD_PAGE_CACHE_WEIGHT;
+
+    /**
+     * Maximum size of the serialized record pages of a resource, which are cached off-heap, in bytes ({@code 0}
+     * disables the off-heap cache).
+     */
+    private long offHeapRecordPageCacheWeight;
+
+    /**
+     * Maximum memory footprint of the cached revision root pages of a resource in bytes.
+     */
+    private long revisionRootPageCacheWeight = REVISION_ROOT_PAGE_CACHE_WEIGHT;
+
+    /**
+     * Determines if the pages are cached by the process-wide {@link GlobalBufferManager} instead of caches per
+     * resource.
+     */
+    private boolean useGlobalBufferManager;
+
     /**
      * Constructor with the path to be set.
      *
@@ -204,6 +247,113 @@ public final class DatabaseConfiguration {
         return maxResourceID;
     }
 
+    /**
+     * Set the maximum memory footprint of the cached pages of a resource.
+     *
+     * @param weight the maximum memory footprint in bytes
+     * @return this {@link DatabaseConfiguration} instance
+     */
+    public DatabaseConfiguration setPageCacheWeight(final long weight) {
+        checkArgument(weight >= 0, "Weight must be >= 0!");
+        pageCacheWeight = weight;
+        return this;
+    }
+
+    /**
+     * Get the maximum memory footprint of the cached pages of a resource.
+     *
+     * @return the maximum memory footprint in bytes
+     */
+    public long getPageCacheWeight() {
+        return pageCacheWeight;
+    }
+
+    /**
+     * Set the maximum memory footprint of the cached record pages of a resource.
+     *
+     * @param weight the maximum memory footprint in bytes
+     * @return this {@link DatabaseConfiguration} instance
+     */
+    public DatabaseConfiguration setRecordPageCacheWeight(final long weight) {
+        checkArgument(weight >= 0, "Weight must be >= 0!");
+        recordPageCacheWeight = weight;
+        return this;
+    }
+
+    /**
+     * Get the maximum memory footprint of the cached record pages of a resource.
+     *
+     * @return the maximum memory footprint in bytes
+     */
+    public long getRecordPageCacheWeight() {
+        return recordPageCacheWeight;
+    }
+
+    /**
+     * Set the maximum size of the serialized record pages of a resource, which are cached off-heap once they are
+     * evicted from the record page cache. Thus, they can be rematerialized without disk I/O and decompression.
+     *
+     * @param weight the maximum size in bytes, {@code 0} disables the off-heap cache
+     * @return this {@link DatabaseConfiguration} instance
+     */
+    public DatabaseConfiguration setOffHeapRecordPageCacheWeight(final long weight) {
+        checkArgument(weight >= 0, "Weight must be >= 0!");
+        offHeapRecordPageCacheWeight = weight;
+        return this;
+    }
+
+    /**
+     * Get the maximum size of the serialized record pages of a resource, which are cached off-heap.
+     *
+     * @return the maximum size in bytes, {@code 0} if the off-heap cache is disabled
+     */
+    public long getOffHeapRecordPageCacheWeight() {
+        return offHeapRecordPageCacheWeight;
+    }
+
+    /**
+     * Set the maximum memory footprint of the cached revision root pages of a resource.
+     *
+     * @param weight the maximum memory footprint in bytes
+     * @return this {@link DatabaseConfiguration} instance
+     */
+    public DatabaseConfiguration setRevisionRootPageCacheWeight(final long weight) {
+        checkArgument(weight >= 0, "Weight must be >= 0!");
+        revisionRootPageCacheWeight = weight;
+        return this;
+    }
+
+    /**
+     * Get the maximum memory footprint of the cached revision root pages of a resource.
+     *
+     * @return the maximum memory footprint in bytes
+     */
+    public long getRevisionRootPageCacheWeight() {
+        return revisionRootPageCacheWeight;
+    }
+
+    /**
+     * Determines if the pages of the resources are cached by the process-wide {@link GlobalBufferManager}, which
+     * shares a single memory budget amongst all resources, instead of caches per resource. The cache weights of this
+     * configuration are ignored in this case.
+     *
+     * @param useGlobalBufferManager {@code true}, if the global buffer manager should be used
+     * @return this {@link DatabaseConfiguration} instance
+     */
+    public DatabaseConfiguration setUseGlobalBufferManager(final boolean useGlobalBufferManager) {
+        this.useGlobalBufferManager = useGlobalBufferManager;
+        return this;
+    }
+
+    /**
+     * Determines if the pages of the resources are cached by the process-wide {@link GlobalBufferManager}.
+     *
+     * @return {@code true}, if the global buffer manager is used, {@code false} otherwise
+     */
+    public boolean useGlobalBufferManager() {
+        return useGlobalBufferManager;
+    }
+
     /**
      * Getting the database file.
      *
@@ -264,6 +414,11 @@ public final class DatabaseConfiguration {
             jsonWriter.name("file").value(filePath);
             jsonWriter.name("ID").value(config.maxResourceID);
             jsonWriter.name("databaseType").value(config.databaseType.toString());
+            jsonWriter.name("pageCacheWeight").value(config.pageCacheWeight);
+            jsonWriter.name("recordPageCacheWeight").value(config.recordPageCacheWeight);
+            jsonWriter.name("offHeapRecordPageCacheWeight").value(config.offHeapRecordPageCacheWeight);
+            jsonWriter.name("revisionRootPageCacheWeight").value(config.revisionRootPageCacheWeight);
+            jsonWriter.name("useGlobalBufferManager").value(config.useGlobalBufferManager);
             jsonWriter.endObject();
         } catch (final IOException e) {
             throw new SirixIOException(e);
@@ -290,10 +445,23 @@ public final class DatabaseConfiguration {
             final String databaseType = jsonReader.nextName();
             assert databaseType.equals("databaseType");
             final String type = jsonReader.nextString();
-            jsonReader.endObject();
             final DatabaseType dbType = DatabaseType.fromString(type)
                     .orElseThrow(() -> new IllegalStateException("Type can not be unknown."));
-            return new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+            final var config = new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+            // The cache weights are optional, as they haven't been stored by former versions.
+            while (jsonReader.hasNext()) {
+                final String name = jsonReader.nextName();
+                switch (name) {
+                    case "pageCacheWeight" -> config.setPageCacheWeight(jsonReader.nextLong());
+                    case "recordPageCacheWeight" -> config.setRecordPageCacheWeight(jsonReader.nextLong());
+                    case "offHeapRecordPageCacheWeight" -> config.setOffHeapRecordPageCacheWeight(jsonReader.nextLong());
+                    case "revisionRootPageCacheWeight" -> config.setRevisionRootPageCacheWeight(jsonReader.nextLong());
+                    case "useGlobalBufferManager" -> config.setUseGlobalBufferManager(jsonReader.nextBoolean());
+                    default -> jsonReader.skipValue();
+                }
+            }
+            jsonReader.endObject();
+            return config;
         } catch (final IOException e) {
             throw new SirixIOException(e);
         }
@@ -3,6 +3,7 @@ package org.sirix.access;
 import org.sirix.api.*;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.cache.GlobalBufferManager;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.utils.SirixFiles;
@@ -135,6 +136,7 @@ public final class Databases {
                 // instantiate the database for deletion
                 SirixFiles.recursiveRemove(dbFile);
             }
+            GlobalBufferManager.getInstance().removeDatabase(dbFile);
         }
     }
 
@@ -17,10 +17,10 @@ import org.sirix.api.Transaction;
 import org.sirix.api.TransactionManager;
 import org.sirix.cache.BufferManager;
 import org.sirix.cache.BufferManagerImpl;
+import org.sirix.cache.GlobalBufferManager;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixUsageException;
-import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.Encryptor;
 import org.sirix.utils.SirixFiles;
 import org.slf4j.Logger;
@@ -133,10 +133,15 @@ public class LocalDatabase<T extends ResourceManager<? extends NodeReadOnlyTrx,
     }
 
     private void addResourceToBufferManagerMapping(Path resourceFile, ResourceConfiguration resourceConfig) {
-        if (resourceConfig.getStorageType() == StorageType.MEMORY_MAPPED) {
-            bufferManagers.put(resourceFile, new BufferManagerImpl(100, 50, 150, 50_000_000));
+        if (dbConfig.useGlobalBufferManager()) {
+            bufferManagers.put(resourceFile,
+                    GlobalBufferManager.getInstance()
+                            .getResourceBufferManager(dbConfig.getDatabaseFile(), resourceConfig.getResourceName()));
         } else {
-            bufferManagers.put(resourceFile, new BufferManagerImpl(5_000, 1_000, 1_000, 50_000_000));
+            bufferManagers.put(resourceFile,
+                    new BufferManagerImpl(dbConfig.getPageCacheWeight(), dbConfig.getRecordPageCacheWeight(),
+                            dbConfig.getOffHeapRecordPageCacheWeight(), dbConfig.getRevisionRootPageCacheWeight(),
+                            50_000_000));
         }
     }
 
@@ -292,7 +297,11 @@ public class LocalDatabase<T extends ResourceManager<? extends NodeReadOnlyTrx,
 
             this.writeLocks.removeWriteLock(resourceFile);
 
-            bufferManagers.remove(resourceFile);
+            final BufferManager bufferManager = bufferManagers.remove(resourceFile);
+            if (bufferManager != null) {
+                bufferManager.close();
+            }
+            GlobalBufferManager.getInstance().removeResource(dbConfig.getDatabaseFile(), name);
         }
 
         return this;
@@ -360,6 +369,10 @@ public class LocalDatabase<T extends ResourceManager<? extends NodeReadOnlyTrx,
         resourceStore.close();
         transactionManager.close();
 
+        // The caches are shared by all transactions of a resource and thus are released once the database is closed.
+        bufferManagers.values().forEach(BufferManager::close);
+        bufferManagers.clear();
+
         // Remove from database mapping.
         this.sessions.removeObject(dbConfig.getDatabaseFile(), this);
 
@@ -27,6 +27,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.PageHashType;
 import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -171,6 +172,11 @@ public final class ResourceConfiguration {
      */
     private static final HashType HASHKIND = HashType.ROLLING;
 
+    /**
+     * Hash function for the checksums of pages.
+     */
+    private static final PageHashType PAGE_HASH_TYPE = PageHashType.SHA256;
+
     /**
      * Versions to restore.
      */
@@ -248,6 +254,16 @@ public final class ResourceConfiguration {
      */
     public final HashFunction nodeHashFunction;
 
+    /**
+     * The hash function used to compute the checksums of the stored pages.
+     */
+    public final PageHashType pageHashType;
+
+    /**
+     * Determines if the checksums of pages are verified, when the pages are read from the storage.
+     */
+    public final boolean verifyPageHashes;
+
     /**
      * The name of the resource.
      */
@@ -293,6 +309,8 @@ public final class ResourceConfiguration {
         recordPersister = builder.persistenter;
         resourceName = builder.resource;
         nodeHashFunction = builder.hashFunction;
+        pageHashType = builder.pageHashType;
+        verifyPageHashes = builder.verifyPageHashes;
         storeChildCount = builder.storeChildCount;
         storeDiffs = builder.storeDiffs;
     }
@@ -412,7 +430,7 @@ public final class ResourceConfiguration {
     private static final String[] JSONNAMES
             = {"revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses", "storageKind",
                 "hashKind", "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter",
-                "storeDiffs"};
+                "storeDiffs", "pageHashType", "verifyPageHashes"};
 
     /**
      * Serialize the configuration.
@@ -455,6 +473,9 @@ public final class ResourceConfiguration {
             jsonWriter.name(JSONNAMES[11]).value(config.recordPersister.getClass().getName());
             // Diffs.
             jsonWriter.name(JSONNAMES[12]).value(config.storeDiffs);
+            // Page hashes.
+            jsonWriter.name(JSONNAMES[13]).value(config.pageHashType.name());
+            jsonWriter.name(JSONNAMES[14]).value(config.verifyPageHashes);
             jsonWriter.endObject();
         } catch (final IOException e) {
             throw new SirixIOException(e);
@@ -545,6 +566,19 @@ public final class ResourceConfiguration {
             name = jsonReader.nextName();
             assert name.equals(JSONNAMES[12]);
             final boolean storeDiffs = jsonReader.nextBoolean();
+            // Page hashes (not stored by former versions, which always use SHA-256).
+            PageHashType pageHashType = PageHashType.SHA256;
+            boolean verifyPageHashes = false;
+            while (jsonReader.hasNext()) {
+                name = jsonReader.nextName();
+                if (name.equals(JSONNAMES[13])) {
+                    pageHashType = PageHashType.valueOf(jsonReader.nextString());
+                } else if (name.equals(JSONNAMES[14])) {
+                    verifyPageHashes = jsonReader.nextBoolean();
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
 
             jsonReader.endObject();
             jsonReader.close();
@@ -564,7 +598,9 @@ public final class ResourceConfiguration {
                     .useTextCompression(compression)
                     .buildPathSummary(pathSummary)
                     .useDeweyIDs(deweyIDsStored)
-                    .storeDiffs(storeDiffs);
+                    .storeDiffs(storeDiffs)
+                    .pageHashType(pageHashType)
+                    .verifyPageHashes(verifyPageHashes);
 
             // Deserialized instance.
             final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -590,6 +626,16 @@ public final class ResourceConfiguration {
          */
         private final HashFunction hashFunction = Hashing.sha256();
 
+        /**
+         * Hash function for the checksums of pages.
+         */
+        private PageHashType pageHashType = PAGE_HASH_TYPE;
+
+        /**
+         * Determines if the checksums of pages are verified, when the pages are read.
+         */
+        private boolean verifyPageHashes;
+
         /**
          * Type of Storage (File, Berkeley).
          */
@@ -719,6 +765,30 @@ public final class ResourceConfiguration {
             return this;
         }
 
+        /**
+         * Set the hash function used to compute the checksums of the stored pages. SHA-256 is a cryptographic hash
+         * function, whereas {@link PageHashType#CRC32C} and {@link PageHashType#FARMHASH64} are a lot faster and
+         * are sufficient to detect corrupted pages.
+         *
+         * @param pageHashType the hash function
+         * @return reference to the builder object
+         */
+        public Builder pageHashType(final PageHashType pageHashType) {
+            this.pageHashType = checkNotNull(pageHashType);
+            return this;
+        }
+
+        /**
+         * Determines if the checksums of pages are verified, when the pages are read from the storage (default: no).
+         *
+         * @param verifyPageHashes {@code true}, if the checksums should be verified, {@code false} otherwise
+         * @return reference to the builder object
+         */
+        public Builder verifyPageHashes(final boolean verifyPageHashes) {
+            this.verifyPageHashes = verifyPageHashes;
+            return this;
+        }
+
         /**
          * Set the byte handler pipeline.
          *
@@ -786,6 +856,7 @@ public final class ResourceConfiguration {
                     .add("RevisionKind", revisionKind)
                     .add("HashKind", hashKind)
                     .add("HashFunction", hashFunction)
+                    .add("PageHashType", pageHashType)
                     .add("PathSummary", pathSummary)
                     .add("TextCompression", useTextCompression)
                     .add("Store diffs", storeDiffs)
@@ -1,5 +1,6 @@
 package org.sirix.access.trx.node;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.brackit.xquery.xdm.DocumentException;
 import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.ResourceConfiguration;
@@ -19,6 +20,7 @@ import org.sirix.api.RevisionInfo;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.cache.BufferManager;
+import org.sirix.cache.BufferStatistics;
 import org.sirix.cache.Cache;
 import org.sirix.cache.RBIndexKey;
 import org.sirix.exception.SirixException;
@@ -26,12 +28,15 @@ import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
 import org.sirix.index.IndexType;
+import org.sirix.index.path.summary.PathSummaryData;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
 import org.sirix.node.interfaces.Node;
+import org.sirix.page.PageReference;
 import org.sirix.page.UberPage;
+import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +68,11 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractResourceManager.class);
 
+    /**
+     * The maximum number of revisions, for which the path summary mappings are cached.
+     */
+    private static final int MAX_CACHED_PATH_SUMMARIES = 16;
+
     /**
      * Thread pool.
      */
@@ -93,6 +103,22 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
      */
     final ConcurrentMap<Long, PageTrx> nodePageTrxMap;
 
+    /**
+     * The lazily filled path summary mappings of committed revisions, which are shared between all path summary
+     * readers of a revision. The values are softly referenced, such that they are reclaimed under memory pressure.
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<Integer, PathSummaryData> pathSummaryCache;
+
+    /**
+     * Maps the revisions to their commit timestamps for point-in-time lookups.
+     */
+    private final RevisionIndex revisionIndex;
+
+    /**
+     * Stores the metadata of the revisions for history listings.
+     */
+    private final RevisionMetadataLog revisionMetadataLog;
+
     /**
      * Lock for blocking the commit.
      */
@@ -175,6 +201,9 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
         nodeTrxMap = new ConcurrentHashMap<>();
         pageTrxMap = new ConcurrentHashMap<>();
         nodePageTrxMap = new ConcurrentHashMap<>();
+        pathSummaryCache = Caffeine.newBuilder().maximumSize(MAX_CACHED_PATH_SUMMARIES).softValues().build();
+        revisionIndex = new RevisionIndex(RevisionIndex.getFile(resourceConf));
+        revisionMetadataLog = new RevisionMetadataLog(RevisionMetadataLog.getFile(resourceConf));
 
         nodeTrxIDCounter = new AtomicLong();
         pageTrxIDCounter = new AtomicLong();
@@ -211,6 +240,11 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
         return bufferManager.getIndexCache();
     }
 
+    @Override
+    public BufferStatistics getBufferStatistics() {
+        return bufferManager.getStatistics();
+    }
+
     /**
      * Create a new {@link PageTrx}.
      *
@@ -262,27 +296,75 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
         checkArgument(fromRevision > toRevision);
 
-        final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
+        return readHistory(fromRevision, Math.max(toRevision, 1));
+    }
+
+    @Override
+    public List<RevisionInfo> getHistory(final @Nonnull Instant fromTimestamp, final @Nonnull Instant toTimestamp) {
+        checkNotNull(fromTimestamp);
+        checkNotNull(toTimestamp);
+        checkArgument(!fromTimestamp.isAfter(toTimestamp), "fromTimestamp must not be after toTimestamp!");
+        assertNotClosed();
 
-        for (int revision = fromRevision; revision > 0 && revision >= toRevision; revision--) {
-            revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
-        }
+        final int lastRevision = getMostRecentRevisionNumber();
+
+        revisionIndex.fill(lastRevision, this::loadRevisionIndexEntry);
 
-        return getResult(revisionInfos);
+        final int fromRevision = revisionIndex.lowerBound(toTimestamp.toEpochMilli() + 1, lastRevision) - 1;
+        final int toRevision = revisionIndex.lowerBound(fromTimestamp.toEpochMilli(), lastRevision);
+
+        return readHistory(fromRevision, Math.max(toRevision, 1));
     }
 
     private List<RevisionInfo> getHistoryInformations(int revisions) {
         checkArgument(revisions > 0);
 
         final int lastCommittedRevision = lastCommittedUberPage.get().getRevisionNumber();
-        final var revisionInfos = new ArrayList<Future<RevisionInfo>>();
 
-        for (int revision = lastCommittedRevision; revision > 0 && revision > lastCommittedRevision - revisions;
-                revision--) {
-            revisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, revision)));
+        return readHistory(lastCommittedRevision, Math.max(lastCommittedRevision - revisions + 1, 1));
+    }
+
+    /**
+     * Read the metadata of the revisions from {@code fromRevision} down to {@code toRevision} from the revision
+     * metadata log. The metadata of revisions, which are not part of the log, is read from their revision root pages
+     * in parallel and appended to the log.
+     *
+     * @param fromRevision the most recent revision
+     * @param toRevision   the oldest revision
+     * @return the metadata of the revisions, starting with the most recent revision
+     */
+    private List<RevisionInfo> readHistory(final int fromRevision, final int toRevision) {
+        if (fromRevision < toRevision) {
+            return new ArrayList<>();
         }
 
-        return getResult(revisionInfos);
+        final RevisionInfo[] revisionInfos = revisionMetadataLog.read(toRevision, fromRevision);
+        final var missingRevisionInfos = new ArrayList<Future<RevisionInfo>>();
+
+        for (int i = 0; i < revisionInfos.length; i++) {
+            if (revisionInfos[i] == null) {
+                missingRevisionInfos.add(threadPool.submit(new RevisionInfoRunnable(this, toRevision + i)));
+            }
+        }
+
+        // Appended records wouldn't be readable after a corrupt record, thus they are only appended once the log has
+        // been truncated (when it's opened the next time).
+        final boolean appendMissingRevisionInfos = !missingRevisionInfos.isEmpty() && !revisionMetadataLog.isCorrupt();
+
+        for (final RevisionInfo revisionInfo : getResult(missingRevisionInfos)) {
+            revisionInfos[revisionInfo.getRevision() - toRevision] = revisionInfo;
+            if (appendMissingRevisionInfos) {
+                revisionMetadataLog.append(revisionInfo);
+            }
+        }
+
+        final var history = new ArrayList<RevisionInfo>(revisionInfos.length);
+
+        for (int i = revisionInfos.length - 1; i >= 0; i--) {
+            history.add(revisionInfos[i]);
+        }
+
+        return history;
     }
 
     private List<RevisionInfo> getResult(final List<Future<RevisionInfo>> revisionInfos) {
@@ -311,6 +393,27 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
         return commitLock;
     }
 
+    @Override
+    public ExecutorService getThreadPool() {
+        assertNotClosed();
+
+        return threadPool;
+    }
+
+    @Override
+    public RevisionIndex getRevisionIndex() {
+        assertNotClosed();
+
+        return revisionIndex;
+    }
+
+    @Override
+    public RevisionMetadataLog getRevisionMetadataLog() {
+        assertNotClosed();
+
+        return revisionMetadataLog;
+    }
+
     @Override
     public R beginNodeReadOnlyTrx() {
         return beginNodeReadOnlyTrx(lastCommittedUberPage.get().getRevisionNumber());
@@ -477,6 +580,9 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
             nodeTrxMap.clear();
             pageTrxMap.clear();
             nodePageTrxMap.clear();
+            pathSummaryCache.invalidateAll();
+            revisionIndex.close();
+            revisionMetadataLog.close();
             resourceStore.closeResourceManager(resourceConfig.getResource());
 
             storage.close();
@@ -664,7 +770,8 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
         assertAccess(revision);
 
         final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
-        return PathSummaryReader.getInstance(pageReadTrx, this);
+        return PathSummaryReader.getInstance(pageReadTrx, this,
+                pathSummaryCache.get(revision, unused -> new PathSummaryData()));
     }
 
     @Override
@@ -758,56 +865,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
         checkNotNull(pointInTime);
         assertNotClosed();
 
-        final long timestamp = pointInTime.toEpochMilli();
-
-        int revision = binarySearch(timestamp);
-
-        if (revision < 0) {
-            revision = -revision - 1;
-        }
-
-        if (revision == 0) {
-            return beginNodeReadOnlyTrx(0);
-        } else if (revision == getMostRecentRevisionNumber() + 1) {
-            return beginNodeReadOnlyTrx();
-        }
-
-        final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1);
-        final R rtxRevision = beginNodeReadOnlyTrx(revision);
-
-        if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                rtxRevision.getRevisionTimestamp()
-                        .toEpochMilli())) {
-            rtxRevision.close();
-            return rtxRevisionMinus1;
-        } else {
-            rtxRevisionMinus1.close();
-            return rtxRevision;
-        }
-    }
-
-    private int binarySearch(final long timestamp) {
-        int low = 0;
-        int high = getMostRecentRevisionNumber();
-
-        while (low <= high) {
-            final int mid = (low + high) >>> 1;
-
-            try (final PageReadOnlyTrx trx = beginPageReadOnlyTrx(mid)) {
-                final long midVal = trx.getActualRevisionRootPage().getRevisionTimestamp();
-                final int cmp = Instant.ofEpochMilli(midVal).compareTo(Instant.ofEpochMilli(timestamp));
-
-                if (cmp < 0) {
-                    low = mid + 1;
-                } else if (cmp > 0) {
-                    high = mid - 1;
-                } else {
-                    return mid; // key found
-                }
-            }
-        }
-
-        return -(low + 1); // key not found
+        return beginNodeReadOnlyTrx(getRevisionNumber(pointInTime));
     }
 
     @Override
@@ -816,8 +874,11 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
         assertNotClosed();
 
         final long timestamp = pointInTime.toEpochMilli();
+        final int lastRevision = getMostRecentRevisionNumber();
+
+        revisionIndex.fill(lastRevision, this::loadRevisionIndexEntry);
 
-        int revision = binarySearch(timestamp);
+        int revision = revisionIndex.binarySearch(timestamp, lastRevision);
 
         if (revision < 0) {
             revision = -revision - 1;
@@ -825,22 +886,32 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
 
         if (revision == 0) {
             return 0;
-        } else if (revision == getMostRecentRevisionNumber() + 1) {
-            return getMostRecentRevisionNumber();
+        } else if (revision == lastRevision + 1) {
+            return lastRevision;
         }
 
-        try (final R rtxRevisionMinus1 = beginNodeReadOnlyTrx(revision - 1); final R rtxRevision = beginNodeReadOnlyTrx(revision)) {
-            final int revisionNumber;
+        if (timeDiff(timestamp, revisionIndex.getTimestamp(revision - 1)) < timeDiff(timestamp,
+                revisionIndex.getTimestamp(revision))) {
+            return revision - 1;
+        } else {
+            return revision;
+        }
+    }
 
-            if (timeDiff(timestamp, rtxRevisionMinus1.getRevisionTimestamp().toEpochMilli()) < timeDiff(timestamp,
-                    rtxRevision.getRevisionTimestamp()
-                            .toEpochMilli())) {
-                revisionNumber = rtxRevisionMinus1.getRevisionNumber();
-            } else {
-                revisionNumber = rtxRevision.getRevisionNumber();
-            }
+    /**
+     * Load the entry of the revision index from the revision root page of a revision, which has been committed before
+     * the revision index has been introduced.
+     *
+     * @param revision the revision
+     * @return the entry of the revision index
+     */
+    private RevisionIndex.Entry loadRevisionIndexEntry(final int revision) {
+        try (final PageReadOnlyTrx trx = beginPageReadOnlyTrx(revision)) {
+            final PageReference reference = trx.getReferenceToLeafOfSubtree(trx.getUberPage().getIndirectPageReference(),
+                    revision, -1, IndexType.REVISIONS);
 
-            return revisionNumber;
+            return new RevisionIndex.Entry(trx.getActualRevisionRootPage().getRevisionTimestamp(),
+                    reference == null ? Constants.NULL_ID_LONG : reference.getKey());
         }
     }
 
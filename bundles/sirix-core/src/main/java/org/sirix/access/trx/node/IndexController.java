@@ -120,6 +120,19 @@ public interface IndexController<R extends NodeReadOnlyTrx & NodeCursor, W exten
      */
     IndexController<R, W> createIndexes(Set<IndexDef> indexDefs, W nodeWriteTrx);
 
+    /**
+     * Create new indexes in one traversal of the current revision.
+     *
+     * @param indexDefs Set of {@link IndexDef}s
+     * @param nodeWriteTrx the {@link NodeTrx} used
+     * @param parallel {@code true}, if the index builders should collect their entries on separate threads, which are
+     * fed by the traversal
+     * @return this {@link IndexController} instance
+     * @throws SirixIOException if an I/O exception during index creation
+     * occured
+     */
+    IndexController<R, W> createIndexes(Set<IndexDef> indexDefs, W nodeWriteTrx, boolean parallel);
+
     /**
      * Create index listeners.
      *
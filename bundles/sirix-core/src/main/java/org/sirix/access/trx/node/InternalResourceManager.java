@@ -1,6 +1,7 @@
 package org.sirix.access.trx.node;
 
 import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.Lock;
 
 import org.sirix.api.NodeCursor;
@@ -50,4 +51,26 @@ public interface InternalResourceManager<R extends NodeReadOnlyTrx & NodeCursor,
     void closePageReadTransaction(long trxId);
 
     void closePageWriteTransaction(long transactionID);
+
+    /**
+     * Get the thread pool of the resource manager, which is used for instance to serialize pages in parallel during
+     * a commit.
+     *
+     * @return the thread pool
+     */
+    ExecutorService getThreadPool();
+
+    /**
+     * Get the index, which maps the revisions of the resource to their commit timestamps.
+     *
+     * @return the revision index
+     */
+    RevisionIndex getRevisionIndex();
+
+    /**
+     * Get the log, which stores the metadata of the revisions of the resource.
+     *
+     * @return the revision metadata log
+     */
+    RevisionMetadataLog getRevisionMetadataLog();
 }
@@ -0,0 +1,291 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.exception.SirixIOException;
+
+import javax.annotation.Nonnegative;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Maps each revision of a resource to the timestamp of its commit and the offset of its revision root page. The index
+ * is stored next to the revisions offset file with one fixed-size entry per revision and is memory-mapped, such that
+ * a point-in-time lookup is a binary search in main memory instead of reading the revision root page of every probed
+ * revision.
+ *
+ * <p>An entry is written at the position of its revision, thus several resource managers of the same resource might
+ * write the same entry without further coordination. Entries of revisions, which have been committed before the
+ * index has been introduced, are added lazily through {@link #fill(int, IntFunction)}.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionIndex implements AutoCloseable {
+
+    /**
+     * The name of the index file.
+     */
+    public static final String FILENAME = "sirix.revisiontimestamps";
+
+    /**
+     * The size of an entry in bytes (the timestamp and the offset).
+     */
+    private static final int ENTRY_SIZE = 2 * Long.BYTES;
+
+    /**
+     * An entry of the index.
+     *
+     * @param timestamp the commit timestamp in milliseconds since the epoch
+     * @param offset    the offset of the revision root page
+     */
+    public record Entry(long timestamp, long offset) {
+    }
+
+    /**
+     * The channel of the index file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The mapped entries, which is remapped, once an entry beyond its capacity is requested.
+     */
+    private volatile MappedByteBuffer entries;
+
+    /**
+     * All entries up to and including this revision are known to be present. Initialized with the last entry of the
+     * persisted entries, which aren't preceded by a gap, such that a reopened index isn't checked from the start.
+     */
+    private volatile int filledUpTo;
+
+    /**
+     * Constructor.
+     *
+     * @param file the index file, which is created, if it doesn't exist
+     */
+    public RevisionIndex(final Path file) {
+        try {
+            channel = FileChannel.open(checkNotNull(file), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            entries = map();
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+        filledUpTo = countPresentEntries(entries, entries.capacity() / ENTRY_SIZE) - 1;
+    }
+
+    /**
+     * Get the path of the index file of a resource.
+     *
+     * @param resourceConfig the configuration of the resource
+     * @return the path of the index file
+     */
+    public static Path getFile(final ResourceConfiguration resourceConfig) {
+        return resourceConfig.getResource()
+                .resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                .resolve(FILENAME);
+    }
+
+    /**
+     * Write the entry of a revision.
+     *
+     * @param revision  the revision
+     * @param timestamp the commit timestamp in milliseconds since the epoch
+     * @param offset    the offset of the revision root page
+     */
+    public void put(final @Nonnegative int revision, final long timestamp, final long offset) {
+        checkArgument(revision >= 0, "revision must be >= 0!");
+
+        final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE).putLong(timestamp).putLong(offset).flip();
+
+        try {
+            long position = (long) revision * ENTRY_SIZE;
+            while (entry.hasRemaining()) {
+                position += channel.write(entry, position);
+            }
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * Add the entries, which are missing up to and including the given revision.
+     *
+     * @param lastRevision the most recent revision, which must be indexed
+     * @param loader       loads the entry of a revision from its revision root page
+     */
+    public void fill(final @Nonnegative int lastRevision, final IntFunction<Entry> loader) {
+        checkNotNull(loader);
+
+        if (filledUpTo >= lastRevision) {
+            return;
+        }
+
+        synchronized (this) {
+            // The size is read once, the persisted entries are checked for gaps in the mapped entries.
+            final int persistedRevisions = (int) Math.min(size() / ENTRY_SIZE, lastRevision + 1L);
+            final ByteBuffer persistedEntries =
+                    persistedRevisions > filledUpTo + 1 ? getEntries(persistedRevisions - 1) : null;
+
+            for (int revision = filledUpTo + 1; revision <= lastRevision; revision++) {
+                // A timestamp of 0 denotes a gap, which has been zero-filled by a positional write.
+                if (revision >= persistedRevisions || persistedEntries.getLong(revision * ENTRY_SIZE) == 0) {
+                    final Entry entry = loader.apply(revision);
+                    put(revision, entry.timestamp(), entry.offset());
+                }
+            }
+
+            if (lastRevision > filledUpTo) {
+                filledUpTo = lastRevision;
+            }
+        }
+    }
+
+    /**
+     * Get the commit timestamp of a revision.
+     *
+     * @param revision the revision
+     * @return the commit timestamp in milliseconds since the epoch
+     */
+    public long getTimestamp(final @Nonnegative int revision) {
+        return getEntries(revision).getLong(revision * ENTRY_SIZE);
+    }
+
+    /**
+     * Get the offset of the revision root page of a revision.
+     *
+     * @param revision the revision
+     * @return the offset of the revision root page
+     */
+    public long getOffset(final @Nonnegative int revision) {
+        return getEntries(revision).getLong(revision * ENTRY_SIZE + Long.BYTES);
+    }
+
+    /**
+     * Search for the revision, which has been committed at the given timestamp, amongst the revisions
+     * {@code 0..lastRevision}, which must have been {@link #fill(int, IntFunction) filled}.
+     *
+     * @param timestamp    the timestamp in milliseconds since the epoch
+     * @param lastRevision the most recent revision to consider
+     * @return the revision, if a revision has been committed at the timestamp, otherwise
+     * {@code (-(insertion point) - 1)}, whereas the insertion point is the first revision, which has been committed
+     * after the timestamp (as in {@link java.util.Arrays#binarySearch(long[], long)})
+     */
+    public int binarySearch(final long timestamp, final @Nonnegative int lastRevision) {
+        final ByteBuffer entries = getEntries(lastRevision);
+
+        int low = 0;
+        int high = lastRevision;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long midVal = entries.getLong(mid * ENTRY_SIZE);
+
+            if (midVal < timestamp) {
+                low = mid + 1;
+            } else if (midVal > timestamp) {
+                high = mid - 1;
+            } else {
+                return mid; // key found
+            }
+        }
+
+        return -(low + 1); // key not found
+    }
+
+    /**
+     * Search for the first revision amongst the revisions {@code 0..lastRevision}, which must have been
+     * {@link #fill(int, IntFunction) filled}, which has been committed at or after the given timestamp.
+     *
+     * @param timestamp    the timestamp in milliseconds since the epoch
+     * @param lastRevision the most recent revision to consider
+     * @return the first revision, which has been committed at or after the timestamp, or {@code lastRevision + 1}, if
+     * no such revision exists
+     */
+    public int lowerBound(final long timestamp, final @Nonnegative int lastRevision) {
+        final ByteBuffer entries = getEntries(lastRevision);
+
+        int low = 0;
+        int high = lastRevision + 1;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+
+            if (entries.getLong(mid * ENTRY_SIZE) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    private long size() {
+        try {
+            return channel.size();
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * Count the entries at the start of the index, which are not preceded by a gap.
+     *
+     * @param entries   the mapped entries
+     * @param revisions the number of mapped entries
+     * @return the number of entries
+     */
+    private static int countPresentEntries(final ByteBuffer entries, final int revisions) {
+        int revision = 0;
+        while (revision < revisions && entries.getLong(revision * ENTRY_SIZE) != 0) {
+            revision++;
+        }
+        return revision;
+    }
+
+    private ByteBuffer getEntries(final int revision) {
+        checkArgument(revision >= 0, "revision must be >= 0!");
+
+        MappedByteBuffer entries = this.entries;
+
+        if ((long) (revision + 1) * ENTRY_SIZE > entries.capacity()) {
+            synchronized (this) {
+                entries = this.entries;
+
+                if ((long) (revision + 1) * ENTRY_SIZE > entries.capacity()) {
+                    try {
+                        entries = map();
+                    } catch (final IOException e) {
+                        throw new SirixIOException(e);
+                    }
+                    this.entries = entries;
+                }
+            }
+
+            checkArgument((long) (revision + 1) * ENTRY_SIZE <= entries.capacity(),
+                    "The revision %s is not indexed!", revision);
+        }
+
+        return entries;
+    }
+
+    private MappedByteBuffer map() throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size() / ENTRY_SIZE * ENTRY_SIZE);
+    }
+}
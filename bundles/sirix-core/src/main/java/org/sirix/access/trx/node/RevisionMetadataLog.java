@@ -0,0 +1,352 @@
+package org.sirix.access.trx.node;
+
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.User;
+import org.sirix.api.RevisionInfo;
+import org.sirix.exception.SirixIOException;
+import org.sirix.settings.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnegative;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An append-only log of the metadata of the revisions of a resource (the author, the commit timestamp and the commit
+ * message), which is written at commit time. Listing the history thus is a scan of a small file instead of opening a
+ * transaction per revision.
+ *
+ * <p>Each record is prefixed by its length and a checksum and includes its revision, such that the records don't
+ * have to be in revision order. Records of revisions, which have been committed before the log has been introduced,
+ * are appended once they have been read from the revision root pages. The file is scanned incrementally and the
+ * offsets of the records are kept in main memory. A torn or corrupt record ends the scan, the records of the
+ * affected revisions are reported as missing. When the log is opened, a torn or corrupt tail (for instance the record
+ * of a commit, which has been interrupted by a crash) is truncated, such that records are appended after the last
+ * valid record again. While a corrupt record is found afterwards, records of former revisions shouldn't be appended
+ * (see {@link #isCorrupt()}), as they would not be readable until the log is opened the next time.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionMetadataLog implements AutoCloseable {
+
+    /**
+     * Logger for {@link RevisionMetadataLog}.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RevisionMetadataLog.class);
+
+    /**
+     * The name of the log file.
+     */
+    public static final String FILENAME = "sirix.revisionmetadata";
+
+    /**
+     * The size of the header of a record in bytes (the length of the payload and its checksum).
+     */
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    /**
+     * Denotes that the offset of the record of a revision is unknown.
+     */
+    private static final long UNKNOWN_OFFSET = -1;
+
+    /**
+     * The channel of the log file, which is opened in append mode.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The offsets of the records by revision, guarded by this log.
+     */
+    private long[] offsets;
+
+    /**
+     * The position up to which the file has been scanned, guarded by this log.
+     */
+    private long scannedUpTo;
+
+    /**
+     * Determines if a corrupt record has been found, such that the subsequent records are not readable.
+     */
+    private boolean isCorrupt;
+
+    /**
+     * Constructor.
+     *
+     * @param file the log file, which is created, if it doesn't exist
+     */
+    public RevisionMetadataLog(final Path file) {
+        try {
+            channel = FileChannel.open(checkNotNull(file), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+        offsets = new long[0];
+        truncateInvalidTail();
+    }
+
+    /**
+     * Get the path of the log file of a resource.
+     *
+     * @param resourceConfig the configuration of the resource
+     * @return the path of the log file
+     */
+    public static Path getFile(final ResourceConfiguration resourceConfig) {
+        return resourceConfig.getResource()
+                .resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                .resolve(FILENAME);
+    }
+
+    /**
+     * Append the metadata of a revision.
+     *
+     * @param revision      the revision
+     * @param timestamp     the commit timestamp in milliseconds since the epoch
+     * @param user          the author of the revision, might be {@code null}
+     * @param commitMessage the commit message, might be {@code null}
+     */
+    public void append(final @Nonnegative int revision, final long timestamp, final User user,
+            final String commitMessage) {
+        checkArgument(revision >= 0, "revision must be >= 0!");
+
+        final byte[] payload = serialize(revision, timestamp, user, commitMessage);
+        final CRC32 checksum = new CRC32();
+        checksum.update(payload);
+
+        final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt((int) checksum.getValue())
+                .put(payload)
+                .flip();
+
+        try {
+            // The channel is in append mode, thus concurrent appends of several resource managers don't overlap.
+            channel.write(record);
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * Append the metadata of a revision.
+     *
+     * @param revisionInfo the metadata of the revision
+     */
+    public void append(final RevisionInfo revisionInfo) {
+        append(revisionInfo.getRevision(), revisionInfo.getRevisionTimestamp().toEpochMilli(),
+                revisionInfo.getUser(), revisionInfo.getCommitMessage().orElse(null));
+    }
+
+    /**
+     * Read the metadata of the revisions {@code fromRevision..toRevision}.
+     *
+     * @param fromRevision the first revision
+     * @param toRevision   the last revision (inclusive)
+     * @return the metadata of the revisions in ascending order, whereas the metadata of a revision, which is not
+     * part of the log, is {@code null}
+     */
+    public synchronized RevisionInfo[] read(final @Nonnegative int fromRevision, final @Nonnegative int toRevision) {
+        checkArgument(fromRevision >= 0, "fromRevision must be >= 0!");
+        checkArgument(fromRevision <= toRevision, "fromRevision must be <= toRevision!");
+
+        scan();
+
+        final RevisionInfo[] revisionInfos = new RevisionInfo[toRevision - fromRevision + 1];
+
+        for (int revision = fromRevision; revision <= toRevision; revision++) {
+            if (revision < offsets.length && offsets[revision] != UNKNOWN_OFFSET) {
+                revisionInfos[revision - fromRevision] = readRecord(offsets[revision]);
+            }
+        }
+
+        return revisionInfos;
+    }
+
+    /**
+     * Determines if a corrupt record has been found since the log has been opened, such that the subsequent records
+     * (including appended ones) are not readable.
+     *
+     * @return {@code true}, if a corrupt record has been found, {@code false} otherwise
+     */
+    public synchronized boolean isCorrupt() {
+        scan();
+        return isCorrupt;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * Scan the records, which have been appended since the last scan.
+     */
+    private void scan() {
+        if (isCorrupt) {
+            return;
+        }
+
+        try {
+            final long size = channel.size();
+
+            if (scannedUpTo >= size) {
+                return;
+            }
+
+            final MappedByteBuffer records =
+                    channel.map(FileChannel.MapMode.READ_ONLY, scannedUpTo, size - scannedUpTo);
+
+            final CRC32 checksum = new CRC32();
+            int position = 0;
+
+            while (records.capacity() - position >= HEADER_SIZE) {
+                final int length = records.getInt(position);
+                final int expectedChecksum = records.getInt(position + Integer.BYTES);
+
+                if (length < Integer.BYTES || length > records.capacity() - position - HEADER_SIZE) {
+                    // Either a torn record or one, which is still written.
+                    if (length < Integer.BYTES) {
+                        markCorrupt(scannedUpTo + position);
+                    }
+                    break;
+                }
+
+                checksum.reset();
+                checksum.update(records.slice(position + HEADER_SIZE, length));
+
+                if ((int) checksum.getValue() != expectedChecksum) {
+                    markCorrupt(scannedUpTo + position);
+                    break;
+                }
+
+                final int revision = records.getInt(position + HEADER_SIZE);
+
+                if (revision >= offsets.length) {
+                    final int oldLength = offsets.length;
+                    offsets = Arrays.copyOf(offsets, Math.max(revision + 1, oldLength * 2));
+                    Arrays.fill(offsets, oldLength, offsets.length, UNKNOWN_OFFSET);
+                }
+
+                offsets[revision] = scannedUpTo + position;
+                position += HEADER_SIZE + length;
+            }
+
+            scannedUpTo += position;
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * Truncate the log after the last valid record.
+     */
+    private synchronized void truncateInvalidTail() {
+        scan();
+
+        try {
+            final long size = channel.size();
+
+            if (scannedUpTo < size) {
+                LOGGER.warn("The revision metadata log is truncated from {} to {} bytes, as its tail is torn or "
+                        + "corrupt.", size, scannedUpTo);
+                channel.truncate(scannedUpTo);
+                isCorrupt = false;
+            }
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    private void markCorrupt(final long offset) {
+        LOGGER.warn("The revision metadata log is corrupt at offset {}, subsequent records are ignored.", offset);
+        isCorrupt = true;
+    }
+
+    private RevisionInfo readRecord(final long offset) {
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(header, offset);
+
+            final ByteBuffer payload = ByteBuffer.allocate(header.getInt(0));
+            readFully(payload, offset + HEADER_SIZE);
+
+            return deserialize(payload.array());
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    private void readFully(final ByteBuffer buffer, final long offset) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read == -1) {
+                throw new SirixIOException("Unexpected end of the revision metadata log.");
+            }
+            position += read;
+        }
+    }
+
+    private static byte[] serialize(final int revision, final long timestamp, final User user,
+            final String commitMessage) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(revision);
+            out.writeLong(timestamp);
+            out.writeBoolean(user != null);
+            if (user != null) {
+                out.writeUTF(user.getName());
+                out.writeUTF(user.getId().toString());
+            }
+            out.writeBoolean(commitMessage != null);
+            if (commitMessage != null) {
+                final byte[] message = commitMessage.getBytes(Constants.DEFAULT_ENCODING);
+                out.writeInt(message.length);
+                out.write(message);
+            }
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static RevisionInfo deserialize(final byte[] payload) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final int revision = in.readInt();
+            final long timestamp = in.readLong();
+            final User user = in.readBoolean() ? new User(in.readUTF(), UUID.fromString(in.readUTF())) : null;
+            final String commitMessage;
+            if (in.readBoolean()) {
+                final byte[] message = new byte[in.readInt()];
+                in.readFully(message);
+                commitMessage = new String(message, Constants.DEFAULT_ENCODING);
+            } else {
+                commitMessage = null;
+            }
+
+            return new RevisionInfo(user, revision, Instant.ofEpochMilli(timestamp), commitMessage);
+        }
+    }
+}
@@ -39,8 +39,14 @@ public final class JsonIndexController extends AbstractIndexController<JsonNodeR
 
     @Override
     public JsonIndexController createIndexes(final Set<IndexDef> indexDefs, final JsonNodeTrx nodeWriteTrx) {
+        return createIndexes(indexDefs, nodeWriteTrx, false);
+    }
+
+    @Override
+    public JsonIndexController createIndexes(final Set<IndexDef> indexDefs, final JsonNodeTrx nodeWriteTrx,
+            final boolean parallel) {
         // Build the indexes.
-        IndexBuilder.build(nodeWriteTrx, createIndexBuilders(indexDefs, nodeWriteTrx));
+        IndexBuilder.build(nodeWriteTrx, createIndexBuilders(indexDefs, nodeWriteTrx), parallel);
 
         // Create index listeners for upcoming changes.
         createIndexListeners(indexDefs, nodeWriteTrx);
@@ -52,8 +52,14 @@ public final class XmlIndexController extends AbstractIndexController<XmlNodeRea
 
     @Override
     public XmlIndexController createIndexes(final Set<IndexDef> indexDefs, final XmlNodeTrx nodeWriteTrx) {
+        return createIndexes(indexDefs, nodeWriteTrx, false);
+    }
+
+    @Override
+    public XmlIndexController createIndexes(final Set<IndexDef> indexDefs, final XmlNodeTrx nodeWriteTrx,
+            final boolean parallel) {
         // Build the indexes.
-        IndexBuilder.build(nodeWriteTrx, createIndexBuilders(indexDefs, nodeWriteTrx));
+        IndexBuilder.build(nodeWriteTrx, createIndexBuilders(indexDefs, nodeWriteTrx), parallel);
 
         // Create index listeners for upcoming changes.
         createIndexListeners(indexDefs, nodeWriteTrx);
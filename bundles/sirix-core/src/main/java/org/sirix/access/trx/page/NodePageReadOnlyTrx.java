@@ -47,7 +47,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -64,6 +63,11 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
      */
     private final Reader pageReader;
 
+    /**
+     * Fetches the fragments of record pages.
+     */
+    private final PageFragmentFetcher pageFragmentFetcher;
+
     /**
      * Uber page this transaction is bound to.
      */
@@ -145,6 +149,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
         this.resourceManager = checkNotNull(resourceManager);
         this.resourceConfig = resourceManager.getResourceConfig();
         this.pageReader = checkNotNull(reader);
+        this.pageFragmentFetcher = new PageFragmentFetcher(this.resourceManager, this);
         this.uberPage = checkNotNull(uberPage);
 
         revisionNumber = revision;
@@ -235,7 +240,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
             };
 
             //noinspection unchecked
-            return (Optional<V>) page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(nodeKey))
+            return (Optional<V>) page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(this, nodeKey))
                     .flatMap(this::checkItemIfDeleted);
         }
 
@@ -390,7 +395,7 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
                 return Optional.of(page);
             }
 
-            final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage.get());
+            final Page recordPageFromBuffer = resourceBufferManager.getRecordPage(pageReferenceToRecordPage.get(), this);
 
             if (recordPageFromBuffer != null) {
                 mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(),
@@ -474,19 +479,9 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
         return pages;
     }
 
-    @SuppressWarnings("unchecked")
     private <K, V, T extends KeyValuePage<? extends K, ? extends V>> List<T> getPreviousPageFragments(
-            final Collection<PageFragmentKey> pageFragments) {
-        return pageFragments.stream().map(pageFragmentKey -> {
-            if (pageFragmentKey.getRevision() == rootPage.getRevision()) {
-                return (T) pageReader.read(new PageReference().setKey(pageFragmentKey.getKey()), this);
-            } else {
-                try (final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx(pageFragmentKey.getRevision())) {
-                    return (T) pageReadOnlyTrx.getReader()
-                            .read(new PageReference().setKey(pageFragmentKey.getKey()), pageReadOnlyTrx);
-                }
-            }
-        }).sorted(Comparator.<T, Integer>comparing(KeyValuePage::getRevision).reversed()).collect(Collectors.toList());
+            final List<PageFragmentKey> pageFragments) {
+        return pageFragmentFetcher.fetch(pageFragments);
     }
 
     /**
@@ -672,10 +667,6 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
                 pageReader.close();
             }
 
-            if (resourceBufferManager instanceof BufferManagerImpl) {
-                ((BufferManagerImpl) resourceBufferManager).close();
-            }
-
             if (resourceManager.getNodeReadTrxByTrxId(trxId).isEmpty()) {
                 resourceManager.closePageReadTransaction(trxId);
             }
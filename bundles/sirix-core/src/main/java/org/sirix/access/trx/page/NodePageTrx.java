@@ -60,6 +60,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -134,6 +135,16 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
     private MostRecentPageContainer mostRecentPageContainer;
 
+    /**
+     * The revision root page, which has been written by the commit.
+     */
+    private RevisionRootPage committedRevisionRootPage;
+
+    /**
+     * The key of the revision root page, which has been written by the commit.
+     */
+    private long committedRevisionRootPageKey;
+
     /**
      * Constructor.
      *
@@ -359,6 +370,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         page.commit(this);
         storagePageReaderWriter.write(reference);
 
+        if (page instanceof RevisionRootPage revisionRootPage) {
+            committedRevisionRootPage = revisionRootPage;
+            committedRevisionRootPageKey = reference.getKey();
+        }
+
         // Remove page reference.
         reference.setPage(null);
     }
@@ -386,6 +402,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
                 getActualRevisionRootPage().setCommitMessage(commitMessage);
             }
 
+            // Serialize, compress and hash the modified record pages in parallel, offsets are assigned in order below.
+            storagePageReaderWriter.prepare(getModifiedRecordPages(), pageRtx.resourceManager.getThreadPool());
+
             // Recursively write indirectly referenced pages.
             uberPage.commit(this);
 
@@ -393,6 +412,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
             storagePageReaderWriter.writeUberPageReference(uberPageReference);
             uberPageReference.setPage(null);
 
+            if (committedRevisionRootPage != null) {
+                addRevisionMetadata(revision, committedRevisionRootPage, committedRevisionRootPageKey);
+                committedRevisionRootPage = null;
+            }
+
             final Path indexes = pageRtx.getResourceManager()
                     .getResourceConfig().resourcePath
                     .resolve(ResourceConfiguration.ResourcePaths.INDEXES.getPath())
@@ -420,6 +444,16 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         return (UberPage) storagePageReaderWriter.read(storagePageReaderWriter.readUberPageReference(), pageRtx);
     }
 
+    private List<Page> getModifiedRecordPages() {
+        final List<Page> modifiedRecordPages = new ArrayList<>();
+        for (final PageContainer container : log.getMap().values()) {
+            if (container != null && container.getModified() instanceof UnorderedKeyValuePage modifiedPage) {
+                modifiedRecordPages.add(modifiedPage);
+            }
+        }
+        return modifiedRecordPages;
+    }
+
     private void createIfAbsent(final Path file) {
         while (!Files.exists(file)) {
             try {
@@ -430,6 +464,18 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         }
     }
 
+    private void addRevisionMetadata(final int revision, final RevisionRootPage revisionRootPage,
+            final long revisionRootPageKey) {
+        // The timestamp is assigned, once the page is serialized.
+        final long timestamp = revisionRootPage.getRevisionTimestamp();
+
+        pageRtx.resourceManager.getRevisionIndex().put(revision, timestamp, revisionRootPageKey);
+
+        final CommitCredentials commitCredentials = revisionRootPage.getCommitCredentials();
+        pageRtx.resourceManager.getRevisionMetadataLog().append(revision, timestamp, commitCredentials.getUser(),
+                commitCredentials.getMessage());
+    }
+
     private void setUserIfPresent() {
         final Optional<User> optionalUser = pageRtx.resourceManager.getUser();
         optionalUser.ifPresent(user -> getActualRevisionRootPage().setUser(user));
@@ -0,0 +1,146 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.access.trx.node.InternalResourceManager;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Reader;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.PageFragmentKey;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Fetches the fragments of a record page. The fragments of former revisions are read concurrently (each one with its
+ * own {@link PageReadOnlyTrx}, as readers are not thread safe), whereas the fragment of the current
+ * revision is read by the calling thread in the meantime. Thus, a cold record page lookup with sliding snapshot or
+ * incremental versioning roughly costs one instead of N serial random reads.
+ *
+ * <p>
+ * The tasks never wait for other tasks, thus a bounded pool can't deadlock, even if the calling thread is a pool
+ * thread itself.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class PageFragmentFetcher {
+
+    /**
+     * The executor, which reads the page fragments of former revisions.
+     */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    /**
+     * The resource manager to open page read-only transactions on former revisions.
+     */
+    private final InternalResourceManager<?, ?> resourceManager;
+
+    /**
+     * The page read-only transaction to read the fragment of the current revision.
+     */
+    private final NodePageReadOnlyTrx pageReadOnlyTrx;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceManager the resource manager to open page read-only transactions on former revisions
+     * @param pageReadOnlyTrx the page read-only transaction to read the fragment of the current revision
+     */
+    PageFragmentFetcher(final InternalResourceManager<?, ?> resourceManager,
+            final NodePageReadOnlyTrx pageReadOnlyTrx) {
+        this.resourceManager = checkNotNull(resourceManager);
+        this.pageReadOnlyTrx = checkNotNull(pageReadOnlyTrx);
+    }
+
+    /**
+     * Fetch the page fragments.
+     *
+     * @param pageFragments the keys of the page fragments
+     * @param <T> the type of the key/value pages
+     * @return the page fragments, sorted by their revision in descending order
+     * @throws SirixIOException if a page fragment couldn't be read
+     */
+    <T extends KeyValuePage<?, ?>> List<T> fetch(final List<PageFragmentKey> pageFragments) {
+        final int currentRevision = pageReadOnlyTrx.getRevisionNumber();
+        final List<CompletableFuture<T>> formerFragments = new ArrayList<>(pageFragments.size());
+        final List<PageFragmentKey> currentFragments = new ArrayList<>(1);
+
+        for (final PageFragmentKey pageFragmentKey : pageFragments) {
+            if (pageFragmentKey.getRevision() == currentRevision) {
+                currentFragments.add(pageFragmentKey);
+            } else if (pageFragments.size() == 1) {
+                formerFragments.add(CompletableFuture.completedFuture(readFormerFragment(pageFragmentKey)));
+            } else {
+                formerFragments.add(CompletableFuture.supplyAsync(() -> readFormerFragment(pageFragmentKey), EXECUTOR));
+            }
+        }
+
+        final List<T> pages = new ArrayList<>(pageFragments.size());
+        final Reader reader = pageReadOnlyTrx.getReader();
+        for (final PageFragmentKey pageFragmentKey : currentFragments) {
+            pages.add(read(reader, pageFragmentKey, pageReadOnlyTrx));
+        }
+
+        try {
+            for (final CompletableFuture<T> formerFragment : formerFragments) {
+                pages.add(formerFragment.join());
+            }
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SirixIOException(e.getCause());
+        }
+
+        pages.sort(Comparator.<T, Integer>comparing(KeyValuePage::getRevision).reversed());
+        return pages;
+    }
+
+    private <T extends KeyValuePage<?, ?>> T readFormerFragment(final PageFragmentKey pageFragmentKey) {
+        try (final var formerPageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx(pageFragmentKey.getRevision())) {
+            return read(formerPageReadOnlyTrx.getReader(), pageFragmentKey, formerPageReadOnlyTrx);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends KeyValuePage<?, ?>> T read(final Reader reader, final PageFragmentKey pageFragmentKey,
+            final PageReadOnlyTrx trx) {
+        return (T) reader.read(new PageReference().setKey(pageFragmentKey.getKey()), trx);
+    }
+
+    private static ExecutorService createExecutor() {
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        final var executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new PageFragmentFetcherThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class PageFragmentFetcherThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@Nonnull final Runnable runnable) {
+            final var thread = new Thread(runnable, "PageFragmentFetcherThread-" + threadNumber.incrementAndGet());
+
+            thread.setPriority(Thread.NORM_PRIORITY);
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -69,7 +69,7 @@ final class TransactionIntentLogFactoryImpl implements TransactionIntentLogFacto
 
             final FileWriter fileWriter = new FileWriter(file, null,
                     new ByteHandlePipeline(resourceConfig.byteHandlePipeline), SerializationType.TRANSACTION_INTENT_LOG,
-                    new PagePersister());
+                    new PagePersister(), resourceConfig.pageHashType, false);
 
             final PersistentFileCache persistentFileCache = new PersistentFileCache(fileWriter);
 
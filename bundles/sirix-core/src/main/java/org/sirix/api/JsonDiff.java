@@ -7,4 +7,6 @@ public interface JsonDiff {
     String generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber);
 
     String generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber, long startNodeKey, long maxDepth);
+
+    void generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber, long startNodeKey, long maxDepth, Appendable out);
 }
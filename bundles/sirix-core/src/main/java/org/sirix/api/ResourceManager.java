@@ -27,6 +27,7 @@ import org.sirix.access.trx.node.IndexController;
 import org.sirix.access.trx.node.xml.XmlIndexController;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.cache.BufferStatistics;
 import org.sirix.cache.Cache;
 import org.sirix.cache.RBIndexKey;
 import org.sirix.exception.SirixException;
@@ -92,6 +93,16 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
      */
     List<RevisionInfo> getHistory(int fromRevision, int toRevision);
 
+    /**
+     * Get the history, that is the metadata informations about the revisions, which have been committed in the
+     * given time range.
+     *
+     * @param fromTimestamp the start of the time range (inclusive)
+     * @param toTimestamp the end of the time range (inclusive)
+     * @return the history, starting with the most recent revision
+     */
+    List<RevisionInfo> getHistory(Instant fromTimestamp, Instant toTimestamp);
+
     /**
      * Get the single node writer if available, wrapped in an {@link Optional}.
      *
@@ -409,4 +420,11 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
      * @return the cache
      */
     Cache<RBIndexKey, RBNode<?, ?>> getIndexCache();
+
+    /**
+     * Get statistics of the cached pages of the resource.
+     *
+     * @return the statistics
+     */
+    BufferStatistics getBufferStatistics();
 }
@@ -22,7 +22,7 @@ public final class RevisionInfo {
 
     public RevisionInfo(final User user, final int revision, final Instant revisionTimestamp,
             final String commitMessage) {
-        this.user = checkNotNull(user);
+        this.user = user;
 
         checkArgument(revision >= 0);
 
@@ -31,6 +31,11 @@ public final class RevisionInfo {
         this.commitMessage = commitMessage;
     }
 
+    /**
+     * Get the author of the revision.
+     *
+     * @return the author or {@code null}, if the revision has been committed without a user
+     */
     public User getUser() {
         return user;
     }
@@ -63,7 +68,7 @@ public final class RevisionInfo {
 
         final RevisionInfo otherRevisionInfo = (RevisionInfo) other;
 
-        return this.user == otherRevisionInfo.user && this.revision == otherRevisionInfo.revision
+        return Objects.equals(this.user, otherRevisionInfo.user) && this.revision == otherRevisionInfo.revision
                 && revisionTimestamp.equals(otherRevisionInfo.revisionTimestamp)
                 && Objects.equals(this.commitMessage, otherRevisionInfo.commitMessage);
     }
@@ -22,13 +22,13 @@
  */
 package org.sirix.axis.concurrent;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnegative;
 
@@ -46,16 +46,17 @@ import org.slf4j.LoggerFactory;
  * concurrent evaluation of pipeline steps. The given axis is uncoupled from the
  * main thread by embedding it in a Runnable that uses its one transaction and
  * stores all the results to a queue. The ConcurrentAxis gets the computed
- * results from that queue one by one on every hasNext() call and sets the
- * main-transaction to it. As soon as the end of the computed result sequence is
- * reached (marked by the NULL_NODE_KEY), the ConcurrentAxis returns
+ * results from that queue in batches of node keys and sets the
+ * main-transaction to them one by one on every hasNext() call. As soon as the
+ * end of the computed result sequence is reached, the ConcurrentAxis returns
  * <code>false</code>.
  * </p>
  * <p>
  * This framework is working according to the producer-consumer-principle, where
  * the ConcurrentAxisHelper and its encapsulated axis is the producer and the
- * ConcurrentAxis with its callees is the consumer. This can be used by any
- * class that implements the IAxis interface. Note: Make sure that the used
+ * ConcurrentAxis with its callees is the consumer. The producers of all
+ * concurrent axes run on a shared pool of daemon threads. This can be used by
+ * any class that implements the IAxis interface. Note: Make sure that the used
  * class is thread-safe.
  * </p>
  */
@@ -66,21 +67,51 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
      */
     private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ConcurrentAxis.class));
 
+    /**
+     * The default maximum number of result keys, which are passed at once from the producer.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * The default maximum number of batches in the queue.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    /**
+     * The shared pool, on which the producers run. As producers block, whenever their queue is full, the pool is
+     * not bounded (idle threads are released after a minute).
+     */
+    private static final ExecutorService PRODUCERS = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "sirix-concurrent-axis");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Axis that is running in an own thread and produces results for this axis.
      */
     private final Axis producer;
 
     /**
-     * Queue that stores result keys already computed by the producer. End of
-     * the result sequence is marked by the NULL_NODE_KEY.
+     * Queue that stores batches of result keys already computed by the
+     * producer. End of the result sequence is marked by an empty batch.
+     */
+    private final BlockingQueue<long[]> results;
+
+    /**
+     * The maximum number of result keys, which are passed at once from the producer.
      */
-    private final BlockingQueue<Long> results;
+    private final int batchSize;
 
     /**
-     * Capacity of the mResults queue.
+     * The current batch of result keys.
      */
-    private final int M_CAPACITY = 200;
+    private long[] batch;
+
+    /**
+     * The index of the next result key in the current batch.
+     */
+    private int batchIndex;
 
     /**
      * Has axis already been called?
@@ -90,7 +121,12 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
     /**
      * Runnable in which the producer is running.
      */
-    private Runnable task;
+    private ConcurrentAxisHelper task;
+
+    /**
+     * Has the producer been submitted?
+     */
+    private boolean started;
 
     /**
      * Is axis already finished and has no results left?
@@ -98,27 +134,37 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
     private boolean finished;
 
     /**
-     * Executor Service holding the execution plan for future tasks.
+     * Constructor. Initializes the internal state.
+     *
+     * @param rtx exclusive (immutable) trx to iterate with
+     * @param childAxis producer axis
      */
-    public ExecutorService executorService;
+    public ConcurrentAxis(final R rtx, final Axis childAxis) {
+        this(rtx, childAxis, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
 
     /**
      * Constructor. Initializes the internal state.
      *
      * @param rtx exclusive (immutable) trx to iterate with
      * @param childAxis producer axis
+     * @param batchSize the maximum number of result keys, which are passed at once from the producer
+     * @param queueCapacity the maximum number of batches, which the producer computes in advance
      */
-    public ConcurrentAxis(final R rtx, final Axis childAxis) {
+    public ConcurrentAxis(final R rtx, final Axis childAxis, final @Nonnegative int batchSize,
+            final @Nonnegative int queueCapacity) {
         super(rtx);
         if (rtx.getId() == childAxis.getTrx().getId()) {
             throw new IllegalArgumentException(
                     "The filter must be bound to another transaction but on the same revision/node!");
         }
-        results = new ArrayBlockingQueue<>(M_CAPACITY);
+        checkArgument(batchSize > 0, "batchSize must be > 0!");
+        checkArgument(queueCapacity > 0, "queueCapacity must be > 0!");
+        this.batchSize = batchSize;
+        results = new ArrayBlockingQueue<>(queueCapacity);
         first = true;
         producer = checkNotNull(childAxis);
-        task = new ConcurrentAxisHelper(producer, results);
-        executorService = Executors.newSingleThreadExecutor();
+        task = new ConcurrentAxisHelper(producer, results, batchSize);
         finished = false;
     }
 
@@ -128,17 +174,19 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
         first = true;
         finished = false;
 
-        if (executorService != null) {
-            executorService = Executors.newSingleThreadExecutor();
-        }
+        // Stop a running producer, before its axis is reset.
+        stopProducer();
+
         if (producer != null) {
             producer.reset(nodeKey);
         }
         if (results != null) {
             results.clear();
         }
+        batch = null;
+        batchIndex = 0;
         if (task != null) {
-            task = new ConcurrentAxisHelper(producer, results);
+            task = new ConcurrentAxisHelper(producer, results, batchSize);
         }
     }
 
@@ -147,31 +195,43 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
         // Start producer on first call.
         if (first) {
             first = false;
-            executorService.submit(task);
+            started = true;
+            PRODUCERS.execute(task);
         }
 
         if (finished) {
             return done();
         }
 
-        long result = Fixed.NULL_NODE_KEY.getStandardProperty();
-
-        try {
-            // Get result from producer as soon as it is available.
-            result = results.take();
-        } catch (final InterruptedException e) {
-            LOGGER.warn(e.getMessage(), e);
+        if (batch == null || batchIndex == batch.length) {
+            try {
+                // Get results from producer as soon as they are available.
+                batch = results.take();
+                batchIndex = 0;
+            } catch (final InterruptedException e) {
+                LOGGER.warn(e.getMessage(), e);
+                Thread.currentThread().interrupt();
+                batch = ConcurrentAxisHelper.END;
+            }
         }
 
-        // NULL_NODE_KEY marks end of the sequence computed by the producer.
-        if (result != Fixed.NULL_NODE_KEY.getStandardProperty()) {
-            return result;
+        // An empty batch marks the end of the sequence computed by the producer.
+        if (batch.length > 0) {
+            return batch[batchIndex++];
         }
 
         finished = true;
         return done();
     }
 
+    private void stopProducer() {
+        if (started) {
+            task.stop();
+            task.awaitStop();
+            started = false;
+        }
+    }
+
     /**
      * Signals that axis traversal is done, that is {@code hasNext()} must
      * return false. Is callable from subclasses which implement
@@ -182,11 +242,7 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
      */
     @Override
     protected final long done() {
-        executorService.shutdown();
-        try {
-            executorService.awaitTermination(5, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-        }
+        stopProducer();
         return Fixed.NULL_NODE_KEY.getStandardProperty();
     }
 
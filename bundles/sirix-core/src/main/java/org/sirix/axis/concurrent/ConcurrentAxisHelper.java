@@ -20,11 +20,15 @@
  */
 package org.sirix.axis.concurrent;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import java.util.Arrays;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import org.sirix.api.Axis;
-import org.sirix.settings.Fixed;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +38,8 @@ import org.slf4j.LoggerFactory;
  * of pipeline steps by decoupling the given axis from the main thread and
  * storing its results in a blocking queue so establish a
  * producer-consumer-relationship between the ConcurrentAxis and this one.
+ * The results are passed in batches of primitive node keys, to avoid boxing
+ * and to reduce the synchronization overhead of the queue.
  * </p>
  * <p>
  * This axis should only be used and instantiated by the ConcurrentAxis. Find
@@ -49,17 +55,45 @@ public class ConcurrentAxisHelper implements Runnable {
     public static final LogWrapper LOGWRAPPER
             = new LogWrapper(LoggerFactory.getLogger(ConcurrentAxisHelper.class));
 
+    /**
+     * Marks the end of the result sequence.
+     */
+    static final long[] END = new long[0];
+
+    /**
+     * The time in milliseconds, after which a producer, which waits for space in the queue, checks if it has been
+     * requested to stop.
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 10;
+
     /**
      * {@link Axis} that computes the results.
      */
     private final Axis mAxis;
 
     /**
-     * Queue that stores result keys already computed by this axis. End of the
-     * result sequence is marked by the NULL_NODE_KEY. This is used for
+     * Queue that stores batches of result keys already computed by this axis.
+     * End of the result sequence is marked by {@link #END}. This is used for
      * communication with the consumer.
      */
-    private final BlockingQueue<Long> mResults;
+    private final BlockingQueue<long[]> mResults;
+
+    /**
+     * The maximum number of result keys of a batch.
+     */
+    private final int mBatchSize;
+
+    /**
+     * Signals, that the producer has stopped.
+     */
+    private final CountDownLatch mStopped;
+
+    /**
+     * Determines, if the producer has been requested to stop. The producer checks the flag between the results of the
+     * axis instead of being interrupted, as an interrupt closes the file channels, which the transaction of the axis
+     * reads from.
+     */
+    private volatile boolean mStopRequested;
 
     /**
      * Bind axis step to transaction. Make sure to create a new ReadTransaction
@@ -68,32 +102,89 @@ public class ConcurrentAxisHelper implements Runnable {
      *
      * @param axis Axis to bind with
      * @param results queue which has results related to the axis
+     * @param batchSize the maximum number of result keys, which are passed at once
      */
-    public ConcurrentAxisHelper(final Axis axis, @Nonnull final BlockingQueue<Long> results) {
+    public ConcurrentAxisHelper(final Axis axis, @Nonnull final BlockingQueue<long[]> results,
+            final @Nonnegative int batchSize) {
+        checkArgument(batchSize > 0, "batchSize must be > 0!");
         mAxis = checkNotNull(axis);
         mResults = checkNotNull(results);
+        mBatchSize = batchSize;
+        mStopped = new CountDownLatch(1);
     }
 
     @Override
     public void run() {
-        // Compute all results of the given axis and store the results in the
-        // queue.
-        while (mAxis.hasNext()) {
-            final long nodeKey = mAxis.next();
+        try {
+            // Compute all results of the given axis and store the results in the
+            // queue.
+            long[] batch = new long[mBatchSize];
+            int size = 0;
+            while (!mStopRequested && mAxis.hasNext()) {
+                batch[size++] = mAxis.next();
+                if (size == mBatchSize) {
+                    // Store result in queue as soon as there is space left.
+                    if (!publish(batch)) {
+                        return;
+                    }
+                    batch = new long[mBatchSize];
+                    size = 0;
+                }
+            }
+
+            if (mStopRequested || (size > 0 && !publish(Arrays.copyOf(batch, size)))) {
+                return;
+            }
+
+            // Mark end of result sequence.
+            publish(END);
+        } catch (final InterruptedException e) {
+            // The thread of the pool is shut down.
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+            LOGWRAPPER.error(e.getMessage(), e);
             try {
-                // Store result in queue as soon as there is space left.
-                mResults.put(nodeKey);
-                // Wait until next thread arrives and exchange blocking queue.
-            } catch (final InterruptedException e) {
-                LOGWRAPPER.error(e.getMessage(), e);
+                // Don't let the consumer wait forever.
+                publish(END);
+            } catch (final InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            mStopped.countDown();
+        }
+    }
+
+    /**
+     * Store a batch in the queue as soon as there is space left, unless the producer is requested to stop.
+     *
+     * @param batch the batch of result keys
+     * @return {@code true}, if the batch has been stored, {@code false}, if the producer has been requested to stop
+     * @throws InterruptedException if the thread has been interrupted while waiting
+     */
+    private boolean publish(final long[] batch) throws InterruptedException {
+        while (!mStopRequested) {
+            if (mResults.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
             }
         }
+        return false;
+    }
 
+    /**
+     * Request the producer to stop. The producer stops before computing the next result of its axis.
+     */
+    void stop() {
+        mStopRequested = true;
+    }
+
+    /**
+     * Wait until the producer has stopped. Must only be invoked once the producer has been submitted for execution.
+     */
+    void awaitStop() {
         try {
-            // Mark end of result sequence by the NULL_NODE_KEY.
-            mResults.put(Fixed.NULL_NODE_KEY.getStandardProperty());
+            mStopped.await();
         } catch (final InterruptedException e) {
-            LOGWRAPPER.error(e.getMessage(), e);
+            Thread.currentThread().interrupt();
         }
     }
 }
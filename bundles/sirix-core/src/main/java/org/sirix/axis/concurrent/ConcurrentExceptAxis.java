@@ -22,6 +22,8 @@
  */
 package org.sirix.axis.concurrent;
 
+import javax.annotation.Nonnegative;
+
 import org.sirix.api.Axis;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
@@ -73,9 +75,25 @@ public final class ConcurrentExceptAxis<R extends NodeCursor & NodeReadOnlyTrx>
      * {@code operand2} is {@code null}
      */
     public ConcurrentExceptAxis(final R rtx, final Axis operand1, final Axis operand2) {
+        this(rtx, operand1, operand2, ConcurrentAxis.DEFAULT_BATCH_SIZE, ConcurrentAxis.DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructor. Initializes the internal state.
+     *
+     * @param rtx exclusive (immutable) trx to iterate with
+     * @param operand1 first operand
+     * @param operand2 second operand
+     * @param batchSize the maximum number of result keys, which are passed at once from the producers
+     * @param queueCapacity the maximum number of batches, which the producers compute in advance
+     * @throws NullPointerException if {@code rtx}, {@code operand1} or
+     * {@code operand2} is {@code null}
+     */
+    public ConcurrentExceptAxis(final R rtx, final Axis operand1, final Axis operand2, final @Nonnegative int batchSize,
+            final @Nonnegative int queueCapacity) {
         super(rtx);
-        mOp1 = new ConcurrentAxis<>(rtx, operand1);
-        mOp2 = new ConcurrentAxis<>(rtx, operand2);
+        mOp1 = new ConcurrentAxis<>(rtx, operand1, batchSize, queueCapacity);
+        mOp2 = new ConcurrentAxis<>(rtx, operand2, batchSize, queueCapacity);
         mFirst = true;
         mCurrentResult1 = Fixed.NULL_NODE_KEY.getStandardProperty();
         mCurrentResult2 = Fixed.NULL_NODE_KEY.getStandardProperty();
@@ -0,0 +1,89 @@
+package org.sirix.axis.temporal;
+
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.axis.AbstractTemporalAxis;
+
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Retrieve a node by node key in all revisions, in which it has been changed. In contrast to the {@link AllTimeAxis}
+ * the revisions are looked up in the record to revisions index, such that only a transaction per change is opened
+ * instead of one per revision.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class AllTimeChangesAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+        extends AbstractTemporalAxis<R, W> {
+
+    /**
+     * Sirix {@link ResourceManager}.
+     */
+    private final ResourceManager<R, W> resourceManager;
+
+    /**
+     * The revisions to visit in ascending order.
+     */
+    private final int[] revisions;
+
+    /**
+     * The index of the next revision to visit.
+     */
+    private int index;
+
+    /**
+     * Node key to lookup and retrieve.
+     */
+    private final long nodeKey;
+
+    /**
+     * Determines if node has been found before and now has been deleted.
+     */
+    private boolean hasMoved;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceManager the resource manager
+     * @param rtx             the read only transactional cursor
+     */
+    public AllTimeChangesAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
+        this.resourceManager = checkNotNull(resourceManager);
+        nodeKey = rtx.getNodeKey();
+        revisions = ChangedRevisions.of(resourceManager, nodeKey);
+    }
+
+    @Override
+    protected R computeNext() {
+        while (index < revisions.length) {
+            final int revision = revisions[index++];
+            final Optional<R> optionalRtx = resourceManager.getNodeReadTrxByRevisionNumber(revision);
+
+            final R rtx;
+            if (optionalRtx.isPresent()) {
+                rtx = optionalRtx.get();
+            } else {
+                rtx = resourceManager.beginNodeReadOnlyTrx(revision);
+            }
+
+            if (rtx.moveTo(nodeKey).hasMoved()) {
+                hasMoved = true;
+                return rtx;
+            } else if (hasMoved) {
+                rtx.close();
+                return endOfData();
+            }
+        }
+
+        return endOfData();
+    }
+
+    @Override
+    public ResourceManager<R, W> getResourceManager() {
+        return resourceManager;
+    }
+}
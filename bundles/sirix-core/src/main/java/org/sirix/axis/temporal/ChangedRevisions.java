@@ -0,0 +1,51 @@
+package org.sirix.axis.temporal;
+
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.index.IndexType;
+import org.sirix.node.RevisionReferencesNode;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Looks up the revisions, in which a node has been changed, in the record to revisions index of the most recent
+ * revision.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class ChangedRevisions {
+
+    private ChangedRevisions() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Get the revisions, in which a node has been inserted, updated or removed.
+     *
+     * @param resourceManager the resource manager
+     * @param nodeKey         the key of the node
+     * @return the revisions in ascending order, or all revisions, if the resource doesn't maintain the record to
+     * revisions index (as for instance XML resources)
+     */
+    static int[] of(final ResourceManager<?, ?> resourceManager, final long nodeKey) {
+        final int mostRecentRevision = resourceManager.getMostRecentRevisionNumber();
+
+        final Optional<RevisionReferencesNode> revisionReferencesNode;
+        try (final PageReadOnlyTrx pageTrx = resourceManager.beginPageReadOnlyTrx(mostRecentRevision)) {
+            revisionReferencesNode = pageTrx.getRecord(nodeKey, IndexType.RECORD_TO_REVISIONS, 0);
+        }
+
+        if (revisionReferencesNode.isEmpty()) {
+            return IntStream.rangeClosed(1, mostRecentRevision).toArray();
+        }
+
+        // A node might be changed several times in one revision. Revision 0 is the bootstrapped revision.
+        return Arrays.stream(revisionReferencesNode.get().getRevisions())
+                .filter(revision -> revision > 0)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+}
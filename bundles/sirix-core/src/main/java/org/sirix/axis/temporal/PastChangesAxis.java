@@ -0,0 +1,113 @@
+package org.sirix.axis.temporal;
+
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.axis.AbstractTemporalAxis;
+import org.sirix.axis.IncludeSelf;
+
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Retrieve a node by node key in all earlier revisions, in which it has been changed. In contrast to the
+ * {@link PastAxis} the revisions are looked up in the record to revisions index, such that only a transaction per
+ * change is opened instead of one per revision.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PastChangesAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+        extends AbstractTemporalAxis<R, W> {
+
+    /**
+     * Sirix {@link ResourceManager}.
+     */
+    private final ResourceManager<R, W> resourceManager;
+
+    /**
+     * The revisions to visit in descending order.
+     */
+    private final int[] revisions;
+
+    /**
+     * The index of the next revision to visit.
+     */
+    private int index;
+
+    /**
+     * Node key to lookup and retrieve.
+     */
+    private final long nodeKey;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceManager the resource manager
+     * @param rtx             the transactional read only cursor
+     */
+    public PastChangesAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
+        this(resourceManager, rtx, IncludeSelf.NO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param resourceManager the resource manager
+     * @param rtx             the transactional read only cursor
+     * @param includeSelf     determines if current revision must be included or not
+     */
+    public PastChangesAxis(final ResourceManager<R, W> resourceManager, final R rtx, final IncludeSelf includeSelf) {
+        this.resourceManager = checkNotNull(resourceManager);
+        nodeKey = rtx.getNodeKey();
+
+        final int revision = rtx.getRevisionNumber();
+        final int[] changedRevisions = ChangedRevisions.of(resourceManager, nodeKey);
+
+        int length = 0;
+        while (length < changedRevisions.length && changedRevisions[length] < revision) {
+            length++;
+        }
+
+        final boolean isSelfIncluded = checkNotNull(includeSelf) == IncludeSelf.YES && revision > 0;
+        revisions = new int[isSelfIncluded ? length + 1 : length];
+
+        int i = 0;
+        if (isSelfIncluded) {
+            revisions[i++] = revision;
+        }
+        while (length > 0) {
+            revisions[i++] = changedRevisions[--length];
+        }
+    }
+
+    @Override
+    protected R computeNext() {
+        if (index < revisions.length) {
+            final int revision = revisions[index++];
+            final Optional<R> optionalRtx = resourceManager.getNodeReadTrxByRevisionNumber(revision);
+
+            final R rtx;
+            if (optionalRtx.isPresent()) {
+                rtx = optionalRtx.get();
+            } else {
+                rtx = resourceManager.beginNodeReadOnlyTrx(revision);
+            }
+
+            if (rtx.moveTo(nodeKey).hasMoved()) {
+                return rtx;
+            } else {
+                rtx.close();
+                return endOfData();
+            }
+        } else {
+            return endOfData();
+        }
+    }
+
+    @Override
+    public ResourceManager<R, W> getResourceManager() {
+        return resourceManager;
+    }
+}
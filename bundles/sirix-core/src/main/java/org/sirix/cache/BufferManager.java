@@ -1,5 +1,6 @@
 package org.sirix.cache;
 
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
@@ -14,4 +15,32 @@ public interface BufferManager extends AutoCloseable {
     Cache<Integer, RevisionRootPage> getRevisionRootPageCache();
 
     Cache<RBIndexKey, RBNode<?, ?>> getIndexCache();
+
+    /**
+     * Get a cached record page. A page, which is only cached in its serialized form, is rematerialized with the
+     * requesting transaction.
+     *
+     * @param reference the reference of the record page
+     * @param pageReadTrx the transaction, which requests the page
+     * @return the record page or {@code null}, if the page isn't cached
+     */
+    default Page getRecordPage(PageReference reference, PageReadOnlyTrx pageReadTrx) {
+        return getRecordPageCache().get(reference);
+    }
+
+    /**
+     * Get statistics of the cached entries. Statistics are only recorded by the {@link GlobalBufferManager}.
+     *
+     * @return the statistics
+     */
+    default BufferStatistics getStatistics() {
+        return BufferStatistics.EMPTY;
+    }
+
+    /**
+     * Close the buffer manager and release the cached pages of the resource. The caches are shared by all
+     * transactions of a resource, thus the buffer manager must only be closed, once the resource is closed or removed.
+     */
+    @Override
+    void close();
 }
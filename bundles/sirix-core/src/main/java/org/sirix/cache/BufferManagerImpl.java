@@ -1,5 +1,6 @@
 package org.sirix.cache;
 
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
@@ -15,11 +16,26 @@ public final class BufferManagerImpl implements BufferManager {
 
     private final RedBlackTreeNodeCache redBlackTreeNodeCache;
 
-    public BufferManagerImpl(final int maxPageCacheSize, final int maxRecordPageCacheSize,
-            final int maxRevisionRootPageCache, final int maxRBTreeNodeCache) {
-        pageCache = new PageCache(maxPageCacheSize);
-        recordPageCache = new RecordPageCache(maxRecordPageCacheSize);
-        revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache);
+    /**
+     * Constructor.
+     *
+     * @param maxPageCacheWeight the maximum estimated memory footprint of the cached pages in bytes
+     * @param maxRecordPageCacheWeight the maximum estimated memory footprint of the cached record pages in bytes
+     * @param maxOffHeapRecordPageCacheWeight the maximum size of the serialized record pages, which are cached
+     * off-heap once they are evicted from the record page cache, in bytes ({@code 0} disables the off-heap cache)
+     * @param maxRevisionRootPageCacheWeight the maximum estimated memory footprint of the cached revision root pages
+     * in bytes
+     * @param maxRBTreeNodeCache the maximum number of cached red-black tree nodes
+     */
+    public BufferManagerImpl(final long maxPageCacheWeight, final long maxRecordPageCacheWeight,
+            final long maxOffHeapRecordPageCacheWeight, final long maxRevisionRootPageCacheWeight,
+            final int maxRBTreeNodeCache) {
+        pageCache = new PageCache(maxPageCacheWeight);
+        recordPageCache = maxOffHeapRecordPageCacheWeight > 0
+                ? new RecordPageCache(maxRecordPageCacheWeight,
+                        new OffHeapRecordPageCache(maxOffHeapRecordPageCacheWeight))
+                : new RecordPageCache(maxRecordPageCacheWeight);
+        revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCacheWeight);
         redBlackTreeNodeCache = new RedBlackTreeNodeCache(maxRBTreeNodeCache);
     }
 
@@ -33,6 +49,11 @@ public final class BufferManagerImpl implements BufferManager {
         return recordPageCache;
     }
 
+    @Override
+    public Page getRecordPage(final PageReference reference, final PageReadOnlyTrx pageReadTrx) {
+        return recordPageCache.get(reference, pageReadTrx);
+    }
+
     @Override
     public Cache<Integer, RevisionRootPage> getRevisionRootPageCache() {
         return revisionRootPageCache;
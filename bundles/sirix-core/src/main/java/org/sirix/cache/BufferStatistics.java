@@ -0,0 +1,20 @@
+package org.sirix.cache;
+
+/**
+ * Statistics of the cached pages of a resource.
+ *
+ * @param hitCount the number of lookups, which found a cached entry
+ * @param missCount the number of lookups, which didn't find a cached entry
+ * @param evictionCount the number of entries, which have been evicted
+ * @param entryCount the number of cached entries
+ * @param weightedSize the estimated memory footprint of the cached entries in bytes
+ * @author Johannes Lichtenberger
+ */
+public record BufferStatistics(long hitCount, long missCount, long evictionCount, long entryCount,
+        long weightedSize) {
+
+    /**
+     * Statistics of a buffer manager, which doesn't record statistics.
+     */
+    public static final BufferStatistics EMPTY = new BufferStatistics(0, 0, 0, 0, 0);
+}
@@ -0,0 +1,491 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Process-wide buffer manager, which caches the pages of all resources of all databases within a single memory
+ * budget. Thus, the memory doesn't grow linearly with the number of open resources, and frequently used resources
+ * are able to use the capacity, which isn't needed by idle resources. Entries are keyed by the database, the resource
+ * and the page key, and all resources compete for the budget through the same (size and frequency based) eviction
+ * policy.
+ *
+ * <p>
+ * A single eviction policy isn't fair though: a resource, which scans many pages, might evict the working sets of
+ * all other resources. Thus, each resource has a minimum reservation of the budget. The recently inserted entries of
+ * a resource are kept in a cache of the resource, which is bounded by its reservation, and are only demoted into the
+ * shared cache, once they are evicted from the reserved cache. Thus, a resource always keeps at least its reservation
+ * regardless of the load of the other resources. The reservations are taken from the budget, whereas all
+ * reservations together take at most half of the budget, such that the reservation of a resource shrinks, if many
+ * resources are registered.
+ * </p>
+ *
+ * <p>
+ * Each resource accesses the shared cache through its own {@link BufferManager} view, which records per-resource
+ * statistics. Closing a view doesn't evict the cached pages of the resource.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class GlobalBufferManager {
+
+    /**
+     * Default maximum memory footprint of all cached entries in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = Runtime.getRuntime().maxMemory() / 4;
+
+    /**
+     * The default minimum reservation of a resource as a fraction of the maximum memory footprint of all entries.
+     */
+    private static final int DEFAULT_RESERVATION_DIVISOR = 64;
+
+    /**
+     * Estimated memory footprint of a cached index node in bytes.
+     */
+    private static final int INDEX_NODE_WEIGHT = 128;
+
+    /**
+     * Lazily initialized process-wide instance.
+     */
+    private static final class InstanceHolder {
+        private static final GlobalBufferManager INSTANCE = new GlobalBufferManager(DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * The kinds of caches of a resource.
+     */
+    private enum CacheKind {
+        PAGE,
+
+        RECORD_PAGE,
+
+        REVISION_ROOT_PAGE,
+
+        INDEX
+    }
+
+    /**
+     * Key of a cached entry.
+     */
+    private record BufferKey(ResourceBufferManager resource, CacheKind kind, Object key) {
+    }
+
+    /**
+     * A cached entry and its weight, which has been computed when the entry has been inserted.
+     */
+    private record WeightedValue(Object value, int weight) {
+    }
+
+    /**
+     * Identifies a resource.
+     */
+    private record ResourceKey(Path databaseFile, String resourceName) {
+        ResourceKey {
+            databaseFile = databaseFile.toAbsolutePath().normalize();
+        }
+    }
+
+    /**
+     * The shared cache.
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<BufferKey, WeightedValue> cache;
+
+    /**
+     * The views of the resources.
+     */
+    private final ConcurrentMap<ResourceKey, ResourceBufferManager> resourceBufferManagers;
+
+    /**
+     * The minimum reservation of a resource in bytes, if the budget suffices.
+     */
+    private final long minimumReservedWeight;
+
+    /**
+     * The maximum memory footprint of all cached entries in bytes, guarded by this buffer manager.
+     */
+    private long maximumWeight;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumWeight the maximum memory footprint of all cached entries in bytes
+     */
+    public GlobalBufferManager(final @Nonnegative long maximumWeight) {
+        this(maximumWeight, maximumWeight / DEFAULT_RESERVATION_DIVISOR);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumWeight         the maximum memory footprint of all cached entries in bytes
+     * @param minimumReservedWeight the minimum memory footprint in bytes, which is reserved for the entries of each
+     *                              resource, as long as all reservations take at most half of the maximum
+     */
+    public GlobalBufferManager(final @Nonnegative long maximumWeight, final @Nonnegative long minimumReservedWeight) {
+        checkArgument(maximumWeight >= 0, "maximumWeight must be >= 0!");
+        checkArgument(minimumReservedWeight >= 0, "minimumReservedWeight must be >= 0!");
+        this.maximumWeight = maximumWeight;
+        this.minimumReservedWeight = minimumReservedWeight;
+        resourceBufferManagers = new ConcurrentHashMap<>();
+        // The removal listeners are invoked on the calling thread, such that evicted entries are demoted immediately.
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((BufferKey key, WeightedValue value) -> value.weight())
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .build();
+    }
+
+    /**
+     * Get the process-wide instance.
+     *
+     * @return the process-wide instance
+     */
+    public static GlobalBufferManager getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Get the buffer manager of a resource.
+     *
+     * @param databaseFile the path to the database
+     * @param resourceName the name of the resource
+     * @return the buffer manager of the resource
+     */
+    public BufferManager getResourceBufferManager(final Path databaseFile, final String resourceName) {
+        final var resourceKey = new ResourceKey(checkNotNull(databaseFile), checkNotNull(resourceName));
+        final var resourceBufferManager = resourceBufferManagers.get(resourceKey);
+        if (resourceBufferManager != null) {
+            return resourceBufferManager;
+        }
+
+        synchronized (this) {
+            return resourceBufferManagers.computeIfAbsent(resourceKey, unused -> {
+                final int numberOfResources = resourceBufferManagers.size() + 1;
+                updateReservations(numberOfResources);
+                return new ResourceBufferManager(getReservedWeight(numberOfResources));
+            });
+        }
+    }
+
+    /**
+     * Evict all entries of a resource, for instance because the resource has been removed.
+     *
+     * @param databaseFile the path to the database
+     * @param resourceName the name of the resource
+     */
+    public void removeResource(final Path databaseFile, final String resourceName) {
+        final ResourceBufferManager resourceBufferManager;
+        synchronized (this) {
+            resourceBufferManager = resourceBufferManagers.remove(new ResourceKey(databaseFile, resourceName));
+            if (resourceBufferManager != null) {
+                updateReservations(resourceBufferManagers.size());
+            }
+        }
+        if (resourceBufferManager != null) {
+            resourceBufferManager.clear();
+        }
+    }
+
+    /**
+     * Evict all entries of all resources of a database, for instance because the database has been removed.
+     *
+     * @param databaseFile the path to the database
+     */
+    public void removeDatabase(final Path databaseFile) {
+        final Path normalizedDatabaseFile = databaseFile.toAbsolutePath().normalize();
+        resourceBufferManagers.keySet()
+                .stream()
+                .filter(resourceKey -> resourceKey.databaseFile().equals(normalizedDatabaseFile))
+                .forEach(resourceKey -> removeResource(resourceKey.databaseFile(), resourceKey.resourceName()));
+    }
+
+    /**
+     * Set the maximum memory footprint of all cached entries. Entries are evicted, if the new maximum is exceeded.
+     *
+     * @param maximumWeight the maximum memory footprint in bytes
+     */
+    public synchronized void setMaximumWeight(final @Nonnegative long maximumWeight) {
+        checkArgument(maximumWeight >= 0, "maximumWeight must be >= 0!");
+        this.maximumWeight = maximumWeight;
+        updateReservations(resourceBufferManagers.size());
+    }
+
+    /**
+     * Get the maximum memory footprint of all cached entries.
+     *
+     * @return the maximum memory footprint in bytes
+     */
+    public synchronized long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Get the estimated memory footprint of all cached entries.
+     *
+     * @return the estimated memory footprint in bytes
+     */
+    public long getWeightedSize() {
+        long weightedSize = getWeightedSize(cache);
+        for (final ResourceBufferManager resourceBufferManager : resourceBufferManagers.values()) {
+            weightedSize += getWeightedSize(resourceBufferManager.reservedCache);
+        }
+        return weightedSize;
+    }
+
+    private static long getWeightedSize(
+            final com.github.benmanes.caffeine.cache.Cache<BufferKey, WeightedValue> cache) {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    /**
+     * Get the reservation of each resource.
+     *
+     * @param numberOfResources the number of resources
+     * @return the reservation in bytes
+     */
+    private long getReservedWeight(final int numberOfResources) {
+        assert Thread.holdsLock(this);
+        return numberOfResources == 0
+                ? 0
+                : Math.min(minimumReservedWeight, maximumWeight / 2 / numberOfResources);
+    }
+
+    /**
+     * Adjust the reservations of the resources and the maximum of the shared cache, which gets the remaining budget.
+     *
+     * @param numberOfResources the number of resources
+     */
+    private void updateReservations(final int numberOfResources) {
+        assert Thread.holdsLock(this);
+        final long reservedWeight = getReservedWeight(numberOfResources);
+        for (final ResourceBufferManager resourceBufferManager : resourceBufferManagers.values()) {
+            resourceBufferManager.reservedCache.policy()
+                    .eviction()
+                    .ifPresent(eviction -> eviction.setMaximum(reservedWeight));
+        }
+        cache.policy()
+                .eviction()
+                .ifPresent(eviction -> eviction.setMaximum(maximumWeight - numberOfResources * reservedWeight));
+    }
+
+    private void onRemoval(final @Nullable BufferKey key, final @Nullable WeightedValue value,
+            final RemovalCause cause) {
+        if (key == null || value == null) {
+            return;
+        }
+
+        key.resource().onRemoval(value.weight(), cause.wasEvicted());
+
+        if (cause != RemovalCause.REPLACED) {
+            if (key.key() instanceof PageReference reference) {
+                reference.setPage(null);
+            } else if (value.value() instanceof RBNode<?, ?> node) {
+                RedBlackTreeNodeCache.detachFromParent(node);
+            }
+        }
+    }
+
+    /**
+     * The view of a resource on the shared cache.
+     */
+    private final class ResourceBufferManager implements BufferManager {
+
+        /**
+         * The recently inserted entries of the resource within its reservation.
+         */
+        private final com.github.benmanes.caffeine.cache.Cache<BufferKey, WeightedValue> reservedCache;
+
+        private final ResourceCache<PageReference, Page> pageCache = new ResourceCache<>(CacheKind.PAGE);
+
+        private final ResourceCache<PageReference, Page> recordPageCache = new ResourceCache<>(CacheKind.RECORD_PAGE);
+
+        private final ResourceCache<Integer, RevisionRootPage> revisionRootPageCache =
+                new ResourceCache<>(CacheKind.REVISION_ROOT_PAGE);
+
+        private final ResourceCache<RBIndexKey, RBNode<?, ?>> indexCache = new ResourceCache<>(CacheKind.INDEX);
+
+        private final LongAdder hitCount = new LongAdder();
+
+        private final LongAdder missCount = new LongAdder();
+
+        private final LongAdder evictionCount = new LongAdder();
+
+        private final LongAdder entryCount = new LongAdder();
+
+        private final LongAdder weightedSize = new LongAdder();
+
+        ResourceBufferManager(final long reservedWeight) {
+            reservedCache = Caffeine.newBuilder()
+                    .maximumWeight(reservedWeight)
+                    .weigher((BufferKey key, WeightedValue value) -> value.weight())
+                    .executor(Runnable::run)
+                    .removalListener(this::onReservedRemoval)
+                    .build();
+        }
+
+        @Override
+        public Cache<PageReference, Page> getRecordPageCache() {
+            return recordPageCache;
+        }
+
+        @Override
+        public Cache<PageReference, Page> getPageCache() {
+            return pageCache;
+        }
+
+        @Override
+        public Cache<Integer, RevisionRootPage> getRevisionRootPageCache() {
+            return revisionRootPageCache;
+        }
+
+        @Override
+        public Cache<RBIndexKey, RBNode<?, ?>> getIndexCache() {
+            return indexCache;
+        }
+
+        @Override
+        public BufferStatistics getStatistics() {
+            return new BufferStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), entryCount.sum(),
+                    weightedSize.sum());
+        }
+
+        void clear() {
+            reservedCache.invalidateAll();
+            cache.asMap().keySet().removeIf(key -> key.resource() == this);
+        }
+
+        private void onReservedRemoval(final @Nullable BufferKey key, final @Nullable WeightedValue value,
+                final RemovalCause cause) {
+            if (key == null || value == null) {
+                return;
+            }
+
+            if (cause == RemovalCause.SIZE) {
+                // The entry exceeds the reservation and thus competes with the entries of all other resources.
+                cache.put(key, value);
+            } else {
+                GlobalBufferManager.this.onRemoval(key, value, cause);
+            }
+        }
+
+        void onRemoval(final int weight, final boolean wasEvicted) {
+            entryCount.decrement();
+            weightedSize.add(-weight);
+            if (wasEvicted) {
+                evictionCount.increment();
+            }
+        }
+
+        @Override
+        public void close() {
+            // The entries are shared and thus are kept.
+        }
+
+        /**
+         * A cache of a resource, which stores its entries in the shared cache.
+         *
+         * @param <K> the type of the keys
+         * @param <V> the type of the values
+         */
+        private final class ResourceCache<K, V> implements Cache<K, V> {
+
+            private final CacheKind kind;
+
+            ResourceCache(final CacheKind kind) {
+                this.kind = kind;
+            }
+
+            private BufferKey bufferKey(final Object key) {
+                return new BufferKey(ResourceBufferManager.this, kind, key);
+            }
+
+            @Override
+            public void clear() {
+                reservedCache.asMap().keySet().removeIf(key -> key.kind() == kind);
+                cache.asMap().keySet().removeIf(key -> key.resource() == ResourceBufferManager.this && key.kind() == kind);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public V get(final K key) {
+                final BufferKey bufferKey = bufferKey(key);
+                WeightedValue value = reservedCache.getIfPresent(bufferKey);
+                if (value == null) {
+                    value = cache.getIfPresent(bufferKey);
+                }
+                if (value == null) {
+                    missCount.increment();
+                    return null;
+                }
+                hitCount.increment();
+                return (V) value.value();
+            }
+
+            @Override
+            public void put(final K key, @Nonnull final V value) {
+                final int weight = kind == CacheKind.INDEX
+                        ? INDEX_NODE_WEIGHT
+                        : (int) Math.min(Integer.MAX_VALUE, PageWeigher.estimateMemoryFootprint((Page) value));
+                entryCount.increment();
+                weightedSize.add(weight);
+                final BufferKey bufferKey = bufferKey(key);
+                final var weightedValue = new WeightedValue(value, weight);
+                // Replace a demoted entry in place, such that an entry is never cached twice.
+                if (cache.asMap().computeIfPresent(bufferKey, (unused, demotedValue) -> weightedValue) == null) {
+                    reservedCache.put(bufferKey, weightedValue);
+                }
+            }
+
+            @Override
+            public void putAll(final Map<? extends K, ? extends V> map) {
+                map.forEach(this::put);
+            }
+
+            @Override
+            public void toSecondCache() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Map<K, V> getAll(final Iterable<? extends K> keys) {
+                final Map<K, V> values = new HashMap<>();
+                for (final K key : keys) {
+                    final V value = get(key);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
+                return values;
+            }
+
+            @Override
+            public void remove(final K key) {
+                final BufferKey bufferKey = bufferKey(key);
+                reservedCache.invalidate(bufferKey);
+                cache.invalidate(bufferKey);
+            }
+
+            @Override
+            public void close() {
+            }
+        }
+    }
+}
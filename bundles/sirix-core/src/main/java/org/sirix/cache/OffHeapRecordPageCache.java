@@ -0,0 +1,165 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jdk.incubator.foreign.MemorySegment;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.ByteBufferDataInput;
+import org.sirix.page.PageKind;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Second tier of the {@link RecordPageCache}, which stores record pages in their serialized and uncompressed form
+ * in native memory segments. The pages thus don't add to the Java heap and aren't traced by the garbage collector,
+ * but they can still be rematerialized without disk I/O and decompression, once they have been evicted from the
+ * record page cache. The cache is bounded by the size of the serialized pages in bytes and releases the native
+ * memory of a page as soon as it's removed.
+ *
+ * <p>
+ * The cache only stores the serialized pages, but not the transactions, which have read them, as pages outlive the
+ * short-lived transactions. Thus, a page is rematerialized with the transaction, which requests it (see
+ * {@link #get(PageReference, PageReadOnlyTrx)}). Only pages, which don't reference modified overflow pages, are
+ * stored. As an evicted page might still be read by other transactions, a snapshot of the page is serialized, which
+ * leaves the page unchanged (see {@link UnorderedKeyValuePage#serializeSnapshot(java.io.DataOutput)}).
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class OffHeapRecordPageCache implements Cache<PageReference, Page> {
+
+    /**
+     * Used to serialize/deserialize the pages.
+     */
+    private final PagePersister pagePersister = new PagePersister();
+
+    /**
+     * The cached pages.
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<PageReference, MemorySegment> pageCache;
+
+    /**
+     * Constructor.
+     *
+     * @param maxWeight the maximum size of all serialized pages in bytes
+     */
+    public OffHeapRecordPageCache(final @Nonnegative long maxWeight) {
+        checkArgument(maxWeight >= 0, "maxWeight must be >= 0!");
+        pageCache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((PageReference key, MemorySegment value) -> (int) Math.min(Integer.MAX_VALUE,
+                        value.byteSize()))
+                .removalListener(OffHeapRecordPageCache::release)
+                .build();
+    }
+
+    private static void release(final @Nullable PageReference key, final @Nullable MemorySegment value,
+            final RemovalCause cause) {
+        if (value != null && value.isAlive()) {
+            value.close();
+        }
+    }
+
+    @Override
+    public void clear() {
+        pageCache.invalidateAll();
+    }
+
+    /**
+     * Pages can't be rematerialized without a transaction, use {@link #get(PageReference, PageReadOnlyTrx)} instead.
+     */
+    @Override
+    public Page get(final PageReference key) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Rematerialize a cached page.
+     *
+     * @param key the reference of the page
+     * @param pageReadTrx the transaction, which requests the page and is used to rematerialize it
+     * @return the page or {@code null}, if the page isn't cached
+     */
+    public Page get(final PageReference key, final PageReadOnlyTrx pageReadTrx) {
+        final MemorySegment segment = pageCache.getIfPresent(key);
+        if (segment == null) {
+            return null;
+        }
+        try {
+            // The records are copied onto the heap and deserialized lazily.
+            return pagePersister.deserializePage(new ByteBufferDataInput(segment.asByteBuffer()), pageReadTrx,
+                    SerializationType.DATA);
+        } catch (final IllegalStateException e) {
+            // The segment has been released concurrently.
+            return null;
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    @Override
+    public void put(final PageReference key, @Nonnull final Page value) {
+        if (!(value instanceof UnorderedKeyValuePage page) || pageCache.asMap().containsKey(key)) {
+            return;
+        }
+
+        final byte[] serializedPage;
+        try (final var output = new ByteArrayOutputStream(); final var out = new DataOutputStream(output)) {
+            out.writeByte(PageKind.RECORDPAGE.getID());
+            if (!page.serializeSnapshot(out)) {
+                return;
+            }
+            out.flush();
+            serializedPage = output.toByteArray();
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+
+        final MemorySegment segment = MemorySegment.allocateNative(serializedPage.length).share();
+        segment.copyFrom(MemorySegment.ofArray(serializedPage));
+        pageCache.put(key, segment);
+    }
+
+    @Override
+    public void putAll(final Map<? extends PageReference, ? extends Page> map) {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public void toSecondCache() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Pages can't be rematerialized without a transaction, use {@link #get(PageReference, PageReadOnlyTrx)} instead.
+     */
+    @Override
+    public Map<PageReference, Page> getAll(final Iterable<? extends PageReference> keys) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(final PageReference key) {
+        pageCache.invalidate(key);
+    }
+
+    @Override
+    public void close() {
+        pageCache.invalidateAll();
+        pageCache.cleanUp();
+    }
+}
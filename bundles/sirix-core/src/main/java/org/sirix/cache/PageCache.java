@@ -1,25 +1,32 @@
 package org.sirix.cache;
 
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import org.sirix.page.PageReference;
 import org.sirix.page.interfaces.Page;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 
+/**
+ * Cache for pages, which are bounded by the estimated memory footprint of the pages in bytes (see
+ * {@link PageWeigher}).
+ */
 public final class PageCache implements Cache<PageReference, Page> {
 
     private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
 
-    public PageCache(final int maxSize) {
+    /**
+     * Constructor.
+     *
+     * @param maxWeight the maximum estimated memory footprint of all cached pages in bytes
+     */
+    public PageCache(final long maxWeight) {
         RemovalListener<PageReference, Page> removalListener
                 = (PageReference key, Page value, RemovalCause cause) -> key.setPage(null);
 
         pageCache = Caffeine.newBuilder()
-                .maximumSize(maxSize)
-                .expireAfterWrite(5, TimeUnit.SECONDS)
-                .expireAfterAccess(5, TimeUnit.SECONDS)
+                .maximumWeight(maxWeight)
+                .weigher(PageWeigher.INSTANCE)
                 .removalListener(removalListener)
                 .build();
     }
@@ -0,0 +1,69 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.sirix.page.HashedKeyValuePage;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Weighs pages by an estimate of their memory footprint in bytes, such that page caches are bounded by the memory
+ * their pages occupy instead of the number of pages. A record page, which stores 1024 large string nodes, thus
+ * weighs a lot more than an indirect page.
+ *
+ * <p>
+ * Caffeine weighs an entry, when it's inserted, thus the weight of a page reflects its state at that time.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PageWeigher implements Weigher<Object, Page> {
+
+    /**
+     * The single instance.
+     */
+    public static final PageWeigher INSTANCE = new PageWeigher();
+
+    /**
+     * Estimated memory footprint of a page reference in bytes.
+     */
+    private static final int REFERENCE_MEMORY_ESTIMATE = 48;
+
+    /**
+     * Estimated memory footprint of a page, without its content, in bytes.
+     */
+    private static final int PAGE_MEMORY_ESTIMATE = 64;
+
+    /**
+     * Estimated memory footprint of a record in a {@link HashedKeyValuePage} in bytes.
+     */
+    private static final int RECORD_MEMORY_ESTIMATE = 128;
+
+    private PageWeigher() {
+    }
+
+    @Override
+    public @Nonnegative int weigh(@Nonnull final Object key, @Nonnull final Page page) {
+        return (int) Math.min(Integer.MAX_VALUE, estimateMemoryFootprint(page));
+    }
+
+    /**
+     * Estimate the memory footprint of a page.
+     *
+     * @param page the page
+     * @return the estimated memory footprint in bytes
+     */
+    public static long estimateMemoryFootprint(final Page page) {
+        if (page instanceof UnorderedKeyValuePage recordPage) {
+            return recordPage.estimateMemoryFootprint();
+        } else if (page instanceof HashedKeyValuePage<?> hashedPage) {
+            return PAGE_MEMORY_ESTIMATE + (long) hashedPage.size() * RECORD_MEMORY_ESTIMATE;
+        } else if (page instanceof OverflowPage overflowPage) {
+            return PAGE_MEMORY_ESTIMATE + overflowPage.getData().length;
+        }
+        return PAGE_MEMORY_ESTIMATE + (long) page.getReferences().size() * REFERENCE_MEMORY_ESTIMATE;
+    }
+}
@@ -1,8 +1,8 @@
 package org.sirix.cache;
 
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.page.PageReference;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
@@ -10,21 +10,55 @@ import com.github.benmanes.caffeine.cache.RemovalListener;
 import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+/**
+ * Cache for record pages, which are bounded by the estimated memory footprint of the pages in bytes (see
+ * {@link PageWeigher}). Evicted record pages are handed to an optional {@link OffHeapRecordPageCache}, from which
+ * they are rematerialized with the requesting transaction, if they are requested again (see
+ * {@link #get(PageReference, PageReadOnlyTrx)}).
+ */
 public final class RecordPageCache implements Cache<PageReference, Page> {
 
     private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
 
-    public RecordPageCache(final int maxSize) {
+    /**
+     * The second cache, which stores evicted record pages, or {@code null}, if evicted pages aren't kept.
+     */
+    @Nullable
+    private final OffHeapRecordPageCache secondCache;
+
+    /**
+     * Constructor.
+     *
+     * @param maxWeight the maximum estimated memory footprint of all cached record pages in bytes
+     */
+    public RecordPageCache(final long maxWeight) {
+        this(maxWeight, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxWeight the maximum estimated memory footprint of all cached record pages in bytes
+     * @param secondCache the second cache, which stores evicted record pages, or {@code null}, if evicted pages
+     * aren't kept
+     */
+    public RecordPageCache(final long maxWeight, final @Nullable OffHeapRecordPageCache secondCache) {
+        this.secondCache = secondCache;
+
         final RemovalListener<PageReference, Page> removalListener = (PageReference key, Page value, RemovalCause cause) -> {
             assert key != null;
             key.setPage(null);
+
+            if (cause.wasEvicted() && value != null && this.secondCache != null) {
+                this.secondCache.put(key, value);
+            }
         };
 
         pageCache = Caffeine.newBuilder()
-                .maximumSize(maxSize)
-                .expireAfterWrite(5, TimeUnit.SECONDS)
-                .expireAfterAccess(5, TimeUnit.SECONDS)
+                .maximumWeight(maxWeight)
+                .weigher(PageWeigher.INSTANCE)
                 .removalListener(removalListener)
                 .build();
     }
@@ -32,6 +66,9 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
     @Override
     public void clear() {
         pageCache.invalidateAll();
+        if (secondCache != null) {
+            secondCache.clear();
+        }
     }
 
     @Override
@@ -39,6 +76,24 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
         return pageCache.getIfPresent(key);
     }
 
+    /**
+     * Get a record page, which is rematerialized from the second cache, if it has been evicted.
+     *
+     * @param key the reference of the record page
+     * @param pageReadTrx the transaction, which requests the page
+     * @return the record page or {@code null}, if the page isn't cached
+     */
+    public Page get(PageReference key, PageReadOnlyTrx pageReadTrx) {
+        Page page = pageCache.getIfPresent(key);
+        if (page == null && secondCache != null) {
+            page = secondCache.get(key, pageReadTrx);
+            if (page != null) {
+                pageCache.put(key, page);
+            }
+        }
+        return page;
+    }
+
     @Override
     public void put(PageReference key, @Nonnull Page value) {
         pageCache.put(key, value);
@@ -51,7 +106,9 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
 
     @Override
     public void toSecondCache() {
-        throw new UnsupportedOperationException();
+        if (secondCache != null) {
+            pageCache.asMap().forEach(secondCache::put);
+        }
     }
 
     @Override
@@ -62,9 +119,15 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
     @Override
     public void remove(PageReference key) {
         pageCache.invalidate(key);
+        if (secondCache != null) {
+            secondCache.remove(key);
+        }
     }
 
     @Override
     public void close() {
+        if (secondCache != null) {
+            secondCache.close();
+        }
     }
 }
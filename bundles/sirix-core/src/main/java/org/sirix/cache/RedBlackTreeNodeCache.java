@@ -17,20 +17,29 @@ public final class RedBlackTreeNodeCache implements Cache<RBIndexKey, RBNode<?,
                 = (RBIndexKey key, RBNode<?, ?> value, RemovalCause cause) -> {
                     assert key != null;
                     assert value != null;
-                    final RBNode<?, ?> parent = value.getParent();
-
-                    if (parent != null) {
-                        if (parent.getLeftChild().equals(value)) {
-                            parent.setLeftChild(null);
-                        } else if (parent.getRightChild().equals(value)) {
-                            parent.setRightChild(null);
-                        }
-                    }
+                    detachFromParent(value);
                 };
 
         pageCache = Caffeine.newBuilder().maximumSize(maxSize).removalListener(removalListener).build();
     }
 
+    /**
+     * Detach an evicted node from its parent, such that it's reloaded once it's needed again.
+     *
+     * @param node the evicted node
+     */
+    static void detachFromParent(final RBNode<?, ?> node) {
+        final RBNode<?, ?> parent = node.getParent();
+
+        if (parent != null) {
+            if (parent.getLeftChild().equals(node)) {
+                parent.setLeftChild(null);
+            } else if (parent.getRightChild().equals(node)) {
+                parent.setRightChild(null);
+            }
+        }
+    }
+
     @Override
     public void clear() {
         pageCache.invalidateAll();
@@ -28,11 +28,13 @@
 package org.sirix.cache;
 
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import org.sirix.page.RevisionRootPage;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
+ * Cache for revision root pages, which is bounded by the estimated memory footprint of the pages in bytes (see
+ * {@link PageWeigher}).
+ *
  * @author Johannes Lichtenberger
  * <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
  *
@@ -41,11 +43,15 @@ public final class RevisionRootPageCache implements Cache<Integer, RevisionRootP
 
     private final com.github.benmanes.caffeine.cache.Cache<Integer, RevisionRootPage> pageCache;
 
-    public RevisionRootPageCache(final int maxSize) {
+    /**
+     * Constructor.
+     *
+     * @param maxWeight the maximum estimated memory footprint of all cached revision root pages in bytes
+     */
+    public RevisionRootPageCache(final long maxWeight) {
         pageCache = Caffeine.newBuilder()
-                .maximumSize(maxSize)
-                .expireAfterWrite(30, TimeUnit.SECONDS)
-                .expireAfterAccess(30, TimeUnit.SECONDS)
+                .maximumWeight(maxWeight)
+                .weigher(PageWeigher.INSTANCE)
                 .build();
     }
 
@@ -34,18 +34,37 @@ public final class JsonDiffSerializer {
     }
 
     public String serialize(boolean emitFromDiffAlgorithm) {
+        final var out = new StringBuilder();
+        serialize(emitFromDiffAlgorithm, out);
+        return out.toString();
+    }
+
+    /**
+     * Serialize the diffs to the given output. Each diff is appended as soon as it has been computed, such that the
+     * whole diff never has to be kept in main memory.
+     *
+     * @param emitFromDiffAlgorithm {@code true}, if the diffs have been computed by the diff algorithm
+     * @param out the output
+     * @throws UncheckedIOException if the output can't be written
+     */
+    public void serialize(boolean emitFromDiffAlgorithm, Appendable out) {
         final var resourceName = resourceManager.getResourceConfig().getName();
 
         final var json = createMetaInfo(databaseName, resourceName, oldRevisionNumber, newRevisionNumber);
 
+        // The meta info ends with the empty diffs array, which is filled one diff at a time.
+        final var metaInfo = json.toString();
+        append(out, metaInfo.substring(0, metaInfo.length() - 2));
+
         if (diffs.size() == 1) {
             final var tuple = diffs.iterator().next();
             if (tuple.getDiff() == DiffFactory.DiffType.SAME || tuple.getDiff() == DiffFactory.DiffType.SAMEHASH) {
-                return json.toString();
+                append(out, "]}");
+                return;
             }
         }
 
-        final var jsonDiffs = json.getAsJsonArray("diffs");
+        int numberOfDiffs = 0;
 
         try (final var oldRtx = resourceManager.beginNodeReadOnlyTrx(oldRevisionNumber); final var newRtx = resourceManager.beginNodeReadOnlyTrx(newRevisionNumber)) {
             if (emitFromDiffAlgorithm) {
@@ -55,7 +74,8 @@ public final class JsonDiffSerializer {
             }
 
             if (diffs.isEmpty()) {
-                return json.toString();
+                append(out, "]}");
+                return;
             }
 
             for (final var diffTuple : diffs) {
@@ -86,7 +106,7 @@ public final class JsonDiffSerializer {
                         addTypeAndDataProperties(newRtx, jsonInsertDiff, newRevisionNumber, emitFromDiffAlgorithm);
 
                         insertedJson.add("insert", jsonInsertDiff);
-                        jsonDiffs.add(insertedJson);
+                        appendDiff(out, insertedJson, numberOfDiffs++);
 
                         break;
                     case DELETED:
@@ -106,7 +126,7 @@ public final class JsonDiffSerializer {
                             deletedJson.addProperty("delete", diffTuple.getOldNodeKey());
                         }
 
-                        jsonDiffs.add(deletedJson);
+                        appendDiff(out, deletedJson, numberOfDiffs++);
                         break;
                     case REPLACEDNEW:
                         final var replaceJson = new JsonObject();
@@ -125,7 +145,7 @@ public final class JsonDiffSerializer {
 
                         addTypeAndDataProperties(newRtx, jsonReplaceDiff, newRevisionNumber, emitFromDiffAlgorithm);
 
-                        jsonDiffs.add(replaceJson);
+                        appendDiff(out, replaceJson, numberOfDiffs++);
                         break;
                     case UPDATED:
                         final var updateJson = new JsonObject();
@@ -160,7 +180,7 @@ public final class JsonDiffSerializer {
                         }
 
                         updateJson.add("update", jsonUpdateDiff);
-                        jsonDiffs.add(updateJson);
+                        appendDiff(out, updateJson, numberOfDiffs++);
 
                     // $CASES-OMITTED$
                     default:
@@ -169,7 +189,22 @@ public final class JsonDiffSerializer {
             }
         }
 
-        return json.toString();
+        append(out, "]}");
+    }
+
+    private static void appendDiff(final Appendable out, final JsonObject diff, final int index) {
+        if (index > 0) {
+            append(out, ",");
+        }
+        append(out, diff.toString());
+    }
+
+    private static void append(final Appendable out, final String value) {
+        try {
+            out.append(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private void insertBasedOnNewRtx(JsonNodeReadOnlyTrx newRtx, JsonObject jsonInsertDiff) {
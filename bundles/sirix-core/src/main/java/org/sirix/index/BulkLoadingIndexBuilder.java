@@ -0,0 +1,25 @@
+package org.sirix.index;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * An index builder, which collects the index entries while the revision is traversed and bulk loads them into the
+ * index, once the traversal is finished (see {@link IndexBuilder}).
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface BulkLoadingIndexBuilder {
+
+    /**
+     * Collect the index entries on a separate thread of the given executor, which is fed by the traversing thread
+     * through a bounded queue. Must be invoked before the traversal starts.
+     *
+     * @param executor the executor, which provides a thread for the builder
+     */
+    void collectAsync(ExecutorService executor);
+
+    /**
+     * Bulk load the collected index entries into the index.
+     */
+    void bulkLoad();
+}
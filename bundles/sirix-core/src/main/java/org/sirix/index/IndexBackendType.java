@@ -0,0 +1,19 @@
+package org.sirix.index;
+
+/**
+ * The data structure, which is used to store and to look up the entries of a secondary index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum IndexBackendType {
+    /**
+     * A persistent red-black tree, that is each index entry is stored as a tree node, which is linked to its children.
+     */
+    RBTREE,
+
+    /**
+     * An adaptive radix tree. The index entries are stored as unlinked records in the index pages. The tree is
+     * built in memory per revision from these records, and supports fast point, prefix and range lookups.
+     */
+    ART
+}
@@ -1,6 +1,8 @@
 package org.sirix.index;
 
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.visitor.JsonNodeVisitor;
 import org.sirix.api.visitor.XmlNodeVisitor;
@@ -9,7 +11,9 @@ import org.sirix.axis.DescendantAxis;
 import org.sirix.axis.NonStructuralWrapperAxis;
 
 /**
- * Build an index by traversing the current revision.
+ * Build the indexes by traversing the current revision once. Each node is handed to all index builders. Optionally,
+ * the index builders, which bulk load their index, collect their index entries on separate threads, which are fed by
+ * the traversal through bounded queues.
  *
  * @author Johannes Lichtenberger
  *
@@ -23,13 +27,37 @@ public final class IndexBuilder {
      * @param builders the index builders
      */
     public static void build(final XmlNodeReadOnlyTrx rtx, final Set<XmlNodeVisitor> builders) {
+        build(rtx, builders, false);
+    }
+
+    /**
+     * Build the indexes.
+     *
+     * @param rtx the current {@link XmlNodeReadOnlyTrx}
+     * @param builders the index builders
+     * @param parallel {@code true}, if the index entries should be collected in parallel to the traversal
+     */
+    public static void build(final XmlNodeReadOnlyTrx rtx, final Set<XmlNodeVisitor> builders,
+            final boolean parallel) {
         final long nodeKey = rtx.getNodeKey();
-        rtx.moveToDocumentRoot();
+        final ExecutorService executor = parallel ? collectAsync(builders) : null;
 
-        for (@SuppressWarnings("unused")
-                final long key : new NonStructuralWrapperAxis(new DescendantAxis(rtx))) {
-            for (final XmlNodeVisitor builder : builders) {
-                rtx.acceptVisitor(builder);
+        try {
+            rtx.moveToDocumentRoot();
+
+            for (final long key : new NonStructuralWrapperAxis(new DescendantAxis(rtx))) {
+                for (final XmlNodeVisitor builder : builders) {
+                    // Builders might move the transaction, for instance to the parent node.
+                    if (rtx.getNodeKey() != key) {
+                        rtx.moveTo(key);
+                    }
+                    rtx.acceptVisitor(builder);
+                }
+            }
+            bulkLoad(builders);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
             }
         }
         rtx.moveTo(nodeKey);
@@ -42,16 +70,73 @@ public final class IndexBuilder {
      * @param builders the index builders
      */
     public static void build(final JsonNodeReadOnlyTrx rtx, final Set<JsonNodeVisitor> builders) {
+        build(rtx, builders, false);
+    }
+
+    /**
+     * Build the indexes.
+     *
+     * @param rtx the current {@link JsonNodeReadOnlyTrx}
+     * @param builders the index builders
+     * @param parallel {@code true}, if the index entries should be collected in parallel to the traversal
+     */
+    public static void build(final JsonNodeReadOnlyTrx rtx, final Set<JsonNodeVisitor> builders,
+            final boolean parallel) {
         final long nodeKey = rtx.getNodeKey();
-        rtx.moveToDocumentRoot();
+        final ExecutorService executor = parallel ? collectAsync(builders) : null;
+
+        try {
+            rtx.moveToDocumentRoot();
 
-        for (@SuppressWarnings("unused")
-                final long key : new DescendantAxis(rtx)) {
-            for (final JsonNodeVisitor builder : builders) {
-                rtx.acceptVisitor(builder);
+            for (final long key : new DescendantAxis(rtx)) {
+                for (final JsonNodeVisitor builder : builders) {
+                    // Builders might move the transaction, for instance to the parent node.
+                    if (rtx.getNodeKey() != key) {
+                        rtx.moveTo(key);
+                    }
+                    rtx.acceptVisitor(builder);
+                }
+            }
+            bulkLoad(builders);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
             }
         }
         rtx.moveTo(nodeKey);
     }
 
+    /**
+     * Start collecting the index entries of the bulk loading index builders on separate threads. A dedicated
+     * executor is used, as each builder blocks a thread until the traversal is finished.
+     *
+     * @param builders the index builders
+     * @return the executor, which has to be shut down once the indexes have been built, or {@code null}, if no
+     * builder collects its index entries on a separate thread
+     */
+    private static ExecutorService collectAsync(final Set<?> builders) {
+        final int numberOfBuilders =
+                (int) builders.stream().filter(builder -> builder instanceof BulkLoadingIndexBuilder).count();
+
+        if (numberOfBuilders == 0) {
+            return null;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(numberOfBuilders);
+        for (final Object builder : builders) {
+            if (builder instanceof BulkLoadingIndexBuilder bulkLoadingBuilder) {
+                bulkLoadingBuilder.collectAsync(executor);
+            }
+        }
+        return executor;
+    }
+
+    private static void bulkLoad(final Set<?> builders) {
+        for (final Object builder : builders) {
+            if (builder instanceof BulkLoadingIndexBuilder bulkLoadingBuilder) {
+                bulkLoadingBuilder.bulkLoad();
+            }
+        }
+    }
+
 }
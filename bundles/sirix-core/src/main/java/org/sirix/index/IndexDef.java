@@ -34,10 +34,15 @@ public final class IndexDef implements Materializable {
 
     private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+    private static final QNm BACKEND_ATTRIBUTE = new QNm("backend");
+
     public static final QNm INDEX_TAG = new QNm("index");
 
     private IndexType type;
 
+    // the data structure used to store the index entries
+    private IndexBackendType backendType = IndexBackendType.RBTREE;
+
     // unique flag (for CAS indexes)
     private boolean unique = false;
 
@@ -59,32 +64,36 @@ public final class IndexDef implements Materializable {
     /**
      * Name index.
      */
-    IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo) {
+    IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo,
+            final IndexBackendType backendType) {
         type = IndexType.NAME;
         this.included.addAll(included);
         this.excluded.addAll(excluded);
         id = indexDefNo;
+        this.backendType = checkNotNull(backendType);
     }
 
     /**
      * Path index.
      */
-    IndexDef(final Set<Path<QNm>> paths, final int indexDefNo) {
+    IndexDef(final Set<Path<QNm>> paths, final int indexDefNo, final IndexBackendType backendType) {
         type = IndexType.PATH;
         this.paths.addAll(paths);
         id = indexDefNo;
+        this.backendType = checkNotNull(backendType);
     }
 
     /**
      * CAS index.
      */
     IndexDef(final Type contentType, final Set<Path<QNm>> paths, final boolean unique,
-            final int indexDefNo) {
+            final int indexDefNo, final IndexBackendType backendType) {
         type = IndexType.CAS;
         this.contentType = checkNotNull(contentType);
         this.paths.addAll(paths);
         this.unique = unique;
         id = indexDefNo;
+        this.backendType = checkNotNull(backendType);
     }
 
     @Override
@@ -103,6 +112,10 @@ public final class IndexDef implements Materializable {
             tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
         }
 
+        if (backendType != IndexBackendType.RBTREE) {
+            tmp.attribute(BACKEND_ATTRIBUTE, new Una(backendType.toString()));
+        }
+
         if (paths != null && !paths.isEmpty()) {
             for (final Path<QNm> path : paths) {
                 tmp.openElement(PATH_TAG);
@@ -175,6 +188,11 @@ public final class IndexDef implements Materializable {
             unique = (Boolean.valueOf(attribute.getValue().stringValue()));
         }
 
+        attribute = root.getAttribute(BACKEND_ATTRIBUTE);
+        if (attribute != null) {
+            backendType = IndexBackendType.valueOf(attribute.getValue().stringValue());
+        }
+
         final Stream<? extends Node<?>> children = root.getChildren();
 
         try {
@@ -241,6 +259,10 @@ public final class IndexDef implements Materializable {
         return unique;
     }
 
+    public IndexBackendType getBackendType() {
+        return backendType;
+    }
+
     public int getID() {
         return id;
     }
@@ -33,8 +33,22 @@ public final class IndexDefs {
      */
     public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
             final int indexDefNo) {
+        return createCASIdxDef(unique, optType, paths, indexDefNo, IndexBackendType.RBTREE);
+    }
+
+    /**
+     * Create a CAS {@link IndexDef} instance.
+     *
+     * @param unique determine if it's unique
+     * @param optType an optional type
+     * @param paths the paths to index
+     * @param backendType the data structure used to store the index entries
+     * @return a new {@link IndexDef} instance
+     */
+    public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
+            final int indexDefNo, final IndexBackendType backendType) {
         final Type type = optType == null ? Type.STR : optType;
-        return new IndexDef(type, paths, unique, indexDefNo);
+        return new IndexDef(type, paths, unique, indexDefNo, backendType);
     }
 
     /**
@@ -44,7 +58,19 @@ public final class IndexDefs {
      * @return a new path {@link IndexDef} instance
      */
     public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo) {
-        return new IndexDef(paths, indexDefNo);
+        return createPathIdxDef(paths, indexDefNo, IndexBackendType.RBTREE);
+    }
+
+    /**
+     * Create a path {@link IndexDef}.
+     *
+     * @param paths the paths to index
+     * @param backendType the data structure used to store the index entries
+     * @return a new path {@link IndexDef} instance
+     */
+    public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+            final IndexBackendType backendType) {
+        return new IndexDef(paths, indexDefNo, backendType);
     }
 
     public enum NameIndexType {
@@ -53,11 +79,18 @@ public final class IndexDefs {
     }
 
     public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type) {
+        return createNameIdxDef(indexDefNo, type, IndexBackendType.RBTREE);
+    }
+
+    public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type,
+            final IndexBackendType backendType) {
         switch (type) {
             case JSON:
-                return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+                return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+                        backendType);
             case XML:
-                return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+                return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+                        backendType);
             default:
                 throw new IllegalStateException("Type " + type + " not known.");
         }
@@ -67,9 +100,11 @@ public final class IndexDefs {
             final NameIndexType type) {
         switch (type) {
             case JSON:
-                return new IndexDef(ImmutableSet.of(), excluded, PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+                return new IndexDef(ImmutableSet.of(), excluded, PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+                        IndexBackendType.RBTREE);
             case XML:
-                return new IndexDef(ImmutableSet.of(), excluded, PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+                return new IndexDef(ImmutableSet.of(), excluded, PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+                        IndexBackendType.RBTREE);
             default:
                 throw new IllegalStateException("Type " + type + " not known.");
         }
@@ -79,9 +114,11 @@ public final class IndexDefs {
             final NameIndexType type) {
         switch (type) {
             case JSON:
-                return new IndexDef(included, ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+                return new IndexDef(included, ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+                        IndexBackendType.RBTREE);
             case XML:
-                return new IndexDef(included, ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+                return new IndexDef(included, ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+                        IndexBackendType.RBTREE);
             default:
                 throw new IllegalStateException("Type " + type + " not known.");
         }
@@ -0,0 +1,192 @@
+package org.sirix.index;
+
+import org.sirix.exception.SirixRuntimeException;
+
+import javax.annotation.Nonnegative;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Hands the index entries, which are extracted while traversing a revision, to a consumer, which collects them.
+ * By default, the consumer is invoked on the thread, which traverses the revision. Once
+ * {@link #startAsync(ExecutorService)} is invoked, the entries are passed in batches through a bounded queue to a
+ * separate thread, which invokes the consumer, such that the consumers of multiple indexes run in parallel.
+ *
+ * @param <T> the type of the entries
+ * @author Johannes Lichtenberger
+ */
+public final class IndexEntryCollector<T> {
+
+    /**
+     * The default number of entries, which are passed at once to the consumer thread.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_024;
+
+    /**
+     * The default maximum number of batches in the queue.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    /**
+     * Denotes the end of the entries.
+     */
+    private static final Object[] END = new Object[0];
+
+    /**
+     * Collects the entries.
+     */
+    private final Consumer<T> consumer;
+
+    /**
+     * The number of entries, which are passed at once to the consumer thread.
+     */
+    private final int batchSize;
+
+    /**
+     * The maximum number of batches in the queue.
+     */
+    private final int queueCapacity;
+
+    /**
+     * The queue, or {@code null}, if the consumer is invoked synchronously.
+     */
+    private BlockingQueue<Object[]> queue;
+
+    /**
+     * The current batch.
+     */
+    private Object[] batch;
+
+    /**
+     * The number of entries in the current batch.
+     */
+    private int batchIndex;
+
+    /**
+     * The result of the consumer thread.
+     */
+    private Future<?> future;
+
+    /**
+     * Constructor.
+     *
+     * @param consumer collects the entries
+     */
+    public IndexEntryCollector(final Consumer<T> consumer) {
+        this(consumer, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param consumer collects the entries
+     * @param batchSize the number of entries, which are passed at once to the consumer thread
+     * @param queueCapacity the maximum number of batches in the queue
+     */
+    public IndexEntryCollector(final Consumer<T> consumer, final @Nonnegative int batchSize,
+            final @Nonnegative int queueCapacity) {
+        checkArgument(batchSize > 0, "batchSize must be > 0!");
+        checkArgument(queueCapacity > 0, "queueCapacity must be > 0!");
+        this.consumer = checkNotNull(consumer);
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Invoke the consumer on a separate thread of the executor from now on. The consumer must thus only access
+     * state, which is confined to it.
+     *
+     * @param executor the executor, which must provide a thread for the consumer (it must not wait for other tasks)
+     */
+    public void startAsync(final ExecutorService executor) {
+        checkNotNull(executor);
+        checkState(queue == null, "The collector has already been started.");
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        batch = new Object[batchSize];
+        future = executor.submit(this::consume);
+    }
+
+    /**
+     * Add an entry.
+     *
+     * @param entry the entry
+     */
+    public void add(final T entry) {
+        if (queue == null) {
+            consumer.accept(entry);
+            return;
+        }
+
+        batch[batchIndex++] = entry;
+        if (batchIndex == batchSize) {
+            put(batch);
+            batch = new Object[batchSize];
+            batchIndex = 0;
+        }
+    }
+
+    /**
+     * Wait until all entries have been collected.
+     *
+     * @throws SirixRuntimeException if the consumer failed
+     */
+    public void finish() {
+        if (queue == null) {
+            return;
+        }
+
+        if (batchIndex > 0) {
+            final Object[] lastBatch = new Object[batchIndex];
+            System.arraycopy(batch, 0, lastBatch, 0, batchIndex);
+            put(lastBatch);
+        }
+        put(END);
+        queue = null;
+        batch = null;
+        batchIndex = 0;
+
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SirixRuntimeException(e);
+        } catch (final ExecutionException e) {
+            throw new SirixRuntimeException(e.getCause());
+        }
+    }
+
+    private void put(final Object[] entries) {
+        try {
+            // If the consumer failed, the entries are dropped and the failure is reported in finish().
+            while (!future.isDone()) {
+                if (queue.offer(entries, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SirixRuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Void consume() throws InterruptedException {
+        final BlockingQueue<Object[]> queue = this.queue;
+        Object[] entries;
+        while ((entries = queue.take()) != END) {
+            for (final Object entry : entries) {
+                consumer.accept((T) entry);
+            }
+        }
+        return null;
+    }
+}
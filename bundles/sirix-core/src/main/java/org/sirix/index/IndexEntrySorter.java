@@ -0,0 +1,342 @@
+package org.sirix.index;
+
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.node.NodeKind;
+import org.sirix.node.delegates.NodeDelegate;
+
+import javax.annotation.Nonnegative;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Collects the entries of a secondary index, that is (key, node key) pairs in arbitrary order, and provides them
+ * sorted by key with the node keys of equal keys merged into one {@link NodeReferences} instance, such that an index
+ * can be bulk loaded in a single sequential pass (see {@link IndexWriter#bulkLoad(Iterator, long)}).
+ *
+ * <p>The entries are collected in main memory up to a maximum number of node keys (regardless of how many distinct
+ * keys they belong to). Afterwards, the entries are spilled as a sorted run into a temporary file (using the same
+ * serialization as the records of the index). The runs are merged into a single run, once the number of distinct
+ * keys is requested, which is read sequentially on retrieval (external merge sort).</p>
+ *
+ * @param <K> the key
+ * @author Johannes Lichtenberger
+ */
+public final class IndexEntrySorter<K extends Comparable<? super K>> implements AutoCloseable {
+
+    /**
+     * The default maximum number of node keys, which are kept in main memory before spilling a run.
+     */
+    public static final int DEFAULT_MAX_NODE_KEYS_IN_MEMORY = 1 << 20;
+
+    /**
+     * A sorted run, which is spilled into a temporary file.
+     */
+    private record Run(Path file, long size) {
+    }
+
+    /**
+     * Used to (de)serialize the entries of the runs.
+     */
+    private final PageReadOnlyTrx pageReadTrx;
+
+    /**
+     * The maximum number of node keys, which are kept in main memory.
+     */
+    private final int maxNodeKeysInMemory;
+
+    /**
+     * The entries in main memory.
+     */
+    private TreeMap<K, NodeReferences> entries;
+
+    /**
+     * The number of node keys of the entries in main memory.
+     */
+    private int nodeKeysInMemory;
+
+    /**
+     * The spilled runs.
+     */
+    private final List<Run> runs;
+
+    /**
+     * The number of distinct keys of all entries, or {@code -1}, if it has to be computed.
+     */
+    private long size;
+
+    /**
+     * Constructor.
+     *
+     * @param pageReadTrx the page transaction, which is used to (de)serialize the entries of the spilled runs
+     */
+    public IndexEntrySorter(final PageReadOnlyTrx pageReadTrx) {
+        this(pageReadTrx, DEFAULT_MAX_NODE_KEYS_IN_MEMORY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pageReadTrx the page transaction, which is used to (de)serialize the entries of the spilled runs
+     * @param maxNodeKeysInMemory the maximum number of node keys, which are kept in main memory
+     */
+    public IndexEntrySorter(final PageReadOnlyTrx pageReadTrx, final @Nonnegative int maxNodeKeysInMemory) {
+        checkArgument(maxNodeKeysInMemory > 0, "maxNodeKeysInMemory must be > 0!");
+        this.pageReadTrx = checkNotNull(pageReadTrx);
+        this.maxNodeKeysInMemory = maxNodeKeysInMemory;
+        entries = new TreeMap<>();
+        runs = new ArrayList<>();
+    }
+
+    /**
+     * Add an entry.
+     *
+     * @param key the key
+     * @param nodeKey the node key, which is referenced by the key
+     * @throws SirixIOException if a run can't be spilled
+     */
+    public void add(final K key, final @Nonnegative long nodeKey) {
+        checkNotNull(key);
+        entries.computeIfAbsent(key, unused -> new NodeReferences()).addNodeKey(nodeKey);
+        size = -1;
+
+        if (++nodeKeysInMemory >= maxNodeKeysInMemory) {
+            spill();
+        }
+    }
+
+    /**
+     * Get the number of distinct keys. If runs have been spilled, the runs and the entries in main memory are merged
+     * into a single run, which counts the keys and is subsequently read by {@link #iterator()} without merging again.
+     *
+     * @return the number of distinct keys
+     * @throws SirixIOException if a run can't be written or read
+     */
+    public long size() {
+        if (size == -1) {
+            if (runs.isEmpty()) {
+                size = entries.size();
+            } else {
+                if (runs.size() > 1 || !entries.isEmpty()) {
+                    final Run mergedRun = writeRun(new MergingIterator());
+                    deleteRuns();
+                    runs.add(mergedRun);
+                    entries = new TreeMap<>();
+                    nodeKeysInMemory = 0;
+                }
+                size = runs.get(0).size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Get the entries in ascending key order. The iterator must not be used after adding further entries.
+     *
+     * @return an iterator over the entries with distinct keys
+     * @throws SirixIOException if a run can't be read
+     */
+    public Iterator<Map.Entry<K, NodeReferences>> iterator() {
+        if (runs.isEmpty()) {
+            return entries.entrySet().iterator();
+        }
+        if (runs.size() == 1 && entries.isEmpty()) {
+            return new RunIterator(runs.get(0));
+        }
+        return new MergingIterator();
+    }
+
+    /**
+     * Deletes all spilled runs.
+     */
+    @Override
+    public void close() {
+        deleteRuns();
+        entries = new TreeMap<>();
+        nodeKeysInMemory = 0;
+        size = -1;
+    }
+
+    private void deleteRuns() {
+        for (final Run run : runs) {
+            try {
+                Files.deleteIfExists(run.file());
+            } catch (final IOException e) {
+                throw new SirixIOException(e);
+            }
+        }
+        runs.clear();
+    }
+
+    private void spill() {
+        runs.add(writeRun(entries.entrySet().iterator()));
+        entries = new TreeMap<>();
+        nodeKeysInMemory = 0;
+    }
+
+    /**
+     * Write sorted entries with distinct keys as a run into a temporary file.
+     *
+     * @param sortedEntries the entries in ascending key order
+     * @return the run
+     * @throws SirixIOException if the run can't be written
+     */
+    private Run writeRun(final Iterator<Map.Entry<K, NodeReferences>> sortedEntries) {
+        try {
+            final Path file = Files.createTempFile("sirix-index-run", ".tmp");
+            long count = 0;
+            try (final DataOutputStream sink =
+                         new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                while (sortedEntries.hasNext()) {
+                    final Map.Entry<K, NodeReferences> entry = sortedEntries.next();
+                    final RBNode<K, NodeReferences> record =
+                            new RBNode<>(entry.getKey(), entry.getValue(), new NodeDelegate(0, 0, null, null, 0, null));
+                    sink.writeByte(record.getKind().getId());
+                    record.getKind().serialize(sink, record, pageReadTrx);
+                    count++;
+                }
+            }
+            return new Run(file, count);
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * The cursor of a run during merging.
+     */
+    private final class RunCursor implements Comparable<RunCursor> {
+        private final int runIndex;
+
+        private final Iterator<Map.Entry<K, NodeReferences>> entries;
+
+        private Map.Entry<K, NodeReferences> current;
+
+        private RunCursor(final int runIndex, final Iterator<Map.Entry<K, NodeReferences>> entries) {
+            this.runIndex = runIndex;
+            this.entries = entries;
+        }
+
+        private boolean advance() {
+            current = entries.hasNext() ? entries.next() : null;
+            return current != null;
+        }
+
+        @Override
+        public int compareTo(final RunCursor other) {
+            final int result = current.getKey().compareTo(other.current.getKey());
+            return result == 0 ? Integer.compare(runIndex, other.runIndex) : result;
+        }
+    }
+
+    /**
+     * Merges the spilled runs and the entries in main memory.
+     */
+    private final class MergingIterator implements Iterator<Map.Entry<K, NodeReferences>> {
+        private final PriorityQueue<RunCursor> queue;
+
+        private MergingIterator() {
+            queue = new PriorityQueue<>(runs.size() + 1);
+            for (int i = 0; i < runs.size(); i++) {
+                final RunCursor cursor = new RunCursor(i, new RunIterator(runs.get(i)));
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            final RunCursor cursor = new RunCursor(runs.size(), entries.entrySet().iterator());
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<K, NodeReferences> next() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final RunCursor cursor = queue.poll();
+            final K key = cursor.current.getKey();
+            final NodeReferences references = new NodeReferences(cursor.current.getValue().getPostingList());
+            reinsert(cursor);
+
+            // Merge the node keys of the same key in subsequent runs.
+            while (!queue.isEmpty() && queue.peek().current.getKey().compareTo(key) == 0) {
+                final RunCursor otherCursor = queue.poll();
+                otherCursor.current.getValue().getPostingList().forEach(references::addNodeKey);
+                reinsert(otherCursor);
+            }
+
+            return Map.entry(key, references);
+        }
+
+        private void reinsert(final RunCursor cursor) {
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+    }
+
+    /**
+     * Reads the entries of a spilled run. The file is closed, once all entries have been read.
+     */
+    private final class RunIterator implements Iterator<Map.Entry<K, NodeReferences>> {
+        private final Run run;
+
+        private DataInputStream source;
+
+        private long read;
+
+        private RunIterator(final Run run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read < run.size();
+        }
+
+        @Override
+        public Map.Entry<K, NodeReferences> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                if (source == null) {
+                    source = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file())));
+                }
+                final byte kind = source.readByte();
+                @SuppressWarnings("unchecked")
+                final RBNode<K, NodeReferences> record =
+                        (RBNode<K, NodeReferences>) NodeKind.getKind(kind).deserialize(source, 0, null, pageReadTrx);
+                if (++read == run.size()) {
+                    source.close();
+                }
+                return Map.entry(record.getKey(), record.getValue());
+            } catch (final IOException e) {
+                throw new SirixIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.sirix.index;
+
+import org.sirix.access.DatabaseType;
+import org.sirix.api.PageTrx;
+import org.sirix.index.art.ARTIndexWriter;
+import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
+import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.redblacktree.interfaces.References;
+
+import javax.annotation.Nonnegative;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes the entries of a secondary index, regardless of the data structure used to store them.
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public interface IndexWriter<K extends Comparable<? super K>, V extends References> {
+
+    /**
+     * Get a new instance, depending on the backend of the index.
+     *
+     * @param databaseType The type of database.
+     * @param pageTrx {@link PageTrx} for persistent storage
+     * @param indexDef the index definition
+     * @return new index writer instance
+     */
+    static <K extends Comparable<? super K>, V extends References> IndexWriter<K, V> getInstance(
+            final DatabaseType databaseType, final PageTrx pageTrx, final IndexDef indexDef) {
+        return switch (indexDef.getBackendType()) {
+            case RBTREE -> RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+            case ART -> ARTIndexWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+        };
+    }
+
+    /**
+     * Checks if the specified token is already indexed; if yes, returns its
+     * reference. Otherwise, creates a new index entry and returns a reference
+     * of the indexed token.
+     *
+     * @param key token to be indexed
+     * @param value node key references
+     * @param move determines if the cursor must be moved to the document root or not (only
+     *             used by index structures, which have a cursor)
+     * @return indexed node key references
+     */
+    V index(K key, V value, MoveCursor move);
+
+    /**
+     * Remove a node key from the value.
+     *
+     * @param key the key for which to search the value
+     * @param nodeKey the nodeKey to remove from the value
+     * @return {@code true}, if the node key has been removed, {@code false} otherwise
+     */
+    boolean remove(K key, @Nonnegative long nodeKey);
+
+    /**
+     * Finds the specified key in the index and returns its value.
+     *
+     * @param key key to be found
+     * @param mode the search mode
+     * @return {@link Optional} reference (with the found value, or a reference
+     * which indicates that the value hasn't been found)
+     */
+    Optional<V> get(K key, SearchMode mode);
+
+    /**
+     * Bulk load the entries into the empty index in a single sequential pass (for instance sorted by an
+     * {@link IndexEntrySorter}), instead of inserting the entries one by one.
+     *
+     * @param entries the entries with distinct keys in ascending key order
+     * @param size the number of entries
+     * @throws IllegalStateException if the index isn't empty
+     */
+    void bulkLoad(Iterator<Map.Entry<K, V>> entries, @Nonnegative long size);
+}
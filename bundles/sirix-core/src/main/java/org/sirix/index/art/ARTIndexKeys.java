@@ -0,0 +1,140 @@
+package org.sirix.index.art;
+
+import org.brackit.xquery.atomic.Atomic;
+import org.brackit.xquery.atomic.Numeric;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.xdm.Type;
+import org.sirix.index.IndexType;
+import org.sirix.index.redblacktree.keyvalue.CASValue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Provides the {@link BinaryComparable} key transformations of the keys of the secondary indexes, which are stored
+ * in an {@link AdaptiveRadixTree}.
+ *
+ * <ul>
+ * <li>path index: the path node key (PCR)</li>
+ * <li>name index: the namespace URI, followed by byte 0 and the local name</li>
+ * <li>CAS index: the path node key (PCR), followed by the typed atomic value. Numeric values are transformed into
+ * the order preserving representation of their double value only, such that values, which are equal as numbers, but
+ * written differently (for instance {@code 1} and {@code 1.0}), share one entry. Other values are transformed into
+ * their UTF-8 encoded canonical string value.</li>
+ * </ul>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ARTIndexKeys {
+
+    private static final BinaryComparable<Long> PATH_NODE_KEY = BinaryComparables.forLong();
+
+    private static final BinaryComparable<QNm> NAME = key -> {
+        final String namespaceURI = key.getNamespaceURI() == null ? "" : key.getNamespaceURI();
+        final byte[] namespaceURIBytes = namespaceURI.getBytes(StandardCharsets.UTF_8);
+        final byte[] localNameBytes = key.getLocalName().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(namespaceURIBytes.length + 1 + localNameBytes.length)
+                .put(namespaceURIBytes)
+                .put((byte) 0)
+                .put(localNameBytes)
+                .array();
+    };
+
+    private static final BinaryComparable<CASValue> CAS_VALUE = key -> {
+        final byte[] pathNodeKeyBytes = forPathNodeKey(key.getPathNodeKey());
+        final byte[] atomicBytes = forAtomic(key.getAtomicValue(), key.getType());
+        return ByteBuffer.allocate(pathNodeKeyBytes.length + atomicBytes.length)
+                .put(pathNodeKeyBytes)
+                .put(atomicBytes)
+                .array();
+    };
+
+    /**
+     * Private constructor.
+     */
+    private ARTIndexKeys() {
+        throw new AssertionError("May never be instantiated!");
+    }
+
+    /**
+     * Get the key transformation of the keys of an index.
+     *
+     * @param indexType the type of the index
+     * @param <K> the type of the keys
+     * @return the key transformation
+     * @throws IllegalArgumentException if the index type isn't supported
+     */
+    @SuppressWarnings("unchecked")
+    public static <K> BinaryComparable<K> forIndexType(final IndexType indexType) {
+        // $CASES-OMITTED$
+        final BinaryComparable<?> binaryComparable = switch (indexType) {
+            case PATH -> PATH_NODE_KEY;
+            case NAME -> NAME;
+            case CAS -> CAS_VALUE;
+            default -> throw new IllegalArgumentException("Index type " + indexType + " not supported.");
+        };
+        return (BinaryComparable<K>) binaryComparable;
+    }
+
+    /**
+     * Get the transformed path node key (PCR), which is the prefix of all keys of a CAS index, which belong to the
+     * path.
+     *
+     * @param pathNodeKey the path node key
+     * @return the transformed path node key
+     */
+    public static byte[] forPathNodeKey(final long pathNodeKey) {
+        return PATH_NODE_KEY.get(pathNodeKey);
+    }
+
+    /**
+     * Get the transformed key of a CAS index.
+     *
+     * @param casValue the key
+     * @return the transformed key
+     */
+    public static byte[] forCASValue(final CASValue casValue) {
+        return CAS_VALUE.get(casValue);
+    }
+
+    /**
+     * Get the smallest key, which is greater than all keys starting with a prefix.
+     *
+     * @param prefix the prefix
+     * @return the upper bound or {@code null}, if no such key exists (that is all bytes of the prefix are
+     * {@code 0xFF})
+     */
+    public static byte[] prefixUpperBound(final byte[] prefix) {
+        for (int i = prefix.length - 1; i >= 0; i--) {
+            if (prefix[i] != (byte) 0xFF) {
+                final byte[] upperBound = Arrays.copyOf(prefix, i + 1);
+                upperBound[i]++;
+                return upperBound;
+            }
+        }
+        return null;
+    }
+
+    private static byte[] forAtomic(final Atomic value, final Type type) {
+        if (value == null || type == null) {
+            return new byte[0];
+        }
+
+        final Atomic atomic = value.asType(type);
+
+        if (atomic instanceof Numeric numeric) {
+            // Normalize negative zero, such that it's equal to zero.
+            final long bits = Double.doubleToLongBits(numeric.doubleValue() + 0.0);
+            // Flip all bits of negative values and the sign bit of positive values.
+            final long sortableBits = bits ^ ((bits >> (Long.SIZE - 1)) | Long.MIN_VALUE);
+            return ByteBuffer.allocate(Long.BYTES).putLong(sortableBits).array();
+        }
+
+        if (atomic.type().instanceOf(Type.BOOL)) {
+            return new byte[] { atomic.booleanValue() ? (byte) 1 : (byte) 0 };
+        }
+
+        return atomic.stringValue().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,298 @@
+package org.sirix.index.art;
+
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.RecordSerializer;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An inner node of an adaptive radix tree, which is persisted as a record in the index pages of a revision. Thus,
+ * only the nodes on the path to a key are fetched (lazily through the record page caches) and modifying the tree
+ * only modifies the nodes on the path to the inserted key.
+ *
+ * <p>
+ * A node stores the compressed path (the prefix) of its subtree, the node key of the index entry, whose key ends
+ * right after the prefix, and its children, which are sorted by the (unsigned) next byte of their keys. A child is
+ * either another inner node or an index entry (an {@link org.sirix.index.redblacktree.RBNode} record), if it's the
+ * only key of the subtree. The children are stored in arrays, which grow with the number of children.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ARTIndexNode implements DataRecord {
+
+    /**
+     * The node key of nodes or entries, which don't exist.
+     */
+    static final long NULL_NODE_KEY = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+    private static final byte[] EMPTY_KEYS = new byte[0];
+
+    private static final long[] EMPTY_CHILDREN = new long[0];
+
+    /**
+     * The node key.
+     */
+    private final long nodeKey;
+
+    /**
+     * The compressed path of the subtree.
+     */
+    private byte[] prefix;
+
+    /**
+     * The node key of the index entry, whose key ends right after the prefix.
+     */
+    private long entryKey;
+
+    /**
+     * The next bytes of the keys of the children in ascending (unsigned) order.
+     */
+    private byte[] keys;
+
+    /**
+     * The node keys of the children.
+     */
+    private long[] children;
+
+    /**
+     * Constructor for a new node without children.
+     *
+     * @param nodeKey the node key
+     * @param prefix the compressed path of the subtree
+     */
+    public ARTIndexNode(final @Nonnegative long nodeKey, final byte[] prefix) {
+        this(nodeKey, prefix, NULL_NODE_KEY, EMPTY_KEYS, EMPTY_CHILDREN);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodeKey the node key
+     * @param prefix the compressed path of the subtree
+     * @param entryKey the node key of the index entry, whose key ends right after the prefix, or
+     * {@link Fixed#NULL_NODE_KEY}, if no such entry exists
+     * @param keys the next bytes of the keys of the children in ascending (unsigned) order
+     * @param children the node keys of the children
+     */
+    public ARTIndexNode(final @Nonnegative long nodeKey, final byte[] prefix, final long entryKey, final byte[] keys,
+            final long[] children) {
+        checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+        checkArgument(keys.length == children.length, "Each child must have a key.");
+        this.nodeKey = nodeKey;
+        this.prefix = checkNotNull(prefix);
+        this.entryKey = entryKey;
+        this.keys = keys;
+        this.children = children;
+    }
+
+    @Override
+    public long getNodeKey() {
+        return nodeKey;
+    }
+
+    @Override
+    public SirixDeweyID getDeweyID() {
+        return null;
+    }
+
+    @Override
+    public RecordSerializer getKind() {
+        return NodeKind.ART_INDEX_NODE;
+    }
+
+    @Override
+    public long getRevision() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get the compressed path of the subtree.
+     *
+     * @return the compressed path of the subtree
+     */
+    public byte[] getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Set the compressed path of the subtree.
+     *
+     * @param prefix the compressed path of the subtree
+     */
+    public void setPrefix(final byte[] prefix) {
+        this.prefix = checkNotNull(prefix);
+    }
+
+    /**
+     * Get the node key of the index entry, whose key ends right after the prefix.
+     *
+     * @return the node key of the entry or {@link Fixed#NULL_NODE_KEY}, if no such entry exists
+     */
+    public long getEntryKey() {
+        return entryKey;
+    }
+
+    /**
+     * Determines if an index entry ends right after the prefix.
+     *
+     * @return {@code true}, if an index entry ends right after the prefix, {@code false} otherwise
+     */
+    public boolean hasEntry() {
+        return entryKey != NULL_NODE_KEY;
+    }
+
+    /**
+     * Set the node key of the index entry, whose key ends right after the prefix.
+     *
+     * @param entryKey the node key of the entry
+     */
+    public void setEntryKey(final long entryKey) {
+        this.entryKey = entryKey;
+    }
+
+    /**
+     * Get the number of children.
+     *
+     * @return the number of children
+     */
+    public int getChildCount() {
+        return children.length;
+    }
+
+    /**
+     * Get the next byte of the keys of a child.
+     *
+     * @param index the index of the child
+     * @return the next byte
+     */
+    public byte getKey(final int index) {
+        return keys[index];
+    }
+
+    /**
+     * Get the node key of a child.
+     *
+     * @param index the index of the child
+     * @return the node key of the child
+     */
+    public long getChild(final int index) {
+        return children[index];
+    }
+
+    /**
+     * Set the node key of a child.
+     *
+     * @param index the index of the child
+     * @param child the node key of the child
+     */
+    public void setChild(final int index, final long child) {
+        children[index] = child;
+    }
+
+    /**
+     * Find the child of a key byte.
+     *
+     * @param key the next byte of the keys of the child
+     * @return the index of the child, if it exists, {@code -(insertion point) - 1} otherwise
+     */
+    public int findChild(final byte key) {
+        final int unsignedKey = Byte.toUnsignedInt(key);
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midKey = Byte.toUnsignedInt(keys[mid]);
+            if (midKey < unsignedKey) {
+                low = mid + 1;
+            } else if (midKey > unsignedKey) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Add a child.
+     *
+     * @param key the next byte of the keys of the child, which must not be the key of another child
+     * @param child the node key of the child
+     */
+    public void addChild(final byte key, final long child) {
+        final int index = findChild(key);
+        checkArgument(index < 0, "A child with the same key exists.");
+        final int insertionPoint = -(index + 1);
+
+        final byte[] newKeys = new byte[keys.length + 1];
+        final long[] newChildren = new long[children.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+        System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+        newKeys[insertionPoint] = key;
+        newChildren[insertionPoint] = child;
+        System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, keys.length - insertionPoint);
+        System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1, children.length - insertionPoint);
+        keys = newKeys;
+        children = newChildren;
+    }
+
+    /**
+     * Replace all children.
+     *
+     * @param keys the next bytes of the keys of the children in ascending (unsigned) order
+     * @param children the node keys of the children
+     */
+    public void setChildren(final byte[] keys, final long[] children) {
+        checkArgument(keys.length == children.length, "Each child must have a key.");
+        this.keys = keys;
+        this.children = children;
+    }
+
+    /**
+     * Get the next bytes of the keys of the children.
+     *
+     * @return the next bytes of the keys of the children
+     */
+    public byte[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * Get the node keys of the children.
+     *
+     * @return the node keys of the children
+     */
+    public long[] getChildren() {
+        return children;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(nodeKey);
+        result = 31 * result + Arrays.hashCode(prefix);
+        result = 31 * result + Long.hashCode(entryKey);
+        result = 31 * result + Arrays.hashCode(keys);
+        return 31 * result + Arrays.hashCode(children);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ARTIndexNode otherNode)) {
+            return false;
+        }
+        return nodeKey == otherNode.nodeKey && entryKey == otherNode.entryKey
+                && Arrays.equals(prefix, otherNode.prefix) && Arrays.equals(keys, otherNode.keys)
+                && Arrays.equals(children, otherNode.children);
+    }
+}
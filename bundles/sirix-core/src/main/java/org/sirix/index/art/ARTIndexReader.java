@@ -0,0 +1,534 @@
+package org.sirix.index.art;
+
+import com.google.common.collect.AbstractIterator;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.index.redblacktree.interfaces.References;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads the entries of a secondary index, which is backed by an adaptive radix tree. The inner nodes of the tree are
+ * stored as {@link ARTIndexNode} records and the entries as unlinked {@link RBNode} records in the index pages of a
+ * revision. The records are fetched lazily through the record page caches of the transaction, thus a point lookup
+ * only fetches the nodes on the path to its key and a range lookup additionally only the entries in the range,
+ * regardless of the size of the index.
+ * <p>
+ * A reader of a page write transaction sees the uncommitted entries, as the records are fetched from the
+ * transaction intent log first.
+ * </p>
+ *
+ * @param <K> the key to search for
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class ARTIndexReader<K extends Comparable<? super K>, V extends References> {
+
+    /**
+     * The node key of the root node of the tree (the first record after the document root node of the index).
+     */
+    static final long ROOT_NODE_KEY = Fixed.DOCUMENT_NODE_KEY.getStandardProperty() + 1;
+
+    /**
+     * {@link PageReadOnlyTrx} for persistent storage.
+     */
+    private final PageReadOnlyTrx pageReadTrx;
+
+    /**
+     * The index type.
+     */
+    private final IndexType indexType;
+
+    /**
+     * The index number.
+     */
+    private final int index;
+
+    /**
+     * Transforms the keys into binary comparable keys.
+     */
+    private final BinaryComparable<K> binaryComparable;
+
+    /**
+     * Private constructor.
+     *
+     * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+     * @param indexType the type of the index
+     * @param index the index number
+     */
+    private ARTIndexReader(final PageReadOnlyTrx pageReadTrx, final IndexType indexType, final int index) {
+        this.pageReadTrx = pageReadTrx;
+        this.indexType = indexType;
+        this.index = index;
+        binaryComparable = ARTIndexKeys.forIndexType(indexType);
+    }
+
+    /**
+     * Get a new instance.
+     *
+     * @param <K> key instance which extends comparable
+     * @param <V> value
+     * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+     * @param indexType type of index
+     * @param index the index number
+     * @return new reader instance
+     */
+    public static <K extends Comparable<? super K>, V extends References> ARTIndexReader<K, V> getInstance(
+            final PageReadOnlyTrx pageReadTrx, final IndexType indexType, final @Nonnegative int index) {
+        return new ARTIndexReader<>(checkNotNull(pageReadTrx), checkNotNull(indexType), index);
+    }
+
+    /**
+     * Get the root node of the tree.
+     *
+     * @return the root node or {@code null}, if the index doesn't contain a tree in the revision
+     */
+    ARTIndexNode getRoot() {
+        if (getMaxNodeKey() < ROOT_NODE_KEY) {
+            return null;
+        }
+        return pageReadTrx.getRecord(ROOT_NODE_KEY, indexType, index)
+                          .map(record -> (ARTIndexNode) record)
+                          .orElse(null);
+    }
+
+    /**
+     * Get a record of the tree, that is an inner node or an index entry.
+     *
+     * @param nodeKey the node key of the record
+     * @return the record
+     * @throws IllegalStateException if the record doesn't exist
+     */
+    DataRecord getRecord(final long nodeKey) {
+        return pageReadTrx.getRecord(nodeKey, indexType, index)
+                          .orElseThrow(() -> new IllegalStateException("Record " + nodeKey + " of the "
+                                  + indexType + " index " + index + " doesn't exist."));
+    }
+
+    @SuppressWarnings("unchecked")
+    private RBNode<K, V> getEntryRecord(final long nodeKey) {
+        return (RBNode<K, V>) getRecord(nodeKey);
+    }
+
+    private long getMaxNodeKey() {
+        final RevisionRootPage revisionRootPage = pageReadTrx.getActualRevisionRootPage();
+        // $CASES-OMITTED$
+        return switch (indexType) {
+            case PATH -> pageReadTrx.getPathPage(revisionRootPage).getMaxNodeKey(index);
+            case CAS -> pageReadTrx.getCASPage(revisionRootPage).getMaxNodeKey(index);
+            case NAME -> pageReadTrx.getNamePage(revisionRootPage).getMaxNodeKey(index);
+            default -> throw new IllegalStateException("Index type " + indexType + " not supported.");
+        };
+    }
+
+    /**
+     * Get the transformed, binary comparable key.
+     *
+     * @param key the key
+     * @return the binary comparable key
+     */
+    byte[] toBinaryComparable(final K key) {
+        return binaryComparable.get(key);
+    }
+
+    /**
+     * Get the binary comparable key of an index entry.
+     *
+     * @param entry the index entry
+     * @return the binary comparable key
+     */
+    byte[] getBinaryKey(final RBNode<K, V> entry) {
+        return binaryComparable.get(entry.getKey());
+    }
+
+    /**
+     * Get the index entry, which is stored for a binary comparable key.
+     *
+     * @param key the binary comparable key
+     * @return the index entry or {@code null}, if no entry is stored
+     */
+    RBNode<K, V> getEntry(final byte[] key) {
+        ARTIndexNode node = getRoot();
+        if (node == null) {
+            return null;
+        }
+
+        int depth = 0;
+        while (true) {
+            final byte[] prefix = node.getPrefix();
+            if (key.length - depth < prefix.length
+                    || AdaptiveRadixTree.compare(prefix, 0, prefix.length, key, depth, depth + prefix.length) != 0) {
+                return null;
+            }
+            depth += prefix.length;
+
+            if (depth == key.length) {
+                return node.hasEntry() ? getEntryRecord(node.getEntryKey()) : null;
+            }
+
+            final int childIndex = node.findChild(key[depth]);
+            if (childIndex < 0) {
+                return null;
+            }
+
+            final DataRecord child = getRecord(node.getChild(childIndex));
+            if (!(child instanceof ARTIndexNode childNode)) {
+                @SuppressWarnings("unchecked")
+                final RBNode<K, V> entry = (RBNode<K, V>) child;
+                return Arrays.equals(getBinaryKey(entry), key) ? entry : null;
+            }
+            node = childNode;
+            depth++;
+        }
+    }
+
+    /**
+     * Determines if the index doesn't contain any entries.
+     *
+     * @return {@code true}, if the index doesn't contain any entries, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        final ARTIndexNode root = getRoot();
+        return root == null || (!root.hasEntry() && root.getChildCount() == 0);
+    }
+
+    /**
+     * Finds the specified key in the index and returns its value.
+     *
+     * @param key key to be found
+     * @param mode the search mode
+     * @return {@link Optional} reference (with the found value, or a reference
+     * which indicates that the value hasn't been found)
+     */
+    public Optional<V> get(final K key, final SearchMode mode) {
+        return getNode(key, mode).map(RBNode::getValue);
+    }
+
+    /**
+     * Finds the index entry, which is the closest to the specified key with respect to the search mode.
+     *
+     * @param key key to be found
+     * @param mode the search mode
+     * @return {@link Optional} reference (with the found entry, or a reference
+     * which indicates that no entry has been found)
+     */
+    public Optional<RBNode<K, V>> getNode(final K key, final SearchMode mode) {
+        final byte[] binaryKey = binaryComparable.get(checkNotNull(key));
+        final RBNode<K, V> entry = switch (checkNotNull(mode)) {
+            case EQUAL -> getEntry(binaryKey);
+            case GREATER -> first(rangeIterator(binaryKey, false, null, false));
+            case GREATER_OR_EQUAL -> first(rangeIterator(binaryKey, true, null, false));
+            case LOWER -> floor(binaryKey, false);
+            case LOWER_OR_EQUAL -> floor(binaryKey, true);
+        };
+        return Optional.ofNullable(entry);
+    }
+
+    private RBNode<K, V> first(final Iterator<RBNode<K, V>> entries) {
+        return entries.hasNext() ? entries.next() : null;
+    }
+
+    private RBNode<K, V> floor(final byte[] key, final boolean inclusive) {
+        final ARTIndexNode root = getRoot();
+        return root == null ? null : floor(root, 0, key, inclusive);
+    }
+
+    /**
+     * Get the greatest entry of a subtree, whose key is lower than (or equal to) a key.
+     */
+    private RBNode<K, V> floor(final ARTIndexNode node, final int depth, final byte[] key, final boolean inclusive) {
+        final byte[] prefix = node.getPrefix();
+        final int length = Math.min(prefix.length, key.length - depth);
+        final int prefixComparison = AdaptiveRadixTree.compare(prefix, 0, length, key, depth, depth + length);
+        if (prefixComparison > 0 || (prefixComparison == 0 && length < prefix.length)) {
+            // All keys of the subtree are greater.
+            return null;
+        }
+        if (prefixComparison < 0) {
+            return last(node);
+        }
+
+        final int childDepth = depth + prefix.length;
+        if (childDepth == key.length) {
+            return inclusive && node.hasEntry() ? getEntryRecord(node.getEntryKey()) : null;
+        }
+
+        final int childIndex = node.findChild(key[childDepth]);
+        final int lowerChildIndex;
+        if (childIndex >= 0) {
+            final DataRecord child = getRecord(node.getChild(childIndex));
+            final RBNode<K, V> entry;
+            if (child instanceof ARTIndexNode childNode) {
+                entry = floor(childNode, childDepth + 1, key, inclusive);
+            } else {
+                @SuppressWarnings("unchecked")
+                final RBNode<K, V> childEntry = (RBNode<K, V>) child;
+                final byte[] childKey = getBinaryKey(childEntry);
+                final int comparison = AdaptiveRadixTree.compare(childKey, 0, childKey.length, key, 0, key.length);
+                entry = comparison < 0 || (comparison == 0 && inclusive) ? childEntry : null;
+            }
+            if (entry != null) {
+                return entry;
+            }
+            lowerChildIndex = childIndex - 1;
+        } else {
+            lowerChildIndex = -(childIndex + 1) - 1;
+        }
+
+        for (int i = lowerChildIndex; i >= 0; i--) {
+            final RBNode<K, V> entry = last(getRecord(node.getChild(i)));
+            if (entry != null) {
+                return entry;
+            }
+        }
+
+        // The key of the entry of the node is a prefix of the key.
+        return node.hasEntry() ? getEntryRecord(node.getEntryKey()) : null;
+    }
+
+    /**
+     * Get the greatest entry of a subtree.
+     */
+    @SuppressWarnings("unchecked")
+    private RBNode<K, V> last(final DataRecord record) {
+        if (!(record instanceof ARTIndexNode node)) {
+            return (RBNode<K, V>) record;
+        }
+        for (int i = node.getChildCount() - 1; i >= 0; i--) {
+            final RBNode<K, V> entry = last(getRecord(node.getChild(i)));
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return node.hasEntry() ? getEntryRecord(node.getEntryKey()) : null;
+    }
+
+    /**
+     * Get all index entries in ascending key order.
+     *
+     * @return an iterator over the index entries
+     */
+    public Iterator<RBNode<K, V>> iterator() {
+        return rangeIterator((byte[]) null, true, null, false);
+    }
+
+    /**
+     * Get all index entries, whose binary comparable keys start with a prefix, in ascending key order.
+     *
+     * @param prefix the prefix of the binary comparable keys (see {@link ARTIndexKeys})
+     * @return an iterator over the index entries
+     */
+    public Iterator<RBNode<K, V>> prefixIterator(final byte[] prefix) {
+        return rangeIterator(checkNotNull(prefix), true, ARTIndexKeys.prefixUpperBound(prefix), false);
+    }
+
+    /**
+     * Get all index entries within a range of keys in ascending key order.
+     *
+     * @param from the lower bound, or {@code null}, if the range is unbounded
+     * @param fromInclusive {@code true}, if the lower bound is included
+     * @param to the upper bound, or {@code null}, if the range is unbounded
+     * @param toInclusive {@code true}, if the upper bound is included
+     * @return an iterator over the index entries
+     */
+    public Iterator<RBNode<K, V>> rangeIterator(final @Nullable K from, final boolean fromInclusive,
+            final @Nullable K to, final boolean toInclusive) {
+        return rangeIterator(from == null ? null : binaryComparable.get(from),
+                fromInclusive,
+                to == null ? null : binaryComparable.get(to),
+                toInclusive);
+    }
+
+    /**
+     * Get all index entries within a range of binary comparable keys in ascending key order.
+     *
+     * @param from the lower bound, or {@code null}, if the range is unbounded
+     * @param fromInclusive {@code true}, if the lower bound is included
+     * @param to the upper bound, or {@code null}, if the range is unbounded
+     * @param toInclusive {@code true}, if the upper bound is included
+     * @return an iterator over the index entries
+     */
+    public Iterator<RBNode<K, V>> rangeIterator(final @Nullable byte[] from, final boolean fromInclusive,
+            final @Nullable byte[] to, final boolean toInclusive) {
+        if (from != null && to != null && AdaptiveRadixTree.compare(from, 0, from.length, to, 0, to.length) > 0) {
+            return Collections.emptyIterator();
+        }
+        final ARTIndexNode root = getRoot();
+        if (root == null) {
+            return Collections.emptyIterator();
+        }
+        return new RangeIterator(root, from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * The position of a {@link RangeIterator} in an inner node.
+     */
+    private static final class Frame {
+        private final ARTIndexNode node;
+
+        private boolean isEntryPending;
+
+        private int nextChildIndex;
+
+        private Frame(final ARTIndexNode node, final boolean isEntryPending, final int nextChildIndex) {
+            this.node = node;
+            this.isEntryPending = isEntryPending;
+            this.nextChildIndex = nextChildIndex;
+        }
+    }
+
+    /**
+     * Iterates in-order over the entries of a range, starting with the first entry of the range, which is found
+     * through a single descent. The records are fetched as the iterator advances.
+     */
+    private final class RangeIterator extends AbstractIterator<RBNode<K, V>> {
+
+        private final Deque<Frame> stack = new ArrayDeque<>();
+
+        private final byte[] from;
+
+        private final boolean fromInclusive;
+
+        private final byte[] to;
+
+        private final boolean toInclusive;
+
+        /**
+         * The entry, which is returned before the entries of the stack.
+         */
+        private RBNode<K, V> pendingEntry;
+
+        private RangeIterator(final ARTIndexNode root, final @Nullable byte[] from, final boolean fromInclusive,
+                final @Nullable byte[] to, final boolean toInclusive) {
+            this.from = from;
+            this.fromInclusive = fromInclusive;
+            this.to = to;
+            this.toInclusive = toInclusive;
+            if (from == null) {
+                stack.push(new Frame(root, true, 0));
+            } else {
+                seek(root, from);
+            }
+        }
+
+        /**
+         * Push the frames of the path to the first entry, whose key is greater than or equal to the key.
+         */
+        private void seek(final ARTIndexNode root, final byte[] key) {
+            ARTIndexNode node = root;
+            int depth = 0;
+            while (true) {
+                final byte[] prefix = node.getPrefix();
+                final int length = Math.min(prefix.length, key.length - depth);
+                final int prefixComparison = AdaptiveRadixTree.compare(prefix, 0, length, key, depth, depth + length);
+                if (prefixComparison > 0 || (prefixComparison == 0 && length < prefix.length)) {
+                    // All keys of the subtree are greater.
+                    stack.push(new Frame(node, true, 0));
+                    return;
+                }
+                if (prefixComparison < 0) {
+                    // All keys of the subtree are lower.
+                    return;
+                }
+
+                depth += prefix.length;
+                if (depth == key.length) {
+                    stack.push(new Frame(node, true, 0));
+                    return;
+                }
+
+                // The entry of the node is lower, as its key is a prefix of the key.
+                final int childIndex = node.findChild(key[depth]);
+                stack.push(new Frame(node, false, childIndex >= 0 ? childIndex + 1 : -(childIndex + 1)));
+                if (childIndex < 0) {
+                    return;
+                }
+
+                final DataRecord child = getRecord(node.getChild(childIndex));
+                if (!(child instanceof ARTIndexNode childNode)) {
+                    @SuppressWarnings("unchecked")
+                    final RBNode<K, V> entry = (RBNode<K, V>) child;
+                    final byte[] entryKey = getBinaryKey(entry);
+                    if (AdaptiveRadixTree.compare(entryKey, 0, entryKey.length, key, 0, key.length) >= 0) {
+                        pendingEntry = entry;
+                    }
+                    return;
+                }
+                node = childNode;
+                depth++;
+            }
+        }
+
+        @Override
+        protected RBNode<K, V> computeNext() {
+            while (true) {
+                final RBNode<K, V> entry = nextEntry();
+                if (entry == null) {
+                    return endOfData();
+                }
+                if (from == null && to == null) {
+                    return entry;
+                }
+
+                final byte[] key = getBinaryKey(entry);
+                if (from != null && !fromInclusive && Arrays.equals(key, from)) {
+                    continue;
+                }
+                if (to != null) {
+                    final int comparison = AdaptiveRadixTree.compare(key, 0, key.length, to, 0, to.length);
+                    if (comparison > 0 || (comparison == 0 && !toInclusive)) {
+                        stack.clear();
+                        return endOfData();
+                    }
+                }
+                return entry;
+            }
+        }
+
+        private RBNode<K, V> nextEntry() {
+            if (pendingEntry != null) {
+                final RBNode<K, V> entry = pendingEntry;
+                pendingEntry = null;
+                return entry;
+            }
+
+            while (!stack.isEmpty()) {
+                final Frame frame = stack.peek();
+                if (frame.isEntryPending) {
+                    frame.isEntryPending = false;
+                    if (frame.node.hasEntry()) {
+                        return getEntryRecord(frame.node.getEntryKey());
+                    }
+                }
+
+                if (frame.nextChildIndex < frame.node.getChildCount()) {
+                    final DataRecord child = getRecord(frame.node.getChild(frame.nextChildIndex++));
+                    if (child instanceof ARTIndexNode childNode) {
+                        stack.push(new Frame(childNode, true, 0));
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        final RBNode<K, V> entry = (RBNode<K, V>) child;
+                        return entry;
+                    }
+                } else {
+                    stack.pop();
+                }
+            }
+            return null;
+        }
+    }
+}
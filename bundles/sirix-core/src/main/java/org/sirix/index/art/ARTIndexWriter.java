@@ -0,0 +1,319 @@
+package org.sirix.index.art;
+
+import org.sirix.access.DatabaseType;
+import org.sirix.api.PageTrx;
+import org.sirix.cache.PageContainer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexType;
+import org.sirix.index.IndexWriter;
+import org.sirix.index.SearchMode;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
+import org.sirix.index.redblacktree.interfaces.References;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.CASPage;
+import org.sirix.page.NamePage;
+import org.sirix.page.PathPage;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.settings.Fixed;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnegative;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Writes the entries of a secondary index, which is backed by an adaptive radix tree. Each entry is stored as a
+ * single {@link RBNode} record without any links to other entries and the inner nodes of the tree are stored as
+ * {@link ARTIndexNode} records. Thus, updating an entry modifies exactly one record and inserting an entry only
+ * modifies the inner nodes on the path to its key (no rebalancing). All records are versioned through the index pages
+ * like any other record, that is a new revision only stores the modified records.
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public final class ARTIndexWriter<K extends Comparable<? super K>, V extends References>
+        implements IndexWriter<K, V> {
+
+    /**
+     * Logger.
+     */
+    private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ARTIndexWriter.class));
+
+    /**
+     * {@link PageTrx} instance.
+     */
+    private final PageTrx pageTrx;
+
+    /**
+     * The index type.
+     */
+    private final IndexType indexType;
+
+    /**
+     * The index number.
+     */
+    private final int index;
+
+    /**
+     * The reader, which reads all entries including the uncommitted ones.
+     */
+    private final ARTIndexReader<K, V> reader;
+
+    /**
+     * Private constructor.
+     *
+     * @param databaseType The type of database.
+     * @param pageTrx {@link PageTrx} for persistent storage
+     * @param indexType type of index
+     * @param index the index number
+     */
+    private ARTIndexWriter(final DatabaseType databaseType, final PageTrx pageTrx, final IndexType indexType,
+            final @Nonnegative int index) {
+        this.pageTrx = checkNotNull(pageTrx);
+        this.indexType = checkNotNull(indexType);
+        this.index = index;
+        try {
+            final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+            switch (indexType) {
+                case PATH -> {
+                    final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
+                    pageTrx.appendLogRecord(revisionRootPage.getPathPageReference(),
+                            PageContainer.getInstance(pathPage, pathPage));
+                    pathPage.createPathIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+                }
+                case CAS -> {
+                    final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
+                    pageTrx.appendLogRecord(revisionRootPage.getCASPageReference(),
+                            PageContainer.getInstance(casPage, casPage));
+                    casPage.createCASIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+                }
+                case NAME -> {
+                    final NamePage namePage = pageTrx.getNamePage(revisionRootPage);
+                    pageTrx.appendLogRecord(revisionRootPage.getNamePageReference(),
+                            PageContainer.getInstance(namePage, namePage));
+                    namePage.createNameIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+                }
+                default -> throw new IllegalArgumentException("Index type " + indexType + " not supported.");
+            }
+        } catch (final SirixIOException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        reader = ARTIndexReader.getInstance(pageTrx, indexType, index);
+        if (reader.getRoot() == null) {
+            final ARTIndexNode root = createNode(new byte[0], ARTIndexNode.NULL_NODE_KEY, new byte[0], new long[0]);
+            checkState(root.getNodeKey() == ARTIndexReader.ROOT_NODE_KEY, "The index isn't empty.");
+        }
+    }
+
+    /**
+     * Get a new instance.
+     *
+     * @param databaseType The type of database.
+     * @param pageTrx {@link PageTrx} for persistent storage
+     * @param indexType type of index
+     * @param index the index number
+     * @return new writer instance
+     */
+    public static <K extends Comparable<? super K>, V extends References> ARTIndexWriter<K, V> getInstance(
+            final DatabaseType databaseType, final PageTrx pageTrx, final IndexType indexType, final int index) {
+        return new ARTIndexWriter<>(databaseType, pageTrx, indexType, index);
+    }
+
+    @Override
+    public V index(final K key, final V value, final MoveCursor move) {
+        checkNotNull(value);
+        final byte[] binaryKey = reader.toBinaryComparable(checkNotNull(key));
+        final RBNode<K, V> entry = reader.getEntry(binaryKey);
+
+        if (entry == null) {
+            insert(binaryKey, createEntry(key, value));
+            return value;
+        }
+
+        // The value might have been modified in place, thus it's also stored, if it's the same instance.
+        if (value == entry.getValue() || !value.equals(entry.getValue())) {
+            final RBNode<K, V> modifiedEntry = pageTrx.prepareRecordForModification(entry.getNodeKey(), indexType, index);
+            modifiedEntry.setValue(value);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean remove(final K key, final @Nonnegative long nodeKey) {
+        checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+        final RBNode<K, V> entry = reader.getEntry(reader.toBinaryComparable(checkNotNull(key)));
+
+        if (entry == null || !entry.getValue().contains(nodeKey)) {
+            return false;
+        }
+
+        final RBNode<K, V> modifiedEntry = pageTrx.prepareRecordForModification(entry.getNodeKey(), indexType, index);
+        return modifiedEntry.getValue().removeNodeKey(nodeKey);
+    }
+
+    @Override
+    public Optional<V> get(final K key, final SearchMode mode) {
+        return reader.get(checkNotNull(key), checkNotNull(mode));
+    }
+
+    @Override
+    public void bulkLoad(final Iterator<Map.Entry<K, V>> entries, final @Nonnegative long size) {
+        checkNotNull(entries);
+        checkArgument(size >= 0, "size must be >= 0!");
+        checkState(reader.isEmpty(), "The index must be empty.");
+
+        for (long i = 0; i < size; i++) {
+            final Map.Entry<K, V> entry = entries.next();
+            final byte[] binaryKey = reader.toBinaryComparable(entry.getKey());
+            final RBNode<K, V> existingEntry = reader.getEntry(binaryKey);
+
+            if (existingEntry == null) {
+                insert(binaryKey, createEntry(entry.getKey(), entry.getValue()));
+            } else {
+                // Distinct keys might share a binary comparable key, thus their node keys are merged.
+                final RBNode<K, V> modifiedEntry =
+                        pageTrx.prepareRecordForModification(existingEntry.getNodeKey(), indexType, index);
+                entry.getValue().getNodeKeys().forEach(nodeKey -> modifiedEntry.getValue().addNodeKey(nodeKey));
+            }
+        }
+    }
+
+    private RBNode<K, V> createEntry(final K key, final V value) {
+        final long nodeKey = getNewNodeKey();
+        return pageTrx.createRecord(nodeKey,
+                new RBNode<>(key,
+                        value,
+                        new NodeDelegate(nodeKey, Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), null, null, 0, null)),
+                indexType,
+                index);
+    }
+
+    private ARTIndexNode createNode(final byte[] prefix, final long entryKey, final byte[] keys,
+            final long[] children) {
+        final long nodeKey = getNewNodeKey();
+        return pageTrx.createRecord(nodeKey, new ARTIndexNode(nodeKey, prefix, entryKey, keys, children), indexType,
+                index);
+    }
+
+    private ARTIndexNode prepareNodeForModification(final ARTIndexNode node) {
+        return pageTrx.prepareRecordForModification(node.getNodeKey(), indexType, index);
+    }
+
+    /**
+     * Insert an entry, whose key isn't stored, into the tree. Only the inner nodes on the path to the key are
+     * modified and at most one inner node is created.
+     *
+     * @param key the binary comparable key of the entry
+     * @param entry the entry
+     */
+    private void insert(final byte[] key, final RBNode<K, V> entry) {
+        ARTIndexNode node = reader.getRoot();
+        int depth = 0;
+        while (true) {
+            final byte[] prefix = node.getPrefix();
+            final int matchLength = matchLength(prefix, 0, key, depth);
+
+            if (matchLength < prefix.length) {
+                // Split the node: The node keeps its node key (thus the parent isn't modified), but only the matching
+                // part of the prefix. The former subtree is moved to a new child.
+                final ARTIndexNode modifiedNode = prepareNodeForModification(node);
+                final byte[] formerPrefix = Arrays.copyOfRange(prefix, matchLength + 1, prefix.length);
+                final ARTIndexNode formerSubtree = createNode(formerPrefix, modifiedNode.getEntryKey(),
+                        modifiedNode.getKeys(), modifiedNode.getChildren());
+                modifiedNode.setPrefix(Arrays.copyOf(prefix, matchLength));
+                modifiedNode.setEntryKey(ARTIndexNode.NULL_NODE_KEY);
+                modifiedNode.setChildren(new byte[] { prefix[matchLength] }, new long[] { formerSubtree.getNodeKey() });
+                addEntry(modifiedNode, key, depth + matchLength, entry.getNodeKey());
+                return;
+            }
+
+            depth += prefix.length;
+            if (depth == key.length) {
+                prepareNodeForModification(node).setEntryKey(entry.getNodeKey());
+                return;
+            }
+
+            final int childIndex = node.findChild(key[depth]);
+            if (childIndex < 0) {
+                prepareNodeForModification(node).addChild(key[depth], entry.getNodeKey());
+                return;
+            }
+
+            final DataRecord child = reader.getRecord(node.getChild(childIndex));
+            if (child instanceof ARTIndexNode childNode) {
+                node = childNode;
+                depth++;
+                continue;
+            }
+
+            // The child is the only entry of its subtree, thus a new inner node for both entries replaces it.
+            @SuppressWarnings("unchecked")
+            final RBNode<K, V> childEntry = (RBNode<K, V>) child;
+            final byte[] childKey = reader.getBinaryKey(childEntry);
+            final int childDepth = depth + 1;
+            final int commonLength = matchLength(key, childDepth, childKey, childDepth);
+            final ARTIndexNode newNode = createNode(Arrays.copyOfRange(key, childDepth, childDepth + commonLength),
+                    ARTIndexNode.NULL_NODE_KEY,
+                    new byte[0],
+                    new long[0]);
+            addEntry(newNode, childKey, childDepth + commonLength, childEntry.getNodeKey());
+            addEntry(newNode, key, childDepth + commonLength, entry.getNodeKey());
+            prepareNodeForModification(node).setChild(childIndex, newNode.getNodeKey());
+            return;
+        }
+    }
+
+    /**
+     * Add an entry to a node, whose prefix matches the key up to the depth.
+     */
+    private static void addEntry(final ARTIndexNode node, final byte[] key, final int depth, final long entryKey) {
+        if (depth == key.length) {
+            node.setEntryKey(entryKey);
+        } else {
+            node.addChild(key[depth], entryKey);
+        }
+    }
+
+    /**
+     * Get the number of matching bytes of two keys, starting at the given offsets.
+     */
+    private static int matchLength(final byte[] first, final int firstOffset, final byte[] second,
+            final int secondOffset) {
+        final int length = Math.min(first.length - firstOffset, second.length - secondOffset);
+        int matchLength = 0;
+        while (matchLength < length && first[firstOffset + matchLength] == second[secondOffset + matchLength]) {
+            matchLength++;
+        }
+        return matchLength;
+    }
+
+    /**
+     * Get the reader, which reads all entries including the uncommitted ones.
+     *
+     * @return the reader
+     */
+    public ARTIndexReader<K, V> getReader() {
+        return reader;
+    }
+
+    private long getNewNodeKey() {
+        final RevisionRootPage root = pageTrx.getActualRevisionRootPage();
+        // $CASES-OMITTED$
+        return switch (indexType) {
+            case PATH -> pageTrx.getPathPage(root).getMaxNodeKey(index) + 1;
+            case CAS -> pageTrx.getCASPage(root).getMaxNodeKey(index) + 1;
+            case NAME -> pageTrx.getNamePage(root).getMaxNodeKey(index) + 1;
+            default -> throw new IllegalStateException();
+        };
+    }
+}
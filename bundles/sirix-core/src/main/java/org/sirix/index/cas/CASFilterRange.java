@@ -73,6 +73,26 @@ public final class CASFilterRange implements Filter {
         mIncMax = incMax;
     }
 
+    public Set<Long> getPCRs() {
+        return mPathFilter.getPCRs();
+    }
+
+    public Atomic getMin() {
+        return mMin;
+    }
+
+    public Atomic getMax() {
+        return mMax;
+    }
+
+    public boolean isMinIncluded() {
+        return mIncMin;
+    }
+
+    public boolean isMaxIncluded() {
+        return mIncMax;
+    }
+
     @Override
     public <K extends Comparable<? super K>> boolean filter(final RBNode<K, NodeReferences> node) {
         final K key = node.getKey();
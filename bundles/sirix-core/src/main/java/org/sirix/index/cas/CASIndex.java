@@ -1,15 +1,20 @@
 package org.sirix.index.cas;
 
 import com.google.common.collect.Iterators;
+import org.brackit.xquery.QueryException;
 import org.brackit.xquery.atomic.Atomic;
+import org.brackit.xquery.xdm.Type;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
+import org.sirix.index.IndexBackendType;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
 import org.sirix.index.SearchMode;
+import org.sirix.index.art.ARTIndexKeys;
+import org.sirix.index.art.ARTIndexReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.RBTreeReader;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
@@ -19,6 +24,7 @@ import org.sirix.settings.Fixed;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 
 public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx & NodeCursor> {
 
@@ -27,6 +33,21 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     L createListener(PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
     default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter) {
+        if (indexDef.getBackendType() == IndexBackendType.ART) {
+            final ARTIndexReader<CASValue, NodeReferences> reader
+                    = ARTIndexReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+            // Scan the range of each requested path.
+            final Type type = indexDef.getContentType();
+            final Iterator<RBNode<CASValue, NodeReferences>> iter = scanPCRs(reader, filter.getPCRs(), pcr -> {
+                final byte[] min = ARTIndexKeys.forCASValue(new CASValue(filter.getMin(), type, pcr));
+                final byte[] max = ARTIndexKeys.forCASValue(new CASValue(filter.getMax(), type, pcr));
+                return reader.rangeIterator(min, filter.isMinIncluded(), max, filter.isMaxIncluded());
+            });
+
+            return new IndexFilterAxis<>(iter, Set.of(filter));
+        }
+
         final RBTreeReader<CASValue, NodeReferences> reader
                 = RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
                         pageRtx,
@@ -40,6 +61,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     }
 
     default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+        if (indexDef.getBackendType() == IndexBackendType.ART) {
+            return openARTIndex(pageRtx, indexDef, filter);
+        }
+
         final RBTreeReader<CASValue, NodeReferences> reader
                 = RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
                         pageRtx,
@@ -102,6 +127,54 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
         }
     }
 
+    private Iterator<NodeReferences> openARTIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+        final ARTIndexReader<CASValue, NodeReferences> reader
+                = ARTIndexReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+        if (filter == null) {
+            return new IndexFilterAxis<>(reader.iterator(), Set.of());
+        }
+
+        final Atomic atomic = filter.getKey();
+        final SearchMode mode = filter.getMode();
+
+        // Scan the entries of each requested path, which might match the search criteria.
+        final Iterator<RBNode<CASValue, NodeReferences>> iter = scanPCRs(reader, filter.getPCRs(), pcr -> {
+            final byte[] pcrPrefix = ARTIndexKeys.forPathNodeKey(pcr);
+            if (atomic == null) {
+                return reader.prefixIterator(pcrPrefix);
+            }
+
+            final byte[] key = ARTIndexKeys.forCASValue(new CASValue(atomic, indexDef.getContentType(), pcr));
+            return switch (mode) {
+                case EQUAL -> reader.rangeIterator(key, true, key, true);
+                case GREATER -> reader.rangeIterator(key, false, ARTIndexKeys.prefixUpperBound(pcrPrefix), false);
+                case GREATER_OR_EQUAL -> reader.rangeIterator(key, true, ARTIndexKeys.prefixUpperBound(pcrPrefix), false);
+                case LOWER -> reader.rangeIterator(pcrPrefix, true, key, false);
+                case LOWER_OR_EQUAL -> reader.rangeIterator(pcrPrefix, true, key, true);
+            };
+        });
+
+        return new IndexFilterAxis<>(iter, Set.of(filter));
+    }
+
+    private Iterator<RBNode<CASValue, NodeReferences>> scanPCRs(ARTIndexReader<CASValue, NodeReferences> reader,
+            Set<Long> pcrs, LongFunction<Iterator<RBNode<CASValue, NodeReferences>>> scanPCR) {
+        if (pcrs.isEmpty()) {
+            return reader.iterator();
+        }
+
+        return Iterators.concat(pcrs.stream().sorted().map(pcr -> {
+            try {
+                return scanPCR.apply(pcr);
+            } catch (final QueryException e) {
+                // The searched value can't be cast to the type of the index, thus all entries of the path are
+                // filtered.
+                return reader.prefixIterator(ARTIndexKeys.forPathNodeKey(pcr));
+            }
+        }).iterator());
+    }
+
     private Function<RBNode<CASValue, NodeReferences>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
             CASFilter filter, RBTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
         return node -> {
@@ -10,9 +10,9 @@ import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
-import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexEntryCollector;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -25,14 +25,14 @@ import org.sirix.node.interfaces.immutable.ImmutableValueNode;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 public final class CASIndexBuilder {
 
     private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-    private final RBTreeWriter<CASValue, NodeReferences> avlTreeWriter;
+    private final IndexWriter<CASValue, NodeReferences> avlTreeWriter;
 
     private final PathSummaryReader pathSummaryReader;
 
@@ -40,12 +40,31 @@ public final class CASIndexBuilder {
 
     private final Type type;
 
-    public CASIndexBuilder(final RBTreeWriter<CASValue, NodeReferences> avlTreeWriter,
-            final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
+    /**
+     * Collects and sorts the index entries, which are bulk loaded into the index afterwards.
+     */
+    private final IndexEntrySorter<CASValue> sorter;
+
+    /**
+     * Hands the index entries to the sorter, either on the traversing thread or on a separate thread.
+     */
+    private final IndexEntryCollector<Entry> collector;
+
+    /**
+     * An index entry, which still has to be type checked.
+     */
+    private record Entry(Str value, long pathNodeKey, long nodeKey) {
+    }
+
+    public CASIndexBuilder(final IndexWriter<CASValue, NodeReferences> avlTreeWriter,
+            final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type,
+            final IndexEntrySorter<CASValue> sorter) {
         this.pathSummaryReader = pathSummaryReader;
         this.paths = paths;
         this.avlTreeWriter = avlTreeWriter;
         this.type = type;
+        this.sorter = sorter;
+        this.collector = new IndexEntryCollector<>(this::collect);
     }
 
     public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
@@ -67,24 +86,7 @@ public final class CASIndexBuilder {
                     throw new IllegalStateException("Value not supported.");
                 }
 
-                boolean isOfType = false;
-                try {
-                    if (type != Type.STR) {
-                        AtomicUtil.toType(strValue, type);
-                    }
-                    isOfType = true;
-                } catch (final SirixRuntimeException e) {
-                }
-
-                if (isOfType) {
-                    final CASValue value = new CASValue(strValue, type, pathNodeKey);
-                    final Optional<NodeReferences> textReferences = avlTreeWriter.get(value, SearchMode.EQUAL);
-                    if (textReferences.isPresent()) {
-                        setNodeReferences(node, textReferences.get(), value);
-                    } else {
-                        setNodeReferences(node, new NodeReferences(), value);
-                    }
-                }
+                collector.add(new Entry(strValue, pathNodeKey, node.getNodeKey()));
             }
         } catch (final PathException | SirixIOException e) {
             LOGGER.error(e.getMessage(), e);
@@ -92,8 +94,33 @@ public final class CASIndexBuilder {
         return VisitResultType.CONTINUE;
     }
 
-    private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue value)
-            throws SirixIOException {
-        avlTreeWriter.index(value, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    private void collect(final Entry entry) {
+        try {
+            if (type != Type.STR) {
+                AtomicUtil.toType(entry.value(), type);
+            }
+        } catch (final SirixRuntimeException e) {
+            return;
+        }
+        sorter.add(new CASValue(entry.value(), type, entry.pathNodeKey()), entry.nodeKey());
+    }
+
+    /**
+     * Type check and sort the index entries on a separate thread of the given executor from now on.
+     *
+     * @param executor the executor
+     */
+    public void collectAsync(final ExecutorService executor) {
+        collector.startAsync(executor);
+    }
+
+    /**
+     * Bulk loads the collected index entries into the index, once all nodes have been processed.
+     */
+    public void bulkLoad() {
+        collector.finish();
+        try (sorter) {
+            avlTreeWriter.bulkLoad(sorter.iterator(), sorter.size());
+        }
     }
 }
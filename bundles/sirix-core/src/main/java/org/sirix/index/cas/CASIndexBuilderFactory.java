@@ -3,8 +3,9 @@ package org.sirix.index.cas;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
@@ -21,11 +22,11 @@ public final class CASIndexBuilderFactory {
     public CASIndexBuilder create(final PageTrx pageTrx,
             final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
         final var avlTreeWriter
-                = RBTreeWriter.<CASValue, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+                = IndexWriter.<CASValue, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef);
         final var pathSummary = checkNotNull(pathSummaryReader);
         final var paths = checkNotNull(indexDef.getPaths());
         final var type = checkNotNull(indexDef.getContentType());
 
-        return new CASIndexBuilder(avlTreeWriter, pathSummary, paths, type);
+        return new CASIndexBuilder(avlTreeWriter, pathSummary, paths, type, new IndexEntrySorter<>(pageTrx));
     }
 }
@@ -10,7 +10,7 @@ import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
 import org.sirix.index.SearchMode;
 import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -21,29 +21,33 @@ import java.util.Set;
 
 public final class CASIndexListener {
 
-    private final RBTreeWriter<CASValue, NodeReferences> redBlackTreeWriter;
+    private final IndexWriter<CASValue, NodeReferences> redBlackTreeWriter;
     private final PathSummaryReader pathSummaryReader;
-    private final Set<Path<QNm>> paths;
     private final Type type;
 
+    /**
+     * The PCRs of the indexed paths, which are kept up-to-date by the path summary.
+     */
+    private final Set<Long> pcrs;
+
     public CASIndexListener(final PathSummaryReader pathSummaryReader,
-            final RBTreeWriter<CASValue, NodeReferences> redBlackTreeWriter, final Set<Path<QNm>> paths, final Type type) {
+            final IndexWriter<CASValue, NodeReferences> redBlackTreeWriter, final Set<Path<QNm>> paths, final Type type) {
         this.pathSummaryReader = pathSummaryReader;
         this.redBlackTreeWriter = redBlackTreeWriter;
-        this.paths = paths;
         this.type = type;
+        pcrs = pathSummaryReader.getLivePCRsForPaths(paths);
     }
 
     public void listen(final ChangeType type, final ImmutableNode node, final long pathNodeKey, final Str value) {
         assert pathSummaryReader.moveTo(pathNodeKey).hasMoved();
         switch (type) {
             case INSERT:
-                if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
+                if (pcrs.contains(pathNodeKey)) {
                     insert(node, pathNodeKey, value);
                 }
                 break;
             case DELETE:
-                if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
+                if (pcrs.contains(pathNodeKey)) {
                     redBlackTreeWriter.remove(new CASValue(value, this.type, pathNodeKey), node.getNodeKey());
                 }
                 break;
@@ -63,7 +67,7 @@ public final class CASIndexListener {
             final CASValue indexValue = new CASValue(value, type, pathNodeKey);
             final Optional<NodeReferences> textReferences = redBlackTreeWriter.get(indexValue, SearchMode.EQUAL);
             if (textReferences.isPresent()) {
-                setNodeReferences(node, new NodeReferences(textReferences.get().getNodeKeys()), indexValue);
+                setNodeReferences(node, new NodeReferences(textReferences.get()), indexValue);
             } else {
                 setNodeReferences(node, new NodeReferences(), indexValue);
             }
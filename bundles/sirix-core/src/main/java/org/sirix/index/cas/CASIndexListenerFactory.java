@@ -3,8 +3,8 @@ package org.sirix.index.cas;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
@@ -22,12 +22,7 @@ public final class CASIndexListenerFactory {
             final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
         final var pathSummary = checkNotNull(pathSummaryReader);
         final var avlTreeWriter
-                = RBTreeWriter.<CASValue, NodeReferences>getInstance(
-                        this.databaseType,
-                        pageTrx,
-                        indexDef.getType(),
-                        indexDef.getID()
-                );
+                = IndexWriter.<CASValue, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef);
         final var type = checkNotNull(indexDef.getContentType());
         final var paths = checkNotNull(indexDef.getPaths());
 
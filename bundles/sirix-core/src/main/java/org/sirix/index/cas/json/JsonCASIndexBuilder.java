@@ -3,17 +3,20 @@ package org.sirix.index.cas.json;
 import org.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.BulkLoadingIndexBuilder;
 import org.sirix.index.cas.CASIndexBuilder;
 import org.sirix.node.immutable.json.*;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Builds a content-and-structure (CAS) index.
  *
  * @author Johannes Lichtenberger
  *
  */
-final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor {
+final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor implements BulkLoadingIndexBuilder {
 
     private final CASIndexBuilder mIndexBuilderDelegate;
 
@@ -66,6 +69,16 @@ final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor {
         return mIndexBuilderDelegate.process(node, PCR);
     }
 
+    @Override
+    public void collectAsync(final ExecutorService executor) {
+        mIndexBuilderDelegate.collectAsync(executor);
+    }
+
+    @Override
+    public void bulkLoad() {
+        mIndexBuilderDelegate.bulkLoad();
+    }
+
     private long getPathClassRecord(ImmutableNode node) {
         mRtx.moveTo(node.getParentKey());
 
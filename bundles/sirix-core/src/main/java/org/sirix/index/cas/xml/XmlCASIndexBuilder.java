@@ -3,17 +3,20 @@ package org.sirix.index.cas.xml;
 import org.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.index.BulkLoadingIndexBuilder;
 import org.sirix.index.cas.CASIndexBuilder;
 import org.sirix.node.immutable.xml.ImmutableAttributeNode;
 import org.sirix.node.immutable.xml.ImmutableText;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Builds a content-and-structure (CAS) index.
  *
  * @author Johannes Lichtenberger
  *
  */
-final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor {
+final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor implements BulkLoadingIndexBuilder {
 
     private final CASIndexBuilder mIndexBuilderDelegate;
 
@@ -43,4 +46,14 @@ final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor {
         return mIndexBuilderDelegate.process(node, PCR);
     }
 
+    @Override
+    public void collectAsync(final ExecutorService executor) {
+        mIndexBuilderDelegate.collectAsync(executor);
+    }
+
+    @Override
+    public void bulkLoad() {
+        mIndexBuilderDelegate.bulkLoad();
+    }
+
 }
@@ -9,9 +9,11 @@ import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
 import org.sirix.index.Filter;
+import org.sirix.index.IndexBackendType;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
 import org.sirix.index.SearchMode;
+import org.sirix.index.art.ARTIndexReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.RBTreeReader;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -26,6 +28,20 @@ public interface NameIndex<B, L extends ChangeListener> {
     L createListener(PageTrx pageTrx, IndexDef indexDef);
 
     default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
+        if (indexDef.getBackendType() == IndexBackendType.ART) {
+            final ARTIndexReader<QNm, NodeReferences> reader
+                    = ARTIndexReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+            if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty()) {
+                final Optional<NodeReferences> optionalNodeReferences
+                        = reader.get(filter.getIncludes().iterator().next(), SearchMode.EQUAL);
+                return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+            }
+
+            final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
+            return new IndexFilterAxis<>(reader.iterator(), setFilter);
+        }
+
         final RBTreeReader<QNm, NodeReferences> reader
                 = RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
                         pageRtx,
@@ -7,7 +7,7 @@ import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.SearchMode;
 import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.utils.LogWrapper;
@@ -19,10 +19,10 @@ public final class NameIndexBuilder {
 
     public Set<QNm> mIncludes;
     public Set<QNm> mExcludes;
-    public RBTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+    public IndexWriter<QNm, NodeReferences> mAVLTreeWriter;
 
     public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
-            final RBTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+            final IndexWriter<QNm, NodeReferences> avlTreeWriter) {
         mIncludes = includes;
         mExcludes = excludes;
         mAVLTreeWriter = avlTreeWriter;
@@ -7,7 +7,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.index.SearchMode;
 import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
@@ -15,10 +15,10 @@ public final class NameIndexListener {
 
     private final Set<QNm> mIncludes;
     private final Set<QNm> mExcludes;
-    private final RBTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
+    private final IndexWriter<QNm, NodeReferences> mAVLTreeWriter;
 
     public NameIndexListener(final Set<QNm> includes, final Set<QNm> excludes,
-            final RBTreeWriter<QNm, NodeReferences> avlTreeWriter) {
+            final IndexWriter<QNm, NodeReferences> avlTreeWriter) {
         mIncludes = includes;
         mExcludes = excludes;
         mAVLTreeWriter = avlTreeWriter;
@@ -36,7 +36,7 @@ public final class NameIndexListener {
             case INSERT:
                 final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
                 if (textReferences.isPresent()) {
-                    setNodeReferences(node, textReferences.get(), name);
+                    setNodeReferences(node, new NodeReferences(textReferences.get()), name);
                 } else {
                     setNodeReferences(node, new NodeReferences(), name);
                 }
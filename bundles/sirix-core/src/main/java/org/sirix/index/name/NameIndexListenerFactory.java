@@ -4,8 +4,8 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.IndexType;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -23,12 +23,8 @@ public final class NameIndexListenerFactory {
         final var includes = checkNotNull(indexDefinition.getIncluded());
         final var excludes = checkNotNull(indexDefinition.getExcluded());
         assert indexDefinition.getType() == IndexType.NAME;
-        final var avlTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(
-                this.databaseType,
-                pageWriteTrx,
-                indexDefinition.getType(),
-                indexDefinition.getID()
-        );
+        final var avlTreeWriter
+                = IndexWriter.<QNm, NodeReferences>getInstance(this.databaseType, pageWriteTrx, indexDefinition);
 
         return new NameIndexListener(includes, excludes, avlTreeWriter);
     }
@@ -8,9 +8,11 @@ import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
 import org.sirix.index.Filter;
+import org.sirix.index.IndexBackendType;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
 import org.sirix.index.SearchMode;
+import org.sirix.index.art.ARTIndexReader;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.RBTreeReader;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -27,6 +29,20 @@ public interface PathIndex<B, L extends ChangeListener> {
 
     default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
             final PathFilter filter) {
+        if (indexDef.getBackendType() == IndexBackendType.ART) {
+            final ARTIndexReader<Long, NodeReferences> reader
+                    = ARTIndexReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+            if (filter != null && filter.getPCRs().size() == 1) {
+                final Optional<NodeReferences> optionalNodeReferences
+                        = reader.get(filter.getPCRs().iterator().next(), SearchMode.EQUAL);
+                return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+            }
+
+            final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
+            return new IndexFilterAxis<>(reader.iterator(), setFilter);
+        }
+
         final RBTreeReader<Long, NodeReferences> reader
                 = RBTreeReader.getInstance(pageRtx.getResourceManager().getIndexCache(),
                         pageRtx,
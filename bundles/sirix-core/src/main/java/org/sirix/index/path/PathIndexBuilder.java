@@ -1,16 +1,16 @@
 package org.sirix.index.path;
 
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.brackit.xquery.util.path.PathException;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexEntryCollector;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -25,25 +25,38 @@ public final class PathIndexBuilder {
 
     private final PathSummaryReader pathSummaryReader;
 
-    private final RBTreeWriter<Long, NodeReferences> avlTreeWriter;
+    private final IndexWriter<Long, NodeReferences> avlTreeWriter;
 
-    public PathIndexBuilder(final RBTreeWriter<Long, NodeReferences> avlTreeWriter,
-            final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
+    /**
+     * Collects and sorts the index entries, which are bulk loaded into the index afterwards.
+     */
+    private final IndexEntrySorter<Long> sorter;
+
+    /**
+     * Hands the index entries to the sorter, either on the traversing thread or on a separate thread.
+     */
+    private final IndexEntryCollector<Entry> collector;
+
+    /**
+     * An index entry.
+     */
+    private record Entry(long pathNodeKey, long nodeKey) {
+    }
+
+    public PathIndexBuilder(final IndexWriter<Long, NodeReferences> avlTreeWriter,
+            final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final IndexEntrySorter<Long> sorter) {
         this.pathSummaryReader = pathSummaryReader;
         this.paths = paths;
         this.avlTreeWriter = avlTreeWriter;
+        this.sorter = sorter;
+        this.collector = new IndexEntryCollector<>(entry -> this.sorter.add(entry.pathNodeKey(), entry.nodeKey()));
     }
 
     public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
         try {
             final long PCR = pathNodeKey;
             if (pathSummaryReader.getPCRsForPaths(paths, true).contains(PCR) || paths.isEmpty()) {
-                final Optional<NodeReferences> textReferences = avlTreeWriter.get(PCR, SearchMode.EQUAL);
-                if (textReferences.isPresent()) {
-                    setNodeReferences(node, textReferences.get(), PCR);
-                } else {
-                    setNodeReferences(node, new NodeReferences(), PCR);
-                }
+                collector.add(new Entry(PCR, node.getNodeKey()));
             }
         } catch (final PathException | SirixIOException e) {
             LOGGER.error(e.getMessage(), e);
@@ -51,9 +64,22 @@ public final class PathIndexBuilder {
         return VisitResultType.CONTINUE;
     }
 
-    private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
-            throws SirixIOException {
-        avlTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    /**
+     * Sort the index entries on a separate thread of the given executor from now on.
+     *
+     * @param executor the executor
+     */
+    public void collectAsync(final ExecutorService executor) {
+        collector.startAsync(executor);
     }
 
+    /**
+     * Bulk loads the collected index entries into the index, once all nodes have been processed.
+     */
+    public void bulkLoad() {
+        collector.finish();
+        try (sorter) {
+            avlTreeWriter.bulkLoad(sorter.iterator(), sorter.size());
+        }
+    }
 }
@@ -3,9 +3,10 @@ package org.sirix.index.path;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.IndexType;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -23,9 +24,8 @@ public final class PathIndexBuilderFactory {
         final var pathSummary = checkNotNull(pathSummaryReader);
         final var paths = checkNotNull(indexDef.getPaths());
         assert indexDef.getType() == IndexType.PATH;
-        final var avlTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(
-                this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+        final var avlTreeWriter = IndexWriter.<Long, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef);
 
-        return new PathIndexBuilder(avlTreeWriter, pathSummary, paths);
+        return new PathIndexBuilder(avlTreeWriter, pathSummary, paths, new IndexEntrySorter<>(pageTrx));
     }
 }
@@ -9,47 +9,51 @@ import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.SearchMode;
 import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import org.sirix.index.redblacktree.RBTreeWriter;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
 public final class PathIndexListener {
 
-    private final RBTreeWriter<Long, NodeReferences> avlTreeWriter;
+    private final IndexWriter<Long, NodeReferences> avlTreeWriter;
     private final PathSummaryReader pathSummaryReader;
-    private final Set<Path<QNm>> paths;
+
+    /**
+     * The PCRs of the indexed paths, which are kept up-to-date by the path summary.
+     */
+    private final Set<Long> pcrs;
 
     public PathIndexListener(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader,
-            final RBTreeWriter<Long, NodeReferences> avlTreeWriter) {
+            final IndexWriter<Long, NodeReferences> avlTreeWriter) {
         this.avlTreeWriter = avlTreeWriter;
         this.pathSummaryReader = pathSummaryReader;
-        this.paths = paths;
+        try {
+            pcrs = pathSummaryReader.getLivePCRsForPaths(paths);
+        } catch (final PathException e) {
+            throw new SirixIOException(e);
+        }
     }
 
     public void listen(final ChangeType type, final ImmutableNode node, final long pathNodeKey) {
         pathSummaryReader.moveTo(pathNodeKey);
-        try {
-            switch (type) {
-                case INSERT:
-                    if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-                        final Optional<NodeReferences> textReferences = avlTreeWriter.get(pathNodeKey, SearchMode.EQUAL);
-                        if (textReferences.isPresent()) {
-                            setNodeReferences(node, textReferences.get(), pathNodeKey);
-                        } else {
-                            setNodeReferences(node, new NodeReferences(), pathNodeKey);
-                        }
-                    }
-                    break;
-                case DELETE:
-                    if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-                        avlTreeWriter.remove(pathNodeKey, node.getNodeKey());
+        switch (type) {
+            case INSERT:
+                if (pcrs.contains(pathNodeKey)) {
+                    final Optional<NodeReferences> textReferences = avlTreeWriter.get(pathNodeKey, SearchMode.EQUAL);
+                    if (textReferences.isPresent()) {
+                        setNodeReferences(node, new NodeReferences(textReferences.get()), pathNodeKey);
+                    } else {
+                        setNodeReferences(node, new NodeReferences(), pathNodeKey);
                     }
-                    break;
-                default:
-            }
-        } catch (final PathException e) {
-            throw new SirixIOException(e);
+                }
+                break;
+            case DELETE:
+                if (pcrs.contains(pathNodeKey)) {
+                    avlTreeWriter.remove(pathNodeKey, node.getNodeKey());
+                }
+                break;
+            default:
         }
     }
 
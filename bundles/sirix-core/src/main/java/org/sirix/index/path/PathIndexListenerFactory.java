@@ -3,8 +3,8 @@ package org.sirix.index.path;
 import org.sirix.access.DatabaseType;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.path.summary.PathSummaryReader;
-import org.sirix.index.redblacktree.RBTreeWriter;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -22,12 +22,7 @@ public final class PathIndexListenerFactory {
             final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
         final var pathSummary = checkNotNull(pathSummaryReader);
         final var paths = checkNotNull(indexDef.getPaths());
-        final var avlTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(
-                this.databaseType,
-                pageTrx,
-                indexDef.getType(),
-                indexDef.getID()
-        );
+        final var avlTreeWriter = IndexWriter.<Long, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef);
 
         return new PathIndexListener(paths, pathSummary, avlTreeWriter);
     }
@@ -2,11 +2,14 @@ package org.sirix.index.path.json;
 
 import org.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.BulkLoadingIndexBuilder;
 import org.sirix.index.path.PathIndexBuilder;
 import org.sirix.node.immutable.json.ImmutableArrayNode;
 import org.sirix.node.immutable.json.ImmutableObjectKeyNode;
 
-public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor {
+import java.util.concurrent.ExecutorService;
+
+public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor implements BulkLoadingIndexBuilder {
 
     private final PathIndexBuilder pathIndexBuilder;
 
@@ -23,4 +26,14 @@ public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor {
     public VisitResult visit(ImmutableArrayNode node) {
         return pathIndexBuilder.process(node, node.getPathNodeKey());
     }
+
+    @Override
+    public void collectAsync(final ExecutorService executor) {
+        pathIndexBuilder.collectAsync(executor);
+    }
+
+    @Override
+    public void bulkLoad() {
+        pathIndexBuilder.bulkLoad();
+    }
 }
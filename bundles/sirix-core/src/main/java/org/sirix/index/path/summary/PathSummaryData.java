@@ -0,0 +1,106 @@
+package org.sirix.index.path.summary;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.sirix.node.interfaces.StructNode;
+
+import javax.annotation.Nonnegative;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The in-memory mappings of the path summary of one revision. All mappings are filled lazily: path nodes are
+ * loaded, once they are accessed, and the {@link QNm} mapping is built on the first name based lookup.
+ *
+ * <p>The mappings of a committed revision never change, thus an instance is shared between all
+ * {@link PathSummaryReader}s of the revision (see {@link org.sirix.api.ResourceManager#openPathSummary(int)}).
+ * The path summary reader of a write transaction uses a private instance, which is kept up-to-date by the
+ * {@link PathSummaryWriter}.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PathSummaryData {
+
+    /**
+     * Mapping of a path node key to the path node/document root node.
+     */
+    private final Map<Long, StructNode> pathNodeMapping;
+
+    /**
+     * Mapping of a {@link QNm} to a set of path nodes, or {@code null}, if not yet built.
+     */
+    private volatile Map<QNm, Set<PathNode>> qnmMapping;
+
+    /**
+     * The path cache.
+     */
+    private final Map<Path<QNm>, Set<Long>> pathCache;
+
+    /**
+     * Constructor.
+     */
+    public PathSummaryData() {
+        pathNodeMapping = new ConcurrentHashMap<>();
+        pathCache = new ConcurrentHashMap<>();
+    }
+
+    StructNode getNode(final @Nonnegative long nodeKey) {
+        return pathNodeMapping.get(nodeKey);
+    }
+
+    void putNode(final @Nonnegative long nodeKey, final StructNode node) {
+        pathNodeMapping.put(nodeKey, node);
+    }
+
+    StructNode removeNode(final @Nonnegative long nodeKey) {
+        return pathNodeMapping.remove(nodeKey);
+    }
+
+    /**
+     * Get the {@link QNm} mapping, which is built once with the given function.
+     *
+     * @param builder builds the mapping by traversing the whole path summary
+     * @return the {@link QNm} mapping
+     */
+    Map<QNm, Set<PathNode>> getQNameMapping(final Function<Map<QNm, Set<PathNode>>, Map<QNm, Set<PathNode>>> builder) {
+        Map<QNm, Set<PathNode>> mapping = qnmMapping;
+        if (mapping == null) {
+            synchronized (this) {
+                mapping = qnmMapping;
+                if (mapping == null) {
+                    mapping = builder.apply(new HashMap<>());
+                    qnmMapping = mapping;
+                }
+            }
+        }
+        return mapping;
+    }
+
+    void putQNameMapping(final PathNode node, final QNm name) {
+        final Map<QNm, Set<PathNode>> mapping = qnmMapping;
+        // Otherwise the node is included once the mapping is built.
+        if (mapping != null) {
+            mapping.computeIfAbsent(name, unused -> new HashSet<>()).add(node);
+        }
+    }
+
+    void removeQNameMapping(final PathNode node, final QNm name) {
+        final Map<QNm, Set<PathNode>> mapping = qnmMapping;
+        if (mapping != null) {
+            final Set<PathNode> pathNodes = mapping.get(name);
+            if (pathNodes != null && (pathNodes.size() == 1 || pathNodes.isEmpty())) {
+                mapping.remove(name);
+            } else if (pathNodes != null) {
+                pathNodes.remove(node);
+            }
+        }
+    }
+
+    Map<Path<QNm>, Set<Long>> getPathCache() {
+        return pathCache;
+    }
+}
@@ -66,31 +66,27 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     private boolean isClosed;
 
     /**
-     * Mapping of a path node key to the path node/document root node.
+     * The lazily filled mappings of the path summary, which are shared between all readers of a committed revision.
      */
-    private final Map<Long, StructNode> pathNodeMapping;
+    private final PathSummaryData data;
 
     /**
-     * Mapping of a {@link QNm} to a set of path nodes.
+     * The sets of PCRs matching a set of paths, which are kept up-to-date when path nodes are inserted or removed.
      */
-    private final Map<QNm, Set<PathNode>> qnmMapping;
-
-    /**
-     * The path cache.
-     */
-    private final Map<Path<QNm>, Set<Long>> pathCache;
-
-    private boolean init = true;
+    private final Map<Set<Path<QNm>>, Set<Long>> livePCRs;
 
     /**
      * Private constructor.
      *
      * @param pageReadTrx page reader
      * @param resourceManager {@link ResourceManager} reference
+     * @param data the mappings of the path summary
      */
     private PathSummaryReader(final PageReadOnlyTrx pageReadTrx,
-            final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-        pathCache = new HashMap<>();
+            final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+            final PathSummaryData data) {
+        this.data = data;
+        livePCRs = new HashMap<>();
         this.pageReadTrx = pageReadTrx;
         isClosed = false;
         this.resourceManager = resourceManager;
@@ -99,24 +95,6 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
                 = this.pageReadTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), IndexType.PATH_SUMMARY, 0);
         currentNode = (StructNode) node.orElseThrow(() -> new IllegalStateException(
                 "Node couldn't be fetched from persistent storage!"));
-
-        pathNodeMapping = new HashMap<>();
-        qnmMapping = new HashMap<>();
-        boolean first = true;
-        for (final long nodeKey : new DescendantAxis(this, IncludeSelf.YES)) {
-            pathNodeMapping.put(nodeKey, this.getStructuralNode());
-
-            if (first) {
-                first = false;
-            } else {
-                final Set<PathNode> pathNodes
-                        = qnmMapping.get(this.getName()) == null ? new HashSet<>() : qnmMapping.get(this.getName());
-                pathNodes.add(this.getPathNode());
-                qnmMapping.put(this.getName(), pathNodes);
-            }
-        }
-
-        init = false;
     }
 
     @Override
@@ -135,7 +113,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     }
 
     /**
-     * Get a new path summary reader instance.
+     * Get a new path summary reader instance with its own mappings.
      *
      * @param pageReadTrx the {@link PageReadOnlyTrx} instance
      * @param resourceManager the {@link ResourceManager} instance
@@ -143,34 +121,95 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
      */
     public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
             final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-        return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager));
+        return getInstance(pageReadTrx, resourceManager, new PathSummaryData());
+    }
+
+    /**
+     * Get a new path summary reader instance, which uses the given mappings. The mappings must only be shared between
+     * readers of the same committed revision.
+     *
+     * @param pageReadTrx the {@link PageReadOnlyTrx} instance
+     * @param resourceManager the {@link ResourceManager} instance
+     * @param data the mappings of the path summary of the revision
+     * @return new path summary reader instance
+     */
+    public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
+            final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+            final PathSummaryData data) {
+        return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager), checkNotNull(data));
     }
 
     // package private, only used in writer to keep the mapping always up-to-date
     void putMapping(final @Nonnegative long pathNodeKey, final StructNode node) {
-        pathNodeMapping.put(pathNodeKey, node);
+        data.putNode(pathNodeKey, node);
     }
 
     // package private, only used in writer to keep the mapping always up-to-date
     StructNode removeMapping(final @Nonnegative long pathNodeKey) {
-        return pathNodeMapping.remove(pathNodeKey);
+        for (final Set<Long> pcrs : livePCRs.values()) {
+            pcrs.remove(pathNodeKey);
+        }
+        return data.removeNode(pathNodeKey);
+    }
+
+    // package private, only used in writer to keep the live PCR sets always up-to-date
+    void putLivePCRMapping(final PathNode node) {
+        if (livePCRs.isEmpty()) {
+            return;
+        }
+        try {
+            final Path<QNm> pathOfNode = node.getPath(this);
+            for (final Map.Entry<Set<Path<QNm>>, Set<Long>> entry : livePCRs.entrySet()) {
+                for (final Path<QNm> path : entry.getKey()) {
+                    if (matches(path, node, pathOfNode)) {
+                        entry.getValue().add(node.getNodeKey());
+                        break;
+                    }
+                }
+            }
+        } catch (final PathException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    // package private, only used in writer, if the path of existing path nodes changes (renaming a path node)
+    void refreshLivePCRs() {
+        try {
+            for (final Map.Entry<Set<Path<QNm>>, Set<Long>> entry : livePCRs.entrySet()) {
+                final Set<Long> pcrs = getPCRsForPaths(entry.getKey(), false);
+                entry.getValue().retainAll(pcrs);
+                entry.getValue().addAll(pcrs);
+            }
+        } catch (final PathException e) {
+            throw new SirixIOException(e);
+        }
     }
 
     // package private, only used in writer to keep the mapping always up-to-date
     void putQNameMapping(final PathNode node, final QNm name) {
-        final Set<PathNode> pathNodes = qnmMapping.get(name) == null ? new HashSet<>() : qnmMapping.get(name);
-        pathNodes.add(node);
-        qnmMapping.put(name, pathNodes);
+        data.putQNameMapping(node, name);
     }
 
     // package private, only used in writer to keep the mapping always up-to-date
     void removeQNameMapping(final @Nonnegative PathNode node, final QNm name) {
-        final Set<PathNode> pathNodes = qnmMapping.get(name) == null ? new HashSet<>() : qnmMapping.get(name);
-        if (pathNodes.size() == 1) {
-            qnmMapping.remove(name);
-        } else {
-            pathNodes.remove(node);
-        }
+        data.removeQNameMapping(node, name);
+    }
+
+    /**
+     * Get the mapping of a {@link QNm} to a set of path nodes, which is built on first access.
+     *
+     * @return the mapping
+     */
+    private Map<QNm, Set<PathNode>> getQNameMapping() {
+        return data.getQNameMapping(mapping -> {
+            final long nodeKey = getNodeKey();
+            moveToDocumentRoot();
+            for (@SuppressWarnings("unused") final long key : new DescendantAxis(this)) {
+                mapping.computeIfAbsent(getName(), unused -> new HashSet<>()).add(getPathNode());
+            }
+            moveTo(nodeKey);
+            return mapping;
+        });
     }
 
     /**
@@ -185,7 +224,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
      */
     public BitSet matchDescendants(final QNm name, final @Nonnegative long pathNodeKey, final IncludeSelf includeSelf) {
         assertNotClosed();
-        final Set<PathNode> set = qnmMapping.get(name);
+        final Set<PathNode> set = getQNameMapping().get(name);
         if (set == null) {
             return new BitSet(0);
         }
@@ -207,7 +246,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
      */
     public BitSet match(final QNm name, final @Nonnegative int minLevel) {
         assertNotClosed();
-        final Set<PathNode> set = qnmMapping.get(name);
+        final Set<PathNode> set = getQNameMapping().get(name);
         if (set == null) {
             return new BitSet(0);
         }
@@ -229,7 +268,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
      */
     public BitSet match(final QNm name, final @Nonnegative int minLevel, NodeKind nodeKind) {
         assertNotClosed();
-        final Set<PathNode> set = qnmMapping.get(name);
+        final Set<PathNode> set = getQNameMapping().get(name);
         if (set == null) {
             return new BitSet(0);
         }
@@ -252,7 +291,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
      */
     public Optional<PathNode> matchLevel(final QNm name, final @Nonnegative int level, NodeKind nodeKind) {
         assertNotClosed();
-        final Set<PathNode> set = qnmMapping.get(name);
+        final Set<PathNode> set = getQNameMapping().get(name);
         if (set == null) {
             return Optional.empty();
         }
@@ -284,6 +323,37 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
         return pcrs;
     }
 
+    /**
+     * Get a set of PCRs matching the specified set of paths. Other than {@link #getPCRsForPaths(Collection, boolean)}
+     * the set is computed only once and is kept up-to-date, whenever a path node is inserted or removed through the
+     * {@link PathSummaryWriter}. Thus, it is suitable to check in constant time, if a changed node belongs to one of
+     * the paths.
+     *
+     * @param paths the paths to lookup
+     * @return an unmodifiable view of the PCRs matching the specified set of paths
+     * @throws PathException if a path can't be matched
+     */
+    public Set<Long> getLivePCRsForPaths(final Set<Path<QNm>> paths) throws PathException {
+        assertNotClosed();
+        Set<Long> pcrs = livePCRs.get(paths);
+        if (pcrs == null) {
+            pcrs = getPCRsForPaths(paths, false);
+            livePCRs.put(Set.copyOf(paths), pcrs);
+        }
+        return Collections.unmodifiableSet(pcrs);
+    }
+
+    private static boolean matches(final Path<QNm> path, final PathNode node, final Path<QNm> pathOfNode)
+            throws PathException {
+        if (node.getLevel() < path.getLength()) {
+            return false;
+        }
+        if (path.isAttribute() ^ (node.getPathKind() == NodeKind.ATTRIBUTE)) {
+            return false;
+        }
+        return path.matches(pathOfNode);
+    }
+
     /**
      * Get the path node corresponding to the key.
      *
@@ -299,7 +369,23 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
             return null;
         }
 
-        return (PathNode) pathNodeMapping.get(pathNodeKey);
+        final StructNode node = data.getNode(pathNodeKey);
+        if (node != null) {
+            return (PathNode) node;
+        }
+
+        // Load the path node lazily.
+        try {
+            final Optional<? extends StructNode> pathNode =
+                    pageReadTrx.getRecord(pathNodeKey, IndexType.PATH_SUMMARY, 0);
+            if (pathNode.isPresent() && pathNode.get() instanceof PathNode) {
+                data.putNode(pathNodeKey, pathNode.get());
+                return (PathNode) pathNode.get();
+            }
+        } catch (final SirixIOException e) {
+            // Not found.
+        }
+        return null;
     }
 
     @Override
@@ -322,10 +408,12 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
      * @throws SirixException if anything went wrong
      */
     public Set<Long> getPCRsForPath(final Path<QNm> path, final boolean useCache) throws PathException {
+        final Map<Path<QNm>, Set<Long>> pathCache = data.getPathCache();
         final Set<Long> pcrSet;
         if (useCache) {
-            if (pathCache.containsKey(path) && pathCache.get(path) != null) {
-                return pathCache.get(path);
+            final Set<Long> cachedPCRs = pathCache.get(path);
+            if (cachedPCRs != null) {
+                return cachedPCRs;
             } else {
                 pcrSet = new HashSet<>();
             }
@@ -393,13 +481,11 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     public Move<? extends PathSummaryReader> moveTo(final long nodeKey) {
         assertNotClosed();
 
-        if (!init) {
-            final PathNode node = getPathNodeForPathNodeKey(nodeKey);
+        final StructNode node = data.getNode(nodeKey);
 
-            if (node != null) {
-                currentNode = node;
-                return Move.moved(this);
-            }
+        if (node != null) {
+            currentNode = node;
+            return Move.moved(this);
         }
 
         // Remember old node and fetch new one.
@@ -414,6 +500,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
 
         if (newNode.isPresent()) {
             currentNode = newNode.get();
+            data.putNode(nodeKey, currentNode);
             return Move.moved(this);
         } else {
             currentNode = oldNode;
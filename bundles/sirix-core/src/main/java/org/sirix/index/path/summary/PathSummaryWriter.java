@@ -200,6 +200,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
         adaptForInsert(node);
         pathSummaryReader.moveTo(node.getNodeKey());
         pathSummaryReader.putQNameMapping(node, name);
+        pathSummaryReader.putLivePCRMapping(node);
 
         return this;
     }
@@ -286,6 +287,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
                     pathNode.setPrefixKey(prefixKey);
                     pathNode.setLocalNameKey(localNameKey);
                     pathNode.setURIKey(uriKey);
+                    pathSummaryReader.refreshLivePCRs();
                 }
             }
         } else {
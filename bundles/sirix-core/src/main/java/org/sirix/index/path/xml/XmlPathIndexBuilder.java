@@ -2,11 +2,14 @@ package org.sirix.index.path.xml;
 
 import org.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
 import org.sirix.api.visitor.VisitResult;
+import org.sirix.index.BulkLoadingIndexBuilder;
 import org.sirix.index.path.PathIndexBuilder;
 import org.sirix.node.immutable.xml.ImmutableAttributeNode;
 import org.sirix.node.immutable.xml.ImmutableElement;
 
-public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor {
+import java.util.concurrent.ExecutorService;
+
+public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor implements BulkLoadingIndexBuilder {
 
     private final PathIndexBuilder mPathIndexBuilder;
 
@@ -24,4 +27,14 @@ public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor {
         return mPathIndexBuilder.process(node, node.getPathNodeKey());
     }
 
+    @Override
+    public void collectAsync(final ExecutorService executor) {
+        mPathIndexBuilder.collectAsync(executor);
+    }
+
+    @Override
+    public void bulkLoad() {
+        mPathIndexBuilder.bulkLoad();
+    }
+
 }
@@ -7,6 +7,7 @@ import org.sirix.api.PageTrx;
 import org.sirix.cache.PageContainer;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
+import org.sirix.index.IndexWriter;
 import org.sirix.index.SearchMode;
 import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
 import org.sirix.index.redblacktree.interfaces.References;
@@ -19,10 +20,13 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 /**
  * Simple RBTreeWriter (balanced binary search-tree -- based on BaseX(.org)
@@ -33,7 +37,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * @author Johannes Lichtenberger, University of Konstanz
  */
 public final class RBTreeWriter<K extends Comparable<? super K>, V extends References>
-        extends AbstractForwardingNodeCursor {
+        extends AbstractForwardingNodeCursor implements IndexWriter<K, V> {
 
     /**
      * Logger.
@@ -124,6 +128,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
      * @return indexed node key references
      * @throws SirixIOException if an I/O error occurs
      */
+    @Override
     public V index(final K key, final V value, final MoveCursor move) {
         if (move == MoveCursor.TO_DOCUMENT_ROOT) {
             moveToDocumentRoot();
@@ -161,7 +166,8 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
         while (true) {
             final int c = key.compareTo(node.getKey());
             if (c == 0) {
-                if (!value.equals(node.getValue())) {
+                // The value might have been modified in place, thus it's also stored, if it's the same instance.
+                if (value == node.getValue() || !value.equals(node.getValue())) {
                     final RBNode<K, V> RBNode
                             = pageTrx.prepareRecordForModification(node.getNodeKey(), rbTreeReader.indexType, rbTreeReader.index);
                     RBNode.setValue(value);
@@ -202,6 +208,71 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
         }
     }
 
+    /**
+     * Bulk loads the sorted entries into the empty tree. A balanced tree is built bottom-up, whereas the records are
+     * created in key order (in-order), such that the node keys of the records are known in advance and no record
+     * has to be modified afterwards. The nodes on the deepest level are red, if it isn't completely filled, all
+     * other nodes are black.
+     *
+     * @param entries the entries with distinct keys in ascending key order
+     * @param size the number of entries
+     */
+    @Override
+    public void bulkLoad(final Iterator<Map.Entry<K, V>> entries, final @Nonnegative long size) {
+        checkNotNull(entries);
+        checkArgument(size >= 0, "size must be >= 0!");
+        moveToDocumentRoot();
+        checkState(((StructNode) getNode()).getFirstChildKey() == Fixed.NULL_NODE_KEY.getStandardProperty(),
+                "The index must be empty.");
+
+        if (size == 0) {
+            return;
+        }
+
+        final long firstNodeKey = getNewNodeKey(pageTrx.getActualRevisionRootPage());
+        final boolean isPerfect = Long.bitCount(size + 1) == 1;
+        final int redLevel = isPerfect ? -1 : Long.SIZE - 1 - Long.numberOfLeadingZeros(size);
+        final long rootKey = bulkLoad(entries,
+                0,
+                size - 1,
+                Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                firstNodeKey,
+                0,
+                redLevel);
+
+        final StructNode document = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                rbTreeReader.indexType,
+                rbTreeReader.index);
+        document.setFirstChildKey(rootKey);
+        document.incrementChildCount();
+        document.setDescendantCount(size);
+        moveToDocumentRoot();
+    }
+
+    private long bulkLoad(final Iterator<Map.Entry<K, V>> entries, final long from, final long to,
+            final long parentKey, final long firstNodeKey, final int level, final int redLevel) {
+        if (from > to) {
+            return Fixed.NULL_NODE_KEY.getStandardProperty();
+        }
+
+        final long mid = (from + to) >>> 1;
+        final long nodeKey = firstNodeKey + mid;
+        final long leftChildKey = bulkLoad(entries, from, mid - 1, nodeKey, firstNodeKey, level + 1, redLevel);
+
+        final Map.Entry<K, V> entry = entries.next();
+        assert getNewNodeKey(pageTrx.getActualRevisionRootPage()) == nodeKey;
+        final RBNode<K, V> node = pageTrx.createRecord(nodeKey,
+                new RBNode<>(entry.getKey(),
+                        entry.getValue(),
+                        new NodeDelegate(nodeKey, parentKey, null, null, 0, null)),
+                rbTreeReader.indexType,
+                rbTreeReader.index);
+        node.setLeftChildKey(leftChildKey);
+        node.setChanged(level == redLevel);
+        node.setRightChildKey(bulkLoad(entries, mid + 1, to, nodeKey, firstNodeKey, level + 1, redLevel));
+        return nodeKey;
+    }
+
     /**
      * Get the new maximum node key.
      *
@@ -233,6 +304,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
      * @param nodeKey the nodeKey to remove from the value
      * @throws SirixIOException if an I/O error occured
      */
+    @Override
     public boolean remove(final K key, final @Nonnegative long nodeKey) {
         checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
         final Optional<V> searchedValue = rbTreeReader.get(checkNotNull(key), SearchMode.EQUAL);
@@ -519,6 +591,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
      * @return {@link Optional} reference (with the found value, or a reference
      * which indicates that the value hasn't been found)
      */
+    @Override
     public Optional<V> get(final K key, final SearchMode mode) {
         return rbTreeReader.get(checkNotNull(key), checkNotNull(mode));
     }
@@ -1,16 +1,15 @@
 package org.sirix.index.redblacktree.keyvalue;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Set;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.sirix.index.redblacktree.interfaces.References;
 import com.google.common.base.MoreObjects;
-import com.google.common.base.Objects;
 
 /**
- * Text node-ID references.
+ * Text node-ID references, which are stored in a compressed {@link PostingList}.
  *
  * @author Johannes Lichtenberger
  *
@@ -18,15 +17,15 @@ import com.google.common.base.Objects;
 public final class NodeReferences implements References {
 
     /**
-     * A {@link Set} of node-keys.
+     * The node-keys.
      */
-    private final Set<Long> nodeKeys;
+    private final PostingList nodeKeys;
 
     /**
      * Default constructor.
      */
     public NodeReferences() {
-        nodeKeys = new HashSet<>();
+        nodeKeys = new PostingList();
     }
 
     /**
@@ -36,7 +35,28 @@ public final class NodeReferences implements References {
      */
     public NodeReferences(final Set<Long> nodeKeys) {
         assert nodeKeys != null;
-        this.nodeKeys = new HashSet<>(nodeKeys);
+        this.nodeKeys = new PostingList();
+        nodeKeys.stream().mapToLong(Long::longValue).sorted().forEach(this.nodeKeys::add);
+    }
+
+    /**
+     * Copy constructor. The copy shares the unmodified parts of the posting list with the given references.
+     *
+     * @param references the references to copy
+     */
+    public NodeReferences(final NodeReferences references) {
+        assert references != null;
+        nodeKeys = new PostingList(references.nodeKeys);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodeKeys node keys, which are used directly (not copied)
+     */
+    public NodeReferences(final PostingList nodeKeys) {
+        assert nodeKeys != null;
+        this.nodeKeys = nodeKeys;
     }
 
     @Override
@@ -44,9 +64,39 @@ public final class NodeReferences implements References {
         return nodeKeys.contains(nodeKey);
     }
 
+    /**
+     * Get an unmodifiable set view of the node keys, which iterates over the node keys in ascending order.
+     *
+     * @return set view of all keys
+     */
     @Override
     public Set<Long> getNodeKeys() {
-        return Collections.unmodifiableSet(nodeKeys);
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Long> iterator() {
+                return nodeKeys.iterator();
+            }
+
+            @Override
+            public boolean contains(final Object obj) {
+                return obj instanceof Long nodeKey && nodeKeys.contains(nodeKey);
+            }
+
+            @Override
+            public int size() {
+                return nodeKeys.size();
+            }
+        };
+    }
+
+    /**
+     * Get the posting list of the node keys.
+     *
+     * @return the posting list, which is modified in place by {@link #addNodeKey(long)} and
+     * {@link #removeNodeKey(long)}
+     */
+    public PostingList getPostingList() {
+        return nodeKeys;
     }
 
     @Override
@@ -62,7 +112,7 @@ public final class NodeReferences implements References {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(nodeKeys);
+        return nodeKeys.hashCode();
     }
 
     @Override
@@ -77,9 +127,7 @@ public final class NodeReferences implements References {
     @Override
     public String toString() {
         final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
-        for (final long nodeKey : nodeKeys) {
-            helper.add("referenced node key", nodeKey);
-        }
+        nodeKeys.forEach(nodeKey -> helper.add("referenced node key", nodeKey));
         return helper.toString();
     }
 
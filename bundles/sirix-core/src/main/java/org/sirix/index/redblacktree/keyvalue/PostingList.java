@@ -0,0 +1,513 @@
+package org.sirix.index.redblacktree.keyvalue;
+
+import javax.annotation.Nonnegative;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.sirix.node.Utils.getVarLong;
+import static org.sirix.node.Utils.putVarLong;
+
+/**
+ * A compressed, sorted set of node keys (a posting list). The node keys are stored in blocks of at most
+ * {@link #BLOCK_SIZE} keys. Each block stores its first key and the variable-length encoded deltas between the
+ * subsequent keys, thus dense node keys usually need only one byte per key.
+ *
+ * <p>Node keys are almost always appended in ascending order, which is done in place at the end of the last block.
+ * Inserting or removing a key in between only re-encodes the affected block.</p>
+ *
+ * <p>The blocks are serialized as is, thus serializing and deserializing a posting list doesn't need to decode and
+ * re-encode the keys.</p>
+ *
+ * <p>A copy shares the blocks with the copied posting list (copy-on-write). Apart from the last block, blocks are
+ * never modified in place but replaced, and the last block is only modified in place, if it has been created by the
+ * posting list itself.</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PostingList {
+
+    /**
+     * Maximum number of node keys stored in one block.
+     */
+    static final int BLOCK_SIZE = 128;
+
+    /**
+     * A block of node keys.
+     */
+    private static final class Block {
+        /**
+         * The first (smallest) node key.
+         */
+        private long first;
+
+        /**
+         * The last (largest) node key.
+         */
+        private long last;
+
+        /**
+         * The number of node keys.
+         */
+        private int size;
+
+        /**
+         * The variable-length encoded deltas of the node keys following the first node key.
+         */
+        private byte[] deltas;
+
+        /**
+         * The number of used bytes of {@link #deltas}.
+         */
+        private int length;
+
+        private Block(final long first, final long last, final int size, final byte[] deltas, final int length) {
+            this.first = first;
+            this.last = last;
+            this.size = size;
+            this.deltas = deltas;
+            this.length = length;
+        }
+
+        private Block(final Block block) {
+            this(block.first, block.last, block.size, Arrays.copyOf(block.deltas, block.length), block.length);
+        }
+
+        private static Block of(final long nodeKey) {
+            return new Block(nodeKey, nodeKey, 1, new byte[8], 0);
+        }
+
+        private static Block of(final long[] nodeKeys, final int from, final int to) {
+            final Block block = of(nodeKeys[from]);
+            for (int i = from + 1; i < to; i++) {
+                block.append(nodeKeys[i]);
+            }
+            return block;
+        }
+
+        private void append(final long nodeKey) {
+            long delta = nodeKey - last;
+            if (length + 10 > deltas.length) {
+                deltas = Arrays.copyOf(deltas, Math.max(deltas.length << 1, length + 10));
+            }
+            while ((delta & ~0x7F) != 0) {
+                deltas[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            deltas[length++] = (byte) delta;
+            last = nodeKey;
+            size++;
+        }
+
+        private long[] decode() {
+            final long[] nodeKeys = new long[size];
+            nodeKeys[0] = first;
+            long nodeKey = first;
+            int offset = 0;
+            for (int i = 1; i < size; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte singleByte;
+                do {
+                    singleByte = deltas[offset++];
+                    delta |= (singleByte & 0x7FL) << shift;
+                    shift += 7;
+                } while ((singleByte & 0x80) != 0);
+                nodeKey += delta;
+                nodeKeys[i] = nodeKey;
+            }
+            return nodeKeys;
+        }
+
+        private boolean contains(final long nodeKey) {
+            if (nodeKey == first || nodeKey == last) {
+                return true;
+            }
+            long currentNodeKey = first;
+            int offset = 0;
+            while (offset < length && currentNodeKey < nodeKey) {
+                long delta = 0;
+                int shift = 0;
+                byte singleByte;
+                do {
+                    singleByte = deltas[offset++];
+                    delta |= (singleByte & 0x7FL) << shift;
+                    shift += 7;
+                } while ((singleByte & 0x80) != 0);
+                currentNodeKey += delta;
+            }
+            return currentNodeKey == nodeKey;
+        }
+    }
+
+    /**
+     * The blocks, ordered by their node keys.
+     */
+    private Block[] blocks;
+
+    /**
+     * The number of used blocks.
+     */
+    private int blockCount;
+
+    /**
+     * The number of node keys.
+     */
+    private int size;
+
+    /**
+     * Determines if the last block has been created by this posting list, such that it might be modified in place,
+     * or if it might be shared with a copy.
+     */
+    private boolean isLastBlockOwned;
+
+    /**
+     * Constructor, creating an empty posting list.
+     */
+    public PostingList() {
+        blocks = new Block[1];
+    }
+
+    /**
+     * Copy constructor. Only the last block is copied, all other blocks are shared with the given posting list, thus
+     * copying takes time linear in the number of blocks rather than the number of node keys. Modifications of either
+     * posting list are not visible in the other one.
+     *
+     * @param postingList the posting list to copy
+     */
+    public PostingList(final PostingList postingList) {
+        blocks = Arrays.copyOf(postingList.blocks, Math.max(1, postingList.blockCount));
+        blockCount = postingList.blockCount;
+        size = postingList.size;
+        if (blockCount > 0) {
+            blocks[blockCount - 1] = new Block(blocks[blockCount - 1]);
+            isLastBlockOwned = true;
+        }
+    }
+
+    /**
+     * Get the number of node keys.
+     *
+     * @return the number of node keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if no node keys are stored.
+     *
+     * @return {@code true}, if no node keys are stored, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Add a node key.
+     *
+     * @param nodeKey the node key to add
+     * @return {@code true}, if the node key has been added, {@code false}, if it has already been stored
+     * @throws IllegalArgumentException if {@code nodeKey} &lt; {@code 0}
+     */
+    public boolean add(final @Nonnegative long nodeKey) {
+        checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+
+        if (blockCount == 0) {
+            addBlock(blockCount, Block.of(nodeKey));
+            size++;
+            return true;
+        }
+
+        Block lastBlock = blocks[blockCount - 1];
+        if (nodeKey > lastBlock.last) {
+            // Fast path: append in place.
+            if (lastBlock.size < BLOCK_SIZE) {
+                if (!isLastBlockOwned) {
+                    lastBlock = new Block(lastBlock);
+                    blocks[blockCount - 1] = lastBlock;
+                    isLastBlockOwned = true;
+                }
+                lastBlock.append(nodeKey);
+            } else {
+                addBlock(blockCount, Block.of(nodeKey));
+            }
+            size++;
+            return true;
+        }
+
+        final int blockIndex = Math.max(0, findBlock(nodeKey));
+        final Block block = blocks[blockIndex];
+        if (nodeKey >= block.first && nodeKey <= block.last && block.contains(nodeKey)) {
+            return false;
+        }
+
+        final long[] nodeKeys = block.decode();
+        final int insertionPoint = -(Arrays.binarySearch(nodeKeys, nodeKey) + 1);
+        final long[] newNodeKeys = new long[nodeKeys.length + 1];
+        System.arraycopy(nodeKeys, 0, newNodeKeys, 0, insertionPoint);
+        newNodeKeys[insertionPoint] = nodeKey;
+        System.arraycopy(nodeKeys, insertionPoint, newNodeKeys, insertionPoint + 1, nodeKeys.length - insertionPoint);
+
+        if (newNodeKeys.length > BLOCK_SIZE) {
+            final int half = newNodeKeys.length >>> 1;
+            blocks[blockIndex] = Block.of(newNodeKeys, 0, half);
+            addBlock(blockIndex + 1, Block.of(newNodeKeys, half, newNodeKeys.length));
+        } else {
+            setBlock(blockIndex, Block.of(newNodeKeys, 0, newNodeKeys.length));
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove a node key.
+     *
+     * @param nodeKey the node key to remove
+     * @return {@code true}, if the node key has been removed, {@code false}, if it isn't stored
+     */
+    public boolean remove(final long nodeKey) {
+        final int blockIndex = findBlock(nodeKey);
+        if (blockIndex < 0) {
+            return false;
+        }
+
+        final Block block = blocks[blockIndex];
+        if (nodeKey > block.last || !block.contains(nodeKey)) {
+            return false;
+        }
+
+        if (block.size == 1) {
+            System.arraycopy(blocks, blockIndex + 1, blocks, blockIndex, blockCount - blockIndex - 1);
+            blocks[--blockCount] = null;
+            if (blockIndex == blockCount) {
+                // The former last but one block might be shared.
+                isLastBlockOwned = false;
+            }
+        } else {
+            final long[] nodeKeys = block.decode();
+            final int index = Arrays.binarySearch(nodeKeys, nodeKey);
+            final long[] newNodeKeys = new long[nodeKeys.length - 1];
+            System.arraycopy(nodeKeys, 0, newNodeKeys, 0, index);
+            System.arraycopy(nodeKeys, index + 1, newNodeKeys, index, nodeKeys.length - index - 1);
+            setBlock(blockIndex, Block.of(newNodeKeys, 0, newNodeKeys.length));
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Determines if a node key is stored.
+     *
+     * @param nodeKey the node key
+     * @return {@code true}, if the node key is stored, {@code false} otherwise
+     */
+    public boolean contains(final long nodeKey) {
+        final int blockIndex = findBlock(nodeKey);
+        if (blockIndex < 0) {
+            return false;
+        }
+        final Block block = blocks[blockIndex];
+        return nodeKey <= block.last && block.contains(nodeKey);
+    }
+
+    /**
+     * Perform an action for each node key in ascending order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(final LongConsumer action) {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextLong());
+        }
+    }
+
+    /**
+     * Get all node keys in ascending order.
+     *
+     * @return the node keys
+     */
+    public long[] toArray() {
+        final long[] nodeKeys = new long[size];
+        int offset = 0;
+        for (int i = 0; i < blockCount; i++) {
+            final long[] blockNodeKeys = blocks[i].decode();
+            System.arraycopy(blockNodeKeys, 0, nodeKeys, offset, blockNodeKeys.length);
+            offset += blockNodeKeys.length;
+        }
+        return nodeKeys;
+    }
+
+    /**
+     * Get an iterator over the node keys in ascending order. The iterator doesn't support removal and must not be
+     * used after modifying the posting list.
+     *
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int blockIndex;
+
+            private int indexInBlock;
+
+            private int offset;
+
+            private long nodeKey;
+
+            @Override
+            public boolean hasNext() {
+                return blockIndex < blockCount;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Block block = blocks[blockIndex];
+                if (indexInBlock == 0) {
+                    nodeKey = block.first;
+                    offset = 0;
+                } else {
+                    long delta = 0;
+                    int shift = 0;
+                    byte singleByte;
+                    do {
+                        singleByte = block.deltas[offset++];
+                        delta |= (singleByte & 0x7FL) << shift;
+                        shift += 7;
+                    } while ((singleByte & 0x80) != 0);
+                    nodeKey += delta;
+                }
+                if (++indexInBlock == block.size) {
+                    blockIndex++;
+                    indexInBlock = 0;
+                }
+                return nodeKey;
+            }
+        };
+    }
+
+    /**
+     * Serialize the posting list.
+     *
+     * @param sink the output to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void serialize(final DataOutput sink) throws IOException {
+        putVarLong(sink, blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            final Block block = blocks[i];
+            putVarLong(sink, block.first);
+            putVarLong(sink, block.last - block.first);
+            putVarLong(sink, block.size);
+            putVarLong(sink, block.length);
+            sink.write(block.deltas, 0, block.length);
+        }
+    }
+
+    /**
+     * Deserialize a posting list.
+     *
+     * @param source the input to read from
+     * @return the posting list
+     * @throws IOException if an I/O error occurs
+     */
+    public static PostingList deserialize(final DataInput source) throws IOException {
+        final PostingList postingList = new PostingList();
+        final int blockCount = (int) getVarLong(source);
+        postingList.blocks = new Block[Math.max(1, blockCount)];
+        for (int i = 0; i < blockCount; i++) {
+            final long first = getVarLong(source);
+            final long last = first + getVarLong(source);
+            final int size = (int) getVarLong(source);
+            final int length = (int) getVarLong(source);
+            final byte[] deltas = new byte[length];
+            source.readFully(deltas);
+            postingList.blocks[i] = new Block(first, last, size, deltas, length);
+            postingList.size += size;
+        }
+        postingList.blockCount = blockCount;
+        postingList.isLastBlockOwned = true;
+        return postingList;
+    }
+
+    /**
+     * Find the block, which might contain a node key.
+     *
+     * @param nodeKey the node key
+     * @return the index of the last block, whose first node key is less than or equal to the node key, or
+     * {@code -1}, if no such block exists
+     */
+    private int findBlock(final long nodeKey) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (blocks[mid].first <= nodeKey) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private void addBlock(final int blockIndex, final Block block) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blocks.length << 1);
+        }
+        System.arraycopy(blocks, blockIndex, blocks, blockIndex + 1, blockCount - blockIndex);
+        blocks[blockIndex] = block;
+        blockCount++;
+        if (blockIndex == blockCount - 1) {
+            isLastBlockOwned = true;
+        }
+    }
+
+    private void setBlock(final int blockIndex, final Block block) {
+        blocks[blockIndex] = block;
+        if (blockIndex == blockCount - 1) {
+            isLastBlockOwned = true;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        final PrimitiveIterator.OfLong iterator = iterator();
+        while (iterator.hasNext()) {
+            hashCode = 31 * hashCode + Long.hashCode(iterator.nextLong());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PostingList other) || size != other.size) {
+            return false;
+        }
+        final PrimitiveIterator.OfLong iterator = iterator();
+        final PrimitiveIterator.OfLong otherIterator = other.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.nextLong() != otherIterator.nextLong()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,61 @@
+package org.sirix.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link InputStream} view over a {@link ByteBuffer}. Reading advances the position of the buffer.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+    /**
+     * The buffer to read from.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer the buffer to read from, the bytes between the current position and the limit are read
+     */
+    public ByteBufferInputStream(final ByteBuffer buffer) {
+        this.buffer = checkNotNull(buffer);
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        final int toRead = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, toRead);
+        return toRead;
+    }
+
+    @Override
+    public long skip(final long n) {
+        final int toSkip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + toSkip);
+        return toSkip;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
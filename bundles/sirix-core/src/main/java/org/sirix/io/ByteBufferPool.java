@@ -0,0 +1,180 @@
+package org.sirix.io;
+
+import javax.annotation.Nonnegative;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A simple pool of reusable {@link ByteBuffer}s, which are used to read and decompress pages without allocating
+ * temporary arrays for each page. Buffers are bucketed by power of two capacities and only a bounded number of
+ * buffers per bucket is retained.
+ *
+ * <p>
+ * The pool is thread safe. A buffer acquired from the pool must be released exactly once and must not be used
+ * afterwards.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ByteBufferPool {
+
+    /**
+     * Shared pool of direct buffers, used by the {@link java.nio.channels.FileChannel} and memory mapped backends.
+     */
+    private static final ByteBufferPool DIRECT_POOL = new ByteBufferPool(true);
+
+    /**
+     * Shared pool of heap buffers, used by the {@link java.io.RandomAccessFile} backend.
+     */
+    private static final ByteBufferPool HEAP_POOL = new ByteBufferPool(false);
+
+    /**
+     * Smallest bucket (2^MIN_EXPONENT bytes).
+     */
+    private static final int MIN_EXPONENT = 10;
+
+    /**
+     * Largest pooled bucket (2^MAX_EXPONENT bytes). Larger buffers are allocated but not retained.
+     */
+    private static final int MAX_EXPONENT = 24;
+
+    /**
+     * Maximum number of buffers retained per bucket.
+     */
+    private static final int MAX_BUFFERS_PER_BUCKET = 32;
+
+    /**
+     * The buckets of free buffers.
+     */
+    private final Deque<ByteBuffer>[] buckets;
+
+    /**
+     * Determines if direct or heap buffers are allocated.
+     */
+    private final boolean direct;
+
+    /**
+     * Constructor.
+     *
+     * @param direct {@code true}, if direct buffers should be pooled, {@code false} for heap buffers
+     */
+    @SuppressWarnings("unchecked")
+    public ByteBufferPool(final boolean direct) {
+        this.direct = direct;
+        buckets = new Deque[MAX_EXPONENT - MIN_EXPONENT + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Get the shared pool of direct buffers.
+     *
+     * @return the shared pool of direct buffers
+     */
+    public static ByteBufferPool directPool() {
+        return DIRECT_POOL;
+    }
+
+    /**
+     * Get the shared pool of heap buffers.
+     *
+     * @return the shared pool of heap buffers
+     */
+    public static ByteBufferPool heapPool() {
+        return HEAP_POOL;
+    }
+
+    /**
+     * Determines if the pool hands out direct buffers.
+     *
+     * @return {@code true}, if the pool hands out direct buffers, {@code false} otherwise
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Acquire a buffer with at least the given capacity. The position of the returned buffer is {@code 0} and the
+     * limit is set to {@code capacity}.
+     *
+     * @param capacity the minimum capacity
+     * @return a buffer with at least the given capacity
+     */
+    public ByteBuffer acquire(final @Nonnegative int capacity) {
+        checkArgument(capacity >= 0, "capacity must be >= 0!");
+        final int exponent = exponent(capacity);
+
+        ByteBuffer buffer = null;
+        if (exponent <= MAX_EXPONENT) {
+            final Deque<ByteBuffer> bucket = buckets[exponent - MIN_EXPONENT];
+            synchronized (bucket) {
+                buffer = bucket.pollFirst();
+            }
+        }
+
+        if (buffer == null) {
+            final int bufferCapacity = exponent <= MAX_EXPONENT ? 1 << exponent : capacity;
+            buffer = direct ? ByteBuffer.allocateDirect(bufferCapacity) : ByteBuffer.allocate(bufferCapacity);
+        }
+
+        buffer.clear();
+        buffer.limit(capacity);
+        return buffer;
+    }
+
+    /**
+     * Acquire a buffer with at least {@code capacity} bytes, which contains the readable bytes of {@code buffer}
+     * (from its position up to its limit). The position of the returned buffer is set after the copied bytes and the
+     * limit is set to its capacity, such that further bytes can be appended. The given buffer is released.
+     *
+     * @param buffer the buffer to grow, must have been acquired from this pool
+     * @param capacity the minimum capacity of the new buffer
+     * @return the new buffer
+     */
+    public ByteBuffer grow(final ByteBuffer buffer, final @Nonnegative int capacity) {
+        final ByteBuffer newBuffer = acquire(capacity);
+        newBuffer.limit(newBuffer.capacity());
+        newBuffer.put(buffer);
+        release(buffer);
+        return newBuffer;
+    }
+
+    /**
+     * Release a buffer, which has been acquired from this pool.
+     *
+     * @param buffer the buffer to release
+     */
+    public void release(final ByteBuffer buffer) {
+        if (buffer == null || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+
+        final int capacity = buffer.capacity();
+        if (Integer.bitCount(capacity) != 1) {
+            return;
+        }
+
+        final int exponent = Integer.numberOfTrailingZeros(capacity);
+        if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+            return;
+        }
+
+        final Deque<ByteBuffer> bucket = buckets[exponent - MIN_EXPONENT];
+        synchronized (bucket) {
+            if (bucket.size() < MAX_BUFFERS_PER_BUCKET) {
+                bucket.offerFirst(buffer);
+            }
+        }
+    }
+
+    private static int exponent(final int capacity) {
+        if (capacity <= 1 << MIN_EXPONENT) {
+            return MIN_EXPONENT;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+    }
+}
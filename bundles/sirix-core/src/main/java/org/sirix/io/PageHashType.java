@@ -0,0 +1,86 @@
+package org.sirix.io;
+
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Ints;
+import org.sirix.exception.SirixIOException;
+import org.sirix.page.PageReference;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * The hash function, which is used to compute the checksums of the stored pages. The checksum of a page is stored in
+ * the reference to the page and is computed over the page as it's stored, that is after compression/encryption.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum PageHashType {
+    /**
+     * SHA-256, a cryptographic hash function (32 bytes).
+     */
+    SHA256 {
+        @Override
+        public byte[] hash(final ByteBuffer page) {
+            return Hashing.sha256().hashBytes(page.duplicate()).asBytes();
+        }
+    },
+
+    /**
+     * CRC32C, a checksum, which is computed with hardware support on most CPUs (4 bytes).
+     */
+    CRC32C {
+        @Override
+        public byte[] hash(final ByteBuffer page) {
+            final var checksum = new CRC32C();
+            checksum.update(page.duplicate());
+            return Ints.toByteArray((int) checksum.getValue());
+        }
+    },
+
+    /**
+     * FarmHash Fingerprint64, a fast non-cryptographic hash function (8 bytes).
+     */
+    FARMHASH64 {
+        @Override
+        public byte[] hash(final ByteBuffer page) {
+            return Hashing.farmHashFingerprint64().hashBytes(page.duplicate()).asBytes();
+        }
+    };
+
+    /**
+     * Compute the hash of the remaining bytes of a stored page. The position of the buffer isn't changed.
+     *
+     * @param page the stored page
+     * @return the hash
+     */
+    public abstract byte[] hash(ByteBuffer page);
+
+    /**
+     * Compute the hash of a stored page.
+     *
+     * @param page the stored page
+     * @return the hash
+     */
+    public byte[] hash(final byte[] page) {
+        return hash(ByteBuffer.wrap(page));
+    }
+
+    /**
+     * Verify that the hash of the remaining bytes of a stored page matches the hash stored in its reference.
+     *
+     * @param page the stored page
+     * @param reference the reference to the page, might be {@code null}, in which case nothing is verified
+     * @throws SirixIOException if the hashes don't match, that is if the page is corrupted
+     */
+    public void verify(final ByteBuffer page, final @Nullable PageReference reference) {
+        if (reference == null || reference.getHash() == null) {
+            return;
+        }
+        if (!Arrays.equals(reference.getHash(), hash(page))) {
+            throw new SirixIOException("The " + this + " hash of the page with key " + reference.getKey()
+                    + " doesn't match the stored hash, the page is corrupted.");
+        }
+    }
+}
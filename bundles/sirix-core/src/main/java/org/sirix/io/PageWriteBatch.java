@@ -0,0 +1,177 @@
+package org.sirix.io;
+
+import javax.annotation.Nonnegative;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Collects serialized pages, which are appended to a data file during a commit. Offsets are assigned eagerly when a
+ * page is appended (as parent pages have to store the offsets of their children), whereas the bytes are written with a
+ * single gathering write once the batch is flushed. Padding bytes, which are needed to align the page offsets, are
+ * added to the batch as well, such that the written region is contiguous.
+ *
+ * <p>
+ * The batch is not thread safe and is meant to be owned by a single writer.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PageWriteBatch {
+
+    /**
+     * Zero bytes used for padding (the largest alignment is 256 bytes).
+     */
+    private static final ByteBuffer PADDING = ByteBuffer.allocateDirect(256).asReadOnlyBuffer();
+
+    /**
+     * Maximum number of buffers passed to one gathering write (the usual {@code IOV_MAX}).
+     */
+    private static final int MAX_BUFFERS_PER_WRITE = 1024;
+
+    /**
+     * The pending buffers (pages and padding).
+     */
+    private final List<ByteBuffer> buffers;
+
+    /**
+     * The offsets of the pending revision root pages.
+     */
+    private final List<Long> revisionRootOffsets;
+
+    /**
+     * The offset of the first pending byte in the file.
+     */
+    private long startOffset;
+
+    /**
+     * The offset after the last pending byte in the file.
+     */
+    private long endOffset;
+
+    /**
+     * Constructor.
+     */
+    public PageWriteBatch() {
+        buffers = new ArrayList<>();
+        revisionRootOffsets = new ArrayList<>();
+    }
+
+    /**
+     * Determines if no pages are pending.
+     *
+     * @return {@code true}, if no pages are pending, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return buffers.isEmpty();
+    }
+
+    /**
+     * Get the number of pending bytes (including padding).
+     *
+     * @return the number of pending bytes
+     */
+    public long getPendingBytes() {
+        return endOffset - startOffset;
+    }
+
+    /**
+     * Append a serialized page to the batch.
+     *
+     * @param fileSize the current size of the file, which is only used if the batch is empty
+     * @param firstOffset the offset to use for the first page, if the file is empty
+     * @param page the serialized page (from its position up to its limit)
+     * @param alignment the alignment of the page offset in bytes, at most 256
+     * @param isRevisionRootPage {@code true}, if the page is a revision root page, whose offset has to be stored in the
+     *                           revisions offset file
+     * @return the offset of the page in the file
+     */
+    public long append(final @Nonnegative long fileSize, final @Nonnegative long firstOffset, final ByteBuffer page,
+            final @Nonnegative int alignment, final boolean isRevisionRootPage) {
+        checkNotNull(page);
+        checkArgument(alignment > 0 && alignment <= PADDING.capacity(), "alignment must be > 0 and <= 256!");
+
+        if (buffers.isEmpty()) {
+            startOffset = align(fileSize == 0 ? firstOffset : fileSize, alignment);
+            endOffset = startOffset;
+        }
+
+        final long offset = align(endOffset, alignment);
+        final int padding = (int) (offset - endOffset);
+        if (padding > 0) {
+            buffers.add(PADDING.duplicate().limit(padding));
+        }
+
+        buffers.add(page);
+        endOffset = offset + page.remaining();
+
+        if (isRevisionRootPage) {
+            revisionRootOffsets.add(offset);
+        }
+
+        return offset;
+    }
+
+    /**
+     * Write all pending pages with a single gathering write (split into chunks of at most {@code IOV_MAX} buffers) and
+     * append the offsets of the pending revision root pages to the revisions offset file. The channels are not forced.
+     *
+     * @param dataFileChannel the channel of the data file
+     * @param revisionsOffsetFileChannel the channel of the revisions offset file, might be {@code null}, if no revision
+     *                                   root pages have been appended
+     * @throws IOException if an I/O error occurs
+     */
+    public void flush(final FileChannel dataFileChannel, final FileChannel revisionsOffsetFileChannel)
+            throws IOException {
+        checkNotNull(dataFileChannel);
+
+        if (buffers.isEmpty()) {
+            return;
+        }
+
+        final ByteBuffer[] toWrite = buffers.toArray(new ByteBuffer[0]);
+        dataFileChannel.position(startOffset);
+        int index = 0;
+        while (index < toWrite.length) {
+            dataFileChannel.write(toWrite, index, Math.min(MAX_BUFFERS_PER_WRITE, toWrite.length - index));
+            while (index < toWrite.length && !toWrite[index].hasRemaining()) {
+                index++;
+            }
+        }
+
+        if (!revisionRootOffsets.isEmpty()) {
+            checkNotNull(revisionsOffsetFileChannel);
+            final ByteBuffer offsets = ByteBuffer.allocate(revisionRootOffsets.size() * Long.BYTES);
+            for (final long offset : revisionRootOffsets) {
+                offsets.putLong(offset);
+            }
+            offsets.flip();
+            long position = revisionsOffsetFileChannel.size();
+            while (offsets.hasRemaining()) {
+                position += revisionsOffsetFileChannel.write(offsets, position);
+            }
+        }
+
+        clear();
+    }
+
+    /**
+     * Discard all pending pages.
+     */
+    public void clear() {
+        buffers.clear();
+        revisionRootOffsets.clear();
+        startOffset = 0;
+        endOffset = 0;
+    }
+
+    private static long align(final long offset, final int alignment) {
+        final long remainder = offset % alignment;
+        return remainder == 0 ? offset : offset + alignment - remainder;
+    }
+}
@@ -0,0 +1,160 @@
+package org.sirix.io;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Pages, which have been serialized, compressed and hashed ahead of writing them. The CPU bound work is distributed
+ * over an {@link Executor}, whereas the offsets are assigned afterwards in commit order, when the pages are written.
+ *
+ * <p>
+ * Only self-contained record pages are prepared, that is pages, whose serialized form doesn't depend on the keys of
+ * other pages, which are assigned during the commit. Record pages, which reference new overflow pages, are thus
+ * skipped, as are all other kinds of pages.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PreparedPages {
+
+    /**
+     * Serializes (and compresses) a page.
+     */
+    @FunctionalInterface
+    public interface PageSerializer {
+        /**
+         * Serialize the given page.
+         *
+         * @param page the page to serialize
+         * @return the serialized page
+         * @throws IOException if an I/O error occurs
+         */
+        byte[] serialize(Page page) throws IOException;
+    }
+
+    /**
+     * A prepared page.
+     *
+     * @param serializedPage the serialized (and compressed) page
+     * @param hash the hash of the serialized page
+     */
+    public record PreparedPage(byte[] serializedPage, byte[] hash) {
+    }
+
+    /**
+     * Minimum number of pages handled by one task.
+     */
+    private static final int MIN_PAGES_PER_TASK = 16;
+
+    /**
+     * The prepared pages (compared by identity).
+     */
+    private final Map<Page, PreparedPage> pages;
+
+    /**
+     * Constructor.
+     */
+    public PreparedPages() {
+        pages = new IdentityHashMap<>();
+    }
+
+    /**
+     * Serialize, compress and hash the given pages in parallel and block until all of them have been prepared.
+     *
+     * @param toPrepare the pages to prepare
+     * @param executor the executor to distribute the work
+     * @param serializer serializes and compresses a page
+     * @param pageHashType the hash function to use
+     * @throws SirixIOException if a page couldn't be serialized
+     */
+    public void prepare(final Collection<? extends Page> toPrepare, final Executor executor,
+            final PageSerializer serializer, final PageHashType pageHashType) {
+        checkNotNull(executor);
+        checkNotNull(serializer);
+        checkNotNull(pageHashType);
+
+        final List<Page> pagesToPrepare = new ArrayList<>(toPrepare);
+        if (pagesToPrepare.isEmpty()) {
+            return;
+        }
+
+        final int numberOfTasks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4,
+                pagesToPrepare.size() / MIN_PAGES_PER_TASK));
+        final int pagesPerTask = (pagesToPrepare.size() + numberOfTasks - 1) / numberOfTasks;
+
+        final List<CompletableFuture<PreparedPage[]>> tasks = new ArrayList<>(numberOfTasks);
+        for (int from = 0; from < pagesToPrepare.size(); from += pagesPerTask) {
+            final List<Page> chunk = pagesToPrepare.subList(from, Math.min(from + pagesPerTask, pagesToPrepare.size()));
+            tasks.add(CompletableFuture.supplyAsync(() -> prepareChunk(chunk, serializer, pageHashType), executor));
+        }
+
+        try {
+            int index = 0;
+            for (final CompletableFuture<PreparedPage[]> task : tasks) {
+                for (final PreparedPage preparedPage : task.join()) {
+                    final Page page = pagesToPrepare.get(index++);
+                    if (preparedPage != null) {
+                        pages.put(page, preparedPage);
+                    }
+                }
+            }
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException ioException) {
+                throw new SirixIOException(ioException.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static PreparedPage[] prepareChunk(final List<Page> chunk, final PageSerializer serializer,
+            final PageHashType pageHashType) {
+        final PreparedPage[] preparedPages = new PreparedPage[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            final Page page = chunk.get(i);
+            if (!(page instanceof UnorderedKeyValuePage recordPage) || !recordPage.prepareCommit()) {
+                continue;
+            }
+            try {
+                final byte[] serializedPage = serializer.serialize(page);
+                preparedPages[i] = new PreparedPage(serializedPage, pageHashType.hash(serializedPage));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return preparedPages;
+    }
+
+    /**
+     * Remove the prepared form of a page.
+     *
+     * @param page the page
+     * @return the prepared page or {@code null}, if the page hasn't been prepared
+     */
+    public PreparedPage remove(final Page page) {
+        return pages.remove(page);
+    }
+
+    /**
+     * Discard all prepared pages.
+     */
+    public void clear() {
+        pages.clear();
+    }
+}
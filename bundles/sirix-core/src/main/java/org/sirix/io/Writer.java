@@ -22,8 +22,11 @@
  */
 package org.sirix.io;
 
+import java.util.Collection;
+import java.util.concurrent.Executor;
 import org.sirix.exception.SirixIOException;
 import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.Page;
 
 /**
  * Interface to provide the abstract layer related to write access of the
@@ -43,6 +46,20 @@ public interface Writer extends Reader {
      */
     Writer write(PageReference pageReference) throws SirixIOException;
 
+    /**
+     * Serialize, compress and hash the given pages in parallel ahead of writing them, such that a subsequent
+     * {@link #write(PageReference)} of a reference to one of the pages merely has to assign the offset and append the
+     * bytes. Pages, which haven't been written once the uber page is written, are discarded.
+     *
+     * @param pages the modified pages of a commit
+     * @param executor the executor to distribute the work
+     * @throws SirixIOException if a page couldn't be serialized
+     * @return this writer instance
+     */
+    default Writer prepare(Collection<? extends Page> pages, Executor executor) throws SirixIOException {
+        return this;
+    }
+
     /**
      * Write beacon for the first reference.
      *
@@ -2,9 +2,11 @@ package org.sirix.io.bytepipe;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.sirix.io.ByteBufferPool;
 
 /**
  * Pipeline to handle bytes before stored in the backend.
@@ -63,6 +65,20 @@ public final class ByteHandlePipeline implements ByteHandler {
         return pipeData;
     }
 
+    @Override
+    public ByteBuffer deserialize(final ByteBuffer toDeserialize, final ByteBufferPool pool) {
+        ByteBuffer pipeData = toDeserialize;
+        for (final ByteHandler part : byteHandlers) {
+            final ByteBuffer deserialized = part.deserialize(pipeData, pool);
+            // Intermediate buffers have been acquired from the pool and are not needed anymore.
+            if (pipeData != toDeserialize && deserialized != pipeData) {
+                pool.release(pipeData);
+            }
+            pipeData = deserialized;
+        }
+        return pipeData;
+    }
+
     /**
      * Get byte handler components.
      *
@@ -1,8 +1,13 @@
 package org.sirix.io.bytepipe;
 
+import org.sirix.io.ByteBufferInputStream;
+import org.sirix.io.ByteBufferPool;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for the decorator, representing any byte representation to be
@@ -29,6 +34,47 @@ public interface ByteHandler {
      */
     InputStream deserialize(InputStream toDeserialize);
 
+    /**
+     * Method to deserialize a byte-chunk, which is held in a buffer. The bytes
+     * between the position and the limit of {@code toDeserialize} are
+     * deserialized. Implementations either return {@code toDeserialize}
+     * itself or a buffer acquired from {@code pool}, which must be released by
+     * the caller. The returned buffer is ready to be read.
+     *
+     * <p>
+     * The default implementation falls back to the stream based
+     * {@link #deserialize(InputStream)} method, but still collects the result in
+     * pooled buffers.
+     * </p>
+     *
+     * @param toDeserialize the buffer to deserialize
+     * @param pool the pool to acquire buffers from
+     * @return the buffer holding the deserialized bytes
+     */
+    default ByteBuffer deserialize(final ByteBuffer toDeserialize, final ByteBufferPool pool) {
+        final ByteBufferPool scratchPool = ByteBufferPool.heapPool();
+        final ByteBuffer scratch = scratchPool.acquire(8192);
+        ByteBuffer buffer = pool.acquire(Math.max(toDeserialize.remaining() << 1, 1024));
+        try (final InputStream in = deserialize(new ByteBufferInputStream(toDeserialize))) {
+            final byte[] bytes = scratch.array();
+            int read;
+            while ((read = in.read(bytes, scratch.arrayOffset(), scratch.capacity())) != -1) {
+                if (buffer.remaining() < read) {
+                    buffer.flip();
+                    buffer = pool.grow(buffer, Math.max(buffer.capacity() << 1, buffer.limit() + read));
+                }
+                buffer.put(bytes, scratch.arrayOffset(), read);
+            }
+            buffer.flip();
+            return buffer;
+        } catch (final IOException e) {
+            pool.release(buffer);
+            throw new UncheckedIOException(e);
+        } finally {
+            scratchPool.release(scratch);
+        }
+    }
+
     /**
      * Method to retrieve a new instance.
      *
@@ -5,8 +5,16 @@ package org.sirix.io.bytepipe;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+import org.sirix.io.ByteBufferPool;
 
 /**
  * Decorator to zip any data.
@@ -16,6 +24,11 @@ import java.util.zip.InflaterInputStream;
  */
 public final class DeflateCompressor implements ByteHandler {
 
+    /**
+     * Reusable inflaters (native resources, which are expensive to create).
+     */
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+
     @Override
     public OutputStream serialize(final OutputStream toSerialize) {
         return new DeflaterOutputStream(toSerialize);
@@ -26,6 +39,40 @@ public final class DeflateCompressor implements ByteHandler {
         return new InflaterInputStream(toDeserialize);
     }
 
+    /**
+     * Inflates the buffer directly into a pooled buffer with a reused
+     * {@link Inflater}.
+     */
+    @Override
+    public ByteBuffer deserialize(final ByteBuffer toDeserialize, final ByteBufferPool pool) {
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+
+        ByteBuffer buffer = pool.acquire(Math.max(toDeserialize.remaining() << 2, 1024));
+        try {
+            inflater.setInput(toDeserialize);
+            while (!inflater.finished()) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    buffer = pool.grow(buffer, buffer.capacity() << 1);
+                }
+                if (inflater.inflate(buffer) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Unexpected end of deflated page.");
+                }
+            }
+            buffer.flip();
+            return buffer;
+        } catch (final DataFormatException | ZipException e) {
+            pool.release(buffer);
+            throw new UncheckedIOException(new ZipException(e.getMessage()));
+        } finally {
+            inflater.reset();
+            inflaters.offer(inflater);
+        }
+    }
+
     @Override
     public ByteHandler getInstance() {
         return new DeflateCompressor();
@@ -4,6 +4,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import org.sirix.io.ByteBufferPool;
+import org.xerial.snappy.Snappy;
+import org.xerial.snappy.SnappyCodec;
 import org.xerial.snappy.SnappyInputStream;
 import org.xerial.snappy.SnappyOutputStream;
 
@@ -29,6 +33,91 @@ public final class SnappyCompressor implements ByteHandler {
         }
     }
 
+    /**
+     * Decompresses the chunks written by a {@link SnappyOutputStream} directly
+     * from the buffer into a single pooled buffer, instead of decompressing
+     * stream by stream.
+     */
+    @Override
+    public ByteBuffer deserialize(final ByteBuffer toDeserialize, final ByteBufferPool pool) {
+        if (toDeserialize.isDirect() != pool.isDirect() || (!toDeserialize.isDirect() && !toDeserialize.hasArray())
+                || !hasStreamHeader(toDeserialize)) {
+            return ByteHandler.super.deserialize(toDeserialize, pool);
+        }
+
+        try {
+            final int start = toDeserialize.position() + SnappyCodec.headerSize();
+            final int end = toDeserialize.limit();
+
+            // First pass: compute the size of the uncompressed data.
+            int uncompressedLength = 0;
+            for (int position = start; position < end; ) {
+                final int chunkLength = toDeserialize.getInt(position);
+                if (chunkLength < 0 || position + 4 + chunkLength > end) {
+                    // Concatenated streams or a corrupt chunk: let the stream implementation handle it.
+                    return ByteHandler.super.deserialize(toDeserialize, pool);
+                }
+                uncompressedLength += uncompressedLength(toDeserialize, position + 4, chunkLength);
+                position += 4 + chunkLength;
+            }
+
+            // Second pass: decompress all chunks.
+            final ByteBuffer buffer = pool.acquire(uncompressedLength);
+            try {
+                int bufferPosition = 0;
+                for (int position = start; position < end; ) {
+                    final int chunkLength = toDeserialize.getInt(position);
+                    bufferPosition += uncompress(toDeserialize, position + 4, chunkLength, buffer, bufferPosition);
+                    position += 4 + chunkLength;
+                }
+                toDeserialize.position(end);
+                buffer.position(0);
+                buffer.limit(bufferPosition);
+                return buffer;
+            } catch (final IOException | RuntimeException e) {
+                pool.release(buffer);
+                throw e;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean hasStreamHeader(final ByteBuffer buffer) {
+        final byte[] magicHeader = SnappyCodec.MAGIC_HEADER;
+        if (buffer.remaining() < SnappyCodec.headerSize()) {
+            return false;
+        }
+        for (int i = 0, position = buffer.position(); i < magicHeader.length; i++) {
+            if (buffer.get(position + i) != magicHeader[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int uncompressedLength(final ByteBuffer buffer, final int offset, final int length)
+            throws IOException {
+        if (buffer.isDirect()) {
+            return Snappy.uncompressedLength(buffer.duplicate().limit(offset + length).position(offset));
+        }
+        return Snappy.uncompressedLength(buffer.array(), buffer.arrayOffset() + offset, length);
+    }
+
+    private static int uncompress(final ByteBuffer source, final int offset, final int length,
+            final ByteBuffer destination, final int destinationOffset) throws IOException {
+        if (source.isDirect()) {
+            destination.limit(destination.capacity());
+            destination.position(destinationOffset);
+            return Snappy.uncompress(source.duplicate().limit(offset + length).position(offset), destination);
+        }
+        return Snappy.uncompress(source.array(),
+                source.arrayOffset() + offset,
+                length,
+                destination.array(),
+                destination.arrayOffset() + destinationOffset);
+    }
+
     @Override
     public ByteHandler getInstance() {
         return new SnappyCompressor();
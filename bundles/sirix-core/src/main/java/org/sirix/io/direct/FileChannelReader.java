@@ -20,11 +20,12 @@
  */
 package org.sirix.io.direct;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import com.sun.nio.file.ExtendedOpenOption;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ByteBufferDataInput;
+import org.sirix.io.ByteBufferPool;
+import org.sirix.io.PageHashType;
 import org.sirix.io.Reader;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
@@ -32,8 +33,7 @@ import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -62,6 +62,12 @@ public final class FileChannelReader implements Reader {
      */
     final static int OTHER_BEACON = 4;
 
+    /**
+     * Number of bytes read speculatively, such that most pages are read with a
+     * single call.
+     */
+    private final static int INITIAL_READ_SIZE = 4096;
+
     /**
      * Inflater to decompress.
      */
@@ -70,7 +76,12 @@ public final class FileChannelReader implements Reader {
     /**
      * The hash function used to hash pages/page fragments.
      */
-    final HashFunction hashFunction;
+    final PageHashType pageHashType;
+
+    /**
+     * Determines if the hashes of pages are verified, when the pages are read.
+     */
+    private final boolean verifyPageHashes;
 
     /**
      * Data file channel.
@@ -92,6 +103,11 @@ public final class FileChannelReader implements Reader {
      */
     private final PagePersister pagePersiter;
 
+    /**
+     * Pool of direct buffers to read and decompress pages.
+     */
+    private final ByteBufferPool bufferPool;
+
     /**
      * Constructor.
      *
@@ -99,11 +115,15 @@ public final class FileChannelReader implements Reader {
      * @param revisionsOffsetFile the file, which holds pointers to the revision
      * root pages
      * @param handler {@link ByteHandler} instance
+     * @param pageHashType the hash function used to hash pages
+     * @param verifyPageHashes determines if the hashes of pages are verified, when the pages are read
      * @throws SirixIOException if something bad happens
      */
     public FileChannelReader(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-            final SerializationType type, final PagePersister pagePersistenter) throws IOException {
-        hashFunction = Hashing.sha256();
+            final SerializationType type, final PagePersister pagePersistenter, final PageHashType pageHashType,
+            final boolean verifyPageHashes) throws IOException {
+        this.pageHashType = checkNotNull(pageHashType);
+        this.verifyPageHashes = verifyPageHashes && type == SerializationType.DATA;
         this.dataFileChannel = FileChannel.open(dataFile, StandardOpenOption.READ);
 
         this.revisionsOffsetChannel = type == SerializationType.DATA ? FileChannel.open(revisionsOffsetFile,
@@ -111,43 +131,92 @@ public final class FileChannelReader implements Reader {
         byteHandler = checkNotNull(handler);
         this.type = checkNotNull(type);
         pagePersiter = checkNotNull(pagePersistenter);
+        bufferPool = ByteBufferPool.directPool();
     }
 
     @Override
     public Page read(final @Nonnull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
+        // Read page from file.
+        final long position = switch (type) {
+            case DATA -> reference.getKey();
+            case TRANSACTION_INTENT_LOG -> reference.getPersistentLogKey();
+        };
+
         try {
-            // Read page from file.
-            switch (type) {
-                case DATA:
-                    dataFileChannel.position(reference.getKey());
-                    break;
-                case TRANSACTION_INTENT_LOG:
-                    dataFileChannel.position(reference.getPersistentLogKey());
-                    break;
-                default:
-                // Must not happen.
+            return readPage(position, reference, pageReadTrx);
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * Read the page stored at the given position into a pooled direct buffer
+     * (usually with a single read call) and deserialize it from there.
+     *
+     * @param position the position of the page in the data file
+     * @param reference the reference to the page, if available, to verify the hash of the page
+     * @param pageReadTrx the page reading transaction
+     * @return the deserialized page
+     * @throws IOException if an I/O error occurs
+     */
+    private Page readPage(final long position, final @Nullable PageReference reference,
+            final PageReadOnlyTrx pageReadTrx) throws IOException {
+        ByteBuffer buffer = bufferPool.acquire(INITIAL_READ_SIZE);
+        try {
+            readAtLeast(buffer, position, OTHER_BEACON);
+            final int dataLength = buffer.getInt(0);
+            final int pageLength = dataLength + OTHER_BEACON;
+
+            if (pageLength > buffer.capacity()) {
+                buffer.flip();
+                buffer = bufferPool.grow(buffer, pageLength);
             }
 
-            ByteBuffer buffer = ByteBuffer.allocate(4);
-            dataFileChannel.read(buffer);
-            buffer.position(0);
-            final int dataLength = buffer.getInt();
+            buffer.limit(pageLength);
+            readAtLeast(buffer, position + buffer.position(), pageLength);
+            buffer.position(OTHER_BEACON);
 
-//      reference.setLength(dataLength + FileChannelReader.OTHER_BEACON);
-            final byte[] page = new byte[dataLength];
+            if (verifyPageHashes) {
+                pageHashType.verify(buffer, reference);
+            }
 
-            buffer = ByteBuffer.allocate(dataLength);
-            dataFileChannel.read(buffer);
-            buffer.position(0);
-            buffer.get(page);
+            return deserialize(buffer, pageReadTrx);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * Read from the data file channel into the buffer until at least
+     * {@code minPosition} bytes are available in the buffer or the buffer is
+     * full.
+     */
+    private void readAtLeast(final ByteBuffer buffer, final long filePosition, final int minPosition)
+            throws IOException {
+        long currentFilePosition = filePosition;
+        while (buffer.position() < minPosition) {
+            final int read = dataFileChannel.read(buffer, currentFilePosition);
+            if (read == -1) {
+                if (buffer.position() < minPosition) {
+                    throw new EOFException("Unexpected end of data file at position " + currentFilePosition);
+                }
+                break;
+            }
+            currentFilePosition += read;
+        }
+    }
 
-            // Perform byte operations.
-            final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+    private Page deserialize(final ByteBuffer buffer, final PageReadOnlyTrx pageReadTrx) throws IOException {
+        // Perform byte operations.
+        final ByteBuffer deserialized = byteHandler.deserialize(buffer, bufferPool);
 
+        try {
             // Return reader required to instantiate and deserialize page.
-            return pagePersiter.deserializePage(input, pageReadTrx, type);
-        } catch (final IOException e) {
-            throw new SirixIOException(e);
+            return pagePersiter.deserializePage(new ByteBufferDataInput(deserialized), pageReadTrx, type);
+        } finally {
+            if (deserialized != buffer) {
+                bufferPool.release(deserialized);
+            }
         }
     }
 
@@ -173,32 +242,19 @@ public final class FileChannelReader implements Reader {
 
     @Override
     public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
+        final ByteBuffer buffer = bufferPool.acquire(8);
         try {
-            revisionsOffsetChannel.position(revision * 8);
-
-            ByteBuffer buffer = ByteBuffer.allocate(8);
-            revisionsOffsetChannel.read(buffer);
-            buffer.position(0);
-            dataFileChannel.position(buffer.getLong());
-
-            buffer = ByteBuffer.allocate(4);
-            dataFileChannel.read(buffer);
-            buffer.position(0);
-            final int dataLength = buffer.getInt();
-            final byte[] page = new byte[dataLength];
-
-            buffer = ByteBuffer.allocate(dataLength);
-            dataFileChannel.read(buffer);
-            buffer.position(0);
-            buffer.get(page);
-
-            // Perform byte operations.
-            final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+            while (buffer.hasRemaining()) {
+                if (revisionsOffsetChannel.read(buffer, revision * 8L + buffer.position()) == -1) {
+                    throw new EOFException("Revision " + revision + " not found.");
+                }
+            }
 
-            // Return reader required to instantiate and deserialize page.
-            return (RevisionRootPage) pagePersiter.deserializePage(input, pageReadTrx, type);
+            return (RevisionRootPage) readPage(buffer.getLong(0), null, pageReadTrx);
         } catch (IOException e) {
             throw new SirixIOException(e);
+        } finally {
+            bufferPool.release(buffer);
         }
     }
 
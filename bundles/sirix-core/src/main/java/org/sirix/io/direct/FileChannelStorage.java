@@ -24,6 +24,7 @@ package org.sirix.io.direct;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.PageHashType;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
@@ -65,6 +66,16 @@ public final class FileChannelStorage implements IOStorage {
      */
     private final ByteHandlePipeline byteHandlerPipeline;
 
+    /**
+     * The hash function used to hash pages.
+     */
+    private final PageHashType pageHashType;
+
+    /**
+     * Determines if the hashes of pages are verified, when the pages are read.
+     */
+    private final boolean verifyPageHashes;
+
     /**
      * Constructor.
      *
@@ -74,6 +85,8 @@ public final class FileChannelStorage implements IOStorage {
         assert resourceConfig != null : "resourceConfig must not be null!";
         file = resourceConfig.resourcePath;
         byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+        pageHashType = resourceConfig.pageHashType;
+        verifyPageHashes = resourceConfig.verifyPageHashes;
     }
 
     @Override
@@ -86,7 +99,8 @@ public final class FileChannelStorage implements IOStorage {
 
             return new FileChannelReader(dataFilePath,
                     revisionsOffsetFilePath,
-                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+                    pageHashType, verifyPageHashes);
         } catch (final IOException e) {
             throw new SirixIOException(e);
         }
@@ -113,7 +127,8 @@ public final class FileChannelStorage implements IOStorage {
 
             return new FileChannelWriter(dataFilePath,
                     revisionsOffsetFilePath,
-                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+                    pageHashType, verifyPageHashes);
         } catch (final IOException e) {
             throw new SirixIOException(e);
         }
@@ -22,15 +22,23 @@ package org.sirix.io.direct;
 
 import com.sun.nio.file.ExtendedOpenOption;
 import org.sirix.exception.SirixIOException;
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.PageHashType;
+import org.sirix.io.PageWriteBatch;
+import org.sirix.io.PreparedPages;
+import org.sirix.io.PreparedPages.PreparedPage;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
 import org.sirix.page.interfaces.Page;
 
+import javax.annotation.Nullable;
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.concurrent.Executor;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -49,6 +57,12 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
     private static final byte PAGE_FRAGMENT_BYTE_ALIGN = 64;
 
+    /**
+     * Maximum number of buffered bytes, before the pending pages are written (to bound the memory usage of huge
+     * commits).
+     */
+    private static final long MAX_PENDING_BYTES = 64L << 20;
+
     /**
      * Random access to work on.
      */
@@ -65,6 +79,16 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
     private final PagePersister pagePersister;
 
+    /**
+     * Buffers the pages of the data file, which are written during a commit.
+     */
+    private final PageWriteBatch batch;
+
+    /**
+     * Pages, which have been serialized ahead of writing them.
+     */
+    private final PreparedPages preparedPages;
+
     /**
      * Constructor.
      *
@@ -75,9 +99,12 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
      * @param serializationType the serialization type (for the transaction log
      * or the data file)
      * @param pagePersister transforms in-memory pages into byte-arrays and back
+     * @param pageHashType the hash function used to hash pages
+     * @param verifyPageHashes determines if the hashes of pages are verified, when the pages are read
      */
     public FileChannelWriter(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-            final SerializationType serializationType, final PagePersister pagePersister) throws IOException {
+            final SerializationType serializationType, final PagePersister pagePersister,
+            final PageHashType pageHashType, final boolean verifyPageHashes) throws IOException {
         this.dataFileChannel = FileChannel.open(dataFile, StandardOpenOption.WRITE);
         type = checkNotNull(serializationType);
         this.revisionsOffsetFileChannel = type == SerializationType.DATA
@@ -85,11 +112,16 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
                         StandardOpenOption.WRITE)
                 : null;
         this.pagePersister = checkNotNull(pagePersister);
-        reader = new FileChannelReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister);
+        batch = new PageWriteBatch();
+        preparedPages = new PreparedPages();
+        reader = new FileChannelReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister,
+                pageHashType, verifyPageHashes);
     }
 
     @Override
     public Writer truncateTo(final int revision) {
+        flushBatch();
+
         UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
 
         while (uberPage.getRevisionNumber() != revision) {
@@ -108,7 +140,9 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     }
 
     /**
-     * Write page contained in page reference to storage.
+     * Write page contained in page reference to storage. Pages of the data file are buffered in a
+     * {@link PageWriteBatch} (their offsets are assigned immediately) and written together when the uber page is
+     * written, the batch gets too large or a page is read through this writer.
      *
      * @param pageReference page reference to write
      * @throws SirixIOException if errors during writing occur
@@ -121,36 +155,35 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
             final Page page = pageReference.getPage();
             assert page != null;
 
-            final byte[] serializedPage;
-
-            try (final ByteArrayOutputStream output = new ByteArrayOutputStream(); final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
-                pagePersister.serializePage(dataOutput, page, type);
-                dataOutput.flush();
-                serializedPage = output.toByteArray();
-            }
+            final PreparedPage preparedPage = preparedPages.remove(page);
+            final byte[] serializedPage = preparedPage == null ? serializePage(page) : preparedPage.serializedPage();
 
             final int writtenPageLength = serializedPage.length + FileChannelReader.OTHER_BEACON;
-            ByteBuffer buffer = ByteBuffer.allocate(writtenPageLength);
+            final ByteBuffer buffer = ByteBuffer.allocate(writtenPageLength);
             buffer.putInt(serializedPage.length);
             buffer.put(serializedPage);
             buffer.position(0);
 
-            // Getting actual offset and appending to the end of the current file.
-            final long fileSize = dataFileChannel.size();
-            long offset = fileSize == 0 ? FileChannelReader.FIRST_BEACON : fileSize;
+            final long offset;
             if (type == SerializationType.DATA) {
-                if (page instanceof RevisionRootPage) {
-                    if (offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
-                        offset += REVISION_ROOT_PAGE_BYTE_ALIGN - (offset % REVISION_ROOT_PAGE_BYTE_ALIGN);
-                    }
-                } else if (offset % PAGE_FRAGMENT_BYTE_ALIGN != 0) {
-                    offset += PAGE_FRAGMENT_BYTE_ALIGN - (offset % PAGE_FRAGMENT_BYTE_ALIGN);
+                final boolean isRevisionRootPage = page instanceof RevisionRootPage;
+                offset = batch.append(batch.isEmpty() ? dataFileChannel.size() : 0,
+                        FileChannelReader.FIRST_BEACON,
+                        buffer,
+                        isRevisionRootPage ? REVISION_ROOT_PAGE_BYTE_ALIGN : PAGE_FRAGMENT_BYTE_ALIGN,
+                        isRevisionRootPage);
+
+                if (batch.getPendingBytes() > MAX_PENDING_BYTES) {
+                    batch.flush(dataFileChannel, revisionsOffsetFileChannel);
                 }
+            } else {
+                // Getting actual offset and appending to the end of the current file.
+                final long fileSize = dataFileChannel.size();
+                offset = fileSize == 0 ? FileChannelReader.FIRST_BEACON : fileSize;
+                dataFileChannel.position(offset);
+                dataFileChannel.write(buffer);
             }
 
-            dataFileChannel.position(offset);
-            dataFileChannel.write(buffer);
-
             // Remember page coordinates.
             switch (type) {
                 case DATA:
@@ -164,13 +197,9 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
             }
 
 //      pageReference.setLength(writtenPageLength);
-            pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
-
-            if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
-                revisionsOffsetFileChannel.position(revisionsOffsetFileChannel.size());
-                buffer = ByteBuffer.allocate(8);
-                revisionsOffsetFileChannel.write(buffer);
-            }
+            pageReference.setHash(preparedPage == null
+                    ? reader.pageHashType.hash(serializedPage)
+                    : preparedPage.hash());
 
             return this;
         } catch (final IOException e) {
@@ -178,10 +207,51 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
         }
     }
 
+    private byte[] serializePage(final Page page) throws IOException {
+        try (final ByteArrayOutputStream output = new ByteArrayOutputStream(); final DataOutputStream dataOutput
+                = new DataOutputStream(reader.byteHandler.serialize(output))) {
+            pagePersister.serializePage(dataOutput, page, type);
+            dataOutput.flush();
+            return output.toByteArray();
+        }
+    }
+
+    @Override
+    public Writer prepare(final Collection<? extends Page> pages, final Executor executor) {
+        if (type == SerializationType.DATA) {
+            preparedPages.prepare(pages, executor, this::serializePage, reader.pageHashType);
+        }
+        return this;
+    }
+
+    /**
+     * Write all buffered pages.
+     */
+    private void flushBatch() {
+        try {
+            batch.flush(dataFileChannel, revisionsOffsetFileChannel);
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    @Override
+    public Page read(final PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
+        flushBatch();
+        return super.read(reference, pageReadTrx);
+    }
+
+    @Override
+    public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
+        flushBatch();
+        return super.readRevisionRootPage(revision, pageReadTrx);
+    }
+
     @Override
     public void close() {
         try {
             if (dataFileChannel != null) {
+                batch.flush(dataFileChannel, revisionsOffsetFileChannel);
                 dataFileChannel.force(true);
                 dataFileChannel.close();
             }
@@ -197,17 +267,27 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
         }
     }
 
+    /**
+     * Write the uber page and all buffered pages with a single gathering write, update the beacon and force the
+     * changes to the storage device once.
+     */
     @Override
     public Writer writeUberPageReference(final PageReference pageReference) {
         try {
             write(pageReference);
-            dataFileChannel.position(0);
+            batch.flush(dataFileChannel, revisionsOffsetFileChannel);
+            preparedPages.clear();
 
             final ByteBuffer buffer = ByteBuffer.allocate(8);
             buffer.putLong(pageReference.getKey());
             buffer.position(0);
 
-            dataFileChannel.write(buffer);
+            dataFileChannel.write(buffer, 0);
+
+            dataFileChannel.force(false);
+            if (revisionsOffsetFileChannel != null) {
+                revisionsOffsetFileChannel.force(false);
+            }
 
             return this;
         } catch (final IOException e) {
@@ -222,6 +302,9 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
     @Override
     public Writer truncate() {
+        batch.clear();
+        preparedPages.clear();
+
         try {
             dataFileChannel.truncate(0);
 
@@ -21,14 +21,16 @@
 package org.sirix.io.file;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ByteBufferDataInput;
+import org.sirix.io.ByteBufferPool;
+import org.sirix.io.PageHashType;
 import org.sirix.io.Reader;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
@@ -37,8 +39,6 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.SerializationType;
 import org.sirix.page.UberPage;
 import org.sirix.page.interfaces.Page;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on
@@ -69,7 +69,12 @@ public final class FileReader implements Reader {
     /**
      * The hash function used to hash pages/page fragments.
      */
-    final HashFunction hashFunction;
+    final PageHashType pageHashType;
+
+    /**
+     * Determines if the hashes of pages are verified, when the pages are read.
+     */
+    private final boolean verifyPageHashes;
 
     /**
      * Data file.
@@ -91,6 +96,11 @@ public final class FileReader implements Reader {
      */
     private final PagePersister pagePersiter;
 
+    /**
+     * Pool of heap buffers to read and decompress pages.
+     */
+    private final ByteBufferPool bufferPool;
+
     /**
      * Constructor.
      *
@@ -98,12 +108,15 @@ public final class FileReader implements Reader {
      * @param revisionsOffsetFile the file, which holds pointers to the revision
      * root pages
      * @param handler {@link ByteHandler} instance
+     * @param pageHashType the hash function used to hash pages
+     * @param verifyPageHashes determines if the hashes of pages are verified, when the pages are read
      * @throws SirixIOException if something bad happens
      */
     public FileReader(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
             final ByteHandler handler, final SerializationType type,
-            final PagePersister pagePersistenter) {
-        hashFunction = Hashing.sha256();
+            final PagePersister pagePersistenter, final PageHashType pageHashType, final boolean verifyPageHashes) {
+        this.pageHashType = checkNotNull(pageHashType);
+        this.verifyPageHashes = verifyPageHashes && type == SerializationType.DATA;
         this.dataFile = checkNotNull(dataFile);
 
         this.revisionsOffsetFile = type == SerializationType.DATA
@@ -112,6 +125,7 @@ public final class FileReader implements Reader {
         byteHandler = checkNotNull(handler);
         this.type = checkNotNull(type);
         pagePersiter = checkNotNull(pagePersistenter);
+        bufferPool = ByteBufferPool.heapPool();
     }
 
     @Override
@@ -130,19 +144,46 @@ public final class FileReader implements Reader {
                 // Must not happen.
             }
 
-            final int dataLength = dataFile.readInt();
+            return readPage(reference, pageReadTrx);
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    /**
+     * Read the page stored at the current file pointer into a pooled buffer
+     * and deserialize it from there.
+     *
+     * @param reference the reference to the page, if available, to verify the hash of the page
+     * @param pageReadTrx the page reading transaction
+     * @return the deserialized page
+     * @throws IOException if an I/O error occurs
+     */
+    private Page readPage(final @Nullable PageReference reference, final PageReadOnlyTrx pageReadTrx)
+            throws IOException {
+        final int dataLength = dataFile.readInt();
 //      reference.setLength(dataLength + FileReader.OTHER_BEACON);
-            final byte[] page = new byte[dataLength];
-            dataFile.read(page);
+        final ByteBuffer buffer = bufferPool.acquire(dataLength);
+        try {
+            dataFile.readFully(buffer.array(), buffer.arrayOffset(), dataLength);
 
-            // Perform byte operations.
-            final DataInputStream input
-                    = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+            if (verifyPageHashes) {
+                pageHashType.verify(buffer, reference);
+            }
 
-            // Return reader required to instantiate and deserialize page.
-            return pagePersiter.deserializePage(input, pageReadTrx, type);
-        } catch (final IOException e) {
-            throw new SirixIOException(e);
+            // Perform byte operations.
+            final ByteBuffer deserialized = byteHandler.deserialize(buffer, bufferPool);
+
+            try {
+                // Return reader required to instantiate and deserialize page.
+                return pagePersiter.deserializePage(new ByteBufferDataInput(deserialized), pageReadTrx, type);
+            } finally {
+                if (deserialized != buffer) {
+                    bufferPool.release(deserialized);
+                }
+            }
+        } finally {
+            bufferPool.release(buffer);
         }
     }
 
@@ -165,19 +206,10 @@ public final class FileReader implements Reader {
     @Override
     public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
         try {
-            revisionsOffsetFile.seek(revision * 8);
+            revisionsOffsetFile.seek(revision * 8L);
             dataFile.seek(revisionsOffsetFile.readLong());
 
-            final int dataLength = dataFile.readInt();
-            final byte[] page = new byte[dataLength];
-            dataFile.read(page);
-
-            // Perform byte operations.
-            final DataInputStream input
-                    = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
-
-            // Return reader required to instantiate and deserialize page.
-            return (RevisionRootPage) pagePersiter.deserializePage(input, pageReadTrx, type);
+            return (RevisionRootPage) readPage(null, pageReadTrx);
         } catch (IOException e) {
             throw new SirixIOException(e);
         }
@@ -24,6 +24,7 @@ package org.sirix.io.file;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.PageHashType;
 import org.sirix.io.Reader;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
@@ -66,6 +67,16 @@ public final class FileStorage implements IOStorage {
      */
     private final ByteHandlePipeline byteHandlerPipeline;
 
+    /**
+     * The hash function used to hash pages.
+     */
+    private final PageHashType pageHashType;
+
+    /**
+     * Determines if the hashes of pages are verified, when the pages are read.
+     */
+    private final boolean verifyPageHashes;
+
     /**
      * Constructor.
      *
@@ -75,6 +86,8 @@ public final class FileStorage implements IOStorage {
         assert resourceConfig != null : "resourceConfig must not be null!";
         file = resourceConfig.resourcePath;
         byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+        pageHashType = resourceConfig.pageHashType;
+        verifyPageHashes = resourceConfig.verifyPageHashes;
     }
 
     @Override
@@ -85,7 +98,8 @@ public final class FileStorage implements IOStorage {
 
             return new FileReader(new RandomAccessFile(dataFilePath.toFile(), "r"),
                     new RandomAccessFile(revisionsOffsetFilePath.toFile(), "r"),
-                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+                    pageHashType, verifyPageHashes);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -110,7 +124,8 @@ public final class FileStorage implements IOStorage {
 
             return new FileWriter(new RandomAccessFile(dataFilePath.toFile(), "rw"),
                     new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw"),
-                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+                    new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+                    pageHashType, verifyPageHashes);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
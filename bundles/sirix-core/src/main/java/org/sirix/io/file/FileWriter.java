@@ -27,8 +27,16 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.PageHashType;
+import org.sirix.io.PageWriteBatch;
+import org.sirix.io.PreparedPages;
+import org.sirix.io.PreparedPages.PreparedPage;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -52,6 +60,12 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 
     private static final byte PAGE_FRAGMENT_BYTE_ALIGN = 64;
 
+    /**
+     * Maximum number of buffered bytes, before the pending pages are written (to bound the memory usage of huge
+     * commits).
+     */
+    private static final long MAX_PENDING_BYTES = 64L << 20;
+
     /**
      * Random access to work on.
      */
@@ -68,6 +82,16 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 
     private final PagePersister pagePersister;
 
+    /**
+     * Buffers the pages of the data file, which are written during a commit.
+     */
+    private final PageWriteBatch batch;
+
+    /**
+     * Pages, which have been serialized ahead of writing them.
+     */
+    private final PreparedPages preparedPages;
+
     /**
      * Constructor.
      *
@@ -78,22 +102,29 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
      * @param serializationType the serialization type (for the transaction log
      * or the data file)
      * @param pagePersister transforms in-memory pages into byte-arrays and back
+     * @param pageHashType the hash function used to hash pages
+     * @param verifyPageHashes determines if the hashes of pages are verified, when the pages are read
      */
     public FileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
             final ByteHandler handler, final SerializationType serializationType,
-            final PagePersister pagePersister) {
+            final PagePersister pagePersister, final PageHashType pageHashType, final boolean verifyPageHashes) {
         this.dataFile = checkNotNull(dataFile);
         type = checkNotNull(serializationType);
         this.revisionsOffsetFile = type == SerializationType.DATA
                 ? checkNotNull(revisionsOffsetFile)
                 : null;
         this.pagePersister = checkNotNull(pagePersister);
+        batch = new PageWriteBatch();
+        preparedPages = new PreparedPages();
         reader
-                = new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister);
+                = new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister, pageHashType,
+                        verifyPageHashes);
     }
 
     @Override
     public Writer truncateTo(final int revision) {
+        flushBatch();
+
         UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
 
         while (uberPage.getRevisionNumber() != revision) {
@@ -113,7 +144,9 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
     }
 
     /**
-     * Write page contained in page reference to storage.
+     * Write page contained in page reference to storage. Pages of the data file are buffered in a
+     * {@link PageWriteBatch} (their offsets are assigned immediately) and written together when the uber page is
+     * written, the batch gets too large or a page is read through this writer.
      *
      * @param pageReference page reference to write
      * @throws SirixIOException if errors during writing occur
@@ -126,38 +159,35 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
             final Page page = pageReference.getPage();
             assert page != null;
 
-            final byte[] serializedPage;
-
-            try (final ByteArrayOutputStream output = new ByteArrayOutputStream(); final DataOutputStream dataOutput
-                    = new DataOutputStream(reader.byteHandler.serialize(output))) {
-                pagePersister.serializePage(dataOutput, page, type);
-                dataOutput.flush();
-                serializedPage = output.toByteArray();
-            }
+            final PreparedPage preparedPage = preparedPages.remove(page);
+            final byte[] serializedPage = preparedPage == null ? serializePage(page) : preparedPage.serializedPage();
 
-            final byte[] writtenPage = new byte[serializedPage.length + FileReader.OTHER_BEACON];
-            final ByteBuffer buffer = ByteBuffer.allocate(writtenPage.length);
+            final ByteBuffer buffer = ByteBuffer.allocate(serializedPage.length + FileReader.OTHER_BEACON);
             buffer.putInt(serializedPage.length);
             buffer.put(serializedPage);
             buffer.position(0);
-            buffer.get(writtenPage);
 
-            // Getting actual offset and appending to the end of the current file.
-            final long fileSize = dataFile.length();
-            long offset = fileSize == 0
-                    ? FileReader.FIRST_BEACON
-                    : fileSize;
+            final long offset;
             if (type == SerializationType.DATA) {
-                if (page instanceof RevisionRootPage) {
-                    if (offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
-                        offset += REVISION_ROOT_PAGE_BYTE_ALIGN - (offset % REVISION_ROOT_PAGE_BYTE_ALIGN);
-                    }
-                } else if (offset % PAGE_FRAGMENT_BYTE_ALIGN != 0) {
-                    offset += PAGE_FRAGMENT_BYTE_ALIGN - (offset % PAGE_FRAGMENT_BYTE_ALIGN);
+                final boolean isRevisionRootPage = page instanceof RevisionRootPage;
+                offset = batch.append(batch.isEmpty() ? dataFile.length() : 0,
+                        FileReader.FIRST_BEACON,
+                        buffer,
+                        isRevisionRootPage ? REVISION_ROOT_PAGE_BYTE_ALIGN : PAGE_FRAGMENT_BYTE_ALIGN,
+                        isRevisionRootPage);
+
+                if (batch.getPendingBytes() > MAX_PENDING_BYTES) {
+                    batch.flush(dataFile.getChannel(), revisionsOffsetFile.getChannel());
                 }
+            } else {
+                // Getting actual offset and appending to the end of the current file.
+                final long fileSize = dataFile.length();
+                offset = fileSize == 0
+                        ? FileReader.FIRST_BEACON
+                        : fileSize;
+                dataFile.seek(offset);
+                dataFile.write(buffer.array());
             }
-            dataFile.seek(offset);
-            dataFile.write(writtenPage);
 
             // Remember page coordinates.
             switch (type) {
@@ -172,12 +202,9 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
             }
 
 //      pageReference.setLength(writtenPage.length);
-            pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
-
-            if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
-                revisionsOffsetFile.seek(revisionsOffsetFile.length());
-                revisionsOffsetFile.writeLong(offset);
-            }
+            pageReference.setHash(preparedPage == null
+                    ? reader.pageHashType.hash(serializedPage)
+                    : preparedPage.hash());
 
             return this;
         } catch (final IOException e) {
@@ -185,10 +212,55 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
         }
     }
 
+    private byte[] serializePage(final Page page) throws IOException {
+        try (final ByteArrayOutputStream output = new ByteArrayOutputStream(); final DataOutputStream dataOutput
+                = new DataOutputStream(reader.byteHandler.serialize(output))) {
+            pagePersister.serializePage(dataOutput, page, type);
+            dataOutput.flush();
+            return output.toByteArray();
+        }
+    }
+
+    @Override
+    public Writer prepare(final Collection<? extends Page> pages, final Executor executor) {
+        if (type == SerializationType.DATA) {
+            preparedPages.prepare(pages, executor, this::serializePage, reader.pageHashType);
+        }
+        return this;
+    }
+
+    /**
+     * Write all buffered pages.
+     */
+    private void flushBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            batch.flush(dataFile.getChannel(), revisionsOffsetFile.getChannel());
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
+    @Override
+    public Page read(final PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
+        flushBatch();
+        return super.read(reference, pageReadTrx);
+    }
+
+    @Override
+    public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
+        flushBatch();
+        return super.readRevisionRootPage(revision, pageReadTrx);
+    }
+
     @Override
     public void close() {
         try {
             if (dataFile != null) {
+                flushBatch();
                 dataFile.close();
             }
             if (revisionsOffsetFile != null) {
@@ -202,13 +274,24 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
         }
     }
 
+    /**
+     * Write the uber page and all buffered pages with a single gathering write, update the beacon and force the
+     * changes to the storage device once.
+     */
     @Override
     public Writer writeUberPageReference(final PageReference pageReference) {
         try {
             write(pageReference);
+            flushBatch();
+            preparedPages.clear();
             dataFile.seek(0);
             dataFile.writeLong(pageReference.getKey());
 
+            dataFile.getChannel().force(false);
+            if (revisionsOffsetFile != null) {
+                revisionsOffsetFile.getChannel().force(false);
+            }
+
             return this;
         } catch (final IOException e) {
             throw new SirixIOException(e);
@@ -222,6 +305,9 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
 
     @Override
     public Writer truncate() {
+        batch.clear();
+        preparedPages.clear();
+
         try {
             dataFile.setLength(0);
 
@@ -20,13 +20,14 @@
  */
 package org.sirix.io.memorymapped;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import jdk.incubator.foreign.MemoryAccess;
 import jdk.incubator.foreign.MemorySegment;
 import jdk.nio.mapmode.ExtendedMapMode;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ByteBufferDataInput;
+import org.sirix.io.ByteBufferPool;
+import org.sirix.io.PageHashType;
 import org.sirix.io.Reader;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
@@ -34,9 +35,8 @@ import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 
@@ -62,7 +62,12 @@ public final class MMFileReader implements Reader {
     /**
      * The hash function used to hash pages/page fragments.
      */
-    final HashFunction hashFunction;
+    final PageHashType pageHashType;
+
+    /**
+     * Determines if the hashes of pages are verified, when the pages are read.
+     */
+    private final boolean verifyPageHashes;
 
     /**
      * The type of data to serialize.
@@ -74,6 +79,11 @@ public final class MMFileReader implements Reader {
      */
     private final PagePersister pagePersiter;
 
+    /**
+     * Pool of direct buffers to decompress pages.
+     */
+    private final ByteBufferPool bufferPool = ByteBufferPool.directPool();
+
     private MemorySegment dataFileSegment;
 
     private final MemorySegment revisionFileSegment;
@@ -85,10 +95,14 @@ public final class MMFileReader implements Reader {
      * @param revisionsOffsetFile the file, which holds pointers to the revision
      * root pages
      * @param handler {@link ByteHandler} instance
+     * @param pageHashType the hash function used to hash pages
+     * @param verifyPageHashes determines if the hashes of pages are verified, when the pages are read
      */
     public MMFileReader(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-            final SerializationType type, final PagePersister pagePersistenter) throws IOException {
-        hashFunction = Hashing.sha256();
+            final SerializationType type, final PagePersister pagePersistenter, final PageHashType pageHashType,
+            final boolean verifyPageHashes) throws IOException {
+        this.pageHashType = checkNotNull(pageHashType);
+        this.verifyPageHashes = verifyPageHashes && type == SerializationType.DATA;
         byteHandler = checkNotNull(handler);
         this.type = checkNotNull(type);
         pagePersiter = checkNotNull(pagePersistenter);
@@ -102,10 +116,14 @@ public final class MMFileReader implements Reader {
      * Constructor.
      *
      * @param handler {@link ByteHandler} instance
+     * @param pageHashType the hash function used to hash pages
+     * @param verifyPageHashes determines if the hashes of pages are verified, when the pages are read
      */
     public MMFileReader(final MemorySegment dataFileSegment, final MemorySegment revisionFileSegment,
-            final ByteHandler handler, final SerializationType type, final PagePersister pagePersistenter) {
-        hashFunction = Hashing.sha256();
+            final ByteHandler handler, final SerializationType type, final PagePersister pagePersistenter,
+            final PageHashType pageHashType, final boolean verifyPageHashes) {
+        this.pageHashType = checkNotNull(pageHashType);
+        this.verifyPageHashes = verifyPageHashes && type == SerializationType.DATA;
         byteHandler = checkNotNull(handler);
         this.type = checkNotNull(type);
         pagePersiter = checkNotNull(pagePersistenter);
@@ -138,13 +156,7 @@ public final class MMFileReader implements Reader {
             };
 
             //      reference.setLength(dataLength + MMFileReader.OTHER_BEACON);
-            final byte[] page = new byte[dataLength];
-
-            for (int i = 0; i < dataLength; i++) {
-                page[i] = MemoryAccess.getByteAtOffset(dataFileSegment, offset + (long) i);
-            }
-
-            return deserialize(pageReadTrx, page);
+            return deserialize(reference, pageReadTrx, offset, dataLength);
         } catch (final IOException e) {
             throw new SirixIOException(e);
         }
@@ -167,24 +179,32 @@ public final class MMFileReader implements Reader {
             final long dataFileOffset = MemoryAccess.getLongAtOffset(revisionFileSegment, revision * 8);
             final int dataLength = MemoryAccess.getIntAtOffset(dataFileSegment, dataFileOffset);
 
-            final byte[] page = new byte[dataLength];
-
-            for (int i = 0; i < dataLength; i++) {
-                page[i] = MemoryAccess.getByteAtOffset(dataFileSegment, dataFileOffset + 4L + (long) i);
-            }
-
-            return (RevisionRootPage) deserialize(pageReadTrx, page);
+            return (RevisionRootPage) deserialize(null, pageReadTrx, dataFileOffset + 4L, dataLength);
         } catch (final IOException e) {
             throw new SirixIOException(e);
         }
     }
 
-    private Page deserialize(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
+    private Page deserialize(@Nullable PageReference reference, PageReadOnlyTrx pageReadTrx, long offset,
+            int dataLength) throws IOException {
+        // view over the mapped page, no bytes are copied
+        final ByteBuffer page = dataFileSegment.asSlice(offset, dataLength).asByteBuffer();
+
+        if (verifyPageHashes) {
+            pageHashType.verify(page, reference);
+        }
+
         // perform byte operations
-        final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
+        final ByteBuffer deserialized = byteHandler.deserialize(page, bufferPool);
 
-        // return deserialized page
-        return pagePersiter.deserializePage(input, pageReadTrx, type);
+        try {
+            // return deserialized page
+            return pagePersiter.deserializePage(new ByteBufferDataInput(deserialized), pageReadTrx, type);
+        } finally {
+            if (deserialized != page) {
+                bufferPool.release(deserialized);
+            }
+        }
     }
 
     @Override
@@ -24,6 +24,7 @@ import jdk.incubator.foreign.MemoryAccess;
 import jdk.incubator.foreign.MemorySegment;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.PageHashType;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -86,9 +87,12 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
      * @param serializationType the serialization type (for the transaction log
      * or the data file)
      * @param pagePersister transforms in-memory pages into byte-arrays and back
+     * @param pageHashType the hash function used to hash pages
+     * @param verifyPageHashes determines if the hashes of pages are verified, when the pages are read
      */
     public MMFileWriter(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-            final SerializationType serializationType, final PagePersister pagePersister) throws IOException {
+            final SerializationType serializationType, final PagePersister pagePersister,
+            final PageHashType pageHashType, final boolean verifyPageHashes) throws IOException {
         this.dataFile = checkNotNull(dataFile);
         dataSegmentFileSize = Files.size(dataFile);
         type = checkNotNull(serializationType);
@@ -110,7 +114,9 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
                 revisionsOffsetSegment,
                 handler,
                 serializationType,
-                pagePersister);
+                pagePersister,
+                pageHashType,
+                verifyPageHashes);
     }
 
     @Override
@@ -193,7 +199,7 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
             }
 
             //      pageReference.setLength(serializedPage.length + 4);
-            pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+            pageReference.setHash(reader.pageHashType.hash(serializedPage));
 
             if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
                 MemoryAccess.setLongAtOffset(revisionsOffsetSegment, revisionsOffsetSize, offset);
@@ -26,6 +26,7 @@ package org.sirix.io.memorymapped;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.PageHashType;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
@@ -67,6 +68,16 @@ public final class MMStorage implements IOStorage {
      */
     private final ByteHandlePipeline byteHandlerPipeline;
 
+    /**
+     * The hash function used to hash pages.
+     */
+    private final PageHashType pageHashType;
+
+    /**
+     * Determines if the hashes of pages are verified, when the pages are read.
+     */
+    private final boolean verifyPageHashes;
+
     /**
      * Constructor.
      *
@@ -76,6 +87,8 @@ public final class MMStorage implements IOStorage {
         assert resourceConfig != null : "resourceConfig must not be null!";
         file = resourceConfig.resourcePath;
         byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+        pageHashType = resourceConfig.pageHashType;
+        verifyPageHashes = resourceConfig.verifyPageHashes;
     }
 
     @Override
@@ -90,7 +103,7 @@ public final class MMStorage implements IOStorage {
                     revisionsOffsetFilePath,
                     new ByteHandlePipeline(byteHandlerPipeline),
                     SerializationType.DATA,
-                    new PagePersister());
+                    new PagePersister(), pageHashType, verifyPageHashes);
         } catch (final IOException e) {
             throw new SirixIOException(e);
         }
@@ -125,7 +138,7 @@ public final class MMStorage implements IOStorage {
                     revisionsOffsetFilePath,
                     new ByteHandlePipeline(byteHandlerPipeline),
                     SerializationType.DATA,
-                    new PagePersister());
+                    new PagePersister(), pageHashType, verifyPageHashes);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -32,9 +32,11 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.index.AtomicUtil;
+import org.sirix.index.art.ARTIndexNode;
 import org.sirix.index.redblacktree.RBNode;
 import org.sirix.index.redblacktree.keyvalue.CASValue;
 import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.index.redblacktree.keyvalue.PostingList;
 import org.sirix.index.path.summary.PathNode;
 import org.sirix.node.delegates.NameNodeDelegate;
 import org.sirix.node.delegates.NodeDelegate;
@@ -618,16 +620,7 @@ public enum NodeKind implements NodePersistenter {
             final int typeSize = source.readInt();
             final byte[] type = new byte[typeSize];
             source.readFully(type, 0, typeSize);
-            final int keySize = source.readInt();
-            final Set<Long> nodeKeys = new HashSet<>(keySize);
-            if (keySize > 0) {
-                long key = getVarLong(source);
-                nodeKeys.add(key);
-                for (int i = 1; i < keySize; i++) {
-                    key += getVarLong(source);
-                    nodeKeys.add(key);
-                }
-            }
+            final PostingList nodeKeys = deserializeNodeKeys(source, true);
             final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
 
             // Node delegate.
@@ -659,22 +652,7 @@ public enum NodeKind implements NodePersistenter {
             final byte[] type = key.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
             sink.writeInt(type.length);
             sink.write(type);
-            final NodeReferences value = node.getValue();
-            final Set<Long> nodeKeys = value.getNodeKeys();
-
-            // Store in a list and sort the list.
-            final List<Long> listNodeKeys = new ArrayList<>(nodeKeys);
-            Collections.sort(listNodeKeys);
-            sink.writeInt(listNodeKeys.size());
-            if (!listNodeKeys.isEmpty()) {
-                putVarLong(sink, listNodeKeys.get(0));
-                for (int i = 0; i < listNodeKeys.size(); i++) {
-                    if (i + 1 < listNodeKeys.size()) {
-                        final long diff = listNodeKeys.get(i + 1) - listNodeKeys.get(i);
-                        putVarLong(sink, diff);
-                    }
-                }
-            }
+            serializeNodeKeys(node.getValue().getPostingList(), sink);
             serializeDelegate(node.getNodeDelegate(), sink);
             putVarLong(sink, node.getLeftChildKey());
             putVarLong(sink, node.getRightChildKey());
@@ -713,11 +691,7 @@ public enum NodeKind implements NodePersistenter {
         public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
                 final PageReadOnlyTrx pageReadTrx) throws IOException {
             final long key = getVarLong(source);
-            final int keySize = source.readInt();
-            final Set<Long> nodeKeys = new HashSet<>(keySize);
-            for (int i = 0; i < keySize; i++) {
-                nodeKeys.add(source.readLong());
-            }
+            final PostingList nodeKeys = deserializeNodeKeys(source, false);
             // Node delegate.
             final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
             final long leftChild = getVarLong(source);
@@ -736,12 +710,7 @@ public enum NodeKind implements NodePersistenter {
             @SuppressWarnings("unchecked")
             final RBNode<Long, NodeReferences> node = (RBNode<Long, NodeReferences>) record;
             putVarLong(sink, node.getKey().longValue());
-            final NodeReferences value = node.getValue();
-            final Set<Long> nodeKeys = value.getNodeKeys();
-            sink.writeInt(nodeKeys.size());
-            for (final long nodeKey : nodeKeys) {
-                sink.writeLong(nodeKey);
-            }
+            serializeNodeKeys(node.getValue().getPostingList(), sink);
             serializeDelegate(node.getNodeDelegate(), sink);
             putVarLong(sink, node.getLeftChildKey());
             putVarLong(sink, node.getRightChildKey());
@@ -776,11 +745,7 @@ public enum NodeKind implements NodePersistenter {
             final QNm name = new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
                     new String(prefixBytes, Constants.DEFAULT_ENCODING),
                     new String(localNameBytes, Constants.DEFAULT_ENCODING));
-            final int keySize = source.readInt();
-            final Set<Long> nodeKeys = new HashSet<>(keySize);
-            for (int i = 0; i < keySize; i++) {
-                nodeKeys.add(source.readLong());
-            }
+            final PostingList nodeKeys = deserializeNodeKeys(source, false);
             // Node delegate.
             final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
             final long leftChild = getVarLong(source);
@@ -807,12 +772,7 @@ public enum NodeKind implements NodePersistenter {
             final byte[] localNameBytes = node.getKey().getLocalName().getBytes();
             sink.writeInt(localNameBytes.length);
             sink.write(localNameBytes);
-            final NodeReferences value = node.getValue();
-            final Set<Long> nodeKeys = value.getNodeKeys();
-            sink.writeInt(nodeKeys.size());
-            for (final long nodeKey : nodeKeys) {
-                sink.writeLong(nodeKey);
-            }
+            serializeNodeKeys(node.getValue().getPostingList(), sink);
             serializeDelegate(node.getNodeDelegate(), sink);
             putVarLong(sink, node.getLeftChildKey());
             putVarLong(sink, node.getRightChildKey());
@@ -1652,6 +1612,54 @@ public enum NodeKind implements NodePersistenter {
                 ResourceConfiguration resourceConfig) {
         }
     },
+    /**
+     * Node kind is an inner node of an adaptive radix tree index.
+     */
+    ART_INDEX_NODE((byte) 36, ARTIndexNode.class) {
+        @Override
+        public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+                final PageReadOnlyTrx pageReadTrx) throws IOException {
+            final byte[] prefix = new byte[(int) getVarLong(source)];
+            source.readFully(prefix);
+            final long entryKey = source.readBoolean() ? getVarLong(source) : Fixed.NULL_NODE_KEY.getStandardProperty();
+            final int childCount = (int) getVarLong(source);
+            final byte[] keys = new byte[childCount];
+            source.readFully(keys);
+            final long[] children = new long[childCount];
+            for (int i = 0; i < childCount; i++) {
+                children[i] = getVarLong(source);
+            }
+            return new ARTIndexNode(recordID, prefix, entryKey, keys, children);
+        }
+
+        @Override
+        public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+                throws IOException {
+            final ARTIndexNode node = (ARTIndexNode) record;
+            putVarLong(sink, node.getPrefix().length);
+            sink.write(node.getPrefix());
+            sink.writeBoolean(node.hasEntry());
+            if (node.hasEntry()) {
+                putVarLong(sink, node.getEntryKey());
+            }
+            putVarLong(sink, node.getChildCount());
+            sink.write(node.getKeys());
+            for (final long child : node.getChildren()) {
+                putVarLong(sink, child);
+            }
+        }
+
+        @Override
+        public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+                ResourceConfiguration resourceConfig) {
+            return null;
+        }
+
+        @Override
+        public void serializeDeweyID(DataOutput sink, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+                ResourceConfiguration resourceConfig) {
+        }
+    },
     /**
      * Node type not known.
      */
@@ -1690,6 +1698,12 @@ public enum NodeKind implements NodePersistenter {
      */
     private final Class<? extends DataRecord> clazz;
 
+    /**
+     * Marks node keys of index records, which are stored as a {@link PostingList}. Records, which have been stored
+     * before, start with the non-negative number of node keys instead.
+     */
+    private static final int POSTING_LIST_FORMAT = -1;
+
     /**
      * Mapping of keys -> nodes.
      */
@@ -1912,6 +1926,48 @@ public enum NodeKind implements NodePersistenter {
         sink.write(value);
     }
 
+    private static void serializeNodeKeys(final PostingList nodeKeys, final DataOutput sink) throws IOException {
+        sink.writeInt(POSTING_LIST_FORMAT);
+        nodeKeys.serialize(sink);
+    }
+
+    /**
+     * Deserialize the node keys of an index record. Records, which have been stored before the node keys have been
+     * stored as posting lists, store the number of node keys followed by the node keys, either as variable length
+     * deltas of the sorted node keys (CAS index records) or as unsorted fixed length longs (path and name index
+     * records).
+     *
+     * @param source the source to read from
+     * @param isDeltaEncoded {@code true}, if the node keys of records in the former format are delta encoded
+     * @return the node keys
+     * @throws IOException if an I/O error occurs
+     */
+    private static PostingList deserializeNodeKeys(final DataInput source, final boolean isDeltaEncoded)
+            throws IOException {
+        final int header = source.readInt();
+        if (header == POSTING_LIST_FORMAT) {
+            return PostingList.deserialize(source);
+        }
+        final long[] nodeKeys = new long[header];
+        if (isDeltaEncoded) {
+            long nodeKey = 0;
+            for (int i = 0; i < header; i++) {
+                nodeKey += getVarLong(source);
+                nodeKeys[i] = nodeKey;
+            }
+        } else {
+            for (int i = 0; i < header; i++) {
+                nodeKeys[i] = source.readLong();
+            }
+            Arrays.sort(nodeKeys);
+        }
+        final PostingList postingList = new PostingList();
+        for (final long nodeKey : nodeKeys) {
+            postingList.add(nodeKey);
+        }
+        return postingList;
+    }
+
     private static BigInteger readHash(final DataInput source) throws IOException {
         final byte[] hashBytes = new byte[source.readByte()];
         source.readFully(hashBytes);
@@ -156,10 +156,10 @@ public final class CASPage extends AbstractForwardingPage {
      * Get the maximum node key of the specified index by its index number.
      *
      * @param indexNo the index number
-     * @return the maximum node key stored
+     * @return the maximum node key stored or {@code 0}, if the index doesn't exist
      */
     public long getMaxNodeKey(final int indexNo) {
-        return maxNodeKeys.get(indexNo);
+        return maxNodeKeys.getOrDefault(indexNo, 0L);
     }
 
     public long incrementAndGetMaxNodeKey(final int indexNo) {
@@ -136,6 +136,16 @@ public final class HashedKeyValuePage<K extends Comparable<? super K>> implement
         records.put(key, value);
     }
 
+    @Override
+    public Set<K> keySet() {
+        return records.keySet();
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return records.containsKey(key);
+    }
+
     @Override
     public Set<Map.Entry<K, PageReference>> referenceEntrySet() {
         return Collections.emptySet();
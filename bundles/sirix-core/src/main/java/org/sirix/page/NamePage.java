@@ -509,10 +509,10 @@ public final class NamePage extends AbstractForwardingPage {
      * Get the maximum node key of the specified index by its index number.
      *
      * @param indexNumber the index number
-     * @return the maximum node key stored
+     * @return the maximum node key stored or {@code 0}, if the index doesn't exist
      */
     public long getMaxNodeKey(final int indexNumber) {
-        return maxNodeKeys.get(indexNumber);
+        return maxNodeKeys.getOrDefault(indexNumber, 0L);
     }
 
     public long incrementAndGetMaxNodeKey(final int indexNumber) {
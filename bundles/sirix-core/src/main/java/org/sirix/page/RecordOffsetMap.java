@@ -0,0 +1,305 @@
+package org.sirix.page;
+
+import org.sirix.settings.Constants;
+
+import javax.annotation.Nonnegative;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map of the records of a record page, indexed by the offset of a record in the page. As the record keys of a page
+ * form a dense range of {@link Constants#NDP_NODE_COUNT} keys, the values are stored in an array instead of a hash
+ * map, which avoids boxing the keys and the overhead of an entry object per record. The array is allocated once the
+ * first value is stored and is sized to the highest offset stored so far, such that sparse pages (for instance pages
+ * of indexes or page fragments with a few records) don't allocate an array of {@link Constants#NDP_NODE_COUNT}
+ * slots. Entries are iterated in ascending key order. The accessors by offset are named differently from the
+ * {@link Map} methods, such that an {@code int} offset is never mistaken for a record key (or vice versa).
+ * <p>
+ * The map isn't thread safe. However values are published with release semantics, such that a value, which is read
+ * through {@link #getAcquire(int)} without holding the lock, which guards the modifications, is fully constructed.
+ * </p>
+ *
+ * @param <V> the type of the values
+ * @author Johannes Lichtenberger
+ */
+final class RecordOffsetMap<V> extends AbstractMap<Long, V> {
+
+    /**
+     * Used to publish values with release semantics.
+     */
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * The initial capacity of the array.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The key of the first record in the page.
+     */
+    private final long baseKey;
+
+    /**
+     * The values, indexed by the record offset, might be {@code null}, if no value has been stored yet. A grown array
+     * is published through the volatile write, such that concurrent readers see the copied values.
+     */
+    private volatile Object[] values;
+
+    /**
+     * The number of values.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param recordPageKey the key of the record page
+     */
+    RecordOffsetMap(final @Nonnegative long recordPageKey) {
+        baseKey = recordPageKey << Constants.NDP_NODE_COUNT_EXPONENT;
+    }
+
+    /**
+     * Get the offset of a record in its page.
+     *
+     * @param key the record key
+     * @return the offset of the record
+     */
+    static int offset(final long key) {
+        return (int) (key & (Constants.NDP_NODE_COUNT - 1));
+    }
+
+    /**
+     * Get the record key for an offset.
+     *
+     * @param offset the offset of the record
+     * @return the record key
+     */
+    long key(final int offset) {
+        return baseKey + offset;
+    }
+
+    private boolean isInPage(final long key) {
+        return key - offset(key) == baseKey;
+    }
+
+    /**
+     * Get the value at the given offset.
+     *
+     * @param offset the offset of the record
+     * @return the value or {@code null}, if no value is stored at the offset
+     */
+    @SuppressWarnings("unchecked")
+    V getAtOffset(final int offset) {
+        final Object[] currentValues = values;
+        return currentValues == null || offset >= currentValues.length ? null : (V) currentValues[offset];
+    }
+
+    /**
+     * Get the value at the given offset with acquire semantics. The method might be invoked concurrently to
+     * modifications. In this case it might return {@code null}, although a value is about to be stored, but it never
+     * returns a partially constructed value.
+     *
+     * @param offset the offset of the record
+     * @return the value or {@code null}, if no value is stored at the offset
+     */
+    @SuppressWarnings("unchecked")
+    V getAcquire(final int offset) {
+        final Object[] currentValues = values;
+        return currentValues == null || offset >= currentValues.length
+                ? null
+                : (V) VALUES.getAcquire(currentValues, offset);
+    }
+
+    /**
+     * Store a value at the given offset.
+     *
+     * @param offset the offset of the record
+     * @param value the value, must not be {@code null}
+     * @return the former value or {@code null}, if no value has been stored at the offset
+     */
+    V putAtOffset(final int offset, final V value) {
+        assert value != null;
+        Object[] currentValues = values;
+        if (currentValues == null || offset >= currentValues.length) {
+            currentValues = grow(currentValues, offset);
+        }
+        final V oldValue = getAtOffset(offset);
+        if (oldValue == null) {
+            size++;
+        }
+        VALUES.setRelease(currentValues, offset, value);
+        return oldValue;
+    }
+
+    private Object[] grow(final Object[] currentValues, final int offset) {
+        final int capacity = Math.min(Constants.NDP_NODE_COUNT,
+                Math.max(INITIAL_CAPACITY, Integer.highestOneBit(offset) << 1));
+        final Object[] newValues = currentValues == null
+                ? new Object[capacity]
+                : Arrays.copyOf(currentValues, capacity);
+        values = newValues;
+        return newValues;
+    }
+
+    /**
+     * Remove the value at the given offset.
+     *
+     * @param offset the offset of the record
+     * @return the removed value or {@code null}, if no value has been stored at the offset
+     */
+    V removeAtOffset(final int offset) {
+        final V oldValue = getAtOffset(offset);
+        if (oldValue != null) {
+            VALUES.setRelease(values, offset, null);
+            size--;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Get the next offset, at which a value is stored.
+     *
+     * @param fromOffset the offset to start searching from (inclusive)
+     * @return the next offset or {@code -1}, if there is none
+     */
+    int nextOffset(final int fromOffset) {
+        final Object[] currentValues = values;
+        if (currentValues == null || size == 0) {
+            return -1;
+        }
+        for (int offset = fromOffset; offset < currentValues.length; offset++) {
+            if (currentValues[offset] != null) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V get(final Object key) {
+        if (key instanceof Long recordKey && isInPage(recordKey)) {
+            return getAtOffset(offset(recordKey));
+        }
+        return null;
+    }
+
+    @Override
+    public V put(final Long key, final V value) {
+        assert isInPage(key) : "key " + key + " isn't stored in this page!";
+        return putAtOffset(offset(key), value);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (key instanceof Long recordKey && isInPage(recordKey)) {
+            return removeAtOffset(offset(recordKey));
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        values = null;
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Long, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Long, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Long, V>> {
+
+        private int nextOffset = nextOffset(0);
+
+        private int lastOffset = -1;
+
+        @Override
+        public boolean hasNext() {
+            return nextOffset >= 0;
+        }
+
+        @Override
+        public Entry<Long, V> next() {
+            if (nextOffset < 0) {
+                throw new NoSuchElementException();
+            }
+            lastOffset = nextOffset;
+            nextOffset = nextOffset(nextOffset + 1);
+            return new OffsetEntry(lastOffset);
+        }
+
+        @Override
+        public void remove() {
+            if (lastOffset < 0) {
+                throw new IllegalStateException();
+            }
+            RecordOffsetMap.this.removeAtOffset(lastOffset);
+            lastOffset = -1;
+        }
+    }
+
+    private final class OffsetEntry implements Map.Entry<Long, V> {
+
+        private final int offset;
+
+        private OffsetEntry(final int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public Long getKey() {
+            return key(offset);
+        }
+
+        @Override
+        public V getValue() {
+            return getAtOffset(offset);
+        }
+
+        @Override
+        public V setValue(final V value) {
+            return putAtOffset(offset, value);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Map.Entry<?, ?> entry && getKey().equals(entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+    }
+}
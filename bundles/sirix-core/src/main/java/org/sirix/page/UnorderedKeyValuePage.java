@@ -26,8 +26,10 @@ import com.google.common.collect.Iterators;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
+import org.sirix.api.ResourceManager;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
+import org.sirix.io.ByteBufferDataInput;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.NodePersistenter;
@@ -40,10 +42,11 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
-import static java.util.stream.Collectors.toList;
 import static org.sirix.node.Utils.getVarLong;
 import static org.sirix.node.Utils.putVarLong;
 
@@ -53,12 +56,34 @@ import static org.sirix.node.Utils.putVarLong;
  * unordered datastructure.
  * </p>
  * <p>
- * The page currently is not thread safe (might have to be for concurrent
- * write-transactions)!
+ * Records, which are read from storage, are kept in their serialized form in
+ * a slotted buffer and are only deserialized once they are requested (see
+ * {@link #getValue(PageReadOnlyTrx, Long)}). Unchanged records are written
+ * back in their serialized form.
+ * </p>
+ * <p>
+ * Pages are shared by concurrent read-only transactions through the caches,
+ * thus records are deserialized while holding the lock of the page and are
+ * published before their serialized form is removed. Pages outlive the
+ * transaction, which has created them, thus records are deserialized with the
+ * transaction, which currently reads the page, or with a transaction on the
+ * revision of the page, which is opened through the resource manager. The
+ * modification of a page currently is not thread safe (might have to be for
+ * concurrent write-transactions)!
  * </p>
  */
 public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecord> {
 
+    /**
+     * Estimated memory footprint of a deserialized record in bytes.
+     */
+    private static final int RECORD_MEMORY_ESTIMATE = 128;
+
+    /**
+     * Estimated memory footprint of a page, without its records, in bytes.
+     */
+    private static final int PAGE_MEMORY_ESTIMATE = 256;
+
     /**
      * The current revision.
      */
@@ -72,7 +97,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     /**
      * References to overflow pages.
      */
-    private final Map<Long, PageReference> references;
+    private final RecordOffsetMap<PageReference> references;
 
     /**
      * Key of record page. This is the base key of all contained nodes.
@@ -80,15 +105,15 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     private final long recordPageKey;
 
     /**
-     * Records (must be a {@link LinkedHashMap} to provide consistent iteration
+     * Records, indexed by their offset in the page (iterated in ascending key
      * order).
      */
-    private final LinkedHashMap<Long, DataRecord> records;
+    private final RecordOffsetMap<DataRecord> records;
 
     /**
      * Slots which have to be serialized.
      */
-    private final Map<Long, byte[]> slots;
+    private final RecordOffsetMap<byte[]> slots;
 
     /**
      * Dewey IDs which have to be serialized.
@@ -96,10 +121,25 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     private final Map<SirixDeweyID, Long> deweyIDs;
 
     /**
-     * Sirix {@link PageReadOnlyTrx}.
+     * Records, which have not been deserialized yet, might be {@code null}.
+     */
+    private SerializedRecords serializedRecords;
+
+    /**
+     * Guards the records and their serialized form, which are shared with cloned pages.
+     */
+    private final Object lock;
+
+    /**
+     * Sirix {@link PageReadOnlyTrx}, which has created the page (might already be closed).
      */
     private final PageReadOnlyTrx pageReadOnlyTrx;
 
+    /**
+     * The resource manager of the resource, the page belongs to.
+     */
+    private final ResourceManager<?, ?> resourceManager;
+
     /**
      * The index type.
      */
@@ -128,7 +168,10 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         records = pageToClone.records;
         slots = pageToClone.slots;
         deweyIDs = pageToClone.deweyIDs;
+        serializedRecords = pageToClone.serializedRecords;
+        lock = pageToClone.lock;
         this.pageReadOnlyTrx = pageReadOnlyTrx;
+        resourceManager = pageToClone.resourceManager;
         indexType = pageToClone.indexType;
         recordPersister = pageToClone.recordPersister;
         resourceConfig = pageToClone.resourceConfig;
@@ -149,17 +192,18 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         assert recordPageKey >= 0 : "recordPageKey must not be negative!";
         assert pageReadOnlyTrx != null : "The page reading trx must not be null!";
 
-        references = new LinkedHashMap<>();
+        references = new RecordOffsetMap<>(recordPageKey);
         this.recordPageKey = recordPageKey;
-        records = new LinkedHashMap<>();
-        slots = new LinkedHashMap<>();
+        records = new RecordOffsetMap<>(recordPageKey);
+        slots = new RecordOffsetMap<>(recordPageKey);
+        lock = new Object();
         this.pageReadOnlyTrx = pageReadOnlyTrx;
         this.indexType = indexType;
-        resourceConfig = pageReadOnlyTrx.getResourceManager().getResourceConfig();
+        resourceManager = pageReadOnlyTrx.getResourceManager();
+        resourceConfig = resourceManager.getResourceConfig();
         recordPersister = resourceConfig.recordPersister;
 
-        if (this.pageReadOnlyTrx.getResourceManager().getResourceConfig().areDeweyIDsStored
-                && recordPersister instanceof NodePersistenter) {
+        if (resourceConfig.areDeweyIDsStored && recordPersister instanceof NodePersistenter) {
             deweyIDs = new LinkedHashMap<>();
         } else {
             deweyIDs = Collections.emptyMap();
@@ -178,28 +222,34 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     protected UnorderedKeyValuePage(final DataInput in, final PageReadOnlyTrx pageReadTrx) throws IOException {
         recordPageKey = getVarLong(in);
         revision = in.readInt();
-        resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
+        resourceManager = pageReadTrx.getResourceManager();
+        resourceConfig = resourceManager.getResourceConfig();
         recordPersister = resourceConfig.recordPersister;
         this.pageReadOnlyTrx = pageReadTrx;
-        slots = new LinkedHashMap<>();
+        slots = new RecordOffsetMap<>(recordPageKey);
+        records = new RecordOffsetMap<>(recordPageKey);
+        lock = new Object();
+
+        // All records are copied into one buffer and are deserialized on demand.
+        final var serializedRecordsBuilder = new SerializedRecords.Builder(
+                in instanceof ByteBufferDataInput bufferInput ? bufferInput.remaining() : 0);
 
         if (resourceConfig.areDeweyIDsStored && recordPersister instanceof NodePersistenter persistenter) {
             deweyIDs = new LinkedHashMap<>();
             final int deweyIDSize = in.readInt();
 
-            records = new LinkedHashMap<>(deweyIDSize);
             SirixDeweyID optionalDeweyId = null;
 
             for (int index = 0; index < deweyIDSize; index++) {
                 optionalDeweyId = persistenter.deserializeDeweyID(in, optionalDeweyId, resourceConfig);
 
                 if (optionalDeweyId != null) {
-                    deserializeRecordAndPutIntoMap(in, optionalDeweyId);
+                    final long key = getVarLong(in);
+                    serializedRecordsBuilder.add(RecordOffsetMap.offset(key), in, optionalDeweyId);
                 }
             }
         } else {
             deweyIDs = Collections.emptyMap();
-            records = new LinkedHashMap<>();
         }
 
         final var entriesBitmap = SerializationType.deserializeBitSet(in);
@@ -210,48 +260,101 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         for (int index = 0; index < normalEntrySize; index++) {
             setBit = entriesBitmap.nextSetBit(setBit + 1);
             assert setBit >= 0;
-            final long key = recordPageKey * Constants.NDP_NODE_COUNT + setBit;
-            final int dataSize = in.readInt();
-            final byte[] data = new byte[dataSize];
-            in.readFully(data);
-            final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)),
-                    key,
-                    null,
-                    this.pageReadOnlyTrx);
-            records.put(key, record);
+            serializedRecordsBuilder.add(setBit, in, null);
         }
+        serializedRecords = serializedRecordsBuilder.build();
 
         final int overlongEntrySize = in.readInt();
-        references = new LinkedHashMap<>(overlongEntrySize);
+        references = new RecordOffsetMap<>(recordPageKey);
         setBit = -1;
         for (int index = 0; index < overlongEntrySize; index++) {
             setBit = overlongEntriesBitmap.nextSetBit(setBit + 1);
             assert setBit >= 0;
-            final long key = recordPageKey * Constants.NDP_NODE_COUNT + setBit;
             final PageReference reference = new PageReference();
             reference.setKey(in.readLong());
-            references.put(key, reference);
+            references.putAtOffset(setBit, reference);
         }
         assert pageReadTrx != null : "pageReadTrx must not be null!";
         indexType = IndexType.getType(in.readByte());
     }
 
-    private void deserializeRecordAndPutIntoMap(DataInput in, SirixDeweyID deweyId) {
+    /**
+     * Deserialize a record, which has been stored in its serialized form, and remove the serialized form. The record
+     * is published before its serialized form is removed. Must be invoked while holding the lock of the page.
+     *
+     * @param pageReadTrx the page read-only trx used to deserialize the record
+     * @param offset the offset of the record in the page
+     * @return the deserialized record
+     */
+    private DataRecord deserializeRecord(final PageReadOnlyTrx pageReadTrx, final int offset) {
+        final long key = records.key(offset);
         try {
-            final long key = getVarLong(in);
-            final int dataSize = in.readInt();
-            final byte[] data = new byte[dataSize];
-            in.readFully(data);
-            final DataRecord record = recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)),
+            final DataRecord record = recordPersister.deserialize(
+                    new ByteBufferDataInput(serializedRecords.getBuffer(offset)),
                     key,
-                    deweyId,
-                    pageReadOnlyTrx);
-            records.put(key, record);
+                    serializedRecords.getDeweyID(offset),
+                    pageReadTrx);
+            records.putAtOffset(offset, record);
+            removeSerializedRecord(offset);
+            return record;
         } catch (final IOException e) {
             throw new SirixIOException(e);
         }
     }
 
+    private boolean hasSerializedRecord(final int offset) {
+        return serializedRecords != null && serializedRecords.contains(offset);
+    }
+
+    private void removeSerializedRecord(final int offset) {
+        if (serializedRecords != null) {
+            serializedRecords.remove(offset);
+            if (serializedRecords.size() == 0) {
+                serializedRecords = null;
+            }
+        }
+    }
+
+    /**
+     * Deserialize all records, which are still stored in their serialized form.
+     */
+    private void deserializeRecords() {
+        synchronized (lock) {
+            final SerializedRecords toDeserialize = serializedRecords;
+            if (toDeserialize == null) {
+                return;
+            }
+            withPageReadOnlyTrx(pageReadTrx -> {
+                for (int offset = toDeserialize.nextOffset(0); offset >= 0;
+                        offset = toDeserialize.nextOffset(offset + 1)) {
+                    deserializeRecord(pageReadTrx, offset);
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Apply a function with a transaction, which is able to (de)serialize the records of the page. That is the
+     * transaction, which has created the page, as long as it's open, or otherwise a new transaction on the revision of
+     * the page (as page fragments and the pages in the shared caches outlive the transaction, which has read them).
+     *
+     * @param function the function to apply
+     * @param <R> the result type
+     * @return the result of the function
+     */
+    private <R> R withPageReadOnlyTrx(final Function<PageReadOnlyTrx, R> function) {
+        if (!pageReadOnlyTrx.isClosed()) {
+            return function.apply(pageReadOnlyTrx);
+        }
+        // The revision of a page, which has been created by a write transaction, which has been closed without
+        // committing, doesn't exist.
+        final int pageRevision = Math.min(revision, resourceManager.getMostRecentRevisionNumber());
+        try (final PageReadOnlyTrx pageReadTrx = resourceManager.beginPageReadOnlyTrx(pageRevision)) {
+            return function.apply(pageReadTrx);
+        }
+    }
+
     @Override
     public long getPageKey() {
         return recordPageKey;
@@ -260,26 +363,59 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     @Override
     public DataRecord getValue(final Long key) {
         assert key != null : "key must not be null!";
-        DataRecord record = records.get(key);
+        final DataRecord record = records.getAcquire(RecordOffsetMap.offset(key));
+        if (record != null || !containsKey(key)) {
+            return record;
+        }
+        return withPageReadOnlyTrx(pageReadTrx -> getValue(pageReadTrx, key));
+    }
+
+    /**
+     * Get the record with the specified key. If the record hasn't been deserialized yet, it's deserialized with the
+     * given transaction (as the transaction, which has read the page, might already be closed, if the page has been
+     * retrieved from a cache).
+     *
+     * @param pageReadTrx the page read-only trx used to deserialize the record, if needed
+     * @param key the key of the record
+     * @return the record with the given key, or {@code null} if not present
+     */
+    public DataRecord getValue(final PageReadOnlyTrx pageReadTrx, final Long key) {
+        assert key != null : "key must not be null!";
+        final int offset = RecordOffsetMap.offset(key);
+        final DataRecord record = records.getAcquire(offset);
+        if (record != null) {
+            return record;
+        }
+        synchronized (lock) {
+            return getOrDeserializeValue(pageReadTrx, key, offset);
+        }
+    }
+
+    private DataRecord getOrDeserializeValue(final PageReadOnlyTrx pageReadTrx, final long key, final int offset) {
+        // The record might have been deserialized concurrently.
+        DataRecord record = records.getAtOffset(offset);
         if (record == null) {
+            if (hasSerializedRecord(offset)) {
+                return deserializeRecord(pageReadTrx, offset);
+            }
+
             byte[] data;
             try {
-                final PageReference reference = references.get(key);
+                final PageReference reference = references.getAtOffset(offset);
                 if (reference != null && reference.getKey() != Constants.NULL_ID_LONG) {
-                    data = ((OverflowPage) pageReadOnlyTrx.getReader().read(reference, pageReadOnlyTrx)).getData();
+                    data = ((OverflowPage) pageReadTrx.getReader().read(reference, pageReadTrx)).getData();
                 } else {
                     return null;
                 }
             } catch (final SirixIOException e) {
                 return null;
             }
-            final InputStream in = new ByteArrayInputStream(data);
             try {
-                record = recordPersister.deserialize(new DataInputStream(in), key, null, null);
+                record = recordPersister.deserialize(new ByteBufferDataInput(ByteBuffer.wrap(data)), key, null, null);
             } catch (final IOException e) {
                 return null;
             }
-            records.put(key, record);
+            records.putAtOffset(offset, record);
         }
         return record;
     }
@@ -288,7 +424,13 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     public void setRecord(final Long key, @Nonnull final DataRecord value) {
         assert value != null : "record must not be null!";
         addedReferences = false;
-        records.put(key, value);
+        final int offset = RecordOffsetMap.offset(key);
+        synchronized (lock) {
+            // A former serialized form is stale.
+            records.putAtOffset(offset, value);
+            removeSerializedRecord(offset);
+            slots.removeAtOffset(offset);
+        }
     }
 
     @Override
@@ -296,6 +438,81 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         if (!addedReferences) {
             addReferences();
         }
+        synchronized (lock) {
+            serialize(out, slots, deweyIDs);
+        }
+    }
+
+    /**
+     * Serialize a snapshot of the page without modifying the page, such that a page, which is shared with other
+     * transactions (for instance a page, which has been evicted from a cache), might be serialized. Records, which
+     * haven't been deserialized, are written in the form they have been read from storage.
+     *
+     * @param out the output to write to
+     * @return {@code true}, if the snapshot has been written, {@code false}, if the page has records, which have to be
+     * stored in overflow pages, which have not been written yet (nothing is written in this case)
+     * @throws IOException if an I/O error occurs
+     */
+    public boolean serializeSnapshot(final DataOutput out) throws IOException {
+        final boolean storeDeweyIDs = resourceConfig.areDeweyIDsStored && recordPersister instanceof NodePersistenter;
+        final RecordOffsetMap<byte[]> snapshotSlots = new RecordOffsetMap<>(recordPageKey);
+        final Map<SirixDeweyID, Long> snapshotDeweyIDs = storeDeweyIDs ? new LinkedHashMap<>() : Collections.emptyMap();
+
+        synchronized (lock) {
+            for (final PageReference reference : references.values()) {
+                if (reference.getPage() != null || reference.getKey() == Constants.NULL_ID_LONG) {
+                    return false;
+                }
+            }
+
+            if (serializedRecords != null) {
+                for (int offset = serializedRecords.nextOffset(0); offset >= 0;
+                        offset = serializedRecords.nextOffset(offset + 1)) {
+                    snapshotSlots.putAtOffset(offset, serializedRecords.toByteArray(offset));
+                    final SirixDeweyID deweyID = serializedRecords.getDeweyID(offset);
+                    if (storeDeweyIDs && deweyID != null && records.key(offset) != 0) {
+                        snapshotDeweyIDs.put(deweyID, records.key(offset));
+                    }
+                }
+            }
+
+            final boolean recordsFit = records.size() == 0 || withPageReadOnlyTrx(pageReadTrx -> {
+                for (int offset = records.nextOffset(0); offset >= 0; offset = records.nextOffset(offset + 1)) {
+                    if (references.getAtOffset(offset) != null) {
+                        // Overlong records are written as the reference to their overflow page.
+                        continue;
+                    }
+                    final DataRecord record = records.getAtOffset(offset);
+                    final byte[] data = serializeRecord(pageReadTrx, record);
+                    if (data.length > PageConstants.MAX_RECORD_SIZE) {
+                        return false;
+                    }
+                    snapshotSlots.putAtOffset(offset, data);
+                    if (storeDeweyIDs && record.getDeweyID() != null && record.getNodeKey() != 0) {
+                        snapshotDeweyIDs.put(record.getDeweyID(), record.getNodeKey());
+                    }
+                }
+                return true;
+            });
+            if (!recordsFit) {
+                return false;
+            }
+
+            serialize(out, snapshotSlots, snapshotDeweyIDs);
+        }
+        return true;
+    }
+
+    /**
+     * Write the page.
+     *
+     * @param out the output to write to
+     * @param slots the serialized records, the records with a DeweyID are removed once they have been written
+     * @param deweyIDs the DeweyIDs of the records
+     * @throws IOException if an I/O error occurs
+     */
+    private void serialize(final DataOutput out, final RecordOffsetMap<byte[]> slots,
+            final Map<SirixDeweyID, Long> deweyIDs) throws IOException {
         // Write page key.
         putVarLong(out, recordPageKey);
         // Write revision number.
@@ -310,53 +527,50 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
             if (iter.hasNext()) {
                 id = iter.next();
                 persistence.serializeDeweyID(out, id, null, resourceConfig);
-                serializeDeweyRecord(id, out);
+                serializeDeweyRecord(id, out, slots, deweyIDs);
             }
             while (iter.hasNext()) {
                 final var nextDeweyID = iter.next();
                 persistence.serializeDeweyID(out, id, nextDeweyID, resourceConfig);
-                serializeDeweyRecord(nextDeweyID, out);
+                serializeDeweyRecord(nextDeweyID, out, slots, deweyIDs);
                 id = nextDeweyID;
             }
         }
 
+        // The slots and references are indexed by their offsets, thus they are already sorted by key.
         final var entriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-        final var entriesSortedByKey = slots.entrySet().stream().sorted(Entry.comparingByKey()).collect(toList());
-        for (final Entry<Long, byte[]> entry : entriesSortedByKey) {
-            final var pageOffset = pageReadOnlyTrx.recordPageOffset(entry.getKey());
-            entriesBitmap.set(pageOffset);
+        for (int offset = slots.nextOffset(0); offset >= 0; offset = slots.nextOffset(offset + 1)) {
+            entriesBitmap.set(offset);
         }
         SerializationType.serializeBitSet(out, entriesBitmap);
 
         final var overlongEntriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-        final var overlongEntriesSortedByKey
-                = references.entrySet().stream().sorted(Entry.comparingByKey()).collect(toList());
-        for (final Map.Entry<Long, PageReference> entry : overlongEntriesSortedByKey) {
-            final var pageOffset = pageReadOnlyTrx.recordPageOffset(entry.getKey());
-            overlongEntriesBitmap.set(pageOffset);
+        for (int offset = references.nextOffset(0); offset >= 0; offset = references.nextOffset(offset + 1)) {
+            overlongEntriesBitmap.set(offset);
         }
         SerializationType.serializeBitSet(out, overlongEntriesBitmap);
 
         // Write normal entries.
-        out.writeInt(entriesSortedByKey.size());
-        for (final var entry : entriesSortedByKey) {
-            final byte[] data = entry.getValue();
+        out.writeInt(slots.size());
+        for (int offset = slots.nextOffset(0); offset >= 0; offset = slots.nextOffset(offset + 1)) {
+            final byte[] data = slots.getAtOffset(offset);
             final int length = data.length;
             out.writeInt(length);
             out.write(data);
         }
 
         // Write overlong entries.
-        out.writeInt(overlongEntriesSortedByKey.size());
-        for (final var entry : overlongEntriesSortedByKey) {
+        out.writeInt(references.size());
+        for (int offset = references.nextOffset(0); offset >= 0; offset = references.nextOffset(offset + 1)) {
             // Write key in persistent storage.
-            out.writeLong(entry.getValue().getKey());
+            out.writeLong(references.getAtOffset(offset).getKey());
         }
 
         out.writeByte(indexType.getID());
     }
 
-    private void serializeDeweyRecord(SirixDeweyID id, DataOutput out) throws IOException {
+    private void serializeDeweyRecord(SirixDeweyID id, DataOutput out, RecordOffsetMap<byte[]> slots,
+            Map<SirixDeweyID, Long> deweyIDs) throws IOException {
         final long recordKey = deweyIDs.get(id);
         putVarLong(out, recordKey);
         final byte[] data = slots.get(recordKey);
@@ -368,6 +582,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
     @Override
     public String toString() {
+        deserializeRecords();
         final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this).add("pagekey", recordPageKey);
         for (final DataRecord record : records.values()) {
             helper.add("record", record);
@@ -380,17 +595,21 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
     @Override
     public Set<Entry<Long, DataRecord>> entrySet() {
+        deserializeRecords();
         return records.entrySet();
     }
 
     @Override
     public int hashCode() {
+        deserializeRecords();
         return Objects.hashCode(recordPageKey, records, references);
     }
 
     @Override
     public boolean equals(final @Nullable Object obj) {
         if (obj instanceof UnorderedKeyValuePage other) {
+            deserializeRecords();
+            other.deserializeRecords();
             return recordPageKey == other.recordPageKey && Objects.equal(records, other.records) && Objects.equal(references,
                     other.references);
         }
@@ -420,44 +639,100 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         }
     }
 
+    /**
+     * Serialize the records, which have not been serialized yet, and create the overflow pages for overlong records.
+     * Only this page is modified, thus the method might be invoked concurrently for different pages during a commit.
+     *
+     * @return {@code true}, if the serialized form of the page is self-contained, that is it doesn't reference new
+     * overflow pages, whose keys are only assigned once they have been written, {@code false} otherwise
+     */
+    public boolean prepareCommit() {
+        if (!addedReferences) {
+            try {
+                addReferences();
+            } catch (final IOException e) {
+                throw new SirixIOException(e);
+            }
+        }
+
+        for (final PageReference reference : references.values()) {
+            if (reference.getPage() != null || reference.getLogKey() != Constants.NULL_ID_LONG) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     // Add references to OverflowPages.
     private void addReferences() throws IOException {
-        final var storeDeweyIDs = pageReadOnlyTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
+        synchronized (lock) {
+            addReferencesForRecords();
+        }
+    }
 
-        final var entries = sort();
-        for (final var entry : entries) {
-            final var record = entry.getValue();
-            final var recordID = record.getNodeKey();
-            if (slots.get(recordID) == null) {
-                // Must be either a normal record or one which requires an overflow page.
-                final byte[] data;
-                try (final var output = new ByteArrayOutputStream(); final var out = new DataOutputStream(output)) {
-                    recordPersister.serialize(out, record, pageReadOnlyTrx);
-                    data = output.toByteArray();
-                }
+    private void addReferencesForRecords() throws IOException {
+        final var storeDeweyIDs = resourceConfig.areDeweyIDsStored;
 
-                if (data.length > PageConstants.MAX_RECORD_SIZE) {
-                    final var reference = new PageReference();
-                    reference.setPage(new OverflowPage(data));
-                    references.put(recordID, reference);
-                } else {
-                    slots.put(recordID, data);
+        // Records, which haven't been deserialized, are unchanged and thus written back in their serialized form.
+        if (serializedRecords != null) {
+            for (int offset = serializedRecords.nextOffset(0); offset >= 0;
+                    offset = serializedRecords.nextOffset(offset + 1)) {
+                final long recordID = records.key(offset);
+                if (slots.getAtOffset(offset) == null) {
+                    slots.putAtOffset(offset, serializedRecords.toByteArray(offset));
+                }
+                final SirixDeweyID deweyID = serializedRecords.getDeweyID(offset);
+                if (storeDeweyIDs && recordPersister instanceof NodePersistenter && deweyID != null && recordID != 0) {
+                    deweyIDs.put(deweyID, recordID);
                 }
-            }
-            if (storeDeweyIDs && recordPersister instanceof NodePersistenter && record.getDeweyID() != null
-                    && record.getNodeKey() != 0) {
-                deweyIDs.put(record.getDeweyID(), record.getNodeKey());
             }
         }
 
+        final var entries = sort();
+        if (!entries.isEmpty()) {
+            withPageReadOnlyTrx(pageReadTrx -> {
+                for (final var entry : entries) {
+                    final var record = entry.getValue();
+                    final var recordID = record.getNodeKey();
+                    final int offset = RecordOffsetMap.offset(recordID);
+                    if (slots.getAtOffset(offset) == null) {
+                        // Must be either a normal record or one which requires an overflow page.
+                        final byte[] data = serializeRecord(pageReadTrx, record);
+
+                        if (data.length > PageConstants.MAX_RECORD_SIZE) {
+                            final var reference = new PageReference();
+                            reference.setPage(new OverflowPage(data));
+                            references.putAtOffset(offset, reference);
+                        } else {
+                            slots.putAtOffset(offset, data);
+                        }
+                    }
+                    if (storeDeweyIDs && recordPersister instanceof NodePersistenter && record.getDeweyID() != null
+                            && record.getNodeKey() != 0) {
+                        deweyIDs.put(record.getDeweyID(), record.getNodeKey());
+                    }
+                }
+                return null;
+            });
+        }
+
         // assert deweyIDs.size() == 0 || deweyIDs.size() == entries.size() -1;
         addedReferences = true;
     }
 
+    private byte[] serializeRecord(final PageReadOnlyTrx pageReadTrx, final DataRecord record) {
+        try (final var output = new ByteArrayOutputStream(); final var out = new DataOutputStream(output)) {
+            recordPersister.serialize(out, record, pageReadTrx);
+            return output.toByteArray();
+        } catch (final IOException e) {
+            throw new SirixIOException(e);
+        }
+    }
+
     private List<Entry<Long, DataRecord>> sort() {
         // Sort entries which have deweyIDs according to their byte-length.
         final List<Map.Entry<Long, DataRecord>> entries = new ArrayList<>(records.entrySet());
-        final boolean storeDeweyIDs = pageReadOnlyTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
+        final boolean storeDeweyIDs = resourceConfig.areDeweyIDsStored;
         if (storeDeweyIDs && recordPersister instanceof NodePersistenter) {
             entries.sort((a, b) -> {
                 if (a.getValue() instanceof ImmutableNode && b.getValue() instanceof ImmutableNode) {
@@ -489,6 +764,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
     @Override
     public Collection<DataRecord> values() {
+        deserializeRecords();
         return records.values();
     }
 
@@ -521,7 +797,9 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
     @Override
     public int size() {
-        return records.size() + references.size();
+        synchronized (lock) {
+            return records.size() + (serializedRecords == null ? 0 : serializedRecords.size()) + references.size();
+        }
     }
 
     @Override
@@ -546,4 +824,263 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         return revision;
     }
 
+    /**
+     * Estimate the memory footprint of the page, which is used to weigh the page in caches. The estimate reflects the
+     * state of the page, when the method is invoked.
+     *
+     * @return the estimated memory footprint in bytes
+     */
+    public long estimateMemoryFootprint() {
+        synchronized (lock) {
+            long footprint = PAGE_MEMORY_ESTIMATE + (long) records.size() * RECORD_MEMORY_ESTIMATE
+                    + (long) references.size() * RECORD_MEMORY_ESTIMATE;
+            for (int offset = slots.nextOffset(0); offset >= 0; offset = slots.nextOffset(offset + 1)) {
+                footprint += slots.getAtOffset(offset).length;
+            }
+            if (serializedRecords != null) {
+                footprint += serializedRecords.estimateMemoryFootprint();
+            }
+            return footprint;
+        }
+    }
+
+    @Override
+    public Set<Long> keySet() {
+        synchronized (lock) {
+            final Set<Long> keys = new LinkedHashSet<>(records.keySet());
+            if (serializedRecords != null) {
+                for (int offset = serializedRecords.nextOffset(0); offset >= 0;
+                        offset = serializedRecords.nextOffset(offset + 1)) {
+                    keys.add(records.key(offset));
+                }
+            }
+            return keys;
+        }
+    }
+
+    @Override
+    public boolean containsKey(final Long key) {
+        assert key != null;
+        final int offset = RecordOffsetMap.offset(key);
+        synchronized (lock) {
+            return records.getAtOffset(offset) != null || hasSerializedRecord(offset)
+                    || references.getAtOffset(offset) != null;
+        }
+    }
+
+    @Override
+    public void copyRecord(final KeyValuePage<Long, DataRecord> page, final Long key) {
+        assert key != null;
+        if (page instanceof UnorderedKeyValuePage other) {
+            final int offset = RecordOffsetMap.offset(key);
+            // Records are only copied from (shared) page fragments into a new page, thus the locks are always
+            // acquired in the same order.
+            synchronized (other.lock) {
+                final DataRecord record = other.records.getAtOffset(offset);
+                if (record == null && other.hasSerializedRecord(offset)) {
+                    // Copy the serialized form without deserializing the record.
+                    synchronized (lock) {
+                        addedReferences = false;
+                        records.removeAtOffset(offset);
+                        slots.removeAtOffset(offset);
+                        if (serializedRecords == null) {
+                            serializedRecords = new SerializedRecords();
+                        }
+                        other.serializedRecords.copyTo(offset, serializedRecords);
+                    }
+                } else if (record != null) {
+                    setRecord(key, record);
+                }
+            }
+        } else {
+            KeyValuePage.super.copyRecord(page, key);
+        }
+    }
+
+    /**
+     * Records in their serialized form, which are located through an offset table indexed by the offset of a record
+     * in the page. The bytes are stored in buffers, which are shared between pages, such that records are copied from
+     * page fragments into a combined page without copying or deserializing them. Like the {@link RecordOffsetMap} the
+     * offset table is sized to the highest offset stored so far, such that sparse pages don't allocate tables of
+     * {@link Constants#NDP_NODE_COUNT} slots.
+     */
+    private static final class SerializedRecords {
+
+        /**
+         * The initial capacity of the offset table.
+         */
+        private static final int INITIAL_CAPACITY = 16;
+
+        private static final byte[][] EMPTY_BUFFERS = new byte[0][];
+
+        private static final int[] EMPTY_INTS = new int[0];
+
+        /**
+         * The buffers, which store the serialized records.
+         */
+        private byte[][] buffers = EMPTY_BUFFERS;
+
+        /**
+         * The start positions of the records in their buffers.
+         */
+        private int[] starts = EMPTY_INTS;
+
+        /**
+         * The lengths of the serialized records.
+         */
+        private int[] lengths = EMPTY_INTS;
+
+        /**
+         * The DeweyIDs of the records, might be {@code null}, if no DeweyIDs are stored.
+         */
+        private SirixDeweyID[] deweyIDs;
+
+        /**
+         * The number of records.
+         */
+        private int size;
+
+        /**
+         * The number of bytes of all records.
+         */
+        private long numberOfBytes;
+
+        boolean contains(final int offset) {
+            return offset < buffers.length && buffers[offset] != null;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int nextOffset(final int fromOffset) {
+            for (int offset = fromOffset; offset < buffers.length; offset++) {
+                if (buffers[offset] != null) {
+                    return offset;
+                }
+            }
+            return -1;
+        }
+
+        void put(final int offset, final byte[] buffer, final int start, final int length,
+                final @Nullable SirixDeweyID deweyID) {
+            if (offset >= buffers.length) {
+                grow(offset);
+            }
+            if (buffers[offset] == null) {
+                size++;
+            } else {
+                numberOfBytes -= lengths[offset];
+            }
+            numberOfBytes += length;
+            buffers[offset] = buffer;
+            starts[offset] = start;
+            lengths[offset] = length;
+            if (deweyID != null && deweyIDs == null) {
+                deweyIDs = new SirixDeweyID[buffers.length];
+            }
+            if (deweyIDs != null) {
+                deweyIDs[offset] = deweyID;
+            }
+        }
+
+        private void grow(final int offset) {
+            final int capacity = Math.min(Constants.NDP_NODE_COUNT,
+                    Math.max(INITIAL_CAPACITY, Integer.highestOneBit(offset) << 1));
+            buffers = Arrays.copyOf(buffers, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            if (deweyIDs != null) {
+                deweyIDs = Arrays.copyOf(deweyIDs, capacity);
+            }
+        }
+
+        void remove(final int offset) {
+            if (contains(offset)) {
+                buffers[offset] = null;
+                size--;
+                numberOfBytes -= lengths[offset];
+                if (deweyIDs != null) {
+                    deweyIDs[offset] = null;
+                }
+            }
+        }
+
+        long estimateMemoryFootprint() {
+            // The offset table consists of a reference and two int arrays (plus the optional DeweyIDs).
+            final long slotFootprint = 3L * Integer.BYTES + (deweyIDs == null ? 0 : Integer.BYTES);
+            return numberOfBytes + slotFootprint * buffers.length;
+        }
+
+        ByteBuffer getBuffer(final int offset) {
+            return ByteBuffer.wrap(buffers[offset], starts[offset], lengths[offset]);
+        }
+
+        byte[] toByteArray(final int offset) {
+            return Arrays.copyOfRange(buffers[offset], starts[offset], starts[offset] + lengths[offset]);
+        }
+
+        SirixDeweyID getDeweyID(final int offset) {
+            return deweyIDs == null ? null : deweyIDs[offset];
+        }
+
+        void copyTo(final int offset, final SerializedRecords target) {
+            target.put(offset, buffers[offset], starts[offset], lengths[offset], getDeweyID(offset));
+        }
+
+        /**
+         * Reads serialized records into one contiguous buffer.
+         */
+        static final class Builder {
+
+            private final SerializedRecords serializedRecords;
+
+            private byte[] buffer;
+
+            private int position;
+
+            Builder(final int expectedSize) {
+                serializedRecords = new SerializedRecords();
+                buffer = new byte[Math.max(expectedSize, 1 << 10)];
+            }
+
+            /**
+             * Read a record (its length followed by its bytes).
+             *
+             * @param offset the offset of the record in the page
+             * @param in the input to read from
+             * @param deweyID the DeweyID of the record, might be {@code null}
+             * @throws IOException if an I/O error occurs
+             */
+            void add(final int offset, final DataInput in, final @Nullable SirixDeweyID deweyID) throws IOException {
+                final int length = in.readInt();
+                if (position + length > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+                }
+                in.readFully(buffer, position, length);
+                serializedRecords.put(offset, buffer, position, length, deweyID);
+                position += length;
+            }
+
+            /**
+             * Build the serialized records.
+             *
+             * @return the serialized records or {@code null}, if no records have been read
+             */
+            SerializedRecords build() {
+                if (serializedRecords.size() == 0) {
+                    return null;
+                }
+                // The buffer might have been resized in the meantime, all records are stored in the last one.
+                final byte[][] buffers = serializedRecords.buffers;
+                for (int offset = 0; offset < buffers.length; offset++) {
+                    if (buffers[offset] != null) {
+                        buffers[offset] = buffer;
+                    }
+                }
+                return serializedRecords;
+            }
+        }
+    }
+
 }
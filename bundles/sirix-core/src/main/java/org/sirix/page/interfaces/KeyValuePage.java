@@ -59,6 +59,32 @@ public interface KeyValuePage<K, V> extends Page {
      */
     void setRecord(K key, @Nonnull V value);
 
+    /**
+     * Keys of all records in the page, which are not stored in overflow pages. Records, which are stored in their
+     * serialized form, are not deserialized.
+     *
+     * @return the keys of all records
+     */
+    Set<K> keySet();
+
+    /**
+     * Determines if the page contains a record or a reference to an overflow page for the specified key.
+     *
+     * @param key the key
+     * @return {@code true}, if the page contains a record or a reference for the key, {@code false} otherwise
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Copy a record from another page. Implementations might copy the record without deserializing it.
+     *
+     * @param page the page to copy the record from
+     * @param key the key of the record
+     */
+    default void copyRecord(KeyValuePage<K, V> page, K key) {
+        setRecord(key, page.getValue(key));
+    }
+
     Set<Entry<K, PageReference>> referenceEntrySet();
 
     /**
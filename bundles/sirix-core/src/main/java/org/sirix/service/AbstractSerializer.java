@@ -4,14 +4,26 @@ import org.sirix.api.*;
 import org.sirix.api.visitor.NodeVisitor;
 import org.sirix.axis.visitor.VisitorDescendantAxis;
 import org.sirix.exception.SirixException;
+import org.sirix.exception.SirixThreadedException;
 import org.sirix.settings.Constants;
 
 import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.concurrent.Callable;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 /**
  * Class implements main serialization algorithm. Other classes can extend it.
@@ -21,6 +33,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
         implements Callable<Void> {
 
+    /**
+     * The executor, which is shared by all serializers to serialize several revisions concurrently, such that the
+     * number of threads is bounded regardless of the number of concurrent serializations.
+     */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
     /**
      * Sirix {@link ResourceManager}.
      */
@@ -48,6 +66,26 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
 
     protected boolean hasToSkipSiblings;
 
+    /**
+     * The maximum number of revisions, which are serialized concurrently, {@code 1} to serialize them one after another.
+     */
+    private int numberOfThreads;
+
+    /**
+     * The maximum size of all buffered revisions, if several revisions are serialized concurrently.
+     */
+    private long maxBufferSize;
+
+    /**
+     * The maximum size of the buffer of a single revision, once exceeded the serialization of the revision is aborted.
+     */
+    private long maxRevisionBufferSize;
+
+    /**
+     * Determines if the serialization of a revision into a buffer has been cancelled, because it isn't needed anymore.
+     */
+    private volatile boolean isCancelled;
+
     /**
      * Constructor.
      *
@@ -63,6 +101,8 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
         initialize(revision, revisions);
         this.resMgr = checkNotNull(resMgr);
         startNodeKey = 0;
+        numberOfThreads = 1;
+        maxRevisionBufferSize = Long.MAX_VALUE;
     }
 
     /**
@@ -81,6 +121,8 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
         initialize(revision, revisions);
         this.resMgr = checkNotNull(resMgr);
         startNodeKey = key;
+        numberOfThreads = 1;
+        maxRevisionBufferSize = Long.MAX_VALUE;
     }
 
     /**
@@ -96,6 +138,25 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
         }
     }
 
+    /**
+     * Serialize several revisions concurrently. Each revision is serialized into a buffer and the buffers are emitted in
+     * the order of the revisions, whereas at most {@code numberOfThreads} revisions are buffered at once. The revisions
+     * are serialized by an executor, which is shared by all serializers and is bounded by the number of available
+     * processors. If the buffer of a revision exceeds its share of the maximum buffer size, the revision and all
+     * subsequent revisions are serialized one after another. Subclasses, which support this mode, must implement
+     * {@link ConcurrentSerializer} and override {@link #getBufferSize()}.
+     *
+     * @param numberOfThreads the maximum number of revisions, which are serialized concurrently
+     * @param maxBufferSize   the maximum size of all buffered revisions
+     */
+    protected void serializeRevisionsConcurrently(final int numberOfThreads, final long maxBufferSize) {
+        checkArgument(numberOfThreads > 0, "numberOfThreads must be > 0!");
+        checkArgument(maxBufferSize > 0, "maxBufferSize must be > 0!");
+        checkState(this instanceof ConcurrentSerializer, "The serializer doesn't serialize revisions concurrently.");
+        this.numberOfThreads = numberOfThreads;
+        this.maxBufferSize = maxBufferSize;
+    }
+
     /**
      * Serialize the storage.
      *
@@ -109,77 +170,209 @@ public abstract class AbstractSerializer<R extends NodeReadOnlyTrx & NodeCursor,
         final int nrOfRevisions = revisions.length;
         final int length = (nrOfRevisions == 1 && revisions[0] < 0) ? resMgr.getMostRecentRevisionNumber() : nrOfRevisions;
 
+        final int[] revisionsToSerialize = new int[length];
         for (int i = 1; i <= length; i++) {
-            try (final R rtx = resMgr.beginNodeReadOnlyTrx((nrOfRevisions == 1 && revisions[0] < 0) ? i : revisions[i - 1])) {
-                emitRevisionStartNode(rtx);
+            revisionsToSerialize[i - 1] = (nrOfRevisions == 1 && revisions[0] < 0) ? i : revisions[i - 1];
+        }
+
+        // The visitor keeps its state between revisions, thus the revisions can't be serialized independently.
+        if (numberOfThreads > 1 && length > 1 && visitor == null) {
+            // Only concurrent serializers configure more than one thread.
+            @SuppressWarnings("unchecked")
+            final var concurrentSerializer = (ConcurrentSerializer<R, W>) this;
+            serializeConcurrently(concurrentSerializer, revisionsToSerialize);
+        } else {
+            for (final int revision : revisionsToSerialize) {
+                serializeRevision(revision);
+            }
+        }
 
-                rtx.moveTo(startNodeKey);
+        emitEndDocument();
 
-                final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
+        return null;
+    }
 
-                if (visitor != null) {
-                    builder.visitor(visitor);
-                    setTrxForVisitor(rtx);
+    private void serializeConcurrently(final ConcurrentSerializer<R, W> concurrentSerializer,
+            final int[] revisionsToSerialize) {
+        final Deque<AbstractSerializer<R, W>> pendingSerializers = new ArrayDeque<>(numberOfThreads);
+        final Deque<Future<AbstractSerializer<R, W>>> pendingRevisions = new ArrayDeque<>(numberOfThreads);
+
+        try {
+            int submitted = 0;
+
+            for (int i = 0; i < revisionsToSerialize.length; i++) {
+                while (submitted < revisionsToSerialize.length && submitted < i + numberOfThreads) {
+                    final int revision = revisionsToSerialize[submitted++];
+                    final AbstractSerializer<R, W> revisionSerializer = concurrentSerializer.newRevisionSerializer();
+                    revisionSerializer.stack.addAll(stack);
+                    revisionSerializer.maxRevisionBufferSize = maxBufferSize / numberOfThreads;
+                    pendingSerializers.add(revisionSerializer);
+                    pendingRevisions.add(EXECUTOR.submit(
+                            () -> revisionSerializer.serializeRevision(revision) ? revisionSerializer : null));
                 }
 
-                final Axis descAxis = builder.build();
-
-                // Setup primitives.
-                boolean closeElements = false;
-                long key;
-
-                // Iterate over all nodes of the subtree including self.
-                while (descAxis.hasNext()) {
-                    key = descAxis.next();
-
-                    // Emit all pending end elements.
-                    if (closeElements) {
-                        while (!stack.isEmpty() && stack.peek() != rtx.getLeftSiblingKey()) {
-                            rtx.moveTo(stack.pop());
-                            emitEndNode(rtx, false);
-                            rtx.moveTo(key);
-                        }
-                        if (!stack.isEmpty()) {
-                            rtx.moveTo(stack.pop());
-                            emitEndNode(rtx, true);
-                        }
-                        rtx.moveTo(key);
-                        closeElements = false;
+                pendingSerializers.remove();
+                final AbstractSerializer<R, W> revisionSerializer = pendingRevisions.remove().get();
+
+                if (revisionSerializer == null) {
+                    // The buffer has been exceeded, thus stream the remaining revisions.
+                    cancel(pendingSerializers, pendingRevisions);
+                    for (int j = i; j < revisionsToSerialize.length; j++) {
+                        serializeRevision(revisionsToSerialize[j]);
                     }
+                    return;
+                }
 
-                    // Emit node.
-                    final long nodeKey = rtx.getNodeKey();
-                    emitNode(rtx);
-                    rtx.moveTo(nodeKey);
+                concurrentSerializer.emitBuffer(revisionSerializer);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SirixThreadedException(e);
+        } catch (final ExecutionException e) {
+            throw new SirixThreadedException(e);
+        } finally {
+            // Don't occupy the shared threads with revisions, which are not emitted anymore (for instance on errors).
+            cancel(pendingSerializers, pendingRevisions);
+        }
+    }
 
-                    // Push end element to stack if we are a start element with children.
-                    boolean withChildren = false;
-                    if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
-                        stack.push(rtx.getNodeKey());
-                        withChildren = true;
-                    }
+    private static <R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> void cancel(
+            final Deque<AbstractSerializer<R, W>> pendingSerializers,
+            final Deque<Future<AbstractSerializer<R, W>>> pendingRevisions) {
+        // The serializers stop at the next node, once they are cancelled. Interrupting them would close the file
+        // channels, which their transactions read from.
+        pendingSerializers.forEach(pendingSerializer -> pendingSerializer.isCancelled = true);
+        pendingRevisions.forEach(pendingRevision -> pendingRevision.cancel(false));
+        pendingSerializers.clear();
+        pendingRevisions.clear();
+    }
+
+    /**
+     * Serialize a revision.
+     *
+     * @param revision the revision to serialize
+     * @return {@code true}, if the revision has been serialized, {@code false}, if the serialization has been aborted,
+     * because the buffer has been exceeded
+     */
+    private boolean serializeRevision(final int revision) {
+        try (final R rtx = resMgr.beginNodeReadOnlyTrx(revision)) {
+            if (emitRevisionDelta(rtx)) {
+                return true;
+            }
+
+            emitRevisionStartNode(rtx);
+
+            rtx.moveTo(startNodeKey);
+
+            final VisitorDescendantAxis.Builder builder = VisitorDescendantAxis.newBuilder(rtx).includeSelf();
 
-                    hasToSkipSiblings = areSiblingNodesGoingToBeSkipped(rtx);
+            if (visitor != null) {
+                builder.visitor(visitor);
+                setTrxForVisitor(rtx);
+            }
+
+            final Axis descAxis = builder.build();
+
+            // Setup primitives.
+            boolean closeElements = false;
+            long key;
 
-                    // Remember to emit all pending end elements from stack if required.
-                    if (!withChildren && !rtx.isDocumentRoot() && (!rtx.hasRightSibling() || hasToSkipSiblings)) {
-                        closeElements = true;
+            // Iterate over all nodes of the subtree including self.
+            while (descAxis.hasNext()) {
+                key = descAxis.next();
+
+                // Emit all pending end elements.
+                if (closeElements) {
+                    while (!stack.isEmpty() && stack.peek() != rtx.getLeftSiblingKey()) {
+                        rtx.moveTo(stack.pop());
+                        emitEndNode(rtx, false);
+                        rtx.moveTo(key);
                     }
+                    if (!stack.isEmpty()) {
+                        rtx.moveTo(stack.pop());
+                        emitEndNode(rtx, true);
+                    }
+                    rtx.moveTo(key);
+                    closeElements = false;
+                }
+
+                // Emit node.
+                final long nodeKey = rtx.getNodeKey();
+                emitNode(rtx);
+                rtx.moveTo(nodeKey);
+
+                if (isCancelled || getBufferSize() > maxRevisionBufferSize) {
+                    return false;
+                }
+
+                // Push end element to stack if we are a start element with children.
+                boolean withChildren = false;
+                if (!rtx.isDocumentRoot() && (rtx.hasFirstChild() && isSubtreeGoingToBeVisited(rtx))) {
+                    stack.push(rtx.getNodeKey());
+                    withChildren = true;
                 }
 
-                // Finally emit all pending end elements.
-                while (!stack.isEmpty() && stack.peek() != Constants.NULL_ID_LONG) {
-                    rtx.moveTo(stack.pop());
-                    emitEndNode(rtx, false);
+                hasToSkipSiblings = areSiblingNodesGoingToBeSkipped(rtx);
+
+                // Remember to emit all pending end elements from stack if required.
+                if (!withChildren && !rtx.isDocumentRoot() && (!rtx.hasRightSibling() || hasToSkipSiblings)) {
+                    closeElements = true;
                 }
+            }
 
-                emitRevisionEndNode(rtx);
+            // Finally emit all pending end elements.
+            while (!stack.isEmpty() && stack.peek() != Constants.NULL_ID_LONG) {
+                rtx.moveTo(stack.pop());
+                emitEndNode(rtx, false);
             }
+
+            emitRevisionEndNode(rtx);
         }
 
-        emitEndDocument();
+        return true;
+    }
 
-        return null;
+    private static ExecutorService createExecutor() {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final var executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new SerializerThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class SerializerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@Nonnull final Runnable runnable) {
+            final var thread = new Thread(runnable, "SerializerThread-" + threadNumber.incrementAndGet());
+
+            thread.setPriority(Thread.NORM_PRIORITY);
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+
+    /**
+     * Emit the changes of a revision in comparison to the previously serialized revision instead of the whole
+     * revision, if supported.
+     *
+     * @param rtx the read only transaction, opened on the revision to serialize
+     * @return {@code true}, if the changes have been emitted, {@code false}, if the revision has to be serialized
+     */
+    protected boolean emitRevisionDelta(final R rtx) {
+        return false;
+    }
+
+    /**
+     * Get the size of the buffer, if this serializer serializes into a buffer.
+     *
+     * @return the size of the buffer or {@code 0}
+     */
+    protected long getBufferSize() {
+        return 0;
     }
 
     protected abstract void setTrxForVisitor(R rtx);
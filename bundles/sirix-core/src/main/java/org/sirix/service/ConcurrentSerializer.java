@@ -0,0 +1,31 @@
+package org.sirix.service;
+
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+
+/**
+ * A serializer, which is able to serialize several revisions concurrently (see
+ * {@link AbstractSerializer#serializeRevisionsConcurrently(int, long)}). Each revision is serialized into the buffer of
+ * a serializer of a single revision and the buffers are emitted in the order of the revisions.
+ *
+ * @param <R> the type of the read-only transactions
+ * @param <W> the type of the read-write transactions
+ * @author Johannes Lichtenberger
+ */
+public interface ConcurrentSerializer<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> {
+
+    /**
+     * Create a serializer with the same settings, which serializes a single revision into a buffer.
+     *
+     * @return the new serializer
+     */
+    AbstractSerializer<R, W> newRevisionSerializer();
+
+    /**
+     * Emit the buffer of a serializer, which has been created by {@link #newRevisionSerializer()}.
+     *
+     * @param revisionSerializer the serializer of a single revision
+     */
+    void emitBuffer(AbstractSerializer<R, W> revisionSerializer);
+}
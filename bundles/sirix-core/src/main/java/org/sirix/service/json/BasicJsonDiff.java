@@ -58,6 +58,24 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
     @Override
     public String generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber,
             long startNodeKey, long maxDepth) {
+        final var out = new StringBuilder();
+        generateDiff(resourceManager, oldRevisionNumber, newRevisionNumber, startNodeKey, maxDepth, out);
+        return out.toString();
+    }
+
+    /**
+     * Diff two revisions and write the differences to the given output, one difference at a time.
+     *
+     * @param resourceManager the resource manager to use
+     * @param oldRevisionNumber the revision number of the older revision
+     * @param newRevisionNumber the revision number of the newer revision
+     * @param startNodeKey the start node key
+     * @param maxDepth the maximum depth
+     * @param out the output, to which the JSON describing the differences is written
+     */
+    @Override
+    public void generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber,
+            long startNodeKey, long maxDepth, Appendable out) {
         diffs.clear();
 
         DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
@@ -68,7 +86,8 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
                 .oldStartKey(startNodeKey)
                 .oldMaxDepth(maxDepth));
 
-        return new JsonDiffSerializer(this.databaseName, resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true);
+        new JsonDiffSerializer(this.databaseName, resourceManager, oldRevisionNumber, newRevisionNumber, diffs)
+                .serialize(true, out);
     }
 
     @Override
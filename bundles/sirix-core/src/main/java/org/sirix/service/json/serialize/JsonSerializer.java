@@ -20,6 +20,7 @@
  */
 package org.sirix.service.json.serialize;
 
+import com.google.gson.JsonObject;
 import org.brackit.xquery.util.serialize.Serializer;
 import org.sirix.access.DatabaseConfiguration;
 import org.sirix.access.Databases;
@@ -32,6 +33,7 @@ import org.sirix.api.visitor.VisitResultType;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.node.NodeKind;
 import org.sirix.service.AbstractSerializer;
+import org.sirix.service.ConcurrentSerializer;
 import org.sirix.service.xml.serialize.XmlSerializerProperties;
 import org.sirix.settings.Constants;
 import org.sirix.settings.Fixed;
@@ -50,6 +52,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -62,7 +66,8 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
  * Serializes a subtree into the JSON-format.
  * </p>
  */
-public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx> {
+public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx>
+        implements ConcurrentSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx> {
 
     /**
      * {@link LogWrapper} reference.
@@ -101,6 +106,12 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
 
     private final boolean serializeStartNodeWithBrackets;
 
+    /**
+     * Determines if a revision, which directly follows the previously serialized revision, is serialized as the
+     * stored update operations of the revision.
+     */
+    private final boolean serializeDeltas;
+
     private boolean hadToAddBracket;
 
     private int currentIndent;
@@ -127,6 +138,34 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
         withNodeKeyMetaData = builder.withNodeKey;
         withNodeKeyAndChildNodeKeyMetaData = builder.withNodeKeyAndChildCount;
         serializeStartNodeWithBrackets = builder.serializeStartNodeWithBrackets;
+        serializeDeltas = builder.serializeDeltas;
+        if (builder.numberOfThreads > 1) {
+            serializeRevisionsConcurrently(builder.numberOfThreads, builder.maxBufferSize);
+        }
+    }
+
+    /**
+     * Constructor of a serializer, which serializes a single revision into a buffer with the same settings as the
+     * given serializer.
+     *
+     * @param serializer the serializer to copy the settings from
+     * @param buffer     the buffer to write to
+     */
+    private JsonSerializer(final JsonSerializer serializer, final StringBuilder buffer) {
+        super(serializer.resMgr, null, serializer.startNodeKey, serializer.revisions[0],
+                Arrays.copyOfRange(serializer.revisions, 1, serializer.revisions.length));
+        out = buffer;
+        indent = serializer.indent;
+        indentSpaces = serializer.indentSpaces;
+        withInitialIndent = serializer.withInitialIndent;
+        emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+        serializeTimestamp = serializer.serializeTimestamp;
+        withMetaData = serializer.withMetaData;
+        withNodeKeyMetaData = serializer.withNodeKeyMetaData;
+        withNodeKeyAndChildNodeKeyMetaData = serializer.withNodeKeyAndChildNodeKeyMetaData;
+        serializeStartNodeWithBrackets = serializer.serializeStartNodeWithBrackets;
+        serializeDeltas = serializer.serializeDeltas;
+        currentIndent = serializer.currentIndent;
     }
 
     /**
@@ -509,6 +548,100 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
         }
     }
 
+    @Override
+    protected boolean emitRevisionDelta(final JsonNodeReadOnlyTrx rtx) {
+        if (!serializeDeltas || !isPreviousRevisionSerialized(rtx.getRevisionNumber()) || !hasUpdateOperations(rtx)) {
+            return false;
+        }
+
+        final List<JsonObject> updateOperations;
+        if (resMgr.getResourceConfig().areDeweyIDsStored) {
+            if (!rtx.moveTo(startNodeKey).hasMoved()) {
+                return false;
+            }
+            final long maxDepth = visitor == null || maxLevel() < 0 ? Long.MAX_VALUE : maxLevel();
+            updateOperations = rtx.getUpdateOperationsInSubtreeOfNode(rtx.getDeweyID(), maxDepth);
+        } else if (startNodeKey == Fixed.DOCUMENT_NODE_KEY.getStandardProperty()) {
+            updateOperations = rtx.getUpdateOperations();
+        } else {
+            // Without DeweyIDs the update operations can't be restricted to the subtree.
+            return false;
+        }
+
+        try {
+            appendObjectStart(true).appendObjectKeyValue(quote("revisionNumber"),
+                    Integer.toString(rtx.getRevisionNumber())).appendSeparator();
+
+            if (serializeTimestamp) {
+                appendObjectKeyValue(quote("revisionTimestamp"), quote(DateTimeFormatter.ISO_INSTANT.withZone(ZoneOffset.UTC)
+                        .format(
+                                rtx.getRevisionTimestamp())))
+                        .appendSeparator();
+            }
+
+            appendObjectKey(quote("diffs")).appendArrayStart(!updateOperations.isEmpty());
+
+            for (int i = 0, size = updateOperations.size(); i < size; i++) {
+                appendObjectValue(updateOperations.get(i).toString());
+
+                if (i < size - 1) {
+                    appendSeparator();
+                }
+            }
+
+            appendArrayEnd(!updateOperations.isEmpty()).appendObjectEnd(true);
+
+            if (hasMoreRevisionsToSerialize(rtx)) {
+                appendSeparator();
+            }
+        } catch (final IOException e) {
+            LOGWRAPPER.error(e.getMessage(), e);
+        }
+
+        return true;
+    }
+
+    private boolean isPreviousRevisionSerialized(final int revision) {
+        if (revisions.length == 1 && revisions[0] < 0) {
+            return revision > 1;
+        }
+
+        for (int i = 1; i < revisions.length; i++) {
+            if (revisions[i] == revision) {
+                return revisions[i - 1] == revision - 1;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean hasUpdateOperations(final JsonNodeReadOnlyTrx rtx) {
+        final int revision = rtx.getRevisionNumber();
+        return Files.exists(resMgr.getResourceConfig()
+                .getResource()
+                .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.getPath())
+                .resolve("diffFromRev" + (revision - 1) + "toRev" + revision + ".json"));
+    }
+
+    @Override
+    public JsonSerializer newRevisionSerializer() {
+        return new JsonSerializer(this, new StringBuilder());
+    }
+
+    @Override
+    protected long getBufferSize() {
+        return out instanceof StringBuilder buffer ? buffer.length() : 0;
+    }
+
+    @Override
+    public void emitBuffer(final AbstractSerializer<JsonNodeReadOnlyTrx, JsonNodeTrx> revisionSerializer) {
+        try {
+            out.append((StringBuilder) ((JsonSerializer) revisionSerializer).out);
+        } catch (final IOException e) {
+            LOGWRAPPER.error(e.getMessage(), e);
+        }
+    }
+
     private boolean hasMoreRevisionsToSerialize(final JsonNodeReadOnlyTrx rtx) {
         return rtx.getRevisionNumber() < revisions[revisions.length - 1] || (revisions.length == 1 && revisions[0] == -1
                 && rtx.getRevisionNumber() < rtx.getResourceManager().getMostRecentRevisionNumber());
@@ -753,6 +886,21 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
 
         private long maxChildNodes;
 
+        /**
+         * The number of threads to serialize several revisions concurrently.
+         */
+        private int numberOfThreads = 1;
+
+        /**
+         * The maximum number of characters of all buffered revisions, if several revisions are serialized concurrently.
+         */
+        private long maxBufferSize;
+
+        /**
+         * Determines if revisions are serialized as the stored update operations.
+         */
+        private boolean serializeDeltas;
+
         /**
          * Constructor, setting the necessary stuff.
          *
@@ -936,6 +1084,39 @@ public final class JsonSerializer extends AbstractSerializer<JsonNodeReadOnlyTrx
             return this;
         }
 
+        /**
+         * Serialize several revisions concurrently into buffers, which are emitted in the order of the revisions. If
+         * a revision doesn't fit into its share of the maximum buffer size, it's serialized directly to the stream
+         * as well as all subsequent revisions. Has no effect, if the output is restricted by a maximum level, a
+         * maximum number of nodes or a maximum number of child nodes.
+         *
+         * @param numberOfThreads the maximum number of revisions, which are serialized concurrently
+         * @param maxBufferSize   the maximum number of characters of all buffered revisions
+         * @return this reference
+         */
+        public Builder serializeRevisionsConcurrently(final int numberOfThreads, final long maxBufferSize) {
+            checkArgument(numberOfThreads > 0, "numberOfThreads must be > 0!");
+            checkArgument(maxBufferSize > 0, "maxBufferSize must be > 0!");
+            this.numberOfThreads = numberOfThreads;
+            this.maxBufferSize = maxBufferSize;
+            return this;
+        }
+
+        /**
+         * Sets if a revision, which directly follows the previously serialized revision, is serialized as the
+         * update operations, which have been stored during its commit, instead of the whole tree. The first revision
+         * and revisions without stored update operations are always serialized in full. The update operations are
+         * ordered by DeweyID and restricted to the subtree of the start node and the maximum level, if the resource
+         * stores DeweyIDs.
+         *
+         * @param serializeDeltas {@code true}, if deltas should be serialized, {@code false} otherwise
+         * @return this reference
+         */
+        public Builder serializeDeltas(final boolean serializeDeltas) {
+            this.serializeDeltas = serializeDeltas;
+            return this;
+        }
+
         /**
          * The versions to serialize.
          *
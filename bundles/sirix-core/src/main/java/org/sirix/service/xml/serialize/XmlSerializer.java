@@ -30,6 +30,7 @@ import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_INDENT_S
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_REST;
 import static org.sirix.service.xml.serialize.XmlSerializerProperties.S_XMLDECL;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -39,6 +40,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -51,6 +53,7 @@ import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.node.NodeKind;
+import org.sirix.service.ConcurrentSerializer;
 import org.sirix.settings.CharsForSerializing;
 import org.sirix.settings.Constants;
 import org.sirix.utils.LogWrapper;
@@ -67,7 +70,8 @@ import org.slf4j.LoggerFactory;
  * class.
  * </p>
  */
-public final class XmlSerializer extends org.sirix.service.AbstractSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx> {
+public final class XmlSerializer extends org.sirix.service.AbstractSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx>
+        implements ConcurrentSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx> {
 
     /**
      * {@link LogWrapper} reference.
@@ -159,6 +163,32 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
         emitXQueryResultSequence = builder.emitXQueryResultSequence;
         serializeTimestamp = builder.serializeTimestamp;
         metaData = builder.mMetaData;
+        if (builder.numberOfThreads > 1) {
+            serializeRevisionsConcurrently(builder.numberOfThreads, builder.maxBufferSize);
+        }
+    }
+
+    /**
+     * Constructor of a serializer, which serializes a single revision into a buffer with the same settings as the
+     * given serializer.
+     *
+     * @param serializer the serializer to copy the settings from
+     * @param buffer the buffer to write to
+     */
+    private XmlSerializer(final XmlSerializer serializer, final ByteArrayOutputStream buffer) {
+        super(serializer.resMgr, null, serializer.startNodeKey, serializer.revisions[0],
+                Arrays.copyOfRange(serializer.revisions, 1, serializer.revisions.length));
+        out = buffer;
+        indent = serializer.indent;
+        serializeXMLDeclaration = serializer.serializeXMLDeclaration;
+        serializeRest = serializer.serializeRest;
+        serializeRestSequence = serializer.serializeRestSequence;
+        serializeId = serializer.serializeId;
+        indentSpaces = serializer.indentSpaces;
+        withInitialIndent = serializer.withInitialIndent;
+        emitXQueryResultSequence = serializer.emitXQueryResultSequence;
+        serializeTimestamp = serializer.serializeTimestamp;
+        metaData = serializer.metaData;
     }
 
     /**
@@ -443,6 +473,26 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
         }
     }
 
+    @Override
+    public XmlSerializer newRevisionSerializer() {
+        return new XmlSerializer(this, new ByteArrayOutputStream());
+    }
+
+    @Override
+    protected long getBufferSize() {
+        return out instanceof ByteArrayOutputStream buffer ? buffer.size() : 0;
+    }
+
+    @Override
+    public void emitBuffer(
+            final org.sirix.service.AbstractSerializer<XmlNodeReadOnlyTrx, XmlNodeTrx> revisionSerializer) {
+        try {
+            ((ByteArrayOutputStream) ((XmlSerializer) revisionSerializer).out).writeTo(out);
+        } catch (final IOException e) {
+            LOGWRAPPER.error(e.getMessage(), e);
+        }
+    }
+
     @Override
     protected void setTrxForVisitor(XmlNodeReadOnlyTrx rtx) {
         castVisitor().setTrx(rtx);
@@ -641,6 +691,16 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
 
         private long maxLevel;
 
+        /**
+         * The number of threads to serialize several revisions concurrently.
+         */
+        private int numberOfThreads = 1;
+
+        /**
+         * The maximum number of bytes of all buffered revisions, if several revisions are serialized concurrently.
+         */
+        private long maxBufferSize;
+
         /**
          * Constructor, setting the necessary stuff.
          *
@@ -809,6 +869,24 @@ public final class XmlSerializer extends org.sirix.service.AbstractSerializer<Xm
             return this;
         }
 
+        /**
+         * Serialize several revisions concurrently into buffers, which are emitted in the order of the revisions. If
+         * a revision doesn't fit into its share of the maximum buffer size, it's serialized directly to the stream
+         * as well as all subsequent revisions. Has no effect, if the output is restricted by a maximum level.
+         *
+         * @param numberOfThreads the maximum number of revisions, which are serialized concurrently
+         * @param maxBufferSize the maximum number of bytes of all buffered revisions
+         * @return this {@link XmlSerializerBuilder} instance
+         */
+        public XmlSerializerBuilder serializeRevisionsConcurrently(final int numberOfThreads,
+                final long maxBufferSize) {
+            checkArgument(numberOfThreads > 0, "numberOfThreads must be > 0!");
+            checkArgument(maxBufferSize > 0, "maxBufferSize must be > 0!");
+            this.numberOfThreads = numberOfThreads;
+            this.maxBufferSize = maxBufferSize;
+            return this;
+        }
+
         /**
          * The versions to serialize.
          *
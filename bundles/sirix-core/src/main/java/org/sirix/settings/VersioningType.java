@@ -32,7 +32,6 @@ import javax.annotation.Nonnegative;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 
 /**
@@ -65,9 +64,9 @@ public enum VersioningType {
             returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
             returnVal.add(firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx));
 
-            for (final Map.Entry<? extends K, ? extends V> entry : pages.get(0).entrySet()) {
-                returnVal.get(0).setRecord(entry.getKey(), entry.getValue());
-                returnVal.get(1).setRecord(entry.getKey(), entry.getValue());
+            for (final K key : firstPage.keySet()) {
+                returnVal.get(0).copyRecord(firstPage, key);
+                returnVal.get(1).copyRecord(firstPage, key);
             }
 
             return PageContainer.getInstance(returnVal.get(0), returnVal.get(1));
@@ -97,18 +96,18 @@ public enum VersioningType {
             assert latest.getPageKey() == recordPageKey;
             assert fullDump.getPageKey() == recordPageKey;
 
-            for (final Map.Entry<K, V> entry : latest.entrySet()) {
-                returnVal.setRecord(entry.getKey(), entry.getValue());
+            for (final K key : latest.keySet()) {
+                returnVal.copyRecord(latest, key);
             }
-            for (final Map.Entry<K, PageReference> entry : latest.referenceEntrySet()) {
+            for (final Entry<K, PageReference> entry : latest.referenceEntrySet()) {
                 returnVal.setPageReference(entry.getKey(), entry.getValue());
             }
 
             // Skip full dump if not needed (fulldump equals latest page).
             if (pages.size() == 2) {
-                for (final Entry<K, V> entry : fullDump.entrySet()) {
-                    if (returnVal.getValue(entry.getKey()) == null) {
-                        returnVal.setRecord(entry.getKey(), entry.getValue());
+                for (final K key : fullDump.keySet()) {
+                    if (!returnVal.containsKey(key)) {
+                        returnVal.copyRecord(fullDump, key);
                         if (returnVal.size() == Constants.NDP_NODE_COUNT) {
                             break;
                         }
@@ -146,12 +145,12 @@ public enum VersioningType {
             final boolean isFullDump = revision % revToRestore == 0;
 
             // Iterate through all nodes of the latest revision.
-            for (final Map.Entry<K, V> entry : latest.entrySet()) {
-                returnVal.get(0).setRecord(entry.getKey(), entry.getValue());
-                returnVal.get(1).setRecord(entry.getKey(), entry.getValue());
+            for (final K key : latest.keySet()) {
+                returnVal.get(0).copyRecord(latest, key);
+                returnVal.get(1).copyRecord(latest, key);
             }
             // Iterate through all nodes of the latest revision.
-            for (final Map.Entry<K, PageReference> entry : latest.referenceEntrySet()) {
+            for (final Entry<K, PageReference> entry : latest.referenceEntrySet()) {
                 returnVal.get(0).setPageReference(entry.getKey(), entry.getValue());
                 returnVal.get(1).setPageReference(entry.getKey(), entry.getValue());
             }
@@ -159,13 +158,13 @@ public enum VersioningType {
             // If not all entries are filled.
             if (latest.size() != Constants.NDP_NODE_COUNT) {
                 // Iterate through the full dump.
-                for (final Map.Entry<K, V> entry : fullDump.entrySet()) {
-                    if (returnVal.get(0).getValue(entry.getKey()) == null) {
-                        returnVal.get(0).setRecord(entry.getKey(), entry.getValue());
+                for (final K key : fullDump.keySet()) {
+                    if (!returnVal.get(0).containsKey(key)) {
+                        returnVal.get(0).copyRecord(fullDump, key);
                     }
 
-                    if (isFullDump && returnVal.get(1).getValue(entry.getKey()) == null) {
-                        returnVal.get(1).setRecord(entry.getKey(), entry.getValue());
+                    if (isFullDump && !returnVal.get(1).containsKey(key)) {
+                        returnVal.get(1).copyRecord(fullDump, key);
                     }
 
                     if (returnVal.get(0).size() == Constants.NDP_NODE_COUNT) {
@@ -177,7 +176,7 @@ public enum VersioningType {
             // If not all entries are filled.
             if (latest.size() != Constants.NDP_NODE_COUNT) {
                 // Iterate through the full dump.
-                for (final Map.Entry<K, PageReference> entry : fullDump.referenceEntrySet()) {
+                for (final Entry<K, PageReference> entry : fullDump.referenceEntrySet()) {
                     if (returnVal.get(0).getPageReference(entry.getKey()) == null) {
                         returnVal.get(0).setPageReference(entry.getKey(), entry.getValue());
                     }
@@ -220,8 +219,7 @@ public enum VersioningType {
             assert pages.size() <= revToRestore;
             final T firstPage = pages.get(0);
             final long recordPageKey = firstPage.getPageKey();
-            final T returnVal
-                    = firstPage.newInstance(firstPage.getPageKey(), firstPage.getIndexType(), firstPage.getPageReadOnlyTrx());
+            final T returnVal = firstPage.newInstance(firstPage.getPageKey(), firstPage.getIndexType(), pageReadTrx);
 
             boolean filledPage = false;
             for (final T page : pages) {
@@ -229,10 +227,9 @@ public enum VersioningType {
                 if (filledPage) {
                     break;
                 }
-                for (final Entry<K, V> entry : page.entrySet()) {
-                    final K recordKey = entry.getKey();
-                    if (returnVal.getValue(recordKey) == null) {
-                        returnVal.setRecord(recordKey, entry.getValue());
+                for (final K recordKey : page.keySet()) {
+                    if (!returnVal.containsKey(recordKey)) {
+                        returnVal.copyRecord(page, recordKey);
                         if (returnVal.size() == Constants.NDP_NODE_COUNT) {
                             filledPage = true;
                             break;
@@ -283,15 +280,14 @@ public enum VersioningType {
                     break;
                 }
 
-                for (final Entry<K, V> entry : page.entrySet()) {
+                for (final K key : page.keySet()) {
                     // Caching the complete page.
-                    final K key = entry.getKey();
                     assert key != null;
-                    if (returnVal.get(0).getValue(key) == null) {
-                        returnVal.get(0).setRecord(key, entry.getValue());
+                    if (!returnVal.get(0).containsKey(key)) {
+                        returnVal.get(0).copyRecord(page, key);
 
-                        if (returnVal.get(1).getValue(entry.getKey()) == null && isFullDump) {
-                            returnVal.get(1).setRecord(key, entry.getValue());
+                        if (!returnVal.get(1).containsKey(key) && isFullDump) {
+                            returnVal.get(1).copyRecord(page, key);
                         }
 
                         if (returnVal.get(0).size() == Constants.NDP_NODE_COUNT) {
@@ -356,8 +352,7 @@ public enum VersioningType {
             assert pages.size() <= revToRestore;
             final T firstPage = pages.get(0);
             final long recordPageKey = firstPage.getPageKey();
-            final T returnVal
-                    = firstPage.newInstance(firstPage.getPageKey(), firstPage.getIndexType(), firstPage.getPageReadOnlyTrx());
+            final T returnVal = firstPage.newInstance(firstPage.getPageKey(), firstPage.getIndexType(), pageReadTrx);
 
             boolean filledPage = false;
             for (final T page : pages) {
@@ -365,10 +360,9 @@ public enum VersioningType {
                 if (filledPage) {
                     break;
                 }
-                for (final Entry<K, V> entry : page.entrySet()) {
-                    final K recordKey = entry.getKey();
-                    if (returnVal.getValue(recordKey) == null) {
-                        returnVal.setRecord(recordKey, entry.getValue());
+                for (final K recordKey : page.keySet()) {
+                    if (!returnVal.containsKey(recordKey)) {
+                        returnVal.copyRecord(page, recordKey);
                         if (returnVal.size() == Constants.NDP_NODE_COUNT) {
                             filledPage = true;
                             break;
@@ -420,20 +414,19 @@ public enum VersioningType {
 
                 final boolean isPageOutOfSlidingWindow = (i == pages.size() - 1 && revToRestore == pages.size());
 
-                for (final Entry<K, V> entry : page.entrySet()) {
+                for (final K key : page.keySet()) {
                     // Caching the complete page.
-                    final K key = entry.getKey();
                     assert key != null;
                     if (!isPageOutOfSlidingWindow) {
-                        pageWithRecordsInSlidingWindow.setRecord(key, entry.getValue());
+                        pageWithRecordsInSlidingWindow.copyRecord(page, key);
                     }
 
-                    if (completePage.getValue(key) == null) {
-                        completePage.setRecord(key, entry.getValue());
+                    if (!completePage.containsKey(key)) {
+                        completePage.copyRecord(page, key);
                     }
 
-                    if (isPageOutOfSlidingWindow && pageWithRecordsInSlidingWindow.getValue(key) == null) {
-                        modifyingPage.setRecord(key, entry.getValue());
+                    if (isPageOutOfSlidingWindow && !pageWithRecordsInSlidingWindow.containsKey(key)) {
+                        modifyingPage.copyRecord(page, key);
                     }
 
                     if (completePage.size() == Constants.NDP_NODE_COUNT) {
@@ -0,0 +1,202 @@
+package org.sirix.access;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.index.IndexType;
+import org.sirix.io.IOStorage;
+import org.sirix.io.Reader;
+import org.sirix.io.StorageType;
+import org.sirix.io.Writer;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.PageReference;
+import org.sirix.page.UberPage;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that record pages, which are serialized, compressed and hashed in parallel during a commit, are written
+ * exactly like pages, which are serialized one after another.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PreparedPagesCommitTest {
+
+    /**
+     * The number of values, which span many record pages.
+     */
+    private static final int NUMBER_OF_VALUES = 64 * 1024;
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+    }
+
+    @After
+    public void tearDown() {
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testFileStorage() {
+        testCommitOfPreparedPages(StorageType.FILE);
+    }
+
+    @Test
+    public void testFileChannelStorage() {
+        testCommitOfPreparedPages(StorageType.DIRECT);
+    }
+
+    private void testCommitOfPreparedPages(final StorageType storageType) {
+        final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final String resourceName = "resource-" + storageType.name().toLowerCase();
+        database.createResource(ResourceConfiguration.newBuilder(resourceName).storageType(storageType).build());
+
+        try (final var manager = database.openResourceManager(resourceName)) {
+            try (final var wtx = manager.beginNodeTrx()) {
+                // The record pages are prepared in parallel by the thread pool of the resource manager on commit.
+                wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createArray()), JsonNodeTrx.Commit.No);
+                wtx.commit();
+            }
+
+            try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+                rtx.moveToDocumentRoot();
+                rtx.moveToFirstChild();
+                assertTrue(rtx.moveToFirstChild().hasMoved());
+                for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+                    assertEquals(i, rtx.getNumberValue().intValue());
+                    rtx.moveToRightSibling();
+                }
+
+                final PageReadOnlyTrx pageTrx = rtx.getPageTrx();
+                final List<PageReference> committedReferences = getRecordPageReferences(pageTrx, rtx.getMaxNodeKey());
+                assertTrue(committedReferences.size() > 32);
+
+                final ExecutorService executor = Executors.newFixedThreadPool(4);
+                try {
+                    final List<PageReference> parallelReferences =
+                            write(storageType, "parallel", committedReferences, pageTrx, executor);
+                    final List<PageReference> sequentialReferences =
+                            write(storageType, "sequential", committedReferences, pageTrx, null);
+
+                    for (int i = 0; i < committedReferences.size(); i++) {
+                        assertNotNull(committedReferences.get(i).getHash());
+                        assertArrayEquals(sequentialReferences.get(i).getHash(), committedReferences.get(i).getHash());
+                        assertArrayEquals(sequentialReferences.get(i).getHash(), parallelReferences.get(i).getHash());
+                    }
+
+                    assertSameRecords(storageType, "parallel", parallelReferences, committedReferences, pageTrx);
+                    assertSameRecords(storageType, "sequential", sequentialReferences, committedReferences, pageTrx);
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+        }
+    }
+
+    private static String createArray() {
+        final StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            if (i > 0) {
+                array.append(',');
+            }
+            array.append(i);
+        }
+        return array.append(']').toString();
+    }
+
+    private static List<PageReference> getRecordPageReferences(final PageReadOnlyTrx pageTrx, final long maxNodeKey) {
+        final List<PageReference> references = new ArrayList<>();
+        final PageReference documentIndexReference =
+                pageTrx.getActualRevisionRootPage().getIndirectDocumentIndexPageReference();
+        final long maxPageKey = pageTrx.pageKey(maxNodeKey, IndexType.DOCUMENT);
+        for (long pageKey = 0; pageKey <= maxPageKey; pageKey++) {
+            references.add(pageTrx.getReferenceToLeafOfSubtree(documentIndexReference, pageKey, -1,
+                    IndexType.DOCUMENT));
+        }
+        return references;
+    }
+
+    /**
+     * Write the committed record pages into another storage, either prepared in parallel or one after another.
+     */
+    private static List<PageReference> write(final StorageType storageType, final String resourceName,
+            final List<PageReference> committedReferences, final PageReadOnlyTrx pageTrx,
+            final ExecutorService executor) {
+        final IOStorage storage = createStorage(storageType, resourceName);
+        final List<PageReference> references = new ArrayList<>();
+        final List<Page> pages = new ArrayList<>();
+
+        for (final PageReference committedReference : committedReferences) {
+            // Read a new instance of the page, which isn't shared with the cache of the resource.
+            final Page page = pageTrx.getReader().read(committedReference, pageTrx);
+            pages.add(page);
+            final PageReference reference = new PageReference();
+            reference.setPage(page);
+            references.add(reference);
+        }
+
+        try (final Writer writer = storage.createWriter()) {
+            if (executor != null) {
+                writer.prepare(pages, executor);
+            }
+            for (final PageReference reference : references) {
+                writer.write(reference);
+            }
+            final PageReference uberPageReference = new PageReference();
+            uberPageReference.setPage(new UberPage());
+            writer.writeUberPageReference(uberPageReference);
+        } finally {
+            storage.close();
+        }
+
+        return references;
+    }
+
+    private static void assertSameRecords(final StorageType storageType, final String resourceName,
+            final List<PageReference> references, final List<PageReference> committedReferences,
+            final PageReadOnlyTrx pageTrx) {
+        final IOStorage storage = createStorage(storageType, resourceName);
+
+        try (final Reader reader = storage.createReader()) {
+            for (int i = 0; i < references.size(); i++) {
+                final var page = (UnorderedKeyValuePage) reader.read(references.get(i), pageTrx);
+                final var committedPage = (UnorderedKeyValuePage) pageTrx.getReader()
+                        .read(committedReferences.get(i), pageTrx);
+
+                assertEquals(committedPage.getPageKey(), page.getPageKey());
+                assertEquals(committedPage.keySet(), page.keySet());
+                for (final Long key : committedPage.keySet()) {
+                    final DataRecord committedRecord = committedPage.getValue(pageTrx, key);
+                    final DataRecord record = page.getValue(pageTrx, key);
+                    assertEquals(committedRecord.getNodeKey(), record.getNodeKey());
+                    assertEquals(committedRecord.getKind(), record.getKind());
+                }
+            }
+        } finally {
+            storage.close();
+        }
+    }
+
+    private static IOStorage createStorage(final StorageType storageType, final String resourceName) {
+        final var resourceConfig = ResourceConfiguration.newBuilder(resourceName)
+                .storageType(storageType)
+                .build()
+                .setDatabaseConfiguration(new DatabaseConfiguration(JsonTestHelper.PATHS.PATH2.getFile()));
+        return storageType.getInstance(resourceConfig);
+    }
+}
@@ -22,12 +22,15 @@ package org.sirix.access;
 
 import org.sirix.XmlTestHelper;
 import org.sirix.exception.SirixException;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.PageHashType;
 import org.sirix.io.Reader;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.file.FileStorage;
 import org.sirix.io.ram.RAMStorage;
+import org.sirix.page.IndirectPage;
 import org.sirix.page.PageReference;
 import org.sirix.page.UberPage;
 import org.testng.annotations.AfterClass;
@@ -119,6 +122,42 @@ public final class StorageTest {
         }
     }
 
+    @Test
+    public void testPageHashVerification() {
+        final ResourceConfiguration hashedResourceConfig = new ResourceConfiguration.Builder("hashed")
+                .pageHashType(PageHashType.CRC32C)
+                .verifyPageHashes(true)
+                .build()
+                .setDatabaseConfiguration(new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile()));
+        final IOStorage storage = new FileStorage(hashedResourceConfig);
+
+        final PageReference reference = new PageReference();
+        reference.setPage(new IndirectPage());
+        try (final Writer writer = storage.createWriter()) {
+            writer.write(reference);
+            final PageReference uberPageReference = new PageReference();
+            uberPageReference.setPage(new UberPage());
+            writer.writeUberPageReference(uberPageReference);
+        }
+        assertEquals(4, reference.getHash().length);
+
+        try (final Reader reader = storage.createReader()) {
+            assertTrue(reader.read(reference, null) instanceof IndirectPage);
+
+            final byte[] corruptedHash = reference.getHash().clone();
+            corruptedHash[0] ^= 1;
+            reference.setHash(corruptedHash);
+            try {
+                reader.read(reference, null);
+                fail("The corrupted page hasn't been detected.");
+            } catch (final SirixIOException expected) {
+                // Expected.
+            }
+        } finally {
+            storage.close();
+        }
+    }
+
     /**
      * Providing different implementations of the {@link ByteHandler} as
      * Dataprovider to the test class.
@@ -46,4 +46,20 @@ public class DatabaseConfigurationTest {
                 = DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile());
         assertEquals(conf.toString(), serializedConf.toString());
     }
+
+    @Test
+    public void testDeSerializeCacheWeights() throws SirixIOException {
+        final DatabaseConfiguration conf = new DatabaseConfiguration(XmlTestHelper.PATHS.PATH1.getFile())
+                .setPageCacheWeight(1L << 20)
+                .setRecordPageCacheWeight(2L << 20)
+                .setOffHeapRecordPageCacheWeight(4L << 20)
+                .setRevisionRootPageCacheWeight(3L << 20);
+        assertTrue(Databases.createXmlDatabase(conf));
+        final DatabaseConfiguration serializedConf
+                = DatabaseConfiguration.deserialize(XmlTestHelper.PATHS.PATH1.getFile());
+        assertEquals(1L << 20, serializedConf.getPageCacheWeight());
+        assertEquals(2L << 20, serializedConf.getRecordPageCacheWeight());
+        assertEquals(4L << 20, serializedConf.getOffHeapRecordPageCacheWeight());
+        assertEquals(3L << 20, serializedConf.getRevisionRootPageCacheWeight());
+    }
 }
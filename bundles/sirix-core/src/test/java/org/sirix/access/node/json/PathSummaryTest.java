@@ -10,6 +10,8 @@ import org.sirix.axis.DescendantAxis;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.NodeKind;
 
+import java.util.BitSet;
+
 import static org.junit.Assert.*;
 
 public class PathSummaryTest {
@@ -43,6 +45,25 @@ public class PathSummaryTest {
         }
     }
 
+    @Test
+    public void testPathSummariesOfSameRevision() {
+        try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+             final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+             final var firstPathSummary = manager.openPathSummary();
+             final var secondPathSummary = manager.openPathSummary()) {
+            final var expected = new BitSet();
+            expected.set(6);
+            expected.set(10);
+
+            assertEquals(expected, firstPathSummary.match(new QNm("baz"), 1));
+            firstPathSummary.close();
+
+            assertEquals(expected, secondPathSummary.match(new QNm("baz"), 1));
+            assertEquals(NodeKind.OBJECT_KEY, secondPathSummary.getPathNodeForPathNodeKey(7L).getPathKind());
+            testInsertHelper(secondPathSummary);
+        }
+    }
+
     private void testInsertHelper(final PathSummaryReader summaryReader) {
         final var axis = new DescendantAxis(summaryReader);
         PathSummaryReader summary = next(axis);
@@ -32,6 +32,7 @@ import org.sirix.Holder;
 import org.sirix.XmlTestHelper;
 import org.sirix.access.Databases;
 import org.sirix.access.User;
+import org.sirix.access.trx.node.RevisionMetadataLog;
 import org.sirix.access.trx.node.xml.XmlNodeReadOnlyTrxImpl;
 import org.sirix.api.Axis;
 import org.sirix.api.Movement;
@@ -53,6 +54,7 @@ import org.sirix.utils.XmlDocumentCreator;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Iterator;
@@ -222,6 +224,54 @@ public class UpdateTest {
         }
     }
 
+    @Test
+    public void testGettingHistoryByTimeRange() {
+        final var user = setupCommitHistoryTest();
+
+        try (final var database = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile(), user); final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+            final var history = manager.getHistory();
+            final var from = history.get(1).getRevisionTimestamp();
+            final var to = history.get(0).getRevisionTimestamp();
+
+            final var historyInTimeRange = manager.getHistory(from, to);
+
+            assertEquals(3, historyInTimeRange.get(0).getRevision());
+            assertEquals("Marc Kramis", historyInTimeRange.get(0).getUser().getName());
+            assertTrue(historyInTimeRange.stream().anyMatch(revisionInfo -> revisionInfo.getRevision() == 2));
+
+            for (final var revisionInfo : historyInTimeRange) {
+                assertFalse(revisionInfo.getRevisionTimestamp().isBefore(from));
+                assertFalse(revisionInfo.getRevisionTimestamp().isAfter(to));
+            }
+
+            assertTrue(manager.getHistory(from.minusSeconds(120), from.minusSeconds(60)).isEmpty());
+        }
+    }
+
+    @Test
+    public void testGettingHistoryWithoutRevisionMetadataLog() throws IOException {
+        final var user = setupCommitHistoryTest();
+
+        final Path revisionMetadataLog;
+        try (final var database = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile(), user); final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+            revisionMetadataLog = RevisionMetadataLog.getFile(manager.getResourceConfig());
+        }
+
+        // The metadata of revisions, which have been committed before the log existed, is read from the revisions.
+        Files.delete(revisionMetadataLog);
+
+        try (final var database = Databases.openXmlDatabase(XmlTestHelper.PATHS.PATH1.getFile(), user); final var manager = database.openResourceManager(XmlTestHelper.RESOURCE)) {
+            final var history = manager.getHistory();
+
+            assertEquals(3, history.size());
+            assertEquals(3, history.get(0).getRevision());
+            assertEquals("Insert a second element and text node", history.get(0).getCommitMessage().get());
+            assertEquals("Marc Kramis", history.get(0).getUser().getName());
+            assertEquals(1, history.get(2).getRevision());
+            assertTrue(Files.size(revisionMetadataLog) > 0);
+        }
+    }
+
     private User setupCommitHistoryTest() {
         final var user = new User("Johannes Lichtenberger", UUID.randomUUID());
         try (final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile(), user); final var manager = database.openResourceManager(XmlTestHelper.RESOURCE); final var wtx = manager.beginNodeTrx()) {
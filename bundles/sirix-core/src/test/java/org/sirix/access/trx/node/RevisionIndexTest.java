@@ -0,0 +1,146 @@
+package org.sirix.access.trx.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.Databases;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonResourceManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link RevisionIndex}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionIndexTest {
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+    }
+
+    @After
+    public void tearDown() {
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testFillAndBinarySearch() throws IOException {
+        final Path file = Files.createTempFile("sirix", RevisionIndex.FILENAME);
+
+        try (final var index = new RevisionIndex(file)) {
+            index.put(0, 100, 10);
+            // Revision 1 is zero-filled by the positional write of revision 2, revision 3 is missing.
+            index.put(2, 300, 30);
+
+            index.fill(3, revision -> new RevisionIndex.Entry((revision + 1) * 100L, (revision + 1) * 10L));
+
+            assertEquals(200, index.getTimestamp(1));
+            assertEquals(20, index.getOffset(1));
+            assertEquals(400, index.getTimestamp(3));
+
+            assertEquals(2, index.binarySearch(300, 3));
+            assertEquals(-1, index.binarySearch(50, 3));
+            assertEquals(-3, index.binarySearch(250, 3));
+            assertEquals(-5, index.binarySearch(500, 3));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testFillContinuesFromPersistedEntries() throws IOException {
+        final Path file = Files.createTempFile("sirix", RevisionIndex.FILENAME);
+
+        try {
+            try (final var index = new RevisionIndex(file)) {
+                index.put(0, 100, 10);
+                index.put(1, 200, 20);
+                // Revision 2 is zero-filled by the positional write of revision 3.
+                index.put(3, 400, 40);
+            }
+
+            try (final var index = new RevisionIndex(file)) {
+                final List<Integer> loadedRevisions = new ArrayList<>();
+                index.fill(4, revision -> {
+                    loadedRevisions.add(revision);
+                    return new RevisionIndex.Entry((revision + 1) * 100L, (revision + 1) * 10L);
+                });
+
+                assertEquals(List.of(2, 4), loadedRevisions);
+                assertEquals(300, index.getTimestamp(2));
+                assertEquals(500, index.getTimestamp(4));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testGetRevisionNumber() throws InterruptedException, IOException {
+        final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var timestamps = new Instant[4];
+
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+             final var wtx = manager.beginNodeTrx()) {
+            wtx.insertObjectAsFirstChild();
+
+            for (int i = 1; i < timestamps.length; i++) {
+                TimeUnit.MILLISECONDS.sleep(10);
+                wtx.insertObjectRecordAsFirstChild("key" + i, new StringValue("value" + i));
+                wtx.moveToParent();
+                wtx.commit();
+            }
+        }
+
+        final Path indexFile;
+
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+            for (int revision = 0; revision < timestamps.length; revision++) {
+                try (final var rtx = manager.beginNodeReadOnlyTrx(revision)) {
+                    timestamps[revision] = rtx.getRevisionTimestamp();
+                }
+            }
+
+            assertRevisionNumbers(manager, timestamps);
+
+            indexFile = RevisionIndex.getFile(manager.getResourceConfig());
+        }
+
+        JsonTestHelper.closeEverything();
+
+        // Revisions, which have been committed before the index existed, are indexed on demand.
+        Files.delete(indexFile);
+
+        try (final var reopenedDatabase = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+             final var manager = reopenedDatabase.openResourceManager(JsonTestHelper.RESOURCE)) {
+            assertRevisionNumbers(manager, timestamps);
+            assertTrue(Files.size(indexFile) > 0);
+        }
+    }
+
+    private static void assertRevisionNumbers(final JsonResourceManager manager, final Instant[] timestamps) {
+        for (int revision = 0; revision < timestamps.length; revision++) {
+            assertEquals(revision, manager.getRevisionNumber(timestamps[revision]));
+
+            try (final var rtx = manager.beginNodeReadOnlyTrx(timestamps[revision])) {
+                assertEquals(revision, rtx.getRevisionNumber());
+            }
+        }
+
+        assertEquals(0, manager.getRevisionNumber(timestamps[0].minusSeconds(60)));
+        assertEquals(timestamps.length - 1, manager.getRevisionNumber(timestamps[timestamps.length - 1].plusSeconds(60)));
+    }
+}
@@ -0,0 +1,108 @@
+package org.sirix.access.trx.node;
+
+import org.junit.Test;
+import org.sirix.access.User;
+import org.sirix.api.RevisionInfo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test the {@link RevisionMetadataLog}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RevisionMetadataLogTest {
+
+    @Test
+    public void testAppendAndRead() throws IOException {
+        final Path file = Files.createTempFile("sirix", RevisionMetadataLog.FILENAME);
+        final var user = new User("Johannes Lichtenberger", UUID.randomUUID());
+
+        try (final var log = new RevisionMetadataLog(file)) {
+            log.append(1, 100, user, "Insert nodes");
+            // Revisions might be committed without a user.
+            log.append(2, 200, null, null);
+
+            final RevisionInfo[] revisionInfos = log.read(1, 3);
+
+            assertEquals(new RevisionInfo(user, 1, Instant.ofEpochMilli(100), "Insert nodes"), revisionInfos[0]);
+            assertEquals(new RevisionInfo(null, 2, Instant.ofEpochMilli(200), null), revisionInfos[1]);
+            assertNull(revisionInfos[1].getUser());
+            assertNull(revisionInfos[2]);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testTruncateTornTail() throws IOException {
+        final Path file = Files.createTempFile("sirix", RevisionMetadataLog.FILENAME);
+
+        try {
+            try (final var log = new RevisionMetadataLog(file)) {
+                log.append(1, 100, null, "first");
+            }
+            final long validSize = Files.size(file);
+
+            // The record of a commit, which has been interrupted: its length exceeds the remaining bytes.
+            Files.write(file, ByteBuffer.allocate(12).putInt(1_000).putInt(42).putInt(2).array(),
+                    StandardOpenOption.APPEND);
+
+            try (final var log = new RevisionMetadataLog(file)) {
+                assertEquals(validSize, Files.size(file));
+                assertFalse(log.isCorrupt());
+                log.append(2, 200, null, "second");
+            }
+
+            try (final var log = new RevisionMetadataLog(file)) {
+                final RevisionInfo[] revisionInfos = log.read(1, 2);
+                assertEquals("first", revisionInfos[0].getCommitMessage().orElseThrow());
+                assertEquals("second", revisionInfos[1].getCommitMessage().orElseThrow());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testTruncateCorruptRecord() throws IOException {
+        final Path file = Files.createTempFile("sirix", RevisionMetadataLog.FILENAME);
+
+        try {
+            final long validSize;
+            try (final var log = new RevisionMetadataLog(file)) {
+                log.append(1, 100, null, "first");
+                validSize = Files.size(file);
+                log.append(2, 200, null, "second");
+            }
+
+            // Flip the last byte of the commit message of the second record, such that its checksum doesn't match.
+            final byte[] bytes = Files.readAllBytes(file);
+            bytes[bytes.length - 1] ^= 1;
+            Files.write(file, bytes);
+
+            try (final var log = new RevisionMetadataLog(file)) {
+                assertEquals(validSize, Files.size(file));
+                final RevisionInfo[] revisionInfos = log.read(1, 2);
+                assertNotNull(revisionInfos[0]);
+                // The metadata of the truncated revision is read from the revision root page and appended again.
+                assertNull(revisionInfos[1]);
+                log.append(2, 200, null, "second");
+                assertEquals("second", log.read(2, 2)[0].getCommitMessage().orElseThrow());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.sirix.access.trx.page;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.InternalResourceManager;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.index.IndexType;
+import org.sirix.io.StorageType;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.PageFragmentKeyImpl;
+import org.sirix.page.PageReference;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.PageFragmentKey;
+import org.sirix.service.json.shredder.JsonShredder;
+import org.sirix.settings.VersioningType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the concurrent fetching of the fragments of a record page by the {@link PageFragmentFetcher}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PageFragmentFetcherTest {
+
+    /**
+     * The number of revisions to restore a record page with sliding snapshot versioning.
+     */
+    private static final int REVISIONS_TO_RESTORE = 4;
+
+    /**
+     * The name of the resource.
+     */
+    private static final String RESOURCE = "resource";
+
+    private JsonResourceManager manager;
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+
+        final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        // The reads of the file storage can't be interrupted, in contrast to the ones of a file channel.
+        database.createResource(ResourceConfiguration.newBuilder(RESOURCE)
+                                                     .versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                     .revisionsToRestore(REVISIONS_TO_RESTORE)
+                                                     .storageType(StorageType.FILE)
+                                                     .build());
+        manager = database.openResourceManager(RESOURCE);
+
+        try (final var wtx = manager.beginNodeTrx()) {
+            wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[0,1,2,3,4,5,6,7]"));
+
+            // Modify the first record page in each revision, such that it consists of several fragments.
+            for (int revision = 2; revision <= 2 * REVISIONS_TO_RESTORE; revision++) {
+                wtx.moveToDocumentRoot();
+                wtx.moveToFirstChild();
+                wtx.moveToFirstChild();
+                wtx.setNumberValue(revision);
+                wtx.commit();
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        manager.close();
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testFetchEqualsSequentialFetch() {
+        try (final var pageTrx = (NodePageReadOnlyTrx) manager.beginPageReadOnlyTrx()) {
+            final List<PageFragmentKey> pageFragmentKeys = getPageFragmentKeys(pageTrx);
+            assertEquals(REVISIONS_TO_RESTORE, pageFragmentKeys.size());
+
+            final List<UnorderedKeyValuePage> pages = createFetcher(pageTrx).fetch(pageFragmentKeys);
+
+            assertSamePages(fetchSequentially(pageFragmentKeys), pages, pageTrx);
+        }
+    }
+
+    @Test
+    public void testFetchFormerRevision() {
+        try (final var pageTrx = (NodePageReadOnlyTrx) manager.beginPageReadOnlyTrx(REVISIONS_TO_RESTORE + 1)) {
+            final List<PageFragmentKey> pageFragmentKeys = getPageFragmentKeys(pageTrx);
+
+            final List<UnorderedKeyValuePage> pages = createFetcher(pageTrx).fetch(pageFragmentKeys);
+
+            assertSamePages(fetchSequentially(pageFragmentKeys), pages, pageTrx);
+        }
+    }
+
+    @Test
+    public void testFetchFailure() {
+        try (final var pageTrx = (NodePageReadOnlyTrx) manager.beginPageReadOnlyTrx()) {
+            final List<PageFragmentKey> pageFragmentKeys = getPageFragmentKeys(pageTrx);
+            final PageFragmentFetcher fetcher = createFetcher(pageTrx);
+
+            // A fragment of a revision, which doesn't exist, can't be read by a pool thread.
+            final List<PageFragmentKey> invalidPageFragmentKeys = new ArrayList<>(pageFragmentKeys);
+            invalidPageFragmentKeys.add(new PageFragmentKeyImpl(pageTrx.getRevisionNumber() + 1, 0));
+
+            try {
+                fetcher.fetch(invalidPageFragmentKeys);
+                fail("Fetching a fragment of a revision, which doesn't exist, must fail.");
+            } catch (final IllegalArgumentException expected) {
+                // The exception of the pool thread is rethrown.
+            }
+
+            // The fetcher is still usable afterwards.
+            final List<UnorderedKeyValuePage> pages = fetcher.fetch(pageFragmentKeys);
+
+            assertSamePages(fetchSequentially(pageFragmentKeys), pages, pageTrx);
+        }
+    }
+
+    @Test
+    public void testFetchWhenInterrupted() {
+        try (final var pageTrx = (NodePageReadOnlyTrx) manager.beginPageReadOnlyTrx()) {
+            final List<PageFragmentKey> pageFragmentKeys = getPageFragmentKeys(pageTrx);
+
+            Thread.currentThread().interrupt();
+            final List<UnorderedKeyValuePage> pages;
+            try {
+                pages = createFetcher(pageTrx).fetch(pageFragmentKeys);
+            } finally {
+                // The interrupt status of the calling thread is kept.
+                assertTrue(Thread.interrupted());
+            }
+
+            assertSamePages(fetchSequentially(pageFragmentKeys), pages, pageTrx);
+        }
+    }
+
+    private PageFragmentFetcher createFetcher(final NodePageReadOnlyTrx pageTrx) {
+        return new PageFragmentFetcher((InternalResourceManager<?, ?>) manager, pageTrx);
+    }
+
+    /**
+     * Get the keys of the fragments of the first record page, the fragment of the current revision first.
+     */
+    private static List<PageFragmentKey> getPageFragmentKeys(final NodePageReadOnlyTrx pageTrx) {
+        final PageReference reference = pageTrx.getReferenceToLeafOfSubtree(
+                pageTrx.getActualRevisionRootPage().getIndirectDocumentIndexPageReference(), 0, -1,
+                IndexType.DOCUMENT);
+        assertFalse(reference.getPageFragments().isEmpty());
+
+        final List<PageFragmentKey> pageFragmentKeys = new ArrayList<>();
+        pageFragmentKeys.add(new PageFragmentKeyImpl(pageTrx.getRevisionNumber(), reference.getKey()));
+        pageFragmentKeys.addAll(reference.getPageFragments());
+        return pageFragmentKeys;
+    }
+
+    /**
+     * Read the page fragments one after another, each one with a page read-only transaction on its revision.
+     */
+    private List<UnorderedKeyValuePage> fetchSequentially(final List<PageFragmentKey> pageFragmentKeys) {
+        final List<UnorderedKeyValuePage> pages = new ArrayList<>();
+        for (final PageFragmentKey pageFragmentKey : pageFragmentKeys) {
+            try (final var pageTrx = manager.beginPageReadOnlyTrx(pageFragmentKey.getRevision())) {
+                pages.add((UnorderedKeyValuePage) pageTrx.getReader()
+                                                         .read(new PageReference().setKey(pageFragmentKey.getKey()),
+                                                               pageTrx));
+            }
+        }
+        return pages;
+    }
+
+    private static void assertSamePages(final List<UnorderedKeyValuePage> expectedPages,
+            final List<UnorderedKeyValuePage> pages, final NodePageReadOnlyTrx pageTrx) {
+        assertEquals(expectedPages.size(), pages.size());
+
+        for (int i = 0; i < pages.size(); i++) {
+            final UnorderedKeyValuePage expectedPage = expectedPages.get(i);
+            final UnorderedKeyValuePage page = pages.get(i);
+
+            // The fragments are sorted by their revision in descending order.
+            if (i > 0) {
+                assertTrue(pages.get(i - 1).getRevision() > page.getRevision());
+            }
+
+            assertEquals(expectedPage.getRevision(), page.getRevision());
+            assertEquals(expectedPage.getPageKey(), page.getPageKey());
+            assertEquals(expectedPage.keySet(), page.keySet());
+            for (final Long key : expectedPage.keySet()) {
+                final DataRecord expectedRecord = expectedPage.getValue(pageTrx, key);
+                final DataRecord record = page.getValue(pageTrx, key);
+                assertEquals(expectedRecord.getNodeKey(), record.getNodeKey());
+                assertEquals(expectedRecord.getKind(), record.getKind());
+            }
+        }
+    }
+}
@@ -167,6 +167,40 @@ public final class ConcurrentAxisTest {
         assertEquals(false, axis.hasNext());
     }
 
+    /**
+     * Test concurrent with small batches and queues, such that the producers block and are reset.
+     *
+     */
+    @Test
+    public void testConcurrentWithSmallBatches() {
+        /* query: //regions/africa//location */
+        final int resultNumber = 55;
+        final var firstConcurrRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+        final var secondConcurrRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+        final var thirdConcurrRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+        final var firstRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+        final var secondRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+        final var thirdRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+        final Axis axis
+                = new NestedAxis(
+                        new NestedAxis(
+                                new ConcurrentAxis<>(firstConcurrRtx,
+                                        new FilterAxis<>(new DescendantAxis(firstRtx, IncludeSelf.YES),
+                                                new XmlNameFilter(firstRtx, "regions")), 1, 1),
+                                new ConcurrentAxis<>(secondConcurrRtx,
+                                        new FilterAxis<>(new ChildAxis(secondRtx), new XmlNameFilter(secondRtx, "africa")),
+                                        2, 1)),
+                        new ConcurrentAxis<>(thirdConcurrRtx,
+                                new FilterAxis<>(new DescendantAxis(thirdRtx, IncludeSelf.YES),
+                                        new XmlNameFilter(thirdRtx, "location")), 3, 2));
+
+        for (int i = 0; i < resultNumber; i++) {
+            assertEquals(true, axis.hasNext());
+            axis.next();
+        }
+        assertEquals(false, axis.hasNext());
+    }
+
     /**
      * Test concurrent.
      *
@@ -0,0 +1,68 @@
+package org.sirix.axis.temporal;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.testing.IteratorFeature;
+import com.google.common.collect.testing.IteratorTester;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceManager;
+
+import java.util.Iterator;
+
+/**
+ * Test {@link AllTimeChangesAxis}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class AllTimeChangesAxisTest {
+
+    /**
+     * Number of iterations.
+     */
+    private static final int ITERATIONS = 5;
+
+    /**
+     * The resource manager.
+     */
+    private JsonResourceManager manager;
+
+    /**
+     * The key of the string value node, which is changed in revision 3 and removed in revision 5.
+     */
+    private long nodeKey;
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+        manager = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())
+                .openResourceManager(JsonTestHelper.RESOURCE);
+        nodeKey = ChangesAxisTestHelper.createRevisions(manager);
+    }
+
+    @After
+    public void tearDown() {
+        manager.close();
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testAxis() {
+        try (final JsonNodeReadOnlyTrx firstRtx = manager.beginNodeReadOnlyTrx(1);
+             final JsonNodeReadOnlyTrx thirdRtx = manager.beginNodeReadOnlyTrx(3);
+             final JsonNodeReadOnlyTrx fourthRtx = manager.beginNodeReadOnlyTrx(4)) {
+            firstRtx.moveTo(nodeKey);
+            thirdRtx.moveTo(nodeKey);
+            fourthRtx.moveTo(nodeKey);
+
+            new IteratorTester<>(ITERATIONS, IteratorFeature.UNMODIFIABLE, ImmutableList.of(firstRtx, thirdRtx), null) {
+                @Override
+                protected Iterator<JsonNodeReadOnlyTrx> newTargetIterator() {
+                    return new AllTimeChangesAxis<>(manager, fourthRtx);
+                }
+            }.test();
+        }
+    }
+}
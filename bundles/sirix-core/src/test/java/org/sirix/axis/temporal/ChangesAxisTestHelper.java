@@ -0,0 +1,61 @@
+package org.sirix.axis.temporal;
+
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+
+/**
+ * Creates the revisions, which are shared by the tests of the axes, which iterate over the changes of a node.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class ChangesAxisTestHelper {
+
+    /**
+     * Private constructor.
+     */
+    private ChangesAxisTestHelper() {
+        throw new AssertionError("May never be instantiated!");
+    }
+
+    /**
+     * Commit five revisions. A string value node is inserted in revision 1, changed in revision 3 and removed in
+     * revision 5, whereas revisions 2 and 4 only insert siblings of its parent.
+     *
+     * @param manager the resource manager of an empty resource
+     * @return the key of the string value node
+     */
+    static long createRevisions(final JsonResourceManager manager) {
+        try (final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+            // Revision 1.
+            wtx.insertObjectAsFirstChild();
+            final long objectKey = wtx.getNodeKey();
+            wtx.insertObjectRecordAsFirstChild("foo", new StringValue("bar"));
+            final long nodeKey = wtx.getNodeKey();
+            wtx.commit();
+
+            // Revision 2.
+            wtx.moveTo(objectKey);
+            wtx.insertObjectRecordAsFirstChild("baz", new StringValue("qux"));
+            wtx.commit();
+
+            // Revision 3.
+            wtx.moveTo(nodeKey);
+            wtx.setStringValue("bar2");
+            wtx.commit();
+
+            // Revision 4.
+            wtx.moveTo(objectKey);
+            wtx.insertObjectRecordAsFirstChild("quux", new StringValue("corge"));
+            wtx.commit();
+
+            // Revision 5.
+            wtx.moveTo(nodeKey);
+            wtx.moveToParent();
+            wtx.remove();
+            wtx.commit();
+
+            return nodeKey;
+        }
+    }
+}
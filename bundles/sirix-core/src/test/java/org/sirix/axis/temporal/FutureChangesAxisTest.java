@@ -0,0 +1,83 @@
+package org.sirix.axis.temporal;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.testing.IteratorFeature;
+import com.google.common.collect.testing.IteratorTester;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.axis.IncludeSelf;
+
+import java.util.Iterator;
+
+/**
+ * Test {@link FutureChangesAxis}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class FutureChangesAxisTest {
+
+    /**
+     * Number of iterations.
+     */
+    private static final int ITERATIONS = 5;
+
+    /**
+     * The resource manager.
+     */
+    private JsonResourceManager manager;
+
+    /**
+     * The key of the string value node, which is changed in revision 3 and removed in revision 5.
+     */
+    private long nodeKey;
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+        manager = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())
+                .openResourceManager(JsonTestHelper.RESOURCE);
+        nodeKey = ChangesAxisTestHelper.createRevisions(manager);
+    }
+
+    @After
+    public void tearDown() {
+        manager.close();
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testFutureOrSelfAxis() {
+        try (final JsonNodeReadOnlyTrx firstRtx = manager.beginNodeReadOnlyTrx(1);
+             final JsonNodeReadOnlyTrx thirdRtx = manager.beginNodeReadOnlyTrx(3)) {
+            firstRtx.moveTo(nodeKey);
+            thirdRtx.moveTo(nodeKey);
+
+            new IteratorTester<>(ITERATIONS, IteratorFeature.UNMODIFIABLE, ImmutableList.of(firstRtx, thirdRtx), null) {
+                @Override
+                protected Iterator<JsonNodeReadOnlyTrx> newTargetIterator() {
+                    return new FutureChangesAxis<>(manager, firstRtx, IncludeSelf.YES);
+                }
+            }.test();
+        }
+    }
+
+    @Test
+    public void testFutureAxis() {
+        try (final JsonNodeReadOnlyTrx secondRtx = manager.beginNodeReadOnlyTrx(2);
+             final JsonNodeReadOnlyTrx thirdRtx = manager.beginNodeReadOnlyTrx(3)) {
+            secondRtx.moveTo(nodeKey);
+            thirdRtx.moveTo(nodeKey);
+
+            new IteratorTester<>(ITERATIONS, IteratorFeature.UNMODIFIABLE, ImmutableList.of(thirdRtx), null) {
+                @Override
+                protected Iterator<JsonNodeReadOnlyTrx> newTargetIterator() {
+                    return new FutureChangesAxis<>(manager, secondRtx);
+                }
+            }.test();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.sirix.cache;
+
+import org.junit.Test;
+import org.sirix.page.IndirectPage;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.Page;
+
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link GlobalBufferManager}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class GlobalBufferManagerTest {
+
+    @Test
+    public void testResourcesShareTheCacheButNotTheirEntries() {
+        final var globalBufferManager = new GlobalBufferManager(1 << 20);
+        final var firstResource = globalBufferManager.getResourceBufferManager(Paths.get("database"), "first");
+        final var secondResource = globalBufferManager.getResourceBufferManager(Paths.get("database"), "second");
+
+        assertSame(firstResource, globalBufferManager.getResourceBufferManager(Paths.get("database"), "first"));
+
+        final var reference = new PageReference().setKey(42);
+        final Page page = new IndirectPage();
+        firstResource.getPageCache().put(reference, page);
+
+        assertSame(page, firstResource.getPageCache().get(reference));
+        assertNull(firstResource.getRecordPageCache().get(reference));
+        assertNull(secondResource.getPageCache().get(reference));
+
+        final BufferStatistics statistics = firstResource.getStatistics();
+        assertEquals(1, statistics.hitCount());
+        assertEquals(1, statistics.missCount());
+        assertEquals(1, statistics.entryCount());
+        assertEquals(PageWeigher.estimateMemoryFootprint(page), statistics.weightedSize());
+        assertEquals(1, secondResource.getStatistics().missCount());
+    }
+
+    @Test
+    public void testReservationIsKeptRegardlessOfOtherResources() {
+        final long pageWeight = PageWeigher.estimateMemoryFootprint(new IndirectPage());
+        final var globalBufferManager = new GlobalBufferManager(16 * pageWeight, 2 * pageWeight);
+        final var firstResource = globalBufferManager.getResourceBufferManager(Paths.get("database"), "first");
+        final var secondResource = globalBufferManager.getResourceBufferManager(Paths.get("database"), "second");
+
+        final var reference = new PageReference().setKey(42);
+        final Page page = new IndirectPage();
+        firstResource.getPageCache().put(reference, page);
+
+        // The second resource scans many more pages than fit into the whole budget.
+        for (int i = 0; i < 100; i++) {
+            secondResource.getPageCache().put(new PageReference().setKey(i), new IndirectPage());
+        }
+
+        assertSame(page, firstResource.getPageCache().get(reference));
+        assertTrue(secondResource.getStatistics().evictionCount() > 0);
+        assertTrue(globalBufferManager.getWeightedSize() <= globalBufferManager.getMaximumWeight());
+    }
+
+    @Test
+    public void testRemoveResource() {
+        final var globalBufferManager = new GlobalBufferManager(1 << 20);
+        final var resource = globalBufferManager.getResourceBufferManager(Paths.get("database"), "resource");
+
+        final var reference = new PageReference().setKey(42);
+        resource.getPageCache().put(reference, new IndirectPage());
+        globalBufferManager.removeDatabase(Paths.get("database"));
+
+        assertNull(resource.getPageCache().get(reference));
+    }
+}
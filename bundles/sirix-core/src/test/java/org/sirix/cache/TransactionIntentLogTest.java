@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
 import org.sirix.index.IndexType;
+import org.sirix.io.PageHashType;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.SnappyCompressor;
 import org.sirix.io.file.FileWriter;
@@ -39,7 +40,7 @@ public class TransactionIntentLogTest {
 
             final FileWriter fileWriter
                     = new FileWriter(file, null, new ByteHandlePipeline(new ByteHandlePipeline(new SnappyCompressor())),
-                            SerializationType.TRANSACTION_INTENT_LOG, new PagePersister());
+                            SerializationType.TRANSACTION_INTENT_LOG, new PagePersister(), PageHashType.SHA256, false);
 
             final var persistentCache = new PersistentFileCache(fileWriter);
             final var trxIntentLog = new TransactionIntentLog(persistentCache, 1);
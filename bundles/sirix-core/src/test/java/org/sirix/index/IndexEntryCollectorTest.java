@@ -0,0 +1,73 @@
+package org.sirix.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.exception.SirixRuntimeException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the {@link IndexEntryCollector}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexEntryCollectorTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCollectAsync() {
+        final List<Integer> entries = new ArrayList<>();
+        final IndexEntryCollector<Integer> collector = new IndexEntryCollector<>(entries::add, 7, 2);
+        collector.startAsync(executor);
+
+        for (int i = 0; i < 10_000; i++) {
+            collector.add(i);
+        }
+        collector.finish();
+
+        assertEquals(10_000, entries.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, (int) entries.get(i));
+        }
+    }
+
+    @Test
+    public void testFailingConsumer() {
+        final IndexEntryCollector<Integer> collector = new IndexEntryCollector<>(entry -> {
+            if (entry == 50) {
+                throw new IllegalStateException();
+            }
+        }, 4, 1);
+        collector.startAsync(executor);
+
+        for (int i = 0; i < 1_000; i++) {
+            collector.add(i);
+        }
+
+        try {
+            collector.finish();
+            fail("The failure of the consumer must be reported.");
+        } catch (final SirixRuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.sirix.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Test the {@link IndexEntrySorter}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexEntrySorterTest {
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+    }
+
+    @After
+    public void tearDown() {
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testSortWithSpilledRuns() {
+        final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+             final var rtx = manager.beginNodeReadOnlyTrx();
+             final var sorter = new IndexEntrySorter<Long>(rtx.getPageTrx(), 16)) {
+            final Random random = new Random(7);
+            final TreeMap<Long, Set<Long>> expected = new TreeMap<>();
+
+            for (long nodeKey = 0; nodeKey < 1_000; nodeKey++) {
+                final long key = random.nextInt(100);
+                sorter.add(key, nodeKey);
+                expected.computeIfAbsent(key, unused -> new TreeSet<>()).add(nodeKey);
+            }
+
+            assertEquals(expected.size(), sorter.size());
+
+            final Iterator<Map.Entry<Long, NodeReferences>> iterator = sorter.iterator();
+            for (final Map.Entry<Long, Set<Long>> expectedEntry : expected.entrySet()) {
+                final Map.Entry<Long, NodeReferences> entry = iterator.next();
+                assertEquals(expectedEntry.getKey(), entry.getKey());
+                assertEquals(expectedEntry.getValue(), entry.getValue().getNodeKeys());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void testSpillFewKeysWithManyNodeKeys() {
+        final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+             final var rtx = manager.beginNodeReadOnlyTrx();
+             final var sorter = new IndexEntrySorter<Long>(rtx.getPageTrx(), 16)) {
+            final TreeMap<Long, Set<Long>> expected = new TreeMap<>();
+
+            // The runs are spilled based on the number of node keys, although there are only two distinct keys.
+            for (long nodeKey = 0; nodeKey < 1_000; nodeKey++) {
+                final long key = nodeKey % 2;
+                sorter.add(key, nodeKey);
+                expected.computeIfAbsent(key, unused -> new TreeSet<>()).add(nodeKey);
+            }
+
+            assertEquals(expected.size(), sorter.size());
+            assertEquals(expected.size(), sorter.size());
+
+            final Iterator<Map.Entry<Long, NodeReferences>> iterator = sorter.iterator();
+            for (final Map.Entry<Long, Set<Long>> expectedEntry : expected.entrySet()) {
+                final Map.Entry<Long, NodeReferences> entry = iterator.next();
+                assertEquals(expectedEntry.getKey(), entry.getKey());
+                assertEquals(expectedEntry.getValue(), entry.getValue().getNodeKeys());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+}
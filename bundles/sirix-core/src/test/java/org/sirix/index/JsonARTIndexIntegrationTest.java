@@ -0,0 +1,204 @@
+package org.sirix.index;
+
+import org.brackit.xquery.atomic.Dbl;
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.xdm.Type;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.index.path.json.JsonPCRCollector;
+import org.sirix.service.InsertPosition;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+import static org.brackit.xquery.util.path.Path.parse;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the indexes, which are backed by an adaptive radix tree.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonARTIndexIntegrationTest {
+
+    private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+    }
+
+    @After
+    public void tearDown() {
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testIndexDefWithARTBackend() throws Exception {
+        final var idxDef = IndexDefs.createCASIdxDef(false,
+                Type.DEC,
+                Collections.singleton(parse("/features/[]/geometry/coordinates/[]")),
+                0,
+                IndexBackendType.ART);
+
+        final var materializedIdxDef = new IndexDef();
+        materializedIdxDef.init(idxDef.materialize());
+
+        assertEquals(IndexBackendType.ART, materializedIdxDef.getBackendType());
+        assertEquals(IndexBackendType.RBTREE, IndexDefs.createPathIdxDef(Set.of(), 1).getBackendType());
+    }
+
+    @Test
+    public void testCreateARTIndexesWhileListening() {
+        final var jsonPath = JSON.resolve("abc-location-stations.json");
+        final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+             final var trx = manager.beginNodeTrx()) {
+            var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+
+            final var pathToName = parse("/features/[]/properties/name");
+            final var pathToCoordinates = parse("/features/[]/geometry/coordinates/[]");
+            final var pathToFeatureType = parse("/features/[]/type");
+
+            final var idxDefOfPathToName = IndexDefs.createCASIdxDef(false,
+                    Type.STR,
+                    Collections.singleton(pathToName),
+                    0,
+                    IndexBackendType.ART);
+            final var idxDefOfPathToCoordinates = IndexDefs.createCASIdxDef(false,
+                    Type.DEC,
+                    Collections.singleton(pathToCoordinates),
+                    1,
+                    IndexBackendType.ART);
+            final var idxDefOfFeatureType =
+                    IndexDefs.createPathIdxDef(Collections.singleton(pathToFeatureType), 0, IndexBackendType.ART);
+            final var allObjectKeyNames =
+                    IndexDefs.createNameIdxDef(0, IndexDefs.NameIndexType.JSON, IndexBackendType.ART);
+
+            indexController.createIndexes(Set.of(idxDefOfPathToName,
+                    idxDefOfPathToCoordinates,
+                    idxDefOfFeatureType,
+                    allObjectKeyNames), trx);
+
+            final var shredder = new JsonShredder.Builder(trx,
+                    JsonShredder.createFileReader(jsonPath),
+                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+            shredder.call();
+
+            final var casIndex = indexController.openCASIndex(trx.getPageTrx(),
+                    idxDefOfPathToName,
+                    indexController.createCASFilter(Set.of("/features/[]/properties/name"),
+                            new Str("ABC Radio Adelaide"),
+                            SearchMode.EQUAL,
+                            new JsonPCRCollector(trx)));
+
+            assertTrue(casIndex.hasNext());
+            final var nodeReferences = casIndex.next();
+            assertEquals(1, nodeReferences.getNodeKeys().size());
+            trx.moveTo(nodeReferences.getNodeKeys().iterator().next());
+            assertEquals("ABC Radio Adelaide", trx.getValue());
+            assertFalse(casIndex.hasNext());
+
+            final var casIndexForCoordinates = indexController.openCASIndex(trx.getPageTrx(),
+                    idxDefOfPathToCoordinates,
+                    indexController.createCASFilterRange(Set.of("/features/[]/geometry/coordinates/[]"),
+                            new Dbl(0),
+                            new Dbl(160),
+                            true,
+                            true,
+                            new JsonPCRCollector(trx)));
+
+            assertEquals(53, count(casIndexForCoordinates));
+
+            final var pathIndex = indexController.openPathIndex(trx.getPageTrx(), idxDefOfFeatureType, null);
+
+            assertTrue(pathIndex.hasNext());
+            assertEquals(53, pathIndex.next().getNodeKeys().size());
+            assertFalse(pathIndex.hasNext());
+
+            final var nameIndex = indexController.openNameIndex(trx.getPageTrx(),
+                    allObjectKeyNames,
+                    indexController.createNameFilter(Set.of("streetaddress", "twitteraccount")));
+
+            assertTrue(nameIndex.hasNext());
+            assertEquals(53, nameIndex.next().getNodeKeys().size());
+            assertTrue(nameIndex.hasNext());
+            assertEquals(53, nameIndex.next().getNodeKeys().size());
+            assertFalse(nameIndex.hasNext());
+
+            try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+                final var committedCasIndexForCoordinates = indexController.openCASIndex(rtx.getPageTrx(),
+                        idxDefOfPathToCoordinates,
+                        indexController.createCASFilterRange(Set.of("/features/[]/geometry/coordinates/[]"),
+                                new Dbl(0),
+                                new Dbl(160),
+                                true,
+                                true,
+                                new JsonPCRCollector(rtx)));
+
+                assertEquals(53, count(committedCasIndexForCoordinates));
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateARTIndexInSubsequentRevisions() {
+        final var jsonPath = JSON.resolve("abc-location-stations.json");
+        final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+             final var trx = manager.beginNodeTrx()) {
+            final var indexController = manager.getWtxIndexController(trx.getRevisionNumber());
+            final var idxDefOfFeatureType = IndexDefs.createPathIdxDef(
+                    Collections.singleton(parse("/features/[]/type")), 0, IndexBackendType.ART);
+            indexController.createIndexes(Set.of(idxDefOfFeatureType), trx);
+
+            final var shredder = new JsonShredder.Builder(trx,
+                    JsonShredder.createFileReader(jsonPath),
+                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+            shredder.call();
+            final int shreddedRevision = trx.getRevisionNumber() - 1;
+
+            // The index writers of the new revision are based on the tree of the shredded revision.
+            trx.moveToDocumentRoot();
+            assertTrue(trx.moveToFirstChild().hasMoved());
+            assertTrue(trx.moveToFirstChild().hasMoved());
+            assertTrue(trx.moveToRightSibling().hasMoved());
+            assertEquals("features", trx.getName().getLocalName());
+            assertTrue(trx.moveToFirstChild().hasMoved());
+            assertTrue(trx.moveToFirstChild().hasMoved());
+            trx.remove();
+
+            final var writeController = manager.getWtxIndexController(trx.getRevisionNumber());
+            final var pathIndex = writeController.openPathIndex(trx.getPageTrx(), idxDefOfFeatureType, null);
+            assertTrue(pathIndex.hasNext());
+            assertEquals(52, pathIndex.next().getNodeKeys().size());
+            trx.commit();
+
+            try (final var rtx = manager.beginNodeReadOnlyTrx();
+                 final var oldRtx = manager.beginNodeReadOnlyTrx(shreddedRevision)) {
+                final var committedPathIndex = manager.getRtxIndexController(rtx.getRevisionNumber())
+                        .openPathIndex(rtx.getPageTrx(), idxDefOfFeatureType, null);
+                assertEquals(52, committedPathIndex.next().getNodeKeys().size());
+
+                final var formerPathIndex = manager.getRtxIndexController(oldRtx.getRevisionNumber())
+                        .openPathIndex(oldRtx.getPageTrx(), idxDefOfFeatureType, null);
+                assertEquals(53, formerPathIndex.next().getNodeKeys().size());
+            }
+        }
+    }
+
+    private static long count(final Iterator<?> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).count();
+    }
+}
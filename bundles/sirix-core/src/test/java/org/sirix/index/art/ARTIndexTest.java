@@ -0,0 +1,172 @@
+package org.sirix.index.art;
+
+import org.brackit.xquery.atomic.Dbl;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.xdm.Type;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.access.DatabaseType;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.redblacktree.RBNode;
+import org.sirix.index.redblacktree.RBTreeReader.MoveCursor;
+import org.sirix.index.redblacktree.keyvalue.CASValue;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the adaptive radix tree, which is persisted in the index pages, through the {@link ARTIndexWriter} and the
+ * {@link ARTIndexReader}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ARTIndexTest {
+
+    private JsonResourceManager manager;
+
+    @Before
+    public void setUp() {
+        JsonTestHelper.deleteEverything();
+        manager = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())
+                                .openResourceManager(JsonTestHelper.RESOURCE);
+    }
+
+    @After
+    public void tearDown() {
+        manager.close();
+        JsonTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testLookupsOfFixedLengthKeys() {
+        final Random random = new Random(42);
+        final NavigableMap<Long, Long> expected = new TreeMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            // Many keys share long prefixes, such that nodes are split.
+            expected.put(random.nextLong() & 0xFFFFFL, (long) i);
+        }
+
+        try (final var trx = manager.beginNodeTrx()) {
+            final ARTIndexWriter<Long, NodeReferences> writer =
+                    ARTIndexWriter.getInstance(DatabaseType.JSON, trx.getPageWtx(), IndexType.PATH, 0);
+            for (final Map.Entry<Long, Long> entry : expected.descendingMap().entrySet()) {
+                writer.index(entry.getKey(), new NodeReferences(Set.of(entry.getValue())), MoveCursor.NO_MOVE);
+            }
+
+            // The uncommitted entries are visible.
+            assertEntries(expected, writer.getReader());
+            trx.commit();
+        }
+
+        try (final var pageTrx = manager.beginPageReadOnlyTrx()) {
+            final ARTIndexReader<Long, NodeReferences> reader =
+                    ARTIndexReader.getInstance(pageTrx, IndexType.PATH, 0);
+            assertEntries(expected, reader);
+
+            for (int i = 0; i < 1_000; i++) {
+                final long key = random.nextLong() & 0xFFFFFL;
+                assertEntry(expected.ceilingEntry(key), reader.getNode(key, SearchMode.GREATER_OR_EQUAL));
+                assertEntry(expected.higherEntry(key), reader.getNode(key, SearchMode.GREATER));
+                assertEntry(expected.floorEntry(key), reader.getNode(key, SearchMode.LOWER_OR_EQUAL));
+                assertEntry(expected.lowerEntry(key), reader.getNode(key, SearchMode.LOWER));
+
+                final long to = key + random.nextInt(1 << 12);
+                assertEquals(new ArrayList<>(expected.subMap(key, false, to, true).keySet()),
+                        keys(reader.rangeIterator(key, false, to, true)));
+            }
+        }
+    }
+
+    @Test
+    public void testKeysWhichArePrefixesOfOtherKeys() {
+        final List<String> names = List.of("a", "ab", "abc", "abd", "b", "ba", "abcdefgh", "abcdefgi");
+
+        try (final var trx = manager.beginNodeTrx()) {
+            final ARTIndexWriter<QNm, NodeReferences> writer =
+                    ARTIndexWriter.getInstance(DatabaseType.JSON, trx.getPageWtx(), IndexType.NAME, 0);
+            long nodeKey = 1;
+            for (final String name : names) {
+                writer.index(new QNm(name), new NodeReferences(Set.of(nodeKey++)), MoveCursor.NO_MOVE);
+            }
+            writer.remove(new QNm("abc"), 3);
+            trx.commit();
+        }
+
+        try (final var pageTrx = manager.beginPageReadOnlyTrx()) {
+            final ARTIndexReader<QNm, NodeReferences> reader =
+                    ARTIndexReader.getInstance(pageTrx, IndexType.NAME, 0);
+
+            final List<String> sortedNames = new ArrayList<>(names);
+            sortedNames.sort(String::compareTo);
+            final List<String> iteratedNames = new ArrayList<>();
+            reader.iterator().forEachRemaining(entry -> iteratedNames.add(entry.getKey().getLocalName()));
+            assertEquals(sortedNames, iteratedNames);
+
+            assertEquals(Set.of(2L), reader.get(new QNm("ab"), SearchMode.EQUAL).orElseThrow().getNodeKeys());
+            assertTrue(reader.get(new QNm("abc"), SearchMode.EQUAL).orElseThrow().getNodeKeys().isEmpty());
+            assertFalse(reader.get(new QNm("abcd"), SearchMode.EQUAL).isPresent());
+            assertEquals("abc", getLocalName(reader.getNode(new QNm("abcd"), SearchMode.LOWER)));
+            assertEquals("abd", getLocalName(reader.getNode(new QNm("abcz"), SearchMode.GREATER)));
+            assertEquals("abd", getLocalName(reader.getNode(new QNm("b"), SearchMode.LOWER)));
+            assertFalse(reader.getNode(new QNm("a"), SearchMode.LOWER).isPresent());
+        }
+    }
+
+    @Test
+    public void testNumbersWhichAreWrittenDifferentlyHaveTheSameKey() {
+        assertArrayEquals(ARTIndexKeys.forCASValue(new CASValue(new Str("1"), Type.DBL, 5)),
+                ARTIndexKeys.forCASValue(new CASValue(new Str("1.0"), Type.DBL, 5)));
+        assertArrayEquals(ARTIndexKeys.forCASValue(new CASValue(new Dbl(0.0), Type.DBL, 5)),
+                ARTIndexKeys.forCASValue(new CASValue(new Dbl(-0.0), Type.DBL, 5)));
+        assertFalse(Arrays.equals(ARTIndexKeys.forCASValue(new CASValue(new Str("1"), Type.DBL, 5)),
+                ARTIndexKeys.forCASValue(new CASValue(new Str("1.5"), Type.DBL, 5))));
+    }
+
+    private static void assertEntries(final NavigableMap<Long, Long> expected,
+            final ARTIndexReader<Long, NodeReferences> reader) {
+        assertFalse(reader.isEmpty());
+        assertEquals(new ArrayList<>(expected.keySet()), keys(reader.iterator()));
+        for (final Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertEquals(Set.of(entry.getValue()),
+                    reader.get(entry.getKey(), SearchMode.EQUAL).orElseThrow().getNodeKeys());
+        }
+    }
+
+    private static void assertEntry(final Map.Entry<Long, Long> expected,
+            final Optional<RBNode<Long, NodeReferences>> entry) {
+        if (expected == null) {
+            assertFalse(entry.isPresent());
+        } else {
+            assertEquals(expected.getKey(), entry.orElseThrow().getKey());
+        }
+    }
+
+    private static String getLocalName(final Optional<RBNode<QNm, NodeReferences>> entry) {
+        return entry.orElseThrow().getKey().getLocalName();
+    }
+
+    private static List<Long> keys(final Iterator<RBNode<Long, NodeReferences>> entries) {
+        final List<Long> keys = new ArrayList<>();
+        entries.forEachRemaining(entry -> keys.add(entry.getKey()));
+        return keys;
+    }
+}
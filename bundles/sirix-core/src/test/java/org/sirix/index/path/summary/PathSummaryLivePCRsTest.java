@@ -0,0 +1,134 @@
+package org.sirix.index.path.summary;
+
+import com.google.common.collect.ImmutableSet;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.brackit.xquery.util.path.PathException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.api.Movement;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.index.IndexDef;
+import org.sirix.index.IndexDefs;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.redblacktree.RBTreeReader;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that the live PCR sets of the {@link PathSummaryReader}, which are used by the index listeners, are kept
+ * up-to-date, when path nodes are inserted, renamed or removed.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PathSummaryLivePCRsTest {
+
+    /**
+     * {@link Holder} reference.
+     */
+    private Holder holder;
+
+    private Set<Path<QNm>> paths;
+
+    @Before
+    public void setUp() throws PathException {
+        XmlTestHelper.closeEverything();
+        XmlTestHelper.deleteEverything();
+        holder = Holder.generatePathSummary();
+        paths = Set.of(Path.parse("//bla/@foobar"), Path.parse("//bla/blabla"));
+    }
+
+    @After
+    public void tearDown() {
+        holder.close();
+        XmlTestHelper.closeEverything();
+    }
+
+    @Test
+    public void testLivePCRsOfIndexListeners() throws PathException {
+        try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
+            final var indexController = holder.getResourceManager().getWtxIndexController(wtx.getRevisionNumber());
+            indexController.createIndexes(ImmutableSet.of(IndexDefs.createPathIdxDef(paths, 0)), wtx);
+
+            // The same set is used by the path index listener, which has just been created.
+            final Set<Long> livePCRs = wtx.getPathSummary().getLivePCRsForPaths(paths);
+            assertTrue(livePCRs.isEmpty());
+
+            wtx.insertElementAsFirstChild(new QNm("bla"));
+            final long blaKey = wtx.getNodeKey();
+            wtx.insertAttribute(new QNm("foo"), "bar", Movement.TOPARENT);
+            assertLivePCRs(wtx, livePCRs);
+            assertTrue(livePCRs.isEmpty());
+
+            wtx.insertAttribute(new QNm("foobar"), "baz");
+            final long foobarPCR = wtx.getPathNodeKey();
+            final long foobarKey = wtx.getNodeKey();
+            wtx.moveToParent();
+            assertLivePCRs(wtx, livePCRs);
+            assertEquals(Set.of(foobarPCR), livePCRs);
+
+            wtx.insertElementAsFirstChild(new QNm("blabla"));
+            final long blablaPCR = wtx.getPathNodeKey();
+            final long blablaKey = wtx.getNodeKey();
+            assertLivePCRs(wtx, livePCRs);
+            assertEquals(Set.of(foobarPCR, blablaPCR), livePCRs);
+
+            // A path, which isn't indexed.
+            wtx.moveTo(blaKey);
+            wtx.insertElementAsFirstChild(new QNm("foo"));
+            final long fooKey = wtx.getNodeKey();
+            wtx.insertElementAsFirstChild(new QNm("blabla"));
+            final long nestedBlablaKey = wtx.getNodeKey();
+            assertFalse(livePCRs.contains(wtx.getPathNodeKey()));
+            assertLivePCRs(wtx, livePCRs);
+
+            // Renaming changes the path of the descendants.
+            wtx.moveTo(fooKey);
+            wtx.setName(new QNm("bla"));
+            wtx.moveTo(nestedBlablaKey);
+            assertTrue(livePCRs.contains(wtx.getPathNodeKey()));
+            assertLivePCRs(wtx, livePCRs);
+
+            // The path node is removed with its last node.
+            wtx.moveTo(foobarKey);
+            wtx.remove();
+            assertFalse(livePCRs.contains(foobarPCR));
+            assertLivePCRs(wtx, livePCRs);
+
+            wtx.moveTo(fooKey);
+            wtx.remove();
+            assertLivePCRs(wtx, livePCRs);
+            assertEquals(Set.of(blablaPCR), livePCRs);
+
+            wtx.commit();
+
+            // The listener has indexed the node of the path node, which has been created after the listener.
+            final IndexDef indexDef = indexController.getIndexes().getIndexDef(0, IndexType.PATH);
+            final RBTreeReader<Long, NodeReferences> reader =
+                    RBTreeReader.getInstance(holder.getResourceManager().getIndexCache(), wtx.getPageTrx(),
+                            indexDef.getType(), indexDef.getID());
+            final Optional<NodeReferences> blablaReferences = reader.get(blablaPCR, SearchMode.EQUAL);
+            assertTrue(blablaReferences.isPresent());
+            assertEquals(Set.of(blablaKey), blablaReferences.get().getNodeKeys());
+
+            assertLivePCRs(wtx, wtx.getPathSummary().getLivePCRsForPaths(paths));
+        }
+    }
+
+    /**
+     * Assert that the live PCRs equal the PCRs, which are recomputed from the current path summary.
+     */
+    private void assertLivePCRs(final XmlNodeTrx wtx, final Set<Long> livePCRs) throws PathException {
+        assertEquals(wtx.getPathSummary().getPCRsForPaths(paths, false), livePCRs);
+    }
+}
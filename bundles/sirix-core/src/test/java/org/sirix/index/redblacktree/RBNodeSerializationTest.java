@@ -0,0 +1,135 @@
+package org.sirix.index.redblacktree;
+
+import com.google.common.hash.Hashing;
+import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.xdm.Type;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixException;
+import org.sirix.index.redblacktree.keyvalue.CASValue;
+import org.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.sirix.node.NodeKind;
+import org.sirix.node.delegates.NodeDelegate;
+import org.sirix.settings.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.sirix.node.Utils.putVarLong;
+
+/**
+ * Test the serialization of the node references of red-black tree index records.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RBNodeSerializationTest {
+
+    private Holder holder;
+
+    private PageReadOnlyTrx pageReadTrx;
+
+    @Before
+    public void setUp() throws SirixException {
+        XmlTestHelper.closeEverything();
+        XmlTestHelper.deleteEverything();
+        holder = Holder.generateDeweyIDResourceMgr();
+        pageReadTrx = holder.getResourceManager().beginPageReadOnlyTrx();
+    }
+
+    @After
+    public void tearDown() throws SirixException {
+        pageReadTrx.close();
+        holder.close();
+    }
+
+    @Test
+    public void testPathNode() throws IOException {
+        final var node = new RBNode<>(7L, new NodeReferences(Set.of(5L, 1L, 3L)), createNodeDelegate());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NodeKind.PATHRB.serialize(new DataOutputStream(out), node, pageReadTrx);
+        final RBNode<Long, NodeReferences> deserializedNode = deserialize(NodeKind.PATHRB, out);
+
+        assertEquals(7L, deserializedNode.getKey());
+        assertEquals(node.getValue(), deserializedNode.getValue());
+    }
+
+    @Test
+    public void testPathNodeInFormerFormat() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final DataOutputStream sink = new DataOutputStream(out);
+        putVarLong(sink, 7L);
+        // Unsorted fixed length node keys.
+        sink.writeInt(3);
+        sink.writeLong(5L);
+        sink.writeLong(1L);
+        sink.writeLong(3L);
+        serializeDelegateAndChildren(sink);
+        sink.writeBoolean(false);
+
+        final RBNode<Long, NodeReferences> deserializedNode = deserialize(NodeKind.PATHRB, out);
+
+        assertEquals(7L, deserializedNode.getKey());
+        assertEquals(new NodeReferences(Set.of(1L, 3L, 5L)), deserializedNode.getValue());
+    }
+
+    @Test
+    public void testCASNodeInFormerFormat() throws IOException {
+        final CASValue value = new CASValue(new Str("foo"), Type.STR, 2L);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final DataOutputStream sink = new DataOutputStream(out);
+        sink.writeInt(value.getValue().length);
+        sink.write(value.getValue());
+        final byte[] type = value.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(type.length);
+        sink.write(type);
+        // Delta encoded sorted node keys.
+        sink.writeInt(3);
+        putVarLong(sink, 1L);
+        putVarLong(sink, 2L);
+        putVarLong(sink, 2L);
+        serializeDelegateAndChildren(sink);
+        putVarLong(sink, value.getPathNodeKey());
+        sink.writeBoolean(false);
+
+        final RBNode<CASValue, NodeReferences> deserializedNode = deserialize(NodeKind.CASRB, out);
+
+        assertEquals(value, deserializedNode.getKey());
+        assertEquals(new NodeReferences(Set.of(1L, 3L, 5L)), deserializedNode.getValue());
+
+        // Records are written in the current format.
+        final ByteArrayOutputStream newOut = new ByteArrayOutputStream();
+        NodeKind.CASRB.serialize(new DataOutputStream(newOut), deserializedNode, pageReadTrx);
+        assertEquals(deserializedNode.getValue(), this.<CASValue>deserialize(NodeKind.CASRB, newOut).getValue());
+    }
+
+    private static NodeDelegate createNodeDelegate() {
+        return new NodeDelegate(13, 12, Hashing.sha256(), null, 0, null);
+    }
+
+    private static void serializeDelegateAndChildren(final DataOutputStream sink) throws IOException {
+        // Node key minus parent key and the revision.
+        putVarLong(sink, 1L);
+        putVarLong(sink, 0L);
+        // Left and right child.
+        putVarLong(sink, 14L);
+        putVarLong(sink, 15L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K>> RBNode<K, NodeReferences> deserialize(final NodeKind kind,
+            final ByteArrayOutputStream out) throws IOException {
+        final var source = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        return (RBNode<K, NodeReferences>) kind.deserialize(source, 13, null, pageReadTrx);
+    }
+}
@@ -0,0 +1,127 @@
+package org.sirix.index.redblacktree.keyvalue;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link PostingList}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PostingListTest {
+
+    @Test
+    public void testAppend() {
+        final PostingList postingList = new PostingList();
+        for (long nodeKey = 0; nodeKey < 1_000; nodeKey += 3) {
+            assertTrue(postingList.add(nodeKey));
+        }
+        assertFalse(postingList.add(999));
+
+        assertEquals(334, postingList.size());
+        assertTrue(postingList.contains(300));
+        assertFalse(postingList.contains(301));
+        assertFalse(postingList.contains(1_000));
+    }
+
+    @Test
+    public void testAddAndRemoveInRandomOrder() {
+        final Random random = new Random(42);
+        final PostingList postingList = new PostingList();
+        final TreeSet<Long> expected = new TreeSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            final long nodeKey = random.nextInt(5_000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(nodeKey), postingList.remove(nodeKey));
+            } else {
+                assertEquals(expected.add(nodeKey), postingList.add(nodeKey));
+            }
+        }
+
+        assertEquals(expected.size(), postingList.size());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), postingList.toArray());
+        for (long nodeKey = 0; nodeKey < 5_000; nodeKey++) {
+            assertEquals(expected.contains(nodeKey), postingList.contains(nodeKey));
+        }
+    }
+
+    @Test
+    public void testSerialization() throws IOException {
+        final PostingList postingList = new PostingList();
+        for (long nodeKey = 1; nodeKey < 10_000; nodeKey += 2) {
+            postingList.add(nodeKey);
+        }
+        postingList.add(Long.MAX_VALUE);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        postingList.serialize(new DataOutputStream(output));
+
+        // One byte per delta plus the block headers.
+        assertTrue(output.size() < 2 * postingList.size());
+
+        final PostingList deserializedPostingList =
+                PostingList.deserialize(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+
+        assertEquals(postingList, deserializedPostingList);
+        assertTrue(deserializedPostingList.add(10_000));
+        assertTrue(deserializedPostingList.contains(Long.MAX_VALUE));
+        assertEquals(postingList.size() + 1, deserializedPostingList.size());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        final PostingList postingList = new PostingList();
+        for (long nodeKey = 0; nodeKey < 1_000; nodeKey += 2) {
+            postingList.add(nodeKey);
+        }
+        final long[] nodeKeys = postingList.toArray();
+
+        final PostingList copy = new PostingList(postingList);
+        assertEquals(postingList, copy);
+        assertTrue(copy.add(1_000));
+        assertTrue(copy.add(1));
+        assertTrue(copy.remove(500));
+        // Remove the whole last block of the copy, such that the former last but one block, which is shared, is
+        // appended to.
+        for (long nodeKey = 768; nodeKey <= 1_000; nodeKey += 2) {
+            assertTrue(copy.remove(nodeKey));
+        }
+        assertTrue(copy.add(767));
+        assertArrayEquals(nodeKeys, postingList.toArray());
+
+        assertTrue(postingList.add(1_002));
+        assertTrue(postingList.remove(0));
+        assertFalse(postingList.contains(767));
+        assertFalse(copy.contains(1_002));
+        assertTrue(copy.contains(0));
+        assertEquals(500, postingList.size());
+        assertEquals(385, copy.size());
+    }
+
+    @Test
+    public void testNodeReferencesView() {
+        final NodeReferences references = new NodeReferences();
+        references.addNodeKey(5).addNodeKey(1).addNodeKey(3);
+
+        assertEquals(new TreeSet<>(List.of(1L, 3L, 5L)), references.getNodeKeys());
+        assertArrayEquals(new long[] { 1, 3, 5 }, references.getPostingList().toArray());
+        assertTrue(references.removeNodeKey(3));
+        assertFalse(references.contains(3));
+        assertEquals(new NodeReferences(Set.of(1L, 5L)), references);
+    }
+}
@@ -0,0 +1,88 @@
+package org.sirix.io;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link PageWriteBatch}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PageWriteBatchTest {
+
+    private Path dataFile;
+
+    private Path revisionsFile;
+
+    @Before
+    public void setUp() throws IOException {
+        dataFile = Files.createTempFile("sirix", ".data");
+        revisionsFile = Files.createTempFile("sirix", ".revisions");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(revisionsFile);
+    }
+
+    @Test
+    public void testAlignedOffsetsAndGatheringWrite() throws IOException {
+        final PageWriteBatch batch = new PageWriteBatch();
+
+        final long first = batch.append(0, 12, page(10, (byte) 1), 64, false);
+        final long second = batch.append(0, 12, page(100, (byte) 2), 64, false);
+        final long third = batch.append(0, 12, page(5, (byte) 3), 256, true);
+
+        assertEquals(64, first);
+        assertEquals(128, second);
+        assertEquals(256, third);
+        assertEquals(256 + 5 - 64, batch.getPendingBytes());
+
+        try (final FileChannel dataChannel = FileChannel.open(dataFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             final FileChannel revisionsChannel = FileChannel.open(revisionsFile, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE)) {
+            batch.flush(dataChannel, revisionsChannel);
+
+            assertTrue(batch.isEmpty());
+            assertEquals(261, dataChannel.size());
+            assertEquals(8, revisionsChannel.size());
+
+            final ByteBuffer data = ByteBuffer.allocate((int) dataChannel.size());
+            dataChannel.read(data, 0);
+            assertEquals(1, data.get(64));
+            assertEquals(1, data.get(73));
+            assertEquals(0, data.get(74));
+            assertEquals(2, data.get(128));
+            assertEquals(2, data.get(227));
+            assertEquals(0, data.get(228));
+            assertEquals(3, data.get(256));
+
+            final ByteBuffer revisions = ByteBuffer.allocate(8);
+            revisionsChannel.read(revisions, 0);
+            assertEquals(256, revisions.getLong(0));
+
+            // A new batch starts at the (aligned) end of the file.
+            assertEquals(320, batch.append(dataChannel.size(), 12, page(1, (byte) 4), 64, false));
+        }
+    }
+
+    private static ByteBuffer page(final int length, final byte value) {
+        final ByteBuffer page = ByteBuffer.allocate(length);
+        for (int i = 0; i < length; i++) {
+            page.put(value);
+        }
+        return page.flip();
+    }
+}
@@ -7,11 +7,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import org.sirix.XmlTestHelper;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ByteBufferPool;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import com.google.common.io.ByteStreams;
@@ -73,6 +75,45 @@ public final class ByteHandlerTest {
         }
     }
 
+    /**
+     * Test method for
+     * {@link org.sirix.io.bytepipe.ByteHandler#deserialize(java.nio.ByteBuffer, org.sirix.io.ByteBufferPool)}.
+     *
+     * @throws IOException
+     */
+    @Test(dataProvider = "instantiateByteHandler")
+    public void testDeserializeFromBuffer(Class<ByteHandler> clazz, ByteHandler[] handlers)
+            throws SirixIOException, IOException {
+        for (final ByteBufferPool pool : new ByteBufferPool[]{ByteBufferPool.heapPool(), ByteBufferPool.directPool()}) {
+            for (final ByteHandler handler : handlers) {
+                final byte[] bytes = XmlTestHelper.generateRandomBytes(10000);
+
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                try (final OutputStream handledOutput = handler.serialize(output)) {
+                    handledOutput.write(bytes);
+                }
+                final byte[] encoded = output.toByteArray();
+
+                final ByteBuffer source = pool.acquire(encoded.length);
+                source.put(encoded);
+                source.flip();
+
+                final ByteBuffer decoded = handler.deserialize(source, pool);
+                final byte[] decodedBytes = new byte[decoded.remaining()];
+                decoded.get(decodedBytes);
+
+                assertTrue(
+                        new StringBuilder("Check for ").append(handler.getClass()).append(" failed.").toString(),
+                        Arrays.equals(bytes, decodedBytes));
+
+                if (decoded != source) {
+                    pool.release(decoded);
+                }
+                pool.release(source);
+            }
+        }
+    }
+
     /**
      * Providing different implementations of the {@link ByteHandler} as
      * Dataprovider to the test class.
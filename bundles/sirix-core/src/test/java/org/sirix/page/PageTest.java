@@ -6,6 +6,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertArrayEquals;
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertSame;
 import static org.testng.AssertJUnit.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -13,11 +17,18 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.sirix.Holder;
 import org.sirix.XmlTestHelper;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
+import org.sirix.cache.IndexLogKey;
+import org.sirix.cache.OffHeapRecordPageCache;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.index.IndexType;
@@ -83,6 +94,146 @@ public class PageTest {
         }
     }
 
+    @Test
+    public void testLazilyDeserializedRecordPage() throws IOException {
+        final var recordPage = (UnorderedKeyValuePage) pageReadTrx.getRecordPage(
+                new IndexLogKey(IndexType.DOCUMENT, 0, -1, pageReadTrx.getRevisionNumber())).orElseThrow();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordPage.serialize(new DataOutputStream(out), SerializationType.DATA);
+
+        final var deserializedPage = (UnorderedKeyValuePage) PageKind.RECORDPAGE.deserializePage(
+                new DataInputStream(new ByteArrayInputStream(out.toByteArray())), pageReadTrx, SerializationType.DATA);
+        assertEquals(recordPage.size(), deserializedPage.size());
+        assertEquals(recordPage.keySet(), deserializedPage.keySet());
+
+        // Copy the records without deserializing them.
+        final var copiedPage = new UnorderedKeyValuePage(0, IndexType.DOCUMENT, pageReadTrx);
+        for (final Long key : deserializedPage.keySet()) {
+            copiedPage.copyRecord(deserializedPage, key);
+        }
+        assertEquals(deserializedPage.size(), copiedPage.size());
+
+        for (final Long key : recordPage.keySet()) {
+            assertTrue(copiedPage.containsKey(key));
+            final DataRecord record = recordPage.getValue(pageReadTrx, key);
+            final DataRecord copiedRecord = copiedPage.getValue(pageReadTrx, key);
+            assertEquals(record.getNodeKey(), copiedRecord.getNodeKey());
+            assertEquals(record.getKind(), copiedRecord.getKind());
+            assertEquals(record.getDeweyID(), copiedRecord.getDeweyID());
+        }
+        assertFalse(copiedPage.containsKey((long) Constants.NDP_NODE_COUNT - 1));
+    }
+
+    @Test
+    public void testConcurrentlyDeserializedRecordPage() throws Exception {
+        final var recordPage = (UnorderedKeyValuePage) pageReadTrx.getRecordPage(
+                new IndexLogKey(IndexType.DOCUMENT, 0, -1, pageReadTrx.getRevisionNumber())).orElseThrow();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordPage.serialize(new DataOutputStream(out), SerializationType.DATA);
+
+        final var sharedPage = (UnorderedKeyValuePage) PageKind.RECORDPAGE.deserializePage(
+                new DataInputStream(new ByteArrayInputStream(out.toByteArray())), pageReadTrx, SerializationType.DATA);
+        final List<Long> keys = new ArrayList<>(sharedPage.keySet());
+        final int numberOfThreads = 8;
+        final var executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            final var start = new CountDownLatch(1);
+            final List<Future<List<DataRecord>>> futures = new ArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final List<DataRecord> records = new ArrayList<>();
+                    for (final Long key : keys) {
+                        records.add(sharedPage.getValue(pageReadTrx, key));
+                    }
+                    return records;
+                }));
+            }
+            start.countDown();
+
+            final List<DataRecord> expectedRecords = futures.get(0).get();
+            for (final Future<List<DataRecord>> future : futures) {
+                final List<DataRecord> records = future.get();
+                for (int i = 0; i < keys.size(); i++) {
+                    // Every record is deserialized once and is visible to all readers.
+                    assertSame(expectedRecords.get(i), records.get(i));
+                    assertEquals(keys.get(i).longValue(), records.get(i).getNodeKey());
+                }
+            }
+            assertEquals(recordPage.size(), sharedPage.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRecordPageWhichOutlivesItsTransaction() throws IOException {
+        final var recordPage = (UnorderedKeyValuePage) pageReadTrx.getRecordPage(
+                new IndexLogKey(IndexType.DOCUMENT, 0, -1, pageReadTrx.getRevisionNumber())).orElseThrow();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordPage.serialize(new DataOutputStream(out), SerializationType.DATA);
+
+        // The page is shared, for instance through a cache, after the transaction, which has read it, is closed.
+        final UnorderedKeyValuePage sharedPage;
+        try (final PageReadOnlyTrx closedPageReadTrx = mHolder.getResourceManager().beginPageReadOnlyTrx()) {
+            sharedPage = (UnorderedKeyValuePage) PageKind.RECORDPAGE.deserializePage(
+                    new DataInputStream(new ByteArrayInputStream(out.toByteArray())), closedPageReadTrx,
+                    SerializationType.DATA);
+        }
+
+        final List<Long> keys = new ArrayList<>(sharedPage.keySet());
+        assertEquals(recordPage.getValue(pageReadTrx, keys.get(0)).getKind(),
+                sharedPage.getValue(keys.get(0)).getKind());
+        assertEquals(recordPage.size(), sharedPage.values().size());
+        for (final Long key : keys) {
+            assertEquals(recordPage.getValue(pageReadTrx, key).getDeweyID(), sharedPage.getValue(key).getDeweyID());
+        }
+        assertTrue(sharedPage.serializeSnapshot(new DataOutputStream(new ByteArrayOutputStream())));
+    }
+
+    @Test
+    public void testOffHeapRecordPageCache() {
+        final var reference = new PageReference().setKey(Integer.MAX_VALUE);
+        final var recordPage = (UnorderedKeyValuePage) pageReadTrx.getRecordPage(
+                new IndexLogKey(IndexType.DOCUMENT, 0, -1, pageReadTrx.getRevisionNumber())).orElseThrow();
+        final var cache = new OffHeapRecordPageCache(1 << 20);
+        final long footprint = recordPage.estimateMemoryFootprint();
+        cache.put(reference, recordPage);
+        // The evicted page might still be read by other transactions, thus it must not be modified.
+        assertEquals(footprint, recordPage.estimateMemoryFootprint());
+
+        // The page is rematerialized with the requesting transaction.
+        final var rematerializedPage = (UnorderedKeyValuePage) cache.get(reference, pageReadTrx);
+        assertEquals(recordPage.getPageKey(), rematerializedPage.getPageKey());
+        assertEquals(recordPage.keySet(), rematerializedPage.keySet());
+        for (final Long key : recordPage.keySet()) {
+            assertEquals(recordPage.getValue(pageReadTrx, key).getKind(),
+                    rematerializedPage.getValue(pageReadTrx, key).getKind());
+        }
+
+        cache.remove(reference);
+        assertNull(cache.get(reference, pageReadTrx));
+        cache.close();
+    }
+
+    @Test
+    public void testOffHeapRecordPageCacheOutlivesTransactions() {
+        final var reference = new PageReference().setKey(Integer.MAX_VALUE);
+        final var cache = new OffHeapRecordPageCache(1 << 20);
+        final UnorderedKeyValuePage evictedPage;
+        try (final PageReadOnlyTrx closedPageReadTrx = mHolder.getResourceManager().beginPageReadOnlyTrx()) {
+            evictedPage = (UnorderedKeyValuePage) closedPageReadTrx.getRecordPage(
+                    new IndexLogKey(IndexType.DOCUMENT, 0, -1, closedPageReadTrx.getRevisionNumber())).orElseThrow();
+        }
+        // The page is put, once it's evicted, after the transaction, which has read it, has been closed.
+        cache.put(reference, evictedPage);
+
+        final var rematerializedPage = (UnorderedKeyValuePage) cache.get(reference, pageReadTrx);
+        assertEquals(evictedPage.keySet(), rematerializedPage.keySet());
+        assertEquals(pageReadTrx, rematerializedPage.getPageReadOnlyTrx());
+        cache.close();
+    }
+
     /**
      * Providing different implementations of the {@link Page} as Dataprovider
      * to the test class.
@@ -0,0 +1,83 @@
+package org.sirix.page;
+
+import org.junit.Test;
+import org.sirix.settings.Constants;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link RecordOffsetMap}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RecordOffsetMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        final var map = new RecordOffsetMap<String>(2);
+        final long baseKey = 2L * Constants.NDP_NODE_COUNT;
+
+        assertNull(map.put(baseKey + 5, "five"));
+        assertNull(map.put(baseKey, "zero"));
+        assertEquals("zero", map.put(baseKey, "null"));
+        assertEquals(2, map.size());
+
+        assertEquals("five", map.get(baseKey + 5));
+        assertEquals("five", map.getAtOffset(5));
+        assertTrue(map.containsKey(baseKey + 5));
+        // Keys of other pages are never contained.
+        assertFalse(map.containsKey(5L));
+        assertNull(map.remove(5L));
+
+        assertEquals("five", map.remove(baseKey + 5));
+        assertNull(map.getAtOffset(5));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testGrowArray() {
+        final var map = new RecordOffsetMap<String>(0);
+
+        map.putAtOffset(2, "two");
+        map.putAtOffset(700, "sevenhundred");
+        map.putAtOffset(40, "forty");
+        map.putAtOffset(Constants.NDP_NODE_COUNT - 1, "last");
+
+        assertEquals(4, map.size());
+        assertEquals("two", map.getAtOffset(2));
+        assertEquals("forty", map.getAcquire(40));
+        assertEquals("sevenhundred", map.getAtOffset(700));
+        assertEquals("last", map.getAtOffset(Constants.NDP_NODE_COUNT - 1));
+        // Offsets beyond the current capacity are not contained.
+        assertNull(new RecordOffsetMap<String>(0).getAtOffset(Constants.NDP_NODE_COUNT - 1));
+        assertEquals(List.of(2L, 40L, 700L, (long) Constants.NDP_NODE_COUNT - 1), List.copyOf(map.keySet()));
+    }
+
+    @Test
+    public void testIterationInKeyOrder() {
+        final var map = new RecordOffsetMap<String>(1);
+        final long baseKey = Constants.NDP_NODE_COUNT;
+
+        map.put(baseKey + Constants.NDP_NODE_COUNT - 1, "last");
+        map.put(baseKey + 3, "three");
+        map.put(baseKey, "first");
+
+        assertEquals(List.of(baseKey, baseKey + 3, baseKey + Constants.NDP_NODE_COUNT - 1), List.copyOf(map.keySet()));
+        assertEquals(0, map.nextOffset(0));
+        assertEquals(3, map.nextOffset(1));
+        assertEquals(Constants.NDP_NODE_COUNT - 1, map.nextOffset(4));
+
+        final var iterator = map.entrySet().iterator();
+        final Map.Entry<Long, String> entry = iterator.next();
+        assertEquals(Map.entry(baseKey, "first"), entry);
+        iterator.remove();
+        assertEquals(2, map.size());
+        assertEquals(-1, new RecordOffsetMap<String>(0).nextOffset(0));
+    }
+}
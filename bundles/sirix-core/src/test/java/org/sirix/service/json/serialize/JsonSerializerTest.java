@@ -1,6 +1,8 @@
 package org.sirix.service.json.serialize;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.StringWriter;
@@ -104,6 +106,76 @@ public final class JsonSerializerTest {
         }
     }
 
+    @Test
+    public void testMultipleRevisionsJsonDocumentSerializedConcurrently() throws IOException {
+        JsonTestHelper.createTestDocument();
+
+        final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+            try (final var wtx = manager.beginNodeTrx()) {
+                for (int i = 0; i < 4; i++) {
+                    wtx.moveToDocumentRoot().trx().moveToFirstChild();
+                    wtx.insertObjectRecordAsFirstChild("tadaaa" + i, new StringValue("todooo"));
+                    wtx.commit();
+                }
+            }
+
+            final var expected = new StringWriter();
+            new JsonSerializer.Builder(manager, expected, -1).prettyPrint().build().call();
+
+            final var actual = new StringWriter();
+            new JsonSerializer.Builder(manager, actual, -1).prettyPrint()
+                    .serializeRevisionsConcurrently(3, Long.MAX_VALUE)
+                    .build()
+                    .call();
+            assertEquals(expected.toString(), actual.toString());
+
+            // The buffers are too small, thus the revisions are streamed.
+            final var streamed = new StringWriter();
+            new JsonSerializer.Builder(manager, streamed, -1).prettyPrint()
+                    .serializeRevisionsConcurrently(3, 3)
+                    .build()
+                    .call();
+            assertEquals(expected.toString(), streamed.toString());
+        }
+    }
+
+    @Test
+    public void testMultipleRevisionsJsonDocumentSerializedAsDeltas() throws IOException {
+        JsonTestHelper.createTestDocument();
+
+        final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+        try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+            try (final var wtx = manager.beginNodeTrx()) {
+                for (int i = 0; i < 4; i++) {
+                    wtx.moveToDocumentRoot().trx().moveToFirstChild();
+                    wtx.insertObjectRecordAsFirstChild("tadaaa" + i, new StringValue("todooo"));
+                    wtx.commit();
+                }
+            }
+
+            final var full = new StringWriter();
+            new JsonSerializer.Builder(manager, full, -1).build().call();
+
+            final var deltas = new StringWriter();
+            new JsonSerializer.Builder(manager, deltas, -1).serializeDeltas(true).build().call();
+
+            assertTrue(deltas.toString().length() < full.toString().length());
+            assertFalse(deltas.toString().contains("{\"revisionNumber\":1,\"diffs\":"));
+            for (int revision = 2; revision <= 5; revision++) {
+                assertTrue(deltas.toString().contains("{\"revisionNumber\":" + revision + ",\"diffs\":[{\"insert\":"));
+            }
+
+            // Revisions, which don't directly follow each other, are serialized in full.
+            final var expected = new StringWriter();
+            new JsonSerializer.Builder(manager, expected, 1, 3, 5).build().call();
+
+            final var actual = new StringWriter();
+            new JsonSerializer.Builder(manager, actual, 1, 3, 5).serializeDeltas(true).build().call();
+            assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
     @Test
     public void testJsonDocumentWithMaxChildren1() throws IOException {
         JsonTestHelper.createTestDocument();
@@ -150,6 +150,30 @@ public class XmlSerializerTest {
         }
     }
 
+    @Test
+    public void testSampleCompleteSerializerConcurrently() throws Exception {
+        final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+        try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE); final XmlNodeTrx wtx = manager.beginNodeTrx(); final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            XmlDocumentCreator.createVersioned(wtx);
+
+            XmlSerializer serializerall = new XmlSerializerBuilder(manager, out, -1).emitXMLDeclaration()
+                    .serializeTimestamp(false)
+                    .serializeRevisionsConcurrently(3, Long.MAX_VALUE)
+                    .build();
+            serializerall.call();
+            assertEquals(XmlDocumentCreator.VERSIONEDXML, out.toString(Constants.DEFAULT_ENCODING.toString()));
+            out.reset();
+
+            // Buffers are too small, such that the remaining revisions are streamed sequentially.
+            serializerall = new XmlSerializerBuilder(manager, out, -1).emitXMLDeclaration()
+                    .serializeTimestamp(false)
+                    .serializeRevisionsConcurrently(3, 3)
+                    .build();
+            serializerall.call();
+            assertEquals(XmlDocumentCreator.VERSIONEDXML, out.toString(Constants.DEFAULT_ENCODING.toString()));
+        }
+    }
+
     /**
      * This test check the XPath //books expression and expects 6 books as
      * result. But the failure is, that only the children of the books will be
@@ -28,7 +28,7 @@ class DumpResourceHistory(options: CliOptions, val resourceName: String, private
                     buffer.append("\",")
 
                     buffer.append("\"author\":\"")
-                    buffer.append(StringValue.escape(revisionTuple.user.name))
+                    buffer.append(StringValue.escape(revisionTuple.user?.name ?: ""))
                     buffer.append("\",")
 
                     buffer.append("\"commitMessage\":\"")
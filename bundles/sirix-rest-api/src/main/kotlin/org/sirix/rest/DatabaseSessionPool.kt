@@ -0,0 +1,287 @@
+package org.sirix.rest
+
+import org.sirix.access.DatabaseType
+import org.sirix.access.Databases
+import org.sirix.api.Database
+import org.sirix.api.NodeReadOnlyTrx
+import org.sirix.api.NodeTrx
+import org.sirix.api.ResourceManager
+import org.sirix.api.json.JsonResourceManager
+import org.sirix.api.xml.XmlResourceManager
+import org.sirix.utils.LogWrapper
+import org.slf4j.LoggerFactory
+import java.nio.file.Path
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+
+/**
+ * [LogWrapper] reference.
+ */
+private val LOGGER = LogWrapper(LoggerFactory.getLogger(DatabaseSessionPool::class.java))
+
+/**
+ * Keeps the databases, which are read or queried by the handlers, open between requests. The resource managers of a
+ * pooled database are opened once and are not closed by the handlers, such that consecutive requests hit the warm
+ * caches of the resource managers instead of rereading the configuration and the uber page.
+ *
+ * A database is reference counted while it is used by a request and closed, once it has been idle for
+ * [maxIdleTime] ([evictIdle] is invoked periodically by the verticle). The pool hands out views of its databases,
+ * which ignore [Database.close], such that collections and stores of queries can't close a pooled database. Queries
+ * commit through the pooled resource managers, which know about their own revisions. However handlers, which modify
+ * a database or resource through their own (user specific) database instance, have to [invalidate] the session
+ * afterwards. An invalidated session is closed, as soon as the requests still using it are done.
+ *
+ * A database is opened outside of the lock of the pool, such that opening a database doesn't block requests to other
+ * databases. Concurrent requests for the same database wait for the request, which opens it.
+ */
+class DatabaseSessionPool(
+    private val location: Path,
+    private val maxIdleTime: Duration = DEFAULT_MAX_IDLE_TIME
+) : AutoCloseable {
+    companion object {
+        /**
+         * The default time after which an unused database is closed.
+         */
+        val DEFAULT_MAX_IDLE_TIME: Duration = Duration.ofMinutes(5)
+    }
+
+    /**
+     * A pooled database, which is closed by the pool instead of its users.
+     */
+    private class PooledDatabase<T : ResourceManager<out NodeReadOnlyTrx, out NodeTrx>>(
+        val database: Database<T>
+    ) : Database<T> by database {
+        override fun close() {
+            // The database is closed by the pool.
+        }
+    }
+
+    private class Session {
+        /** Completed with the database, once it has been opened. */
+        val database = CompletableFuture<PooledDatabase<*>>()
+
+        /** The number of requests, which currently use or wait for the database. */
+        var references = 0
+
+        /** The time in nanoseconds, when the database has been released the last time. */
+        var lastReleased = System.nanoTime()
+
+        /** Determines if the session has been removed from the pool and must be closed once it is released. */
+        var retired = false
+    }
+
+    /** The sessions by their database file, guarded by this pool. */
+    private val sessions = HashMap<Path, Session>()
+
+    /** The sessions by their opened database, guarded by this pool. */
+    private val sessionsByDatabase = IdentityHashMap<Database<*>, Session>()
+
+    private var closed = false
+
+    /**
+     * Use the JSON database with the given name, which must not be closed by the block.
+     */
+    inline fun <T> useJsonDatabase(databaseName: String, block: (Database<JsonResourceManager>) -> T): T {
+        val database = acquireJsonDatabase(databaseName)
+        try {
+            return block(database)
+        } finally {
+            release(database)
+        }
+    }
+
+    /**
+     * Use the XML database with the given name, which must not be closed by the block.
+     */
+    inline fun <T> useXmlDatabase(databaseName: String, block: (Database<XmlResourceManager>) -> T): T {
+        val database = acquireXmlDatabase(databaseName)
+        try {
+            return block(database)
+        } finally {
+            release(database)
+        }
+    }
+
+    /**
+     * Use the database with the given name regardless of its type, which must not be closed by the block.
+     */
+    inline fun <T> useDatabase(databaseName: String, block: (Database<*>) -> T): T {
+        val database = acquireDatabase(databaseName)
+        try {
+            return block(database)
+        } finally {
+            release(database)
+        }
+    }
+
+    /**
+     * Run a block, which modifies the database with the given name or one of its resources through its own database
+     * instance. The pooled session is invalidated before, such that resources can be removed, and afterwards, such
+     * that subsequent requests see the new revisions.
+     */
+    inline fun <T> modify(databaseName: String, block: () -> T): T {
+        invalidate(databaseName)
+        try {
+            return block()
+        } finally {
+            invalidate(databaseName)
+        }
+    }
+
+    /**
+     * Determines if the database with the given name exists.
+     */
+    fun existsDatabase(databaseName: String): Boolean = Databases.existsDatabase(location.resolve(databaseName))
+
+    @Suppress("UNCHECKED_CAST")
+    fun acquireJsonDatabase(databaseName: String): Database<JsonResourceManager> =
+        acquire(databaseName) { PooledDatabase(Databases.openJsonDatabase(it)) } as Database<JsonResourceManager>
+
+    @Suppress("UNCHECKED_CAST")
+    fun acquireXmlDatabase(databaseName: String): Database<XmlResourceManager> =
+        acquire(databaseName) { PooledDatabase(Databases.openXmlDatabase(it)) } as Database<XmlResourceManager>
+
+    fun acquireDatabase(databaseName: String): Database<*> = acquire(databaseName) {
+        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
+        when (Databases.getDatabaseType(it.toAbsolutePath())) {
+            DatabaseType.JSON -> PooledDatabase(Databases.openJsonDatabase(it))
+            DatabaseType.XML -> PooledDatabase(Databases.openXmlDatabase(it))
+        }
+    }
+
+    private fun acquire(databaseName: String, open: (Path) -> PooledDatabase<*>): Database<*> {
+        val databaseFile = location.resolve(databaseName)
+
+        val (session, isOpening) = synchronized(this) {
+            check(!closed) { "The session pool has been closed." }
+
+            val existingSession = sessions[databaseFile]
+            val session = existingSession ?: Session().also { sessions[databaseFile] = it }
+            session.references++
+            session to (existingSession == null)
+        }
+
+        if (isOpening) {
+            val database = try {
+                open(databaseFile)
+            } catch (e: Throwable) {
+                synchronized(this) {
+                    sessions.remove(databaseFile, session)
+                }
+                session.database.completeExceptionally(e)
+                throw e
+            }
+
+            synchronized(this) {
+                sessionsByDatabase[database] = session
+            }
+            session.database.complete(database)
+            return database
+        }
+
+        try {
+            return session.database.join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    /**
+     * Release a database, which has been acquired before.
+     */
+    fun release(database: Database<*>) {
+        val toClose = synchronized(this) {
+            val session = checkNotNull(sessionsByDatabase[database]) { "The database is not part of the pool." }
+            session.references--
+            session.lastReleased = System.nanoTime()
+
+            if (session.retired && session.references == 0) {
+                sessionsByDatabase.remove(database)
+                database as PooledDatabase<*>
+            } else {
+                null
+            }
+        }
+
+        toClose?.let { closeDatabase(it) }
+    }
+
+    /**
+     * Remove the session of a database from the pool, as the database or one of its resources has been modified
+     * or is going to be removed.
+     */
+    fun invalidate(databaseName: String) {
+        val toClose = synchronized(this) {
+            sessions.remove(location.resolve(databaseName))?.let { retire(it) }
+        }
+
+        toClose?.let { closeDatabase(it) }
+    }
+
+    /**
+     * Remove all sessions from the pool, for instance before all databases are removed.
+     */
+    fun invalidateAll() {
+        val toClose = synchronized(this) {
+            val openSessions = sessions.values.toList()
+            sessions.clear()
+            openSessions.mapNotNull { retire(it) }
+        }
+
+        toClose.forEach { closeDatabase(it) }
+    }
+
+    /**
+     * Close the databases, which have not been used for [maxIdleTime].
+     */
+    fun evictIdle() {
+        val now = System.nanoTime()
+
+        val toClose = synchronized(this) {
+            val idleSessions = sessions.filterValues {
+                it.references == 0 && now - it.lastReleased >= maxIdleTime.toNanos()
+            }
+            idleSessions.keys.forEach { sessions.remove(it) }
+            idleSessions.values.mapNotNull { retire(it) }
+        }
+
+        toClose.forEach { closeDatabase(it) }
+    }
+
+    override fun close() {
+        synchronized(this) {
+            closed = true
+        }
+
+        invalidateAll()
+    }
+
+    /**
+     * Retire a session, which has been removed from the pool.
+     *
+     * @return the database, if it is not in use anymore and can be closed, `null` otherwise
+     */
+    private fun retire(session: Session): PooledDatabase<*>? {
+        session.retired = true
+
+        // A session without references has been opened, as the opening request holds a reference until it releases
+        // the database (or removes the session, if opening fails).
+        if (session.references == 0) {
+            val database = session.database.getNow(null) ?: return null
+            sessionsByDatabase.remove(database)
+            return database
+        }
+
+        return null
+    }
+
+    private fun closeDatabase(database: PooledDatabase<*>) {
+        try {
+            database.database.close()
+        } catch (e: Exception) {
+            LOGGER.error(e)
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.sirix.rest
+
+import io.vertx.core.Context
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.OutputStream
+import java.io.OutputStreamWriter
+import java.io.Writer
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CountDownLatch
+
+/**
+ * Streams serialized output as a chunked HTTP response. The bytes are collected in a bounded buffer, which is
+ * written as one chunk, once it is full. If the write queue of the response is full, the writing (worker) thread
+ * blocks until the response is drained, such that a slow client never lets the pending chunks pile up in main
+ * memory. Must not be used on the event loop.
+ */
+class HttpResponseOutputStream(
+    private val response: HttpServerResponse,
+    private val context: Context,
+    chunkSize: Int = DEFAULT_CHUNK_SIZE
+) : OutputStream() {
+    companion object {
+        /**
+         * The default size of the chunks in bytes.
+         */
+        const val DEFAULT_CHUNK_SIZE = 64 * 1024
+    }
+
+    private val buffer = ByteArray(chunkSize)
+
+    private var position = 0
+
+    private var closed = false
+
+    init {
+        response.isChunked = true
+    }
+
+    /**
+     * Get a writer, which encodes the characters as UTF-8 into this stream.
+     */
+    fun writer(): Writer = OutputStreamWriter(this, StandardCharsets.UTF_8)
+
+    override fun write(b: Int) {
+        if (position == buffer.size) {
+            writeChunk()
+        }
+        buffer[position++] = b.toByte()
+    }
+
+    override fun write(b: ByteArray, off: Int, len: Int) {
+        var offset = off
+        var remaining = len
+        while (remaining > 0) {
+            if (position == buffer.size) {
+                writeChunk()
+            }
+            val length = minOf(remaining, buffer.size - position)
+            System.arraycopy(b, offset, buffer, position, length)
+            position += length
+            offset += length
+            remaining -= length
+        }
+    }
+
+    /**
+     * Writes the buffered bytes as a chunk.
+     */
+    override fun flush() {
+        if (position > 0) {
+            writeChunk()
+        }
+    }
+
+    /**
+     * Writes the remaining bytes. The response is not ended, which is up to the caller.
+     */
+    override fun close() {
+        if (!closed) {
+            closed = true
+            flush()
+        }
+    }
+
+    private fun writeChunk() {
+        if (response.closed()) {
+            throw IOException("The connection has been closed by the client.")
+        }
+
+        awaitDrained()
+
+        response.write(Buffer.buffer(buffer.copyOf(position)))
+        position = 0
+    }
+
+    private fun awaitDrained() {
+        if (!response.writeQueueFull()) {
+            return
+        }
+
+        val drained = CountDownLatch(1)
+
+        context.runOnContext {
+            if (response.writeQueueFull() && !response.closed()) {
+                response.drainHandler { drained.countDown() }
+                response.closeHandler { drained.countDown() }
+            } else {
+                drained.countDown()
+            }
+        }
+
+        drained.await()
+
+        if (response.closed()) {
+            throw IOException("The connection has been closed by the client.")
+        }
+    }
+}
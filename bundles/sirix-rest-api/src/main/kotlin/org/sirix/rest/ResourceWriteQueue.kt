@@ -0,0 +1,198 @@
+package org.sirix.rest
+
+import io.vertx.core.Future
+import io.vertx.core.Promise
+import io.vertx.core.Vertx
+import org.sirix.access.User
+import java.util.*
+
+/**
+ * Admits the writes of the REST API to a resource. Instead of blocking a worker thread per request on the write lock
+ * of the resource, the writes are queued per resource and drained by at most one worker thread per resource.
+ *
+ * Consecutive writes of the same user are applied by one node transaction and committed at once (group commit), such
+ * that many small concurrent updates don't result in as many commits. A write, which is rejected before it has
+ * modified the transaction (a [RejectedWriteException], for instance because its ETag doesn't match the state left by
+ * the former writes of the batch), fails on its own, whereas the other writes of the batch are committed. If a batch
+ * fails otherwise, it is rolled back and its writes are retried one by one, such that only the failing write reports
+ * the failure. Each caller gets its own future, which is completed with the revision number of the commit, which
+ * includes the write.
+ *
+ * @param T the type of the node transaction
+ */
+class ResourceWriteQueue<T>(
+    private val vertx: Vertx,
+    private val writer: BatchWriter<T>,
+    private val maxBatchSize: Int = DEFAULT_MAX_BATCH_SIZE
+) {
+    companion object {
+        /**
+         * The default maximum number of writes, which are committed at once.
+         */
+        const val DEFAULT_MAX_BATCH_SIZE = 128
+    }
+
+    init {
+        require(maxBatchSize > 0) { "The maximum batch size must be > 0." }
+    }
+
+    /**
+     * Thrown by a write, which is rejected before it has modified the node transaction. The future of the write is
+     * failed with the [cause].
+     */
+    class RejectedWriteException(cause: Exception) : RuntimeException(cause.message, cause)
+
+    /**
+     * Identifies a resource.
+     */
+    data class ResourceKey(val databaseName: String, val resourceName: String)
+
+    /**
+     * Applies a batch of writes to a resource.
+     */
+    fun interface BatchWriter<T> {
+        /**
+         * Apply the writes in the given order by one node transaction and commit it. If one of the writes fails, the
+         * transaction must be rolled back.
+         *
+         * @param resource the resource to modify
+         * @param user the author of the commit
+         * @param writes the writes to apply
+         * @return the revision number of the commit
+         */
+        fun write(resource: ResourceKey, user: User, writes: List<(T) -> Unit>): Int
+    }
+
+    private class PendingWrite<T>(val user: User, val write: (T) -> Unit) {
+        val promise: Promise<Int> = Promise.promise()
+    }
+
+    private class PendingWrites<T> {
+        val writes = ArrayDeque<PendingWrite<T>>()
+    }
+
+    /** The pending writes by resource, guarded by this queue. A resource is present, while it is drained. */
+    private val pendingWritesByResource = HashMap<ResourceKey, PendingWrites<T>>()
+
+    /**
+     * Submit a write.
+     *
+     * @param resource the resource to modify
+     * @param user the author of the commit
+     * @param write applies the write to the node transaction without committing it
+     * @return the future, which is completed with the revision number of the commit, which includes the write
+     */
+    fun submit(resource: ResourceKey, user: User, write: (T) -> Unit): Future<Int> {
+        val pendingWrite = PendingWrite(user, write)
+
+        val startDraining = synchronized(this) {
+            var pendingWrites = pendingWritesByResource[resource]
+            val isDraining = pendingWrites != null
+
+            if (pendingWrites == null) {
+                pendingWrites = PendingWrites()
+                pendingWritesByResource[resource] = pendingWrites
+            }
+
+            pendingWrites.writes.add(pendingWrite)
+            !isDraining
+        }
+
+        if (startDraining) {
+            vertx.executeBlocking<Unit>({ promise ->
+                drain(resource)
+                promise.complete()
+            }, false)
+        }
+
+        return pendingWrite.promise.future()
+    }
+
+    private fun drain(resource: ResourceKey) {
+        var batch = emptyList<PendingWrite<T>>()
+        var isDrained = false
+        var failure: Throwable? = null
+
+        try {
+            while (true) {
+                batch = synchronized(this) {
+                    val pendingWrites = pendingWritesByResource.getValue(resource)
+
+                    if (pendingWrites.writes.isEmpty()) {
+                        pendingWritesByResource.remove(resource)
+                        isDrained = true
+                        return
+                    }
+
+                    nextBatch(pendingWrites)
+                }
+
+                write(resource, batch)
+            }
+        } catch (t: Throwable) {
+            failure = t
+            throw t
+        } finally {
+            if (!isDrained) {
+                // An error has escaped, thus the resource is removed (such that the next write drains it again) and
+                // the writes, which are still outstanding, are failed instead of never being completed.
+                val outstandingWrites = synchronized(this) {
+                    pendingWritesByResource.remove(resource)?.writes?.toList().orEmpty()
+                }
+                val cause = IllegalStateException("Draining the writes to $resource failed.", failure)
+                (batch + outstandingWrites).forEach { it.promise.tryFail(cause) }
+            }
+        }
+    }
+
+    private fun nextBatch(pendingWrites: PendingWrites<T>): List<PendingWrite<T>> {
+        val user = pendingWrites.writes.first.user
+        val batch = ArrayList<PendingWrite<T>>()
+
+        while (batch.size < maxBatchSize && pendingWrites.writes.isNotEmpty() && pendingWrites.writes.first.user == user) {
+            batch.add(pendingWrites.writes.removeFirst())
+        }
+
+        return batch
+    }
+
+    private fun write(resource: ResourceKey, batch: List<PendingWrite<T>>) {
+        val rejections = arrayOfNulls<RejectedWriteException>(batch.size)
+
+        try {
+            val writes = batch.mapIndexed { index, pendingWrite ->
+                { trx: T ->
+                    try {
+                        pendingWrite.write(trx)
+                    } catch (e: RejectedWriteException) {
+                        rejections[index] = e
+
+                        // Nothing is committed, if all writes are rejected.
+                        if (index == batch.lastIndex && rejections.all { it != null }) {
+                            throw e
+                        }
+                    }
+                }
+            }
+
+            val revision = writer.write(resource, batch[0].user, writes)
+
+            batch.forEachIndexed { index, pendingWrite ->
+                val rejection = rejections[index]
+
+                if (rejection == null) {
+                    pendingWrite.promise.complete(revision)
+                } else {
+                    pendingWrite.promise.fail(rejection.cause)
+                }
+            }
+        } catch (e: Exception) {
+            if (batch.size == 1) {
+                batch[0].promise.fail(if (e is RejectedWriteException) e.cause else e)
+            } else {
+                // Find out which write failed, the others are committed separately.
+                batch.forEach { write(resource, listOf(it)) }
+            }
+        }
+    }
+}
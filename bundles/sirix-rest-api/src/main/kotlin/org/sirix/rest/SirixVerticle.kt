@@ -47,9 +47,28 @@ class SirixVerticle : CoroutineVerticle() {
     /** Storage for databases: Sirix data in home directory. */
     private val location = Paths.get(userHome, "sirix-data")
 
+    /** Keeps the databases open between requests. */
+    private val sessions = DatabaseSessionPool(location)
+
+    /** Coalesces concurrent updates of a JSON resource into one commit. */
+    private val jsonWrites by lazy { JsonUpdate.newWriteQueue(vertx, location, sessions) }
+
+    /** Admits the updates of an XML resource one after the other. */
+    private val xmlWrites by lazy { XmlUpdate.newWriteQueue(vertx, location, sessions) }
+
+    /** The ID of the timer, which closes idle databases. */
+    private var evictionTimerId = -1L
+
     override suspend fun start() {
         val router = createRouter()
 
+        evictionTimerId = vertx.setPeriodic(config.getLong("session.eviction.interval", 60_000L)) {
+            vertx.executeBlocking<Unit>({ promise ->
+                sessions.evictIdle()
+                promise.complete()
+            }, false)
+        }
+
         // Start an HTTP/2 server
         if (config.getBoolean("use.http", false)) {
             val server = vertx.createHttpServer(
@@ -75,6 +94,15 @@ class SirixVerticle : CoroutineVerticle() {
         }
     }
 
+    override suspend fun stop() {
+        vertx.cancelTimer(evictionTimerId)
+
+        vertx.executeBlocking<Unit> { promise ->
+            sessions.close()
+            promise.complete()
+        }.await()
+    }
+
     private suspend fun listen(server: HttpServer, router: Router, port: Int) {
         server.requestHandler { router.handle(it) }
             .listen(config.getInteger("port", port)).await()
@@ -184,21 +212,21 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessions).handle(it)
         }
 
         get("/").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessions).handle(it)
         }
 
         delete("/").coroutineHandler {
             Auth(keycloak, authz, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location, authz).handle(it)
+            DeleteHandler(location, sessions, authz).handle(it)
         }
 
         // "/:database"
@@ -206,34 +234,34 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            CreateMultipleResources(location).handle(it)
+            CreateMultipleResources(location, sessions).handle(it)
         }
 
         get("/:database").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessions).handle(it)
         }
 
         put("/:database").consumes("application/xml").coroutineHandler {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            XmlCreate(location, false).handle(it)
+            XmlCreate(location, sessions, false).handle(it)
         }
         put("/:database").consumes("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonCreate(location, true).handle(it)
+            JsonCreate(location, sessions, true).handle(it)
         }
 
         delete("/:database").coroutineHandler {
             Auth(keycloak, authz, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location, authz).handle(it)
+            DeleteHandler(location, sessions, authz).handle(it)
         }
 
         // "/:database/:resource"
@@ -241,14 +269,14 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            XmlHead(location).handle(it)
+            XmlHead(sessions).handle(it)
         }
 
         head("/:database/:resource").produces("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonHead(location).handle(it)
+            JsonHead(sessions).handle(it)
         }
 
         post("/:database/:resource")
@@ -258,7 +286,7 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, authz, AuthRole.MODIFY).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                XmlUpdate(location).handle(it)
+                XmlUpdate(sessions, xmlWrites).handle(it)
             }
         post("/:database/:resource")
             .consumes("application/json")
@@ -267,7 +295,7 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, authz, AuthRole.MODIFY).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                JsonUpdate(location).handle(it)
+                JsonUpdate(sessions, jsonWrites).handle(it)
             }
 
         post("/:database/:resource")
@@ -275,34 +303,34 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, authz, AuthRole.VIEW).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                GetHandler(location, keycloak, authz).handle(it)
+                GetHandler(location, keycloak, authz, sessions).handle(it)
             }
 
         get("/:database/:resource").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location, keycloak, authz).handle(it)
+            GetHandler(location, keycloak, authz, sessions).handle(it)
         }
 
         put("/:database/:resource").consumes("application/xml").coroutineHandler {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            XmlCreate(location, false).handle(it)
+            XmlCreate(location, sessions, false).handle(it)
         }
         put("/:database/:resource").consumes("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonCreate(location, false).handle(it)
+            JsonCreate(location, sessions, false).handle(it)
         }
 
         delete("/:database/:resource").coroutineHandler {
             Auth(keycloak, authz, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location, authz).handle(it)
+            DeleteHandler(location, sessions, authz).handle(it)
         }
 
         // "/:database/:resource/subroutes"
@@ -310,19 +338,19 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            HistoryHandler(location).handle(it)
+            HistoryHandler(sessions).handle(it)
         }
         get("/:database/:resource/diff").produces("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            DiffHandler(location).handle(it)
+            DiffHandler(sessions).handle(it)
         }
         get("/:database/:resource/pathSummary").produces("application/json").coroutineHandler {
             Auth(keycloak, authz, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            PathSummaryHandler(location).handle(it)
+            PathSummaryHandler(sessions).handle(it)
         }
 
         // Exception with status code
@@ -403,6 +431,13 @@ class SirixVerticle : CoroutineVerticle() {
     }
 
     private fun response(response: HttpServerResponse, statusCode: Int, failureMessage: String?) {
+        if (response.headWritten()) {
+            // A streamed response failed, thus the client has to notice the truncated body.
+            if (!response.closed()) {
+                response.reset()
+            }
+            return
+        }
         response.setStatusCode(statusCode).end("Failure calling the RESTful API: $failureMessage")
     }
 
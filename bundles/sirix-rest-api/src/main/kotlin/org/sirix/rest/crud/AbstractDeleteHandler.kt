@@ -17,11 +17,12 @@ import org.sirix.access.User
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.Database
 import org.sirix.api.ResourceManager
+import org.sirix.rest.DatabaseSessionPool
 import java.math.BigInteger
 import java.nio.file.Files
 import java.nio.file.Path
 
-abstract class AbstractDeleteHandler(protected val location: Path) {
+abstract class AbstractDeleteHandler(protected val location: Path, protected val sessions: DatabaseSessionPool) {
     protected suspend fun dropDatabasesOfType(ctx: RoutingContext, dbType: DatabaseType) {
         // Initialize queryResource context and store.
         val dbStore = createStore(ctx)
@@ -32,7 +33,10 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
             databases.use {
                 databases.filter { Files.isDirectory(it) && Databases.getDatabaseType(it) == dbType }
                     .forEach {
-                        dbStore.drop(it.fileName.toString())
+                        val databaseName = it.fileName.toString()
+                        sessions.modify(databaseName) {
+                            dbStore.drop(databaseName)
+                        }
                     }
             }
 
@@ -56,27 +60,31 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
                     IllegalStateException("Database not found.")
                 )
             }
-            removeDatabase(dbFile, dispatcher)
+            sessions.modify(databaseName) {
+                removeDatabase(dbFile, dispatcher)
+            }
             ctx.response().setStatusCode(204).end()
             return
         }
 
         val sirixDBUser = SirixDBUser.create(ctx)
 
-        val database = database(dbFile, sirixDBUser)
+        sessions.modify(databaseName) {
+            val database = database(dbFile, sirixDBUser)
 
-        database.use {
-            if (!database.existsResource(resPathName)) {
-                throw HttpException(
-                    HttpResponseStatus.NOT_FOUND.code(),
-                    IllegalStateException("Resource not found.")
-                )
-            }
+            database.use {
+                if (!database.existsResource(resPathName)) {
+                    throw HttpException(
+                        HttpResponseStatus.NOT_FOUND.code(),
+                        IllegalStateException("Resource not found.")
+                    )
+                }
 
-            if (nodeId == null) {
-                removeResource(dispatcher, database, resPathName)
-            } else {
-                removeSubtree(database, resPathName, nodeId, context, ctx)
+                if (nodeId == null) {
+                    removeResource(dispatcher, database, resPathName)
+                } else {
+                    removeSubtree(database, resPathName, nodeId, context, ctx)
+                }
             }
         }
 
@@ -2,11 +2,12 @@ package org.sirix.rest.crud
 
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.rest.crud.json.JsonCreate
 import org.sirix.rest.crud.xml.XmlCreate
 import java.nio.file.Path
 
-class CreateMultipleResources(private val location: Path) {
+class CreateMultipleResources(private val location: Path, private val sessions: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val fileUploads = ctx.fileUploads()
         var isXmlFiles = false
@@ -31,8 +32,8 @@ class CreateMultipleResources(private val location: Path) {
             }
         }
 
-        if (isXmlFiles) XmlCreate(location, true).handle(ctx)
-        else if (isJsonFiles) JsonCreate(location, true).handle(ctx)
+        if (isXmlFiles) XmlCreate(location, sessions, true).handle(ctx)
+        else if (isJsonFiles) JsonCreate(location, sessions, true).handle(ctx)
 
         return ctx.currentRoute()
     }
@@ -8,14 +8,21 @@ import io.vertx.kotlin.coroutines.await
 import org.sirix.access.DatabaseType
 import org.sirix.access.Databases
 import org.sirix.access.DatabasesInternals
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.rest.crud.json.JsonDelete
 import org.sirix.rest.crud.xml.XmlDelete
 import java.nio.file.Files
 import java.nio.file.Path
 
-class DeleteHandler(private val location: Path, private val authz: AuthorizationProvider) {
+class DeleteHandler(
+    private val location: Path,
+    private val sessions: DatabaseSessionPool,
+    private val authz: AuthorizationProvider
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         if (ctx.pathParam("database") == null && ctx.pathParam("resource") == null) {
+            sessions.invalidateAll()
+
             val openDatabases = DatabasesInternals.getOpenDatabases()
 
             if (openDatabases.isNotEmpty()) {
@@ -45,8 +52,8 @@ class DeleteHandler(private val location: Path, private val authz: Authorization
 
                 @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
                 when (databaseType) {
-                    DatabaseType.JSON -> JsonDelete(location, authz).handle(ctx)
-                    DatabaseType.XML -> XmlDelete(location, authz).handle(ctx)
+                    DatabaseType.JSON -> JsonDelete(location, sessions, authz).handle(ctx)
+                    DatabaseType.XML -> XmlDelete(location, sessions, authz).handle(ctx)
                 }
             }
         }
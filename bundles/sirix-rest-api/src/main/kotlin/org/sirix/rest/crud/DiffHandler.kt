@@ -1,31 +1,29 @@
 package org.sirix.rest.crud
 
+import com.google.gson.Gson
 import com.google.gson.JsonArray
 import com.google.gson.JsonObject
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import org.sirix.access.DatabaseType
-import org.sirix.access.Databases.*
 import org.sirix.access.DatabasesInternals
 import org.sirix.access.ResourceConfiguration
-import org.sirix.api.Database
 import org.sirix.api.json.JsonNodeReadOnlyTrx
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.DatabaseSessionPool
+import org.sirix.rest.HttpResponseOutputStream
 import org.sirix.service.json.BasicJsonDiff
 import org.sirix.utils.LogWrapper
 import org.slf4j.LoggerFactory
-import java.nio.charset.StandardCharsets
 import java.nio.file.Files
-import java.nio.file.Path
 
 /**
  * [LogWrapper] reference.
  */
 private val LOGGER = LogWrapper(LoggerFactory.getLogger(DiffHandler::class.java))
 
-class DiffHandler(private val location: Path) {
+class DiffHandler(private val sessions: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -37,28 +35,29 @@ class DiffHandler(private val location: Path) {
 
         LOGGER.debug("Open databases before: ${DatabasesInternals.getOpenDatabases()}")
         
-        val database = openDatabase(databaseName)
-
-        val diff = context.executeBlocking<String> { resultPromise ->
-            var diffString: String? = null
-            database.use {
+        context.executeBlocking<Unit> { resultPromise ->
+            sessions.useDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool.
                 val resourceManager = database.openResourceManager(resourceName)
 
-                resourceManager.use {
-                    if (resourceManager is JsonResourceManager) {
-                        val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
-                        val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
+                if (resourceManager is JsonResourceManager) {
+                    val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
+                    val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
 
-                        if (firstRevision == null || secondRevision == null) {
-                            throw IllegalArgumentException("First and second revision must be specified.")
-                        }
+                    if (firstRevision == null || secondRevision == null) {
+                        throw IllegalArgumentException("First and second revision must be specified.")
+                    }
+
+                    val startNodeKey: String? = ctx.queryParam("startNodeKey").getOrNull(0)
+                    val maxDepth: String? = ctx.queryParam("maxDepth").getOrNull(0)
 
-                        val startNodeKey: String? = ctx.queryParam("startNodeKey").getOrNull(0)
-                        val maxDepth: String? = ctx.queryParam("maxDepth").getOrNull(0)
+                    val startNodeKeyAsLong = startNodeKey?.let { startNodeKey.toLong() } ?: 0
+                    val maxDepthAsLong = maxDepth?.let { maxDepth.toLong() } ?: Long.MAX_VALUE
 
-                        val startNodeKeyAsLong = startNodeKey?.let { startNodeKey.toLong() } ?: 0
-                        val maxDepthAsLong = maxDepth?.let { maxDepth.toLong() } ?: Long.MAX_VALUE
+                    ctx.response().setStatusCode(200)
+                        .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 
+                    HttpResponseOutputStream(ctx.response(), context).writer().use { out ->
                         if (resourceManager.resourceConfig.areDeweyIDsStored && secondRevision.toInt() - 1 == firstRevision.toInt()) {
                             if (startNodeKeyAsLong == 0L && maxDepthAsLong == 0L) {
                                 val diffPath = resourceManager.getResourceConfig()
@@ -66,48 +65,45 @@ class DiffHandler(private val location: Path) {
                                     .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
                                     .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
 
-                                diffString = Files.readString(diffPath)
+                                Files.newBufferedReader(diffPath).use { reader -> reader.transferTo(out) }
                             } else {
                                 val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
 
                                 rtx.use {
-                                    diffString = useUpdateOperations(
+                                    useUpdateOperations(
                                         rtx,
                                         startNodeKeyAsLong,
                                         databaseName,
                                         resourceName,
                                         firstRevision,
                                         secondRevision,
-                                        maxDepthAsLong
+                                        maxDepthAsLong,
+                                        out
                                     )
                                 }
                             }
                         } else {
-                            diffString = BasicJsonDiff(databaseName).generateDiff(
+                            BasicJsonDiff(databaseName).generateDiff(
                                 resourceManager,
                                 firstRevision.toInt(),
                                 secondRevision.toInt(),
                                 startNodeKeyAsLong,
-                                maxDepthAsLong
+                                maxDepthAsLong,
+                                out
                             )
                         }
                     }
+                } else {
+                    throw IllegalArgumentException("Diffs are only supported for JSON resources.")
                 }
             }
 
-            resultPromise.complete(diffString)
+            resultPromise.complete()
         }.await()
 
         LOGGER.debug("Open databases after: ${DatabasesInternals.getOpenDatabases()}")
 
-        val res = ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-            .putHeader(
-                HttpHeaders.CONTENT_LENGTH,
-                diff!!.toByteArray(StandardCharsets.UTF_8).size.toString()
-            )
-        res.write(diff)
-        res.end()
+        ctx.response().end()
 
         return ctx.currentRoute()
     }
@@ -119,8 +115,9 @@ class DiffHandler(private val location: Path) {
         resourceName: String,
         firstRevision: String,
         secondRevision: String,
-        maxDepthAsLong: Long
-    ): String {
+        maxDepthAsLong: Long,
+        out: Appendable
+    ) {
         rtx.moveTo(startNodeKeyAsLong)
         val metaInfo = createMetaInfo(
             databaseName,
@@ -133,15 +130,7 @@ class DiffHandler(private val location: Path) {
         val updateOperations =
             rtx.getUpdateOperationsInSubtreeOfNode(rtx.deweyID, maxDepthAsLong)
         updateOperations.forEach { diffs.add(it) }
-        return metaInfo.toString()
-    }
-
-    private fun openDatabase(databaseName: String): Database<*> {
-        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
-        return when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-            DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-            DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
-        }
+        Gson().toJson(metaInfo, out)
     }
 
     private fun createMetaInfo(
@@ -5,73 +5,71 @@ import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.withContext
-import org.sirix.access.DatabaseType
-import org.sirix.access.Databases.*
-import org.sirix.api.Database
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.service.json.serialize.StringValue
 import java.nio.charset.StandardCharsets
-import java.nio.file.Path
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
 
-class HistoryHandler(private val location: Path) {
+class HistoryHandler(private val sessions: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
         val resourceName = ctx.pathParam("resource")
 
-        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA") val database: Database<*> =
-            when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-                DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-                DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
-            }
-
         withContext(ctx.vertx().dispatcher()) {
             val buffer = StringBuilder()
-            database.use {
+            sessions.useDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool.
                 val manager = database.openResourceManager(resourceName)
 
-                manager.use {
-                    val numberOfRevisions = ctx.queryParam("revisions")
-                    val startRevision = ctx.queryParam("startRevision")
-                    val endRevision = ctx.queryParam("endRevision")
-
-
-                    val historyList = if (numberOfRevisions.isEmpty()) {
-                        if (startRevision.isEmpty() && endRevision.isEmpty()) {
-                            manager.history
-                        } else {
-                            val startRevisionAsInt = startRevision[0].toInt()
-                            val endRevisionAsInt = endRevision[0].toInt()
-                            manager.getHistory(startRevisionAsInt, endRevisionAsInt)
-                        }
+                val numberOfRevisions = ctx.queryParam("revisions")
+                val startRevision = ctx.queryParam("startRevision")
+                val endRevision = ctx.queryParam("endRevision")
+                val startRevisionTimestamp = ctx.queryParam("start-revision-timestamp")
+                val endRevisionTimestamp = ctx.queryParam("end-revision-timestamp")
+
+                val historyList = if (numberOfRevisions.isEmpty()) {
+                    if (startRevisionTimestamp.isNotEmpty() || endRevisionTimestamp.isNotEmpty()) {
+                        val startInstant = startRevisionTimestamp.getOrNull(0)?.let { parseInstant(it) } ?: Instant.EPOCH
+                        val endInstant = endRevisionTimestamp.getOrNull(0)?.let { parseInstant(it) } ?: Instant.now()
+                        manager.getHistory(startInstant, endInstant)
+                    } else if (startRevision.isEmpty() && endRevision.isEmpty()) {
+                        manager.history
                     } else {
-                        val revisions = numberOfRevisions[0].toInt()
-                        manager.getHistory(revisions)
+                        val startRevisionAsInt = startRevision[0].toInt()
+                        val endRevisionAsInt = endRevision[0].toInt()
+                        manager.getHistory(startRevisionAsInt, endRevisionAsInt)
                     }
+                } else {
+                    val revisions = numberOfRevisions[0].toInt()
+                    manager.getHistory(revisions)
+                }
 
-                    buffer.append("{\"history\":[")
-
-                    historyList.forEachIndexed { index, revisionTuple ->
-                        buffer.append("{\"revision\":")
-                        buffer.append(revisionTuple.revision)
-                        buffer.append(",")
+                buffer.append("{\"history\":[")
 
-                        buffer.append("\"revisionTimestamp\":\"")
-                        buffer.append(revisionTuple.revisionTimestamp)
-                        buffer.append("\",")
+                historyList.forEachIndexed { index, revisionTuple ->
+                    buffer.append("{\"revision\":")
+                    buffer.append(revisionTuple.revision)
+                    buffer.append(",")
 
-                        buffer.append("\"author\":\"")
-                        buffer.append(StringValue.escape(revisionTuple.user.name))
-                        buffer.append("\",")
+                    buffer.append("\"revisionTimestamp\":\"")
+                    buffer.append(revisionTuple.revisionTimestamp)
+                    buffer.append("\",")
 
-                        buffer.append("\"commitMessage\":\"")
-                        buffer.append(StringValue.escape(revisionTuple.commitMessage.orElse("")))
-                        buffer.append("\"}")
+                    buffer.append("\"author\":\"")
+                    buffer.append(StringValue.escape(revisionTuple.user?.name ?: ""))
+                    buffer.append("\",")
 
-                        if (index != historyList.size - 1)
-                            buffer.append(",")
-                    }
+                    buffer.append("\"commitMessage\":\"")
+                    buffer.append(StringValue.escape(revisionTuple.commitMessage.orElse("")))
+                    buffer.append("\"}")
 
-                    buffer.append("]}")
+                    if (index != historyList.size - 1)
+                        buffer.append(",")
                 }
+
+                buffer.append("]}")
             }
 
             val content = buffer.toString()
@@ -85,4 +83,10 @@ class HistoryHandler(private val location: Path) {
 
         return ctx.currentRoute()
     }
+
+    private fun parseInstant(timestamp: String): Instant {
+        val revisionDateTime = LocalDateTime.parse(timestamp)
+        val zdt = revisionDateTime.atZone(ZoneId.systemDefault())
+        return zdt.toInstant()
+    }
 }
\ No newline at end of file
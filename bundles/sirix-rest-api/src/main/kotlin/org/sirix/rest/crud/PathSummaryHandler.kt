@@ -4,65 +4,55 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import org.sirix.access.DatabaseType
-import org.sirix.access.Databases.*
-import org.sirix.api.Database
 import org.sirix.axis.DescendantAxis
+import org.sirix.rest.DatabaseSessionPool
 import java.nio.charset.StandardCharsets
-import java.nio.file.Path
 
-class PathSummaryHandler(private val location: Path) {
+class PathSummaryHandler(private val sessions: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
         val resourceName = ctx.pathParam("resource")
 
-        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA") val database: Database<*> =
-            when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-                DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-                DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
-            }
-
         context.executeBlocking<String> {
             val buffer = StringBuilder()
-            database.use {
+            sessions.useDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool.
                 val manager = database.openResourceManager(resourceName)
 
-                manager.use {
-                    if (manager.resourceConfig.withPathSummary) {
-                        val revision = ctx.queryParam("revision")[0]
+                if (manager.resourceConfig.withPathSummary) {
+                    val revision = ctx.queryParam("revision")[0]
 
-                        val pathSummary = manager.openPathSummary(revision.toInt())
-                        val pathSummaryAxis = DescendantAxis(pathSummary)
+                    val pathSummary = manager.openPathSummary(revision.toInt())
+                    val pathSummaryAxis = DescendantAxis(pathSummary)
 
-                        buffer.append("{\"pathSummary\":[")
+                    buffer.append("{\"pathSummary\":[")
 
-                        while (pathSummaryAxis.hasNext()) {
-                            pathSummaryAxis.next()
+                    while (pathSummaryAxis.hasNext()) {
+                        pathSummaryAxis.next()
 
-                            buffer.append("{")
-                            buffer.append("nodeKey:")
-                            buffer.append(pathSummary.nodeKey)
-                            buffer.append(",")
-                            buffer.append("path:")
-                            buffer.append(pathSummary.path)
-                            buffer.append(",")
-                            buffer.append("references:")
-                            buffer.append(pathSummary.references)
-                            buffer.append(",")
-                            buffer.append("level:")
-                            buffer.append(pathSummary.level)
-                            buffer.append("}")
+                        buffer.append("{")
+                        buffer.append("nodeKey:")
+                        buffer.append(pathSummary.nodeKey)
+                        buffer.append(",")
+                        buffer.append("path:")
+                        buffer.append(pathSummary.path)
+                        buffer.append(",")
+                        buffer.append("references:")
+                        buffer.append(pathSummary.references)
+                        buffer.append(",")
+                        buffer.append("level:")
+                        buffer.append(pathSummary.level)
+                        buffer.append("}")
 
-                            if (pathSummaryAxis.hasNext()) {
-                                buffer.append(",")
-                            }
+                        if (pathSummaryAxis.hasNext()) {
+                            buffer.append(",")
                         }
-
-                        buffer.append("]}")
-                    } else {
-                        buffer.append("{\"pathSummary\":[]}")
                     }
+
+                    buffer.append("]}")
+                } else {
+                    buffer.append("{\"pathSummary\":[]}")
                 }
             }
 
@@ -16,6 +16,7 @@ import org.sirix.access.DatabasesInternals
 import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.rest.KotlinJsonStreamingShredder
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.json.serialize.JsonSerializer
@@ -32,6 +33,7 @@ private val LOGGER = LogWrapper(LoggerFactory.getLogger(DatabasesInternals::clas
 
 class JsonCreate(
     private val location: Path,
+    private val sessions: DatabaseSessionPool,
     private val createMultipleResources: Boolean = false
 ) {
     suspend fun handle(ctx: RoutingContext): Route {
@@ -71,28 +73,30 @@ class JsonCreate(
         val sirixDBUser = SirixDBUser.create(ctx)
 
         ctx.vertx().executeBlocking<Unit> {
-            val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
-
-            database.use {
-                BodyHandler.create().handle(ctx)
-                val fileResolver = FileResolver()
-                ctx.fileUploads().forEach { fileUpload ->
-                    val fileName = fileUpload.fileName()
-                    val resConfig = ResourceConfiguration.Builder(fileName).useDeweyIDs(true).build()
-
-                    val resourceHasBeenCreated = createResourceIfNotExisting(
-                        database,
-                        resConfig
-                    )
-
-                    if (resourceHasBeenCreated) {
-                        val manager = database.openResourceManager(fileName)
-
-                        manager.use {
-                            insertJsonSubtreeAsFirstChild(
-                                manager,
-                                fileResolver.resolveFile(fileUpload.uploadedFileName()).toPath()
-                            )
+            sessions.modify(databaseName) {
+                val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
+
+                database.use {
+                    BodyHandler.create().handle(ctx)
+                    val fileResolver = FileResolver()
+                    ctx.fileUploads().forEach { fileUpload ->
+                        val fileName = fileUpload.fileName()
+                        val resConfig = ResourceConfiguration.Builder(fileName).useDeweyIDs(true).build()
+
+                        val resourceHasBeenCreated = createResourceIfNotExisting(
+                            database,
+                            resConfig
+                        )
+
+                        if (resourceHasBeenCreated) {
+                            val manager = database.openResourceManager(fileName)
+
+                            manager.use {
+                                insertJsonSubtreeAsFirstChild(
+                                    manager,
+                                    fileResolver.resolveFile(fileUpload.uploadedFileName()).toPath()
+                                )
+                            }
                         }
                     }
                 }
@@ -111,11 +115,11 @@ class JsonCreate(
         ctx.request().pause()
         createDatabaseIfNotExists(dbFile, context)
         ctx.request().resume()
-        insertResource(dbFile, resPathName, ctx)
+        insertResource(databaseName, dbFile, resPathName, ctx)
     }
 
     private suspend fun insertResource(
-        dbFile: Path?, resPathName: String,
+        databaseName: String, dbFile: Path?, resPathName: String,
         ctx: RoutingContext
     ) {
         ctx.request().pause()
@@ -136,35 +140,37 @@ class JsonCreate(
         withContext(Dispatchers.IO) {
             var body: String? = null
             val sirixDBUser = SirixDBUser.create(ctx)
-            val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
+            sessions.modify(databaseName) {
+                val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
 
-            database.use {
-                val resConfig =
-                    ResourceConfiguration.Builder(resPathName).useDeweyIDs(true).build()
+                database.use {
+                    val resConfig =
+                        ResourceConfiguration.Builder(resPathName).useDeweyIDs(true).build()
 
-                val resourceHasBeenCreated = createResourceIfNotExisting(
-                    database,
-                    resConfig
-                )
+                    val resourceHasBeenCreated = createResourceIfNotExisting(
+                        database,
+                        resConfig
+                    )
 
-                val manager = database.openResourceManager(resPathName)
+                    val manager = database.openResourceManager(resPathName)
 
-                manager.use {
-                    val maxNodeKey = if (resourceHasBeenCreated) {
-                        insertJsonSubtreeAsFirstChild(manager, ctx)
-                    } else {
-                        val rtx = manager.beginNodeReadOnlyTrx()
+                    manager.use {
+                        val maxNodeKey = if (resourceHasBeenCreated) {
+                            insertJsonSubtreeAsFirstChild(manager, ctx)
+                        } else {
+                            val rtx = manager.beginNodeReadOnlyTrx()
 
-                        rtx.use {
-                            return@use rtx.maxNodeKey
+                            rtx.use {
+                                return@use rtx.maxNodeKey
+                            }
                         }
-                    }
-//                    ctx.vertx().fileSystem().delete(pathToFile.toAbsolutePath().toString()).await()
+//                        ctx.vertx().fileSystem().delete(pathToFile.toAbsolutePath().toString()).await()
 
-                    if (maxNodeKey < MAX_NODES_TO_SERIALIZE) {
-                        body = serializeJson(manager, ctx)
-                    } else {
-                        ctx.response().setStatusCode(200)
+                        if (maxNodeKey < MAX_NODES_TO_SERIALIZE) {
+                            body = serializeJson(manager, ctx)
+                        } else {
+                            ctx.response().setStatusCode(200)
+                        }
                     }
                 }
             }
@@ -11,11 +11,16 @@ import org.sirix.access.trx.node.HashType
 import org.sirix.api.Database
 import org.sirix.api.ResourceManager
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.rest.crud.AbstractDeleteHandler
 import org.sirix.xquery.json.BasicJsonDBStore
 import java.nio.file.Path
 
-class JsonDelete(location: Path, private val authz: AuthorizationProvider) : AbstractDeleteHandler(location) {
+class JsonDelete(
+    location: Path,
+    sessions: DatabaseSessionPool,
+    private val authz: AuthorizationProvider
+) : AbstractDeleteHandler(location, sessions) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName: String? = ctx.pathParam("database")
         val resource: String? = ctx.pathParam("resource")
@@ -31,7 +36,7 @@ class JsonDelete(location: Path, private val authz: AuthorizationProvider) : Abs
     }
 
     override fun createStore(ctx: RoutingContext): StructuredItemStore {
-        return JsonSessionDBStore(ctx, BasicJsonDBStore.newBuilder().build(), ctx.get("user") as User, authz)
+        return JsonSessionDBStore(ctx, BasicJsonDBStore.newBuilder().build(), ctx.get("user") as User, authz, sessions)
     }
 
     override fun database(dbFile: Path, sirixDBUser: org.sirix.access.User): Database<*> {
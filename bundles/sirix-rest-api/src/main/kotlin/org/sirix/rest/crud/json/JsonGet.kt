@@ -11,11 +11,12 @@ import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.ext.web.handler.HttpException
 import io.vertx.kotlin.coroutines.await
-import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.exception.SirixUsageException
 import org.sirix.rest.AuthRole
+import org.sirix.rest.DatabaseSessionPool
+import org.sirix.rest.HttpResponseOutputStream
 import org.sirix.rest.crud.PermissionCheckingXQuery
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
@@ -27,10 +28,19 @@ import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
-import java.io.StringWriter
 import java.nio.file.Path
 
-class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider) {
+/**
+ * The maximum size of the revisions, which are buffered while several revisions are serialized concurrently.
+ */
+private const val MAX_BUFFERED_REVISIONS_SIZE = 64L * 1024 * 1024
+
+class JsonGet(
+    private val location: Path,
+    private val keycloak: OAuth2Auth,
+    private val authz: AuthorizationProvider,
+    private val sessions: DatabaseSessionPool
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -58,28 +68,30 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        var body: String?
+        var body: String? = null
 
-        val database = Databases.openJsonDatabase(location.resolve(databaseName))
+        if (query != null && query.isNotEmpty()) {
+            sessions.useJsonDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool, queries commit through it.
+                val manager = database.openResourceManager(resource)
 
-        database.use {
-            val manager = database.openResourceManager(resource)
-
-            manager.use {
-                body = if (query != null && query.isNotEmpty()) {
-                    queryResource(
-                        databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
-                        vertxContext, user
+                body = queryResource(
+                    databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
+                    vertxContext, user
+                )
+            }
+        } else {
+            sessions.useJsonDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool.
+                val manager = database.openResourceManager(resource)
+
+                val revisions: IntArray =
+                    Revisions.getRevisionsToSerialize(
+                        startRevision, endRevision, startRevisionTimestamp,
+                        endRevisionTimestamp, manager, revision, revisionTimestamp
                     )
-                } else {
-                    val revisions: IntArray =
-                        Revisions.getRevisionsToSerialize(
-                            startRevision, endRevision, startRevisionTimestamp,
-                            endRevisionTimestamp, manager, revision, revisionTimestamp
-                        )
 
-                    serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
-                }
+                serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
             }
         }
 
@@ -127,8 +139,10 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
     ): String? {
         return vertxContext.executeBlocking { promise: Promise<String> ->
             // Initialize queryResource context and store.
-            val jsonDBStore = JsonSessionDBStore(routingContext, BasicJsonDBStore.newBuilder().build(), user, authz)
-            val xmlDBStore = XmlSessionDBStore(routingContext, BasicXmlDBStore.newBuilder().build(), user, authz)
+            val jsonDBStore =
+                JsonSessionDBStore(routingContext, BasicJsonDBStore.newBuilder().build(), user, authz, sessions)
+            val xmlDBStore =
+                XmlSessionDBStore(routingContext, BasicXmlDBStore.newBuilder().build(), user, authz, sessions)
 
             val queryCtx = SirixQueryContext.createWithJsonStoreAndNodeStoreAndCommitStrategy(
                 xmlDBStore,
@@ -139,42 +153,54 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
             var body: String? = null
 
             queryCtx.use {
-                if (manager != null && dbCollection != null && revisionNumber != null) {
-                    val rtx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
-
-                    rtx.use {
-                        if (nodeId == null) {
-                            rtx.moveToFirstChild()
-                        } else {
-                            rtx.moveTo(nodeId.toLong())
-                        }
-
-                        val jsonItem = JsonItemFactory().getSequence(rtx, dbCollection)
-
-                        if (jsonItem != null) {
-                            queryCtx.contextItem = jsonItem
+                try {
+                    if (manager != null && dbCollection != null && revisionNumber != null) {
+                        val rtx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
+
+                        rtx.use {
+                            if (nodeId == null) {
+                                rtx.moveToFirstChild()
+                            } else {
+                                rtx.moveTo(nodeId.toLong())
+                            }
 
-                            when (jsonItem) {
-                                is AbstractJsonDBArray<*> -> {
-                                    jsonItem.collection.setJsonDBStore(jsonDBStore)
-                                    jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
-                                }
-                                is JsonDBObject -> {
-                                    jsonItem.collection.setJsonDBStore(jsonDBStore)
-                                    jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
-                                }
-                                is AtomicJsonDBItem -> {
-                                    jsonItem.collection.setJsonDBStore(jsonDBStore)
-                                    jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
+                            val jsonItem = JsonItemFactory().getSequence(rtx, dbCollection)
+
+                            if (jsonItem != null) {
+                                queryCtx.contextItem = jsonItem
+
+                                when (jsonItem) {
+                                    is AbstractJsonDBArray<*> -> {
+                                        jsonItem.collection.setJsonDBStore(jsonDBStore)
+                                        jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
+                                    }
+                                    is JsonDBObject -> {
+                                        jsonItem.collection.setJsonDBStore(jsonDBStore)
+                                        jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
+                                    }
+                                    is AtomicJsonDBItem -> {
+                                        jsonItem.collection.setJsonDBStore(jsonDBStore)
+                                        jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
+                                    }
+                                    is NumericJsonDBItem -> {
+                                        jsonItem.collection.setJsonDBStore(jsonDBStore)
+                                        jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
+                                    }
+                                    else -> throw IllegalStateException("Node type not known.")
                                 }
-                                is NumericJsonDBItem -> {
-                                    jsonItem.collection.setJsonDBStore(jsonDBStore)
-                                    jsonDBStore.addDatabase(jsonItem.collection, jsonItem.collection.database)
-                                }
-                                else -> throw IllegalStateException("Node type not known.")
                             }
-                        }
 
+                            body = query(
+                                xmlDBStore,
+                                jsonDBStore,
+                                startResultSeqIndex,
+                                query,
+                                queryCtx,
+                                endResultSeqIndex,
+                                routingContext
+                            )
+                        }
+                    } else {
                         body = query(
                             xmlDBStore,
                             jsonDBStore,
@@ -185,16 +211,10 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                             routingContext
                         )
                     }
-                } else {
-                    body = query(
-                        xmlDBStore,
-                        jsonDBStore,
-                        startResultSeqIndex,
-                        query,
-                        queryCtx,
-                        endResultSeqIndex,
-                        routingContext
-                    )
+                } finally {
+                    // The pooled sessions don't know about the databases, which the query has created or dropped.
+                    (jsonDBStore.createdOrDroppedDatabases + xmlDBStore.createdOrDroppedDatabases)
+                        .forEach { sessions.invalidate(it) }
                 }
             }
 
@@ -270,27 +290,40 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         }
     }
 
+    /**
+     * Streams the serialized resource as a chunked response, which has to be ended by the caller.
+     */
     private suspend fun serializeResource(
         manager: JsonResourceManager, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        val serializedString = vertxContext.executeBlocking { promise: Promise<String> ->
+    ) {
+        vertxContext.executeBlocking { promise: Promise<Unit> ->
             val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
             val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
 
             val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
             val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
 
-            val out = StringWriter()
+            JsonSerializeHelper().writeHeaders(ctx, manager, revisions[0], nodeId)
+
+            val out = HttpResponseOutputStream(ctx.response(), vertxContext).writer()
 
             val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
             val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
             val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
+            val deltas: String? = ctx.queryParam("deltas").getOrNull(0)
 
             if (nextTopLevelNodes == null) {
                 val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions)
 
+                if (revisions.size > 1) {
+                    serializerBuilder.serializeRevisionsConcurrently(
+                        Runtime.getRuntime().availableProcessors(),
+                        MAX_BUFFERED_REVISIONS_SIZE
+                    )
+                }
+
                 nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
                 if (withMetaData != null) {
@@ -317,9 +350,11 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                     serializerBuilder.numberOfNodes(numberOfNodes)
                 }
 
-                val serializer = serializerBuilder.build()
+                if (deltas != null) {
+                    serializerBuilder.serializeDeltas(deltas.toBoolean())
+                }
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                out.use { serializerBuilder.build().call() }
             } else {
                 val serializerBuilder =
                     JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
@@ -354,15 +389,10 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
                     serializerBuilder.numberOfNodes(numberOfNodes)
                 }
 
-                val serializer = serializerBuilder.build()
-
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                out.use { serializerBuilder.build().call() }
             }
-        }.await()
 
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-
-        return serializedString!!
+            promise.complete()
+        }.await()
     }
 }
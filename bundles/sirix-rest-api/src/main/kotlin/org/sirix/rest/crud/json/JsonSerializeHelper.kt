@@ -20,13 +20,25 @@ class JsonSerializeHelper {
 
         val body = out.toString()
 
+        writeHeaders(ctx, manager, revisions[0], nodeId)
+
+        return body
+    }
+
+    /**
+     * Writes the status code and the headers, which must be known before the body is streamed.
+     */
+    fun writeHeaders(
+        ctx: RoutingContext,
+        manager: JsonResourceManager,
+        revision: Int,
+        nodeId: Long?
+    ) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
             writeResponseWithoutHashValue(ctx)
         } else {
-            writeResponseWithHashValue(manager, revisions[0], ctx, nodeId)
+            writeResponseWithHashValue(manager, revision, ctx, nodeId)
         }
-
-        return body
     }
 
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
@@ -11,6 +11,7 @@ import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.GlobalScope
 import kotlinx.coroutines.launch
 import org.sirix.rest.AuthRole
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.xquery.json.JsonDBCollection
 import org.sirix.xquery.json.JsonDBStore
 import java.lang.IllegalStateException
@@ -20,62 +21,95 @@ class JsonSessionDBStore(
         private val ctx: RoutingContext,
         private val dbStore: JsonDBStore,
         private val user: User,
-        private val authz: AuthorizationProvider
+        private val authz: AuthorizationProvider,
+        private val sessions: DatabaseSessionPool
 ) : JsonDBStore by dbStore {
+    /** The collections of the pooled databases, which have been looked up through this store, by their name. */
+    private val pooledCollections = mutableMapOf<String, JsonDBCollection>()
+
+    /** The names of the databases, which have been created or dropped through this store. */
+    val createdOrDroppedDatabases = mutableSetOf<String>()
+
     override fun lookup(name: String): JsonDBCollection {
         checkIfAuthorized(name, AuthRole.VIEW, authz)
 
-        return dbStore.lookup(name)
+        if (name in createdOrDroppedDatabases || !sessions.existsDatabase(name)) {
+            // The pooled sessions don't know about the databases, which have been created or dropped by the query.
+            return dbStore.lookup(name)
+        }
+
+        return pooledCollections.getOrPut(name) { JsonDBCollection(name, sessions.acquireJsonDatabase(name), this) }
     }
 
     override fun create(name: String): JsonDBCollection {
         checkIfAuthorized(name, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(name)
 
         return dbStore.create(name)
     }
 
     override fun create(name: String, path: String): JsonDBCollection {
         checkIfAuthorized(name, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(name)
 
         return dbStore.create(name, path)
     }
 
     override fun create(name: String, path: Path): JsonDBCollection {
         checkIfAuthorized(name, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(name)
 
         return dbStore.create(name, path)
     }
 
     override fun create(collName: String, resourceName: String, path: Path): JsonDBCollection {
         checkIfAuthorized(collName, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(collName)
 
         return dbStore.create(collName, path)
     }
 
     override fun create(collName: String, resourceName: String, json: String): JsonDBCollection {
         checkIfAuthorized(collName, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(collName)
 
         return dbStore.create(collName, resourceName, json)
     }
 
     override fun create(collName: String, resourceName: String, json: JsonReader): JsonDBCollection {
         checkIfAuthorized(collName, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(collName)
 
         return dbStore.create(collName, resourceName, json)
     }
 
     override fun create(collName: String, jsonReaders: Set<JsonReader>): JsonDBCollection {
         checkIfAuthorized(collName, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(collName)
 
         return dbStore.create(collName, jsonReaders)
     }
 
     override fun drop(name: String) {
         checkIfAuthorized(name, AuthRole.DELETE, authz)
+        createdOrDroppedDatabases.add(name)
+
+        // Close the pooled database, before it's removed.
+        pooledCollections.remove(name)?.let { sessions.release(it.database) }
+        sessions.invalidate(name)
 
         return dbStore.drop(name)
     }
 
+    override fun close() {
+        try {
+            dbStore.close()
+        } finally {
+            pooledCollections.values.forEach { sessions.release(it.database) }
+            pooledCollections.clear()
+        }
+    }
+
     private fun checkIfAuthorized(name: String, role: AuthRole, authz: AuthorizationProvider) {
         GlobalScope.launch(ctx.vertx().dispatcher()) {
             authz.getAuthorizations(user).await()
@@ -3,6 +3,7 @@ package org.sirix.rest.crud.json
 import com.google.gson.stream.JsonReader
 import com.google.gson.stream.JsonToken
 import io.vertx.core.Promise
+import io.vertx.core.Vertx
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -11,6 +12,8 @@ import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.access.trx.node.json.objectvalue.*
 import org.sirix.api.json.JsonNodeTrx
+import org.sirix.rest.DatabaseSessionPool
+import org.sirix.rest.ResourceWriteQueue
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
 import org.sirix.service.json.JsonNumber
@@ -22,68 +25,61 @@ import java.math.BigInteger
 import java.nio.file.Path
 import java.util.*
 
+/**
+ * Inserts the content of an update request. The transaction is not committed, which is up to the caller.
+ */
 @Suppress("unused")
 enum class JsonInsertionMode {
     ASFIRSTCHILD {
         override fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader) {
-            wtx.insertSubtreeAsFirstChild(jsonReader)
+            wtx.insertSubtreeAsFirstChild(jsonReader, JsonNodeTrx.Commit.No)
         }
 
         override fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertStringValueAsFirstChild(jsonReader.nextString())
-            wtx.commit()
         }
 
         override fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertNumberValueAsFirstChild(JsonNumber.stringToNumber(jsonReader.nextString()))
-            wtx.commit()
         }
 
         override fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             jsonReader.nextNull()
             wtx.insertNullValueAsFirstChild()
-            wtx.commit()
         }
 
         override fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertBooleanValueAsFirstChild(jsonReader.nextBoolean())
-            wtx.commit()
         }
 
         override fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertObjectRecordAsFirstChild(jsonReader.nextName(), getObjectRecordValue(jsonReader))
-            wtx.commit()
         }
     },
     ASRIGHTSIBLING {
         override fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader) {
-            wtx.insertSubtreeAsRightSibling(jsonReader)
+            wtx.insertSubtreeAsRightSibling(jsonReader, JsonNodeTrx.Commit.No)
         }
 
         override fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertStringValueAsRightSibling(jsonReader.nextString())
-            wtx.commit()
         }
 
         override fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertNumberValueAsRightSibling(JsonNumber.stringToNumber(jsonReader.nextString()))
-            wtx.commit()
         }
 
         override fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             jsonReader.nextNull()
             wtx.insertNullValueAsRightSibling()
-            wtx.commit()
         }
 
         override fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertBooleanValueAsRightSibling(jsonReader.nextBoolean())
-            wtx.commit()
         }
 
         override fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertObjectRecordAsRightSibling(jsonReader.nextName(), getObjectRecordValue(jsonReader))
-            wtx.commit()
         }
     };
 
@@ -139,7 +135,47 @@ enum class JsonInsertionMode {
     }
 }
 
-class JsonUpdate(private val location: Path) {
+class JsonUpdate(
+    private val sessions: DatabaseSessionPool,
+    private val writes: ResourceWriteQueue<JsonNodeTrx>
+) {
+    companion object {
+        /**
+         * Create the write queue, which coalesces concurrent updates of a resource into one commit. The pooled session
+         * of the database is invalidated once per committed batch.
+         */
+        fun newWriteQueue(
+            vertx: Vertx,
+            location: Path,
+            sessions: DatabaseSessionPool
+        ): ResourceWriteQueue<JsonNodeTrx> = ResourceWriteQueue<JsonNodeTrx>(vertx, { resource, user, writes ->
+            val database = Databases.openJsonDatabase(location.resolve(resource.databaseName), user)
+
+            val revision = database.use {
+                val manager = database.openResourceManager(resource.resourceName)
+
+                manager.use {
+                    manager.beginNodeTrx().use { wtx ->
+                        val revision = wtx.revisionNumber
+
+                        try {
+                            writes.forEach { it(wtx) }
+                            wtx.commit()
+                        } catch (e: Exception) {
+                            wtx.rollback()
+                            throw e
+                        }
+
+                        revision
+                    }
+                }
+            }
+
+            sessions.invalidate(resource.databaseName)
+            revision
+        })
+    }
+
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
 
@@ -163,93 +199,55 @@ class JsonUpdate(private val location: Path) {
         resFileToStore: String, ctx: RoutingContext
     ) {
         val vertxContext = ctx.vertx().orCreateContext
+        val hashCode = ctx.request().getHeader(HttpHeaders.ETAG)
 
-        vertxContext.executeBlocking { promise: Promise<Nothing> ->
-            val sirixDBUser = SirixDBUser.create(ctx)
-            val dbFile = location.resolve(databaseName)
+        val revision = writes.submit(
+            ResourceWriteQueue.ResourceKey(databaseName, resPathName),
+            SirixDBUser.create(ctx)
+        ) { wtx ->
+            insert(wtx, nodeId, insertionModeAsString, hashCode, resFileToStore)
+        }.await()
 
+        vertxContext.executeBlocking { promise: Promise<Nothing> ->
             var body: String? = null
-            val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
 
-            database.use {
+            sessions.useJsonDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool.
                 val manager = database.openResourceManager(resPathName)
 
-                manager.use {
-                    val wtx = manager.beginNodeTrx()
-                    val revision = wtx.revisionNumber
-                    val (maxNodeKey, hash) = wtx.use {
-                        if (nodeId != null) {
-                            wtx.moveTo(nodeId)
-                        }
-
-                        if (wtx.isDocumentRoot && wtx.hasFirstChild()) {
-                            wtx.moveToFirstChild()
-                        }
-
-                        if (manager.resourceConfig.hashType != HashType.NONE && !wtx.isDocumentRoot) {
-                            val hashCode = ctx.request().getHeader(HttpHeaders.ETAG)
-                                ?: throw IllegalStateException("Hash code is missing in ETag HTTP-Header.")
-
-                            if (wtx.hash != BigInteger(hashCode)) {
-                                throw IllegalArgumentException("Someone might have changed the resource in the meantime.")
-                            }
-                        }
-
-                        if (insertionModeAsString == null) {
-                            throw IllegalArgumentException("Insertion mode must be given.")
-                        }
-
-                        val jsonReader = JsonShredder.createStringReader(resFileToStore)
-
-                        val insertionModeByName = getInsertionModeByName(insertionModeAsString)
-
-                        @Suppress("unused")
-                        if (jsonReader.peek() != JsonToken.BEGIN_ARRAY && jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
-                            when (jsonReader.peek()) {
-                                JsonToken.STRING -> insertionModeByName.insertString(wtx, jsonReader)
-                                JsonToken.NULL -> insertionModeByName.insertNull(wtx, jsonReader)
-                                JsonToken.NUMBER -> insertionModeByName.insertNumber(wtx, jsonReader)
-                                JsonToken.BOOLEAN -> insertionModeByName.insertBoolean(wtx, jsonReader)
-                                JsonToken.NAME -> insertionModeByName.insertObjectRecord(wtx, jsonReader)
-                                else -> throw IllegalStateException()
-                            }
-                        } else {
-                            insertionModeByName.insertSubtree(wtx, jsonReader)
-                        }
-
-                        if (nodeId != null) {
-                            wtx.moveTo(nodeId)
-                        }
-
-                        if (wtx.isDocumentRoot && wtx.hasFirstChild()) {
-                            wtx.moveToFirstChild()
-                        }
+                val (maxNodeKey, hash) = manager.beginNodeReadOnlyTrx(revision).use { rtx ->
+                    if (nodeId != null) {
+                        rtx.moveTo(nodeId)
+                    }
 
-                        Pair(wtx.maxNodeKey, wtx.hash)
+                    if (rtx.isDocumentRoot && rtx.hasFirstChild()) {
+                        rtx.moveToFirstChild()
                     }
 
-                    if (maxNodeKey > 5000) {
-                        ctx.response().statusCode = 200
+                    Pair(rtx.maxNodeKey, rtx.hash)
+                }
 
-                        if (manager.resourceConfig.hashType == HashType.NONE) {
-                            ctx.response()
-                        } else {
-                            ctx.response().putHeader(HttpHeaders.ETAG, hash.toString())
-                        }
+                if (maxNodeKey > 5000) {
+                    ctx.response().statusCode = 200
+
+                    if (manager.resourceConfig.hashType == HashType.NONE) {
+                        ctx.response()
                     } else {
-                        val out = StringWriter()
-                        val serializerBuilder = JsonSerializer.newBuilder(manager, out)
-                        val serializer = serializerBuilder.build()
-
-                        body = JsonSerializeHelper().serialize(
-                            serializer,
-                            out,
-                            ctx,
-                            manager,
-                            intArrayOf(revision),
-                            nodeId
-                        )
+                        ctx.response().putHeader(HttpHeaders.ETAG, hash.toString())
                     }
+                } else {
+                    val out = StringWriter()
+                    val serializerBuilder = JsonSerializer.newBuilder(manager, out, revision)
+                    val serializer = serializerBuilder.build()
+
+                    body = JsonSerializeHelper().serialize(
+                        serializer,
+                        out,
+                        ctx,
+                        manager,
+                        intArrayOf(revision),
+                        nodeId
+                    )
                 }
             }
 
@@ -262,4 +260,57 @@ class JsonUpdate(private val location: Path) {
             promise.complete(null)
         }.await()
     }
+
+    private fun insert(
+        wtx: JsonNodeTrx, nodeId: Long?, insertionModeAsString: String?, hashCode: String?,
+        resFileToStore: String
+    ) {
+        if (nodeId != null) {
+            wtx.moveTo(nodeId)
+        }
+
+        if (wtx.isDocumentRoot && wtx.hasFirstChild()) {
+            wtx.moveToFirstChild()
+        }
+
+        // The preconditions are checked against the state left by the former writes of the batch. A write, which
+        // doesn't satisfy them, is rejected before it modifies the transaction, thus the batch is still committed.
+        if (wtx.resourceManager.resourceConfig.hashType != HashType.NONE && !wtx.isDocumentRoot) {
+            if (hashCode == null) {
+                throw ResourceWriteQueue.RejectedWriteException(
+                    IllegalStateException("Hash code is missing in ETag HTTP-Header.")
+                )
+            }
+
+            if (wtx.hash != BigInteger(hashCode)) {
+                throw ResourceWriteQueue.RejectedWriteException(
+                    IllegalArgumentException("Someone might have changed the resource in the meantime.")
+                )
+            }
+        }
+
+        if (insertionModeAsString == null) {
+            throw ResourceWriteQueue.RejectedWriteException(
+                IllegalArgumentException("Insertion mode must be given.")
+            )
+        }
+
+        val jsonReader = JsonShredder.createStringReader(resFileToStore)
+
+        val insertionModeByName = getInsertionModeByName(insertionModeAsString)
+
+        @Suppress("unused")
+        if (jsonReader.peek() != JsonToken.BEGIN_ARRAY && jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            when (jsonReader.peek()) {
+                JsonToken.STRING -> insertionModeByName.insertString(wtx, jsonReader)
+                JsonToken.NULL -> insertionModeByName.insertNull(wtx, jsonReader)
+                JsonToken.NUMBER -> insertionModeByName.insertNumber(wtx, jsonReader)
+                JsonToken.BOOLEAN -> insertionModeByName.insertBoolean(wtx, jsonReader)
+                JsonToken.NAME -> insertionModeByName.insertObjectRecord(wtx, jsonReader)
+                else -> throw IllegalStateException()
+            }
+        } else {
+            insertionModeByName.insertSubtree(wtx, jsonReader)
+        }
+    }
 }
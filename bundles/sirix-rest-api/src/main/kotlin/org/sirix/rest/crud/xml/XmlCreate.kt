@@ -17,6 +17,7 @@ import org.sirix.access.Databases
 import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.xml.XmlResourceManager
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
@@ -26,7 +27,11 @@ import java.nio.file.Files
 import java.nio.file.Path
 import java.util.*
 
-class XmlCreate(private val location: Path, private val createMultipleResources: Boolean = false) {
+class XmlCreate(
+    private val location: Path,
+    private val sessions: DatabaseSessionPool,
+    private val createMultipleResources: Boolean = false
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
         val resource = ctx.pathParam("resource")
@@ -63,24 +68,26 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         val sirixDBUser = SirixDBUser.create(ctx)
 
         withContext(Dispatchers.IO) {
-            val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
-
-            database.use {
-                BodyHandler.create().handle(ctx)
-                val fileResolver = FileResolver()
-                ctx.fileUploads().forEach { fileUpload ->
-                    val fileName = fileUpload.fileName()
-                    val resConfig = ResourceConfiguration.Builder(fileName).build()
-
-                    createOrRemoveAndCreateResource(database, resConfig, fileName, dispatcher)
-
-                    val manager = database.openResourceManager(fileName)
-
-                    manager.use {
-                        insertXmlSubtreeAsFirstChild(
-                            manager,
-                            fileResolver.resolveFile(fileUpload.uploadedFileName()).toPath()
-                        )
+            sessions.modify(databaseName) {
+                val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
+
+                database.use {
+                    BodyHandler.create().handle(ctx)
+                    val fileResolver = FileResolver()
+                    ctx.fileUploads().forEach { fileUpload ->
+                        val fileName = fileUpload.fileName()
+                        val resConfig = ResourceConfiguration.Builder(fileName).build()
+
+                        createOrRemoveAndCreateResource(database, resConfig, fileName, dispatcher)
+
+                        val manager = database.openResourceManager(fileName)
+
+                        manager.use {
+                            insertXmlSubtreeAsFirstChild(
+                                manager,
+                                fileResolver.resolveFile(fileUpload.uploadedFileName()).toPath()
+                            )
+                        }
                     }
                 }
             }
@@ -100,11 +107,11 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         createDatabaseIfNotExists(dbFile, context)
         ctx.request().resume()
 
-        insertResource(dbFile, resPathName, dispatcher, ctx)
+        insertResource(databaseName, dbFile, resPathName, dispatcher, ctx)
     }
 
     private suspend fun insertResource(
-        dbFile: Path?, resPathName: String,
+        databaseName: String, dbFile: Path?, resPathName: String,
         dispatcher: CoroutineDispatcher,
         ctx: RoutingContext
     ) {
@@ -125,23 +132,25 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         withContext(Dispatchers.IO) {
             var body: String? = null
             val sirixDBUser = SirixDBUser.create(ctx)
-            val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
+            sessions.modify(databaseName) {
+                val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
 
-            database.use {
-                val resConfig = ResourceConfiguration.Builder(resPathName).build()
-                createOrRemoveAndCreateResource(database, resConfig, resPathName, dispatcher)
-                val manager = database.openResourceManager(resPathName)
+                database.use {
+                    val resConfig = ResourceConfiguration.Builder(resPathName).build()
+                    createOrRemoveAndCreateResource(database, resConfig, resPathName, dispatcher)
+                    val manager = database.openResourceManager(resPathName)
 
-                manager.use {
-                    val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertXmlSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath())
+                    manager.use {
+                        val pathToFile = filePath.toPath()
+                        val maxNodeKey = insertXmlSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath())
 
-                    ctx.vertx().fileSystem().delete(filePath.toString()).await()
+                        ctx.vertx().fileSystem().delete(filePath.toString()).await()
 
-                    if (maxNodeKey < 5000) {
-                        body = serializeXml(manager, ctx)
-                    } else {
-                        ctx.response().setStatusCode(200)
+                        if (maxNodeKey < 5000) {
+                            body = serializeXml(manager, ctx)
+                        } else {
+                            ctx.response().setStatusCode(200)
+                        }
                     }
                 }
             }
@@ -11,11 +11,16 @@ import org.sirix.access.trx.node.HashType
 import org.sirix.api.Database
 import org.sirix.api.ResourceManager
 import org.sirix.api.xml.XmlResourceManager
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.rest.crud.AbstractDeleteHandler
 import org.sirix.xquery.node.BasicXmlDBStore
 import java.nio.file.Path
 
-class XmlDelete(location: Path, private val authz: AuthorizationProvider) : AbstractDeleteHandler(location) {
+class XmlDelete(
+    location: Path,
+    sessions: DatabaseSessionPool,
+    private val authz: AuthorizationProvider
+) : AbstractDeleteHandler(location, sessions) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName: String? = ctx.pathParam("database")
         val resource: String? = ctx.pathParam("resource")
@@ -31,7 +36,7 @@ class XmlDelete(location: Path, private val authz: AuthorizationProvider) : Abst
     }
 
     override fun createStore(ctx: RoutingContext): StructuredItemStore {
-        return XmlSessionDBStore(ctx, BasicXmlDBStore.newBuilder().build(), ctx.get("user") as User, authz)
+        return XmlSessionDBStore(ctx, BasicXmlDBStore.newBuilder().build(), ctx.get("user") as User, authz, sessions)
     }
 
     override fun database(dbFile: Path, sirixDBUser: org.sirix.access.User): Database<*> {
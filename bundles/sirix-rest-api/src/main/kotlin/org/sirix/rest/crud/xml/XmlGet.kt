@@ -13,11 +13,12 @@ import io.vertx.ext.web.handler.HttpException
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.withContext
-import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.xml.XmlResourceManager
 import org.sirix.exception.SirixUsageException
 import org.sirix.rest.AuthRole
+import org.sirix.rest.DatabaseSessionPool
+import org.sirix.rest.HttpResponseOutputStream
 import org.sirix.rest.crud.PermissionCheckingXQuery
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
@@ -34,7 +35,17 @@ import java.io.ByteArrayOutputStream
 import java.io.PrintStream
 import java.nio.file.Path
 
-class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider) {
+/**
+ * The maximum size of the revisions, which are buffered while several revisions are serialized concurrently.
+ */
+private const val MAX_BUFFERED_REVISIONS_SIZE = 64L * 1024 * 1024
+
+class XmlGet(
+    private val location: Path,
+    private val keycloak: OAuth2Auth,
+    private val authz: AuthorizationProvider,
+    private val sessions: DatabaseSessionPool
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName: String = ctx.pathParam("database")
@@ -64,28 +75,30 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        var body: String?
+        var body: String? = null
 
-        val database = Databases.openXmlDatabase(location.resolve(databaseName))
+        if (query != null && query.isNotEmpty()) {
+            sessions.useXmlDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool, queries commit through it.
+                val manager = database.openResourceManager(resource)
 
-        database.use {
-            val manager = database.openResourceManager(resource)
-
-            manager.use {
-                body = if (query != null && query.isNotEmpty()) {
-                    queryResource(
-                        databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
-                        vertxContext, user
+                body = queryResource(
+                    databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
+                    vertxContext, user
+                )
+            }
+        } else {
+            sessions.useXmlDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool.
+                val manager = database.openResourceManager(resource)
+
+                val revisions: IntArray =
+                    Revisions.getRevisionsToSerialize(
+                        startRevision, endRevision, startRevisionTimestamp,
+                        endRevisionTimestamp, manager, revision, revisionTimestamp
                     )
-                } else {
-                    val revisions: IntArray =
-                        Revisions.getRevisionsToSerialize(
-                            startRevision, endRevision, startRevisionTimestamp,
-                            endRevisionTimestamp, manager, revision, revisionTimestamp
-                        )
 
-                    serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
-                }
+                serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx, vertxContext)
             }
         }
 
@@ -133,8 +146,10 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
     ): String? {
         return vertxContext.executeBlocking { promise: Promise<String> ->
             // Initialize queryResource context and store.
-            val jsonDBStore = JsonSessionDBStore(routingContext, BasicJsonDBStore.newBuilder().build(), user, authz)
-            val xmlDBStore = XmlSessionDBStore(routingContext, BasicXmlDBStore.newBuilder().build(), user, authz)
+            val jsonDBStore =
+                JsonSessionDBStore(routingContext, BasicJsonDBStore.newBuilder().build(), user, authz, sessions)
+            val xmlDBStore =
+                XmlSessionDBStore(routingContext, BasicXmlDBStore.newBuilder().build(), user, authz, sessions)
 
             val queryCtx = SirixQueryContext.createWithJsonStoreAndNodeStoreAndCommitStrategy(
                 xmlDBStore,
@@ -145,20 +160,33 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
             var body: String? = null
 
             queryCtx.use {
-                if (manager != null && dbCollection != null && revisionNumber != null) {
-                    val rtx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
-
-                    rtx.use {
-                        if (nodeId == null) {
-                            rtx.moveToFirstChild()
-                        } else {
-                            rtx.moveTo(nodeId.toLong())
+                try {
+                    if (manager != null && dbCollection != null && revisionNumber != null) {
+                        val rtx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
+
+                        rtx.use {
+                            if (nodeId == null) {
+                                rtx.moveToFirstChild()
+                            } else {
+                                rtx.moveTo(nodeId.toLong())
+                            }
+
+                            val dbNode = XmlDBNode(rtx, dbCollection)
+
+                            queryCtx.contextItem = dbNode
+
+                            body = query(
+                                xmlDBStore,
+                                jsonDBStore,
+                                startResultSeqIndex,
+                                query,
+                                queryCtx,
+                                endResultSeqIndex,
+                                routingContext
+                            )
                         }
 
-                        val dbNode = XmlDBNode(rtx, dbCollection)
-
-                        queryCtx.contextItem = dbNode
-
+                    } else {
                         body = query(
                             xmlDBStore,
                             jsonDBStore,
@@ -169,17 +197,10 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
                             routingContext
                         )
                     }
-
-                } else {
-                    body = query(
-                        xmlDBStore,
-                        jsonDBStore,
-                        startResultSeqIndex,
-                        query,
-                        queryCtx,
-                        endResultSeqIndex,
-                        routingContext
-                    )
+                } finally {
+                    // The pooled sessions don't know about the databases, which the query has created or dropped.
+                    (jsonDBStore.createdOrDroppedDatabases + xmlDBStore.createdOrDroppedDatabases)
+                        .forEach { sessions.invalidate(it) }
                 }
             }
 
@@ -259,21 +280,36 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
         }
     }
 
-    private fun serializeResource(
+    /**
+     * Streams the serialized resource as a chunked response, which has to be ended by the caller.
+     */
+    private suspend fun serializeResource(
         manager: XmlResourceManager, revisions: IntArray, nodeId: Long?,
-        ctx: RoutingContext
-    ): String {
-        val out = ByteArrayOutputStream()
+        ctx: RoutingContext,
+        vertxContext: Context
+    ) {
+        vertxContext.executeBlocking { promise: Promise<Unit> ->
+            XmlSerializeHelper().writeHeaders(ctx, manager, nodeId)
 
-        val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions)
+            HttpResponseOutputStream(ctx.response(), vertxContext).use { out ->
+                val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions)
 
-        nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+                if (revisions.size > 1) {
+                    serializerBuilder.serializeRevisionsConcurrently(
+                        Runtime.getRuntime().availableProcessors(),
+                        MAX_BUFFERED_REVISIONS_SIZE
+                    )
+                }
 
-        if (ctx.queryParam("maxLevel").isNotEmpty())
-            serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
+                nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
-        val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
+                if (ctx.queryParam("maxLevel").isNotEmpty())
+                    serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
 
-        return XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
+                serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build().call()
+            }
+
+            promise.complete()
+        }.await()
     }
 }
\ No newline at end of file
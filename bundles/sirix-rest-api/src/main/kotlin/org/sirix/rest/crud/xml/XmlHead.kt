@@ -7,17 +7,15 @@ import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.ext.web.handler.HttpException
 import io.vertx.kotlin.coroutines.await
-import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
-import org.sirix.api.Database
 import org.sirix.api.xml.XmlNodeReadOnlyTrx
 import org.sirix.api.xml.XmlResourceManager
 import org.sirix.exception.SirixUsageException
-import java.nio.file.Path
+import org.sirix.rest.DatabaseSessionPool
 import java.time.LocalDateTime
 import java.time.ZoneId
 
-class XmlHead(private val location: Path) {
+class XmlHead(private val sessions: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
         val resource = ctx.pathParam("resource")
@@ -39,30 +37,27 @@ class XmlHead(private val location: Path) {
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        val database = Databases.openXmlDatabase(location.resolve(databaseName))
-
-        database.use {
+        sessions.useXmlDatabase(databaseName) { database ->
+            // The resource manager is kept open by the session pool.
             val manager = database.openResourceManager(resource)
 
-            manager.use {
-                if (manager.resourceConfig.hashType == HashType.NONE)
-                    return
+            if (manager.resourceConfig.hashType == HashType.NONE)
+                return
 
-                val revisionNumber = getRevisionNumber(revision, revisionTimestamp, manager)
+            val revisionNumber = getRevisionNumber(revision, revisionTimestamp, manager)
 
-                val rtx = manager.beginNodeReadOnlyTrx(revisionNumber)
+            val rtx = manager.beginNodeReadOnlyTrx(revisionNumber)
 
-                rtx.use {
-                    if (nodeId != null) {
-                        if (!rtx.moveTo(nodeId.toLong()).hasMoved()) {
-                            throw IllegalStateException("Node with ID ${nodeId} doesn't exist.")
-                        } else {
-                            writeResponse(ctx, rtx)
-                        }
-                    } else if (rtx.isDocumentRoot) {
-                        rtx.moveToFirstChild()
+            rtx.use {
+                if (nodeId != null) {
+                    if (!rtx.moveTo(nodeId.toLong()).hasMoved()) {
+                        throw IllegalStateException("Node with ID ${nodeId} doesn't exist.")
+                    } else {
                         writeResponse(ctx, rtx)
                     }
+                } else if (rtx.isDocumentRoot) {
+                    rtx.moveToFirstChild()
+                    writeResponse(ctx, rtx)
                 }
             }
         }
@@ -19,13 +19,24 @@ class XmlSerializeHelper {
         serializer.call()
         val body = String(out.toByteArray(), StandardCharsets.UTF_8)
 
+        writeHeaders(ctx, manager, nodeId)
+
+        return body
+    }
+
+    /**
+     * Writes the status code and the headers, which must be known before the body is streamed.
+     */
+    fun writeHeaders(
+        ctx: RoutingContext,
+        manager: XmlResourceManager,
+        nodeId: Long?
+    ) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
             writeResponseWithoutHashValue(ctx)
         } else {
             writeResponseWithHashValue(manager, ctx, nodeId)
         }
-
-        return body
     }
 
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
@@ -8,6 +8,7 @@ import org.brackit.xquery.node.parser.SubtreeParser
 import org.brackit.xquery.xdm.Stream
 import org.sirix.rest.Auth
 import org.sirix.rest.AuthRole
+import org.sirix.rest.DatabaseSessionPool
 import org.sirix.xquery.node.XmlDBCollection
 import org.sirix.xquery.node.XmlDBStore
 
@@ -15,41 +16,71 @@ class XmlSessionDBStore(
         private val ctx: RoutingContext,
         private val dbStore: XmlDBStore,
         private val user: User,
-        private val authz: AuthorizationProvider
+        private val authz: AuthorizationProvider,
+        private val sessions: DatabaseSessionPool
 ) : XmlDBStore by dbStore {
+    /** The collections of the pooled databases, which have been looked up through this store, by their name. */
+    private val pooledCollections = mutableMapOf<String, XmlDBCollection>()
+
+    /** The names of the databases, which have been created or dropped through this store. */
+    val createdOrDroppedDatabases = mutableSetOf<String>()
+
     override fun lookup(name: String): XmlDBCollection {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.VIEW, authz)
 
-        return dbStore.lookup(name)
+        if (name in createdOrDroppedDatabases || !sessions.existsDatabase(name)) {
+            // The pooled sessions don't know about the databases, which have been created or dropped by the query.
+            return dbStore.lookup(name)
+        }
+
+        return pooledCollections.getOrPut(name) { XmlDBCollection(name, sessions.acquireXmlDatabase(name)) }
     }
 
     override fun create(name: String): XmlDBCollection {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(name)
 
         return dbStore.create(name)
     }
 
     override fun create(name: String, parser: SubtreeParser): XmlDBCollection {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(name)
 
         return dbStore.create(name, parser)
     }
 
     override fun create(name: String, parsers: Stream<SubtreeParser>): XmlDBCollection {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(name)
 
         return dbStore.create(name, parsers)
     }
 
     override fun create(dbName: String, resourceName: String, parsers: SubtreeParser): XmlDBCollection {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), dbName, AuthRole.CREATE, authz)
+        createdOrDroppedDatabases.add(dbName)
 
         return dbStore.create(dbName, resourceName, parsers)
     }
 
     override fun drop(name: String) {
         Auth.checkIfAuthorized(user, ctx.vertx().dispatcher(), name, AuthRole.DELETE, authz)
+        createdOrDroppedDatabases.add(name)
+
+        // Close the pooled database, before it's removed.
+        pooledCollections.remove(name)?.let { sessions.release(it.database) }
+        sessions.invalidate(name)
 
         return dbStore.drop(name)
     }
+
+    override fun close() {
+        try {
+            dbStore.close()
+        } finally {
+            pooledCollections.values.forEach { sessions.release(it.database) }
+            pooledCollections.clear()
+        }
+    }
 }
\ No newline at end of file
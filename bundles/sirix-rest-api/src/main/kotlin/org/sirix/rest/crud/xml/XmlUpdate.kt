@@ -1,6 +1,7 @@
 package org.sirix.rest.crud.xml
 
 import io.vertx.core.Promise
+import io.vertx.core.Vertx
 import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
@@ -8,6 +9,8 @@ import io.vertx.kotlin.coroutines.await
 import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.xml.XmlNodeTrx
+import org.sirix.rest.DatabaseSessionPool
+import org.sirix.rest.ResourceWriteQueue
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
@@ -46,7 +49,47 @@ enum class XmlInsertionMode {
     }
 }
 
-class XmlUpdate(private val location: Path) {
+class XmlUpdate(
+    private val sessions: DatabaseSessionPool,
+    private val writes: ResourceWriteQueue<XmlNodeTrx>
+) {
+    companion object {
+        /**
+         * Create the write queue, which admits the updates of a resource one after the other. As XML subtree
+         * insertions are always committed, the updates are not coalesced.
+         */
+        fun newWriteQueue(
+            vertx: Vertx,
+            location: Path,
+            sessions: DatabaseSessionPool
+        ): ResourceWriteQueue<XmlNodeTrx> = ResourceWriteQueue<XmlNodeTrx>(vertx, { resource, user, writes ->
+            val database = Databases.openXmlDatabase(location.resolve(resource.databaseName), user)
+
+            val revision = database.use {
+                val manager = database.openResourceManager(resource.resourceName)
+
+                manager.use {
+                    manager.beginNodeTrx().use { wtx ->
+                        val revision = wtx.revisionNumber
+
+                        try {
+                            writes.forEach { it(wtx) }
+                        } catch (e: Exception) {
+                            wtx.rollback()
+                            throw e
+                        }
+
+                        revision
+                    }
+                }
+            }
+
+            // The pooled session is invalidated once the update has been committed.
+            sessions.invalidate(resource.databaseName)
+            revision
+        }, 1)
+    }
+
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
 
@@ -70,70 +113,48 @@ class XmlUpdate(private val location: Path) {
         resFileToStore: String, ctx: RoutingContext
     ) {
         val vertxContext = ctx.vertx().orCreateContext
+        val hashCode = ctx.request().getHeader(HttpHeaders.ETAG)
 
-        vertxContext.executeBlocking { promise: Promise<Nothing> ->
-            val sirixDBUser = SirixDBUser.create(ctx)
-            val dbFile = location.resolve(databaseName)
+        val revision = writes.submit(
+            ResourceWriteQueue.ResourceKey(databaseName, resPathName),
+            SirixDBUser.create(ctx)
+        ) { wtx ->
+            insert(wtx, nodeId, insertionMode, hashCode, resFileToStore)
+        }.await()
 
+        vertxContext.executeBlocking { promise: Promise<Nothing> ->
             var body: String? = null
 
-            val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
-
-            database.use {
+            sessions.useXmlDatabase(databaseName) { database ->
+                // The resource manager is kept open by the session pool.
                 val manager = database.openResourceManager(resPathName)
 
-                manager.use {
-                    val wtx = manager.beginNodeTrx()
-                    val (maxNodeKey, hash) = wtx.use {
-                        if (nodeId != null) {
-                            wtx.moveTo(nodeId)
-                        }
-
-                        if (wtx.isDocumentRoot && wtx.hasFirstChild())
-                            wtx.moveToFirstChild()
-
-                        if (manager.resourceConfig.hashType != HashType.NONE && !wtx.isDocumentRoot) {
-                            val hashCode = ctx.request().getHeader(HttpHeaders.ETAG)
-                                ?: throw IllegalStateException("Hash code is missing in ETag HTTP-Header.")
-
-                            if (wtx.hash != BigInteger(hashCode)) {
-                                throw IllegalArgumentException("Someone might have changed the resource in the meantime.")
-                            }
-                        }
-
-                        val xmlReader = XmlShredder.createStringReader(resFileToStore)
-
-                        if (insertionMode != null)
-                            XmlInsertionMode.getInsertionModeByName(insertionMode).insert(wtx, xmlReader)
-                        else
-                            wtx.replaceNode(xmlReader)
-
-                        if (nodeId != null)
-                            wtx.moveTo(nodeId)
+                val (maxNodeKey, hash) = manager.beginNodeReadOnlyTrx(revision).use { rtx ->
+                    if (nodeId != null)
+                        rtx.moveTo(nodeId)
 
-                        if (wtx.isDocumentRoot && wtx.hasFirstChild())
-                            wtx.moveToFirstChild()
+                    if (rtx.isDocumentRoot && rtx.hasFirstChild())
+                        rtx.moveToFirstChild()
 
-                        Pair(wtx.maxNodeKey, wtx.hash)
-                    }
+                    Pair(rtx.maxNodeKey, rtx.hash)
+                }
 
-                    if (maxNodeKey > 5000) {
-                        ctx.response().statusCode = 200
+                if (maxNodeKey > 5000) {
+                    ctx.response().statusCode = 200
 
-                        if (manager.resourceConfig.hashType == HashType.NONE) {
-                            ctx.response()
-                        } else {
-                            ctx.response().putHeader(HttpHeaders.ETAG, hash.toString())
-                        }
+                    if (manager.resourceConfig.hashType == HashType.NONE) {
+                        ctx.response()
                     } else {
-                        val out = ByteArrayOutputStream()
-                        val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out)
+                        ctx.response().putHeader(HttpHeaders.ETAG, hash.toString())
+                    }
+                } else {
+                    val out = ByteArrayOutputStream()
+                    val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out, revision)
 
-                        val serializer =
-                            serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
+                    val serializer =
+                        serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
 
-                        body = XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
-                    }
+                    body = XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
                 }
             }
 
@@ -146,4 +167,32 @@ class XmlUpdate(private val location: Path) {
             promise.complete(null)
         }.await()
     }
+
+    private fun insert(
+        wtx: XmlNodeTrx, nodeId: Long?, insertionMode: String?, hashCode: String?, resFileToStore: String
+    ) {
+        if (nodeId != null) {
+            wtx.moveTo(nodeId)
+        }
+
+        if (wtx.isDocumentRoot && wtx.hasFirstChild())
+            wtx.moveToFirstChild()
+
+        if (wtx.resourceManager.resourceConfig.hashType != HashType.NONE && !wtx.isDocumentRoot) {
+            if (hashCode == null) {
+                throw IllegalStateException("Hash code is missing in ETag HTTP-Header.")
+            }
+
+            if (wtx.hash != BigInteger(hashCode)) {
+                throw IllegalArgumentException("Someone might have changed the resource in the meantime.")
+            }
+        }
+
+        val xmlReader = XmlShredder.createStringReader(resFileToStore)
+
+        if (insertionMode != null)
+            XmlInsertionMode.getInsertionModeByName(insertionMode).insert(wtx, xmlReader)
+        else
+            wtx.replaceNode(xmlReader)
+    }
 }
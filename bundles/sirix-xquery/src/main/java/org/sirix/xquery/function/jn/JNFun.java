@@ -84,6 +84,18 @@ public final class JNFun {
         new Signature(new SequenceType(AnyJsonItemType.ANY_JSON_ITEM, Cardinality.ZeroOrOne), SequenceType.JSON_ITEM)));
     Functions.predefine(
         new AllTimes(AllTimes.ALL_TIMES, new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM)));
+    Functions.predefine(new FutureChanges(FutureChanges.FUTURE_CHANGES,
+        new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM)));
+    Functions.predefine(new FutureChanges(FutureChanges.FUTURE_CHANGES,
+        new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM,
+            new SequenceType(AtomicType.BOOL, Cardinality.One))));
+    Functions.predefine(new PastChanges(PastChanges.PAST_CHANGES,
+        new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM)));
+    Functions.predefine(new PastChanges(PastChanges.PAST_CHANGES,
+        new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM,
+            new SequenceType(AtomicType.BOOL, Cardinality.One))));
+    Functions.predefine(new AllTimeChanges(AllTimeChanges.ALL_TIME_CHANGES,
+        new Signature(SequenceType.JSON_ITEM_SEQUENCE, SequenceType.JSON_ITEM)));
 
     // store
     Functions.predefine(new Store(false));
@@ -0,0 +1,72 @@
+package org.sirix.xquery.function.jn.temporal;
+
+import org.brackit.xquery.QueryContext;
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.function.AbstractFunction;
+import org.brackit.xquery.function.json.JSONFun;
+import org.brackit.xquery.module.StaticContext;
+import org.brackit.xquery.sequence.BaseIter;
+import org.brackit.xquery.sequence.LazySequence;
+import org.brackit.xquery.xdm.Item;
+import org.brackit.xquery.xdm.Iter;
+import org.brackit.xquery.xdm.Sequence;
+import org.brackit.xquery.xdm.Signature;
+import org.brackit.xquery.xdm.Stream;
+import org.sirix.xquery.json.TemporalJsonDBItem;
+
+/**
+ * <p>
+ * Function for selecting a node in all revisions, in which it has been changed. In contrast to
+ * <code>jn:all-times</code> only the revisions, in which the node has been changed, are looked up in the record to
+ * revisions index and opened. The first parameter is the context node. Supported signature is:
+ * </p>
+ * <ul>
+ * <li><code>jn:all-time-changes($doc as json-item()) as json-item()*</code></li>
+ * </ul>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class AllTimeChanges extends AbstractFunction {
+
+  /** Function name. */
+  public final static QNm ALL_TIME_CHANGES = new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "all-time-changes");
+
+  /**
+   * Constructor.
+   *
+   * @param name the name of the function
+   * @param signature the signature of the function
+   */
+  public AllTimeChanges(final QNm name, final Signature signature) {
+    super(name, signature, true);
+  }
+
+  @Override
+  public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
+    final TemporalJsonDBItem<? extends TemporalJsonDBItem<?>> item = ((TemporalJsonDBItem<?>) args[0]);
+
+    return new LazySequence() {
+      @Override
+      public Iter iterate() {
+        return new BaseIter() {
+          Stream<?> s;
+
+          @Override
+          public Item next() {
+            if (s == null) {
+              s = item.getAllTimesChanges();
+            }
+            return (Item) s.next();
+          }
+
+          @Override
+          public void close() {
+            if (s != null) {
+              s.close();
+            }
+          }
+        };
+      }
+    };
+  }
+}
@@ -7,8 +7,11 @@ import org.brackit.xquery.xdm.json.Array;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllTimeChangesAxis;
 import org.sirix.axis.temporal.FutureAxis;
+import org.sirix.axis.temporal.FutureChangesAxis;
 import org.sirix.axis.temporal.PastAxis;
+import org.sirix.axis.temporal.PastChangesAxis;
 import org.sirix.xquery.StructuredDBItem;
 import org.sirix.xquery.stream.json.TemporalSirixJsonArrayStream;
 
@@ -63,6 +66,31 @@ public final class JsonDBArray extends AbstractJsonDBArray<JsonDBArray>
     return new TemporalSirixJsonArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
+  @Override
+  public Stream<JsonDBArray> getEarlierChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf
+        ? IncludeSelf.YES
+        : IncludeSelf.NO;
+    return new TemporalSirixJsonArrayStream(new PastChangesAxis<>(rtx.getResourceManager(), rtx, include), collection);
+  }
+
+  @Override
+  public Stream<JsonDBArray> getFutureChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf
+        ? IncludeSelf.YES
+        : IncludeSelf.NO;
+    return new TemporalSirixJsonArrayStream(new FutureChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection);
+  }
+
+  @Override
+  public Stream<JsonDBArray> getAllTimesChanges() {
+    moveRtx();
+    return new TemporalSirixJsonArrayStream(new AllTimeChangesAxis<>(rtx.getResourceManager(), rtx), collection);
+  }
+
   @Override
   public Array range(IntNumeric from, IntNumeric to) {
     moveRtx();
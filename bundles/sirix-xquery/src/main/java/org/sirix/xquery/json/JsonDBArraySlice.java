@@ -12,8 +12,11 @@ import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllTimeChangesAxis;
 import org.sirix.axis.temporal.FutureAxis;
+import org.sirix.axis.temporal.FutureChangesAxis;
 import org.sirix.axis.temporal.PastAxis;
+import org.sirix.axis.temporal.PastChangesAxis;
 import org.sirix.xquery.stream.json.TemporalSirixJsonArraySliceStream;
 
 import java.util.ArrayList;
@@ -99,6 +102,33 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
         fromIndex, toIndex);
   }
 
+  @Override
+  public Stream<JsonDBArraySlice> getEarlierChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf
+        ? IncludeSelf.YES
+        : IncludeSelf.NO;
+    return new TemporalSirixJsonArraySliceStream(new PastChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection, fromIndex, toIndex);
+  }
+
+  @Override
+  public Stream<JsonDBArraySlice> getFutureChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf
+        ? IncludeSelf.YES
+        : IncludeSelf.NO;
+    return new TemporalSirixJsonArraySliceStream(new FutureChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection, fromIndex, toIndex);
+  }
+
+  @Override
+  public Stream<JsonDBArraySlice> getAllTimesChanges() {
+    moveRtx();
+    return new TemporalSirixJsonArraySliceStream(new AllTimeChangesAxis<>(rtx.getResourceManager(), rtx),
+        collection, fromIndex, toIndex);
+  }
+
   @Override
   protected JsonDBArraySlice createInstance(JsonNodeReadOnlyTrx rtx, JsonDBCollection collection) {
     return new JsonDBArraySlice(rtx, collection, fromIndex, toIndex);
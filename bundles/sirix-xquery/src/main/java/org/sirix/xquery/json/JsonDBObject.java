@@ -163,6 +163,27 @@ public final class JsonDBObject extends AbstractItem
     return new TemporalSirixJsonObjectStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
+  @Override
+  public Stream<JsonDBObject> getEarlierChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf ? IncludeSelf.YES : IncludeSelf.NO;
+    return new TemporalSirixJsonObjectStream(new PastChangesAxis<>(rtx.getResourceManager(), rtx, include), collection);
+  }
+
+  @Override
+  public Stream<JsonDBObject> getFutureChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf ? IncludeSelf.YES : IncludeSelf.NO;
+    return new TemporalSirixJsonObjectStream(new FutureChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection);
+  }
+
+  @Override
+  public Stream<JsonDBObject> getAllTimesChanges() {
+    moveRtx();
+    return new TemporalSirixJsonObjectStream(new AllTimeChangesAxis<>(rtx.getResourceManager(), rtx), collection);
+  }
+
   @Override
   public boolean isNextOf(final JsonDBObject other) {
     moveRtx();
@@ -8,8 +8,11 @@ import org.brackit.xquery.xdm.json.TemporalJsonItem;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllTimeChangesAxis;
 import org.sirix.axis.temporal.FutureAxis;
+import org.sirix.axis.temporal.FutureChangesAxis;
 import org.sirix.axis.temporal.PastAxis;
+import org.sirix.axis.temporal.PastChangesAxis;
 import org.sirix.xquery.stream.json.TemporalSirixJsonObjectKeyArrayStream;
 
 public final class JsonObjectKeyDBArray extends AbstractJsonDBArray<JsonObjectKeyDBArray>
@@ -62,6 +65,33 @@ public final class JsonObjectKeyDBArray extends AbstractJsonDBArray<JsonObjectKe
     return new TemporalSirixJsonObjectKeyArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
+  @Override
+  public Stream<JsonObjectKeyDBArray> getEarlierChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf
+        ? IncludeSelf.YES
+        : IncludeSelf.NO;
+    return new TemporalSirixJsonObjectKeyArrayStream(new PastChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection);
+  }
+
+  @Override
+  public Stream<JsonObjectKeyDBArray> getFutureChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf
+        ? IncludeSelf.YES
+        : IncludeSelf.NO;
+    return new TemporalSirixJsonObjectKeyArrayStream(new FutureChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection);
+  }
+
+  @Override
+  public Stream<JsonObjectKeyDBArray> getAllTimesChanges() {
+    moveRtx();
+    return new TemporalSirixJsonObjectKeyArrayStream(new AllTimeChangesAxis<>(rtx.getResourceManager(), rtx),
+        collection);
+  }
+
   @Override
   public Array range(IntNumeric from, IntNumeric to) {
     moveRtx();
@@ -7,8 +7,11 @@ import org.brackit.xquery.xdm.json.Array;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.axis.IncludeSelf;
 import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllTimeChangesAxis;
 import org.sirix.axis.temporal.FutureAxis;
+import org.sirix.axis.temporal.FutureChangesAxis;
 import org.sirix.axis.temporal.PastAxis;
+import org.sirix.axis.temporal.PastChangesAxis;
 import org.sirix.xquery.stream.json.TemporalSirixJsonObjectValueArrayStream;
 
 public final class JsonObjectValueDBArray extends AbstractJsonDBArray<JsonObjectValueDBArray>
@@ -59,6 +62,29 @@ public final class JsonObjectValueDBArray extends AbstractJsonDBArray<JsonObject
     return new TemporalSirixJsonObjectValueArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
+  @Override
+  public Stream<JsonObjectValueDBArray> getEarlierChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf ? IncludeSelf.YES : IncludeSelf.NO;
+    return new TemporalSirixJsonObjectValueArrayStream(new PastChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection);
+  }
+
+  @Override
+  public Stream<JsonObjectValueDBArray> getFutureChanges(final boolean includeSelf) {
+    moveRtx();
+    final IncludeSelf include = includeSelf ? IncludeSelf.YES : IncludeSelf.NO;
+    return new TemporalSirixJsonObjectValueArrayStream(new FutureChangesAxis<>(rtx.getResourceManager(), rtx, include),
+        collection);
+  }
+
+  @Override
+  public Stream<JsonObjectValueDBArray> getAllTimesChanges() {
+    moveRtx();
+    return new TemporalSirixJsonObjectValueArrayStream(new AllTimeChangesAxis<>(rtx.getResourceManager(), rtx),
+        collection);
+  }
+
   @Override
   protected JsonObjectValueDBArray createInstance(JsonNodeReadOnlyTrx rtx, JsonDBCollection collection) {
     return new JsonObjectValueDBArray(rtx, collection);
@@ -1,9 +1,33 @@
 package org.sirix.xquery.json;
 
+import org.brackit.xquery.xdm.Stream;
 import org.brackit.xquery.xdm.json.TemporalJsonItem;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.xquery.StructuredDBItem;
 
 public interface TemporalJsonDBItem<E extends TemporalJsonDBItem<E>>
     extends TemporalJsonItem<E>, StructuredDBItem<JsonNodeReadOnlyTrx> {
+
+  /**
+   * Get the item in all earlier revisions, in which it has been changed (in descending order).
+   *
+   * @param includeSelf determines if the item in the current revision must be included or not
+   * @return the item in all earlier revisions, in which it has been changed
+   */
+  Stream<E> getEarlierChanges(boolean includeSelf);
+
+  /**
+   * Get the item in all future revisions, in which it has been changed (in ascending order).
+   *
+   * @param includeSelf determines if the item in the current revision must be included or not
+   * @return the item in all future revisions, in which it has been changed
+   */
+  Stream<E> getFutureChanges(boolean includeSelf);
+
+  /**
+   * Get the item in all revisions, in which it has been changed (in ascending order).
+   *
+   * @return the item in all revisions, in which it has been changed
+   */
+  Stream<E> getAllTimesChanges();
 }